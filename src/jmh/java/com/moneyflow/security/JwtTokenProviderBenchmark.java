@@ -0,0 +1,53 @@
+package com.moneyflow.security;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명/검증 (모든 인증 요청마다 검증 1회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        // application.yml 기본값과 같은 길이의 비밀 키
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey",
+                "moneyflow-jwt-secret-key-for-development-and-production-must-be-at-least-512-bits-for-hs512-algorithm-security-2024");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValidity", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValidity", 2_592_000_000L);
+
+        user = new SyntheticData(42).user(0);
+        accessToken = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public UUID getUserIdFromToken() {
+        return jwtTokenProvider.getUserIdFromToken(accessToken);
+    }
+}
@@ -0,0 +1,50 @@
+package com.moneyflow.service;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.domain.common.BusinessMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가맹점명 카테고리 분류 (키워드 선형 탐색)
+ *
+ * 실제 분포(Zipf)로 뽑은 가맹점명을 순환하며 분류합니다.
+ * 미분류 가맹점은 모든 키워드를 훑으므로 최악 경로가 함께 측정됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CategoryClassifierBenchmark {
+
+    private CategoryClassifier classifier;
+    private String[] merchants;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        classifier = new CategoryClassifier(new BusinessMetrics(new SimpleMeterRegistry()));
+
+        SyntheticData data = new SyntheticData(42);
+        merchants = new String[1024];
+        for (int i = 0; i < merchants.length; i++) {
+            merchants[i] = data.merchant().name();
+        }
+    }
+
+    @Benchmark
+    public String classify() {
+        String merchant = merchants[cursor];
+        cursor = (cursor + 1) & (merchants.length - 1);
+        return classifier.classify(merchant);
+    }
+
+    @Benchmark
+    public String classifyUnmatched() {
+        return classifier.classify("동네 철물점");
+    }
+}
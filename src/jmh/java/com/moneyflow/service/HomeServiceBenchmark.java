@@ -0,0 +1,50 @@
+package com.moneyflow.service;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.response.DailySummaryDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 화면 월간 데이터의 날짜별 그룹화/DTO 조립 (DB 조회 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HomeServiceBenchmark {
+
+    /** 한 달 지출 건수 (개인 / 활발한 커플 / 소상공인 규모) */
+    @Param({"60", "300", "3000"})
+    public int expensesPerMonth;
+
+    private HomeService homeService;
+    private List<Expense> expenses;
+    private List<Income> incomes;
+
+    @Setup
+    public void setUp() {
+        homeService = new HomeService(null, null, null);
+
+        SyntheticData data = new SyntheticData(42);
+        User user = data.user(0);
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+        expenses = data.expenses(user, expensesPerMonth, start, end);
+        incomes = data.incomes(user, start, end, 3_200_000);
+    }
+
+    @Benchmark
+    public Map<String, DailySummaryDto> groupByDate() {
+        return homeService.groupByDate(expenses, incomes);
+    }
+}
@@ -0,0 +1,77 @@
+package com.moneyflow.service;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.recurringexpense.RecurringExpense;
+import com.moneyflow.domain.recurringexpense.RecurringExpensePayment;
+import com.moneyflow.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지출-고정비 매칭 점수 계산
+ *
+ * 매칭 후보 조회 시 한 지출에 대해 그 달의 PENDING 결제 전체를 채점하므로
+ * 고정비 개수만큼 반복 호출한 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecurringExpenseMatchingBenchmark {
+
+    @Param({"5", "30"})
+    public int pendingPayments;
+
+    private RecurringExpenseMatchingService matchingService;
+    private Expense expense;
+    private List<RecurringExpensePayment> payments;
+
+    @Setup
+    public void setUp() {
+        matchingService = new RecurringExpenseMatchingService(null, null, null);
+
+        SyntheticData data = new SyntheticData(42);
+        User user = data.user(0);
+        LocalDate month = LocalDate.of(2025, 3, 1);
+        expense = data.subscriptionHistory(user, SyntheticData.SUBSCRIPTIONS.get(0), month.withDayOfMonth(14), 1, 0)
+                .get(0);
+
+        payments = new ArrayList<>(pendingPayments);
+        for (int i = 0; i < pendingPayments; i++) {
+            SyntheticData.Merchant merchant = i % 2 == 0
+                    ? SyntheticData.SUBSCRIPTIONS.get(i / 2 % SyntheticData.SUBSCRIPTIONS.size())
+                    : data.merchant();
+            RecurringExpense recurringExpense = RecurringExpense.builder()
+                    .recurringExpenseId(data.uuid())
+                    .user(user)
+                    .name(merchant.name())
+                    .category(merchant.category())
+                    .amount(BigDecimal.valueOf(merchant.typicalAmount()))
+                    .build();
+            payments.add(RecurringExpensePayment.builder()
+                    .paymentId(data.uuid())
+                    .recurringExpense(recurringExpense)
+                    .expectedAmount(recurringExpense.getAmount())
+                    .expectedDate(data.dateBetween(month, month.withDayOfMonth(month.lengthOfMonth())))
+                    .periodYear(month.getYear())
+                    .periodMonth(month.getMonthValue())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void scoreCandidates(Blackhole blackhole) {
+        for (RecurringExpensePayment payment : payments) {
+            blackhole.consume(matchingService.calculateMatchScore(expense, payment));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.moneyflow.service;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.dto.response.SettlementResponse.MemberSettlement;
+import com.moneyflow.dto.response.SettlementResponse.SettlementTransaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정산 최소 거래 계산 (멤버 수별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SettlementServiceBenchmark {
+
+    @Param({"2", "4", "16", "64"})
+    public int members;
+
+    private SettlementService settlementService;
+    private List<MemberSettlement> settlements;
+    private Map<UUID, String> nicknames;
+
+    @Setup
+    public void setUp() {
+        settlementService = new SettlementService(null, null, null, null);
+
+        SyntheticData data = new SyntheticData(42);
+        List<BigDecimal> balances = data.zeroSumBalances(members);
+        settlements = new ArrayList<>(members);
+        nicknames = new HashMap<>();
+        for (int i = 0; i < members; i++) {
+            UUID userId = data.uuid();
+            nicknames.put(userId, "멤버" + i);
+            settlements.add(MemberSettlement.builder()
+                    .userId(userId)
+                    .nickname("멤버" + i)
+                    .balance(balances.get(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<SettlementTransaction> calculateTransactions() {
+        return settlementService.calculateTransactions(settlements, nicknames);
+    }
+}
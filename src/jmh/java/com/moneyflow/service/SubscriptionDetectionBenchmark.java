@@ -0,0 +1,57 @@
+package com.moneyflow.service;
+
+import com.moneyflow.benchmark.SyntheticData;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가맹점별 구독 패턴 분석
+ *
+ * - subscription: 매월 같은 금액 (구독으로 판정되어 신뢰도 계산까지 진행)
+ * - irregular: 일반 가맹점의 불규칙한 결제 (금액 일관성 검사에서 조기 종료)
+ *
+ * analyzePattern은 입력 목록을 날짜순으로 제자리 정렬하므로
+ * 첫 호출 이후에는 이미 정렬된 목록이 측정됩니다. (실제 호출도 조회 결과가 대부분 날짜순)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SubscriptionDetectionBenchmark {
+
+    @Param({"6", "24"})
+    public int months;
+
+    private SubscriptionDetectionService detectionService;
+    private List<Expense> subscription;
+    private List<Expense> irregular;
+
+    @Setup
+    public void setUp() {
+        detectionService = new SubscriptionDetectionService(null, null, null, null);
+
+        SyntheticData data = new SyntheticData(42);
+        User user = data.user(0);
+        LocalDate firstPayment = LocalDate.of(2024, 1, 15);
+        subscription = data.subscriptionHistory(user, SyntheticData.SUBSCRIPTIONS.get(0), firstPayment, months, 1);
+        irregular = data.expenses(user, months, firstPayment, firstPayment.plusMonths(months));
+    }
+
+    @Benchmark
+    public Optional<SubscriptionDetectionService.SubscriptionPattern> analyzeSubscription() {
+        return detectionService.analyzePattern(subscription);
+    }
+
+    @Benchmark
+    public Optional<SubscriptionDetectionService.SubscriptionPattern> analyzeIrregular() {
+        return detectionService.analyzePattern(irregular);
+    }
+}
@@ -0,0 +1,32 @@
+package com.moneyflow.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token SHA-256 해시 (저장/회전/로그아웃마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(null, null, null);
+        // HS512 Refresh Token과 같은 길이의 문자열
+        refreshToken = "eyJhbGciOiJIUzUxMiJ9." + "x".repeat(120) + "." + "y".repeat(86);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return tokenService.hashToken(refreshToken);
+    }
+}
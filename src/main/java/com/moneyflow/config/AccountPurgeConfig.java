@@ -0,0 +1,39 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 회원 탈퇴 데이터 삭제 작업 설정 (AccountPurgeWorker)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "account.purge")
+@Getter
+@Setter
+public class AccountPurgeConfig {
+
+    /** 대기 작업 확인 주기 (밀리초) */
+    private long pollIntervalMs = 5000;
+
+    /** 한 번에 삭제하는 최대 행 수 (배치마다 별도 트랜잭션) */
+    private int batchSize = 1000;
+
+    /** 배치 사이 대기 시간 (복제 지연/WAL 급증 완화) */
+    private Duration batchPause = Duration.ofMillis(200);
+
+    /** 점유 유지 시간: 배치마다 연장되며, 인스턴스가 중단되면 만료 후 다른 인스턴스가 이어서 처리 */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /** 최대 실패 횟수, 초과하면 FAILED로 전환 */
+    private int maxAttempts = 10;
+
+    /** 첫 재시도 대기 시간 (이후 실패마다 2배) */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofHours(1);
+}
@@ -0,0 +1,45 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 이메일 발송 대기열(outbox) 디스패처 설정 (EmailOutboxDispatcher)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "email.outbox")
+@Getter
+@Setter
+public class EmailOutboxConfig {
+
+    /** 대기열 확인 주기 (밀리초) */
+    private long pollIntervalMs = 1000;
+
+    /** 동시에 발송 중일 수 있는 최대 메일 수 (인스턴스당) */
+    private int maxConcurrency = 4;
+
+    /** 최대 발송 시도 횟수, 초과하면 DEAD로 전환 */
+    private int maxAttempts = 6;
+
+    /** 첫 재시도 대기 시간 (이후 시도마다 2배) */
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    /** 점유 유지 시간: 이 시간 안에 결과가 기록되지 않으면(인스턴스 종료 등) 다시 발송 대상이 됨 */
+    private Duration lease = Duration.ofMinutes(1);
+
+    /** 발송 API 요청 타임아웃 */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    /** 발송 완료 행 보관 기간 */
+    private Duration sentRetention = Duration.ofDays(1);
+
+    /** 재시도 포기(DEAD) 행 보관 기간 */
+    private Duration deadRetention = Duration.ofDays(7);
+}
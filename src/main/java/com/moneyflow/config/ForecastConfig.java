@@ -0,0 +1,30 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 현금 흐름 예측 설정 (CashFlowForecastService)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "forecast")
+@Getter
+@Setter
+public class ForecastConfig {
+
+    /** 변동 지출/수입 평균을 낼 지난 달 수 (이번 달 제외) */
+    private int trailingMonths = 3;
+
+    /** 한 번에 예측할 수 있는 최대 개월 수 */
+    private int maxMonths = 12;
+
+    /** 장부별 예측 데이터 캐시 크기 */
+    private long cacheSize = 1_000;
+
+    /** 예측 데이터 캐시 유지 시간 (장부 버전이 바뀌면 그 전에 다시 읽음) */
+    private Duration cacheTtl = Duration.ofHours(1);
+}
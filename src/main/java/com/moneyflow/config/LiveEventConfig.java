@@ -0,0 +1,51 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 실시간 이벤트 스트림 설정 (LiveEventHub, GET /api/live/events)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "live.events")
+@Getter
+@Setter
+public class LiveEventConfig {
+
+    /** 연결 유지 시간, 지나면 서버가 연결을 닫고 클라이언트는 Last-Event-ID로 다시 연결 */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** 연결당 보내지 못한 이벤트 상한, 넘치면 연결을 닫음 (느린 클라이언트가 메모리를 쌓지 않도록) */
+    private int connectionBuffer = 64;
+
+    /** 재연결 시 다시 보내기 위해 사용자별로 보관하는 최근 이벤트 수 */
+    private int replaySize = 100;
+
+    /** 연결이 모두 끊긴 뒤 재연결을 기다리며 최근 이벤트를 보관하는 시간 */
+    private Duration replayRetention = Duration.ofMinutes(5);
+
+    /** 사용자당 동시 연결 수 (넘치면 가장 오래된 연결을 닫음) */
+    private int maxConnectionsPerUser = 5;
+
+    /** 이벤트 전송 스레드 수 */
+    private int senders = 2;
+
+    /** 전송 대기 작업 상한 (넘치면 해당 작업을 버리고 다음 이벤트/하트비트 때 다시 전송) */
+    private int queueCapacity = 10_000;
+
+    /** 한 트랜잭션에서 장부별 변경이 이보다 많으면 BOOK_CHANGED 하나로 묶음 (가져오기 등) */
+    private int coalesceThreshold = 20;
+
+    /**
+     * 인스턴스 간 중계(LiveEventRelay)가 LISTEN하는 PostgreSQL 주소 (비우면 spring.datasource.url)
+     * LISTEN은 세션 단위라 트랜잭션 모드 커넥션 풀러를 거치면 알림을 받지 못하므로, 이 경우 DB 주소를 직접 지정
+     */
+    private String listenUrl;
+
+    /** LISTEN 연결이 끊겼을 때 다시 연결하기까지 기다리는 시간 */
+    private Duration relayReconnectDelay = Duration.ofSeconds(5);
+}
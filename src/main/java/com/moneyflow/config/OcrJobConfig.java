@@ -0,0 +1,39 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * OCR 작업 처리 설정 (OcrJobService)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ocr.jobs")
+@Getter
+@Setter
+public class OcrJobConfig {
+
+    /** OCR 작업 스레드 수 */
+    private int workers = 2;
+
+    /** 대기 가능한 작업 수, 가득 차면 OCR_QUEUE_FULL (이미지 바이트를 메모리에 두므로 작게 유지) */
+    private int queueCapacity = 32;
+
+    /** 이미지 해시별 OCR 결과 캐시 크기 */
+    private long resultCacheSize = 10_000;
+
+    /** OCR 결과 캐시 유지 시간 */
+    private Duration resultCacheTtl = Duration.ofDays(1);
+
+    /** 작업 상태 조회 가능 시간 (완료 후 클라이언트가 결과를 가져갈 시간, 지나면 ocr_jobs에서 삭제) */
+    private Duration jobTtl = Duration.ofMinutes(30);
+
+    /** 다른 인스턴스가 처리 중인 작업의 완료를 기다릴 때 상태 조회 간격 */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** 상태 조회 시 완료를 기다릴 수 있는 최대 시간 (long polling) */
+    private Duration maxWait = Duration.ofSeconds(20);
+}
@@ -0,0 +1,52 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 문장 수 허용치 (N+1 탐지)
+ *
+ * endpoints에 경로 패턴별 허용치를 지정하면 기본값 대신 사용합니다.
+ * 예: moneyflow.query-budget.endpoints."[/api/settlements/**]": 20
+ */
+@Configuration
+@ConfigurationProperties(prefix = "moneyflow.query-budget")
+@Getter
+@Setter
+public class QueryBudgetConfig {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private boolean enabled = true;
+
+    /** 기본 허용 문장 수 */
+    private int defaultMaxStatements = 30;
+
+    /** true면 허용치를 넘는 순간 요청 실패 (개발/CI용) */
+    private boolean enforce = false;
+
+    /** X-Query-Count / X-DB-Time 응답 헤더 (prod 프로파일에서는 항상 비활성) */
+    private boolean exposeHeaders = true;
+
+    /** 같은 SQL이 이 횟수 이상 반복되면 N+1 의심으로 경고 */
+    private int repeatedStatementThreshold = 10;
+
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    /**
+     * 요청 경로의 허용 문장 수 (먼저 선언된 패턴 우선)
+     */
+    public int budgetFor(String path) {
+        return endpoints.entrySet().stream()
+                .filter(entry -> PATH_MATCHER.match(entry.getKey(), path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultMaxStatements);
+    }
+}
@@ -0,0 +1,90 @@
+package com.moneyflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (moneyflow.datasource.replica.url 설정 시에만 활성화)
+ *
+ * - primary: spring.datasource.* / spring.datasource.hikari.* (Flyway도 primary 사용)
+ * - replica: moneyflow.datasource.replica.* / moneyflow.datasource.replica.hikari.*
+ * - 애플리케이션(JPA)은 LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource)를 사용
+ *
+ * 풀 이름이 달라 hikaricp_* 지표가 pool 태그로 구분됩니다.
+ * 로컬에서는 두 URL을 같은 PostgreSQL로 지정해 확인할 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "moneyflow.datasource.replica.url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("moneyflow-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "moneyflow.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("moneyflow-replica");
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replicaProperties.getUsername())
+                ? replicaProperties.getUsername()
+                : dataSourceProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replicaProperties.getPassword())
+                ? replicaProperties.getPassword()
+                : dataSourceProperties.determinePassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaProperties.getMaxLagSeconds(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReplicaDataSourceProperties replicaProperties,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                replicaLagMonitor::isAvailable,
+                Duration.ofSeconds(replicaProperties.getStickinessSeconds()),
+                Clock.systemUTC(),
+                meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Target.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,97 @@
+package com.moneyflow.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 커넥션 풀을 선택하는 DataSource
+ *
+ * - @Transactional(readOnly = true) → replica
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) → primary
+ * - replica 복제 지연이 허용치를 넘으면 → primary (ReplicaLagMonitor)
+ * - 사용자가 쓰기 트랜잭션을 실행한 직후 stickiness 시간 동안 같은 사용자의 읽기 → primary
+ *
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 커넥션을 고르게 합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaAvailable;
+    private final Duration stickiness;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> lastWriteAtByUser = new ConcurrentHashMap<>();
+    private volatile long lastEvictedAt;
+
+    public ReadWriteRoutingDataSource(BooleanSupplier replicaAvailable,
+                                      Duration stickiness,
+                                      Clock clock,
+                                      MeterRegistry meterRegistry) {
+        this.replicaAvailable = replicaAvailable;
+        this.stickiness = stickiness;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = route(TransactionSynchronizationManager.isActualTransactionActive(),
+                TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+                currentUserId());
+        meterRegistry.counter("moneyflow.datasource.routing", "target", target.name().toLowerCase()).increment();
+        return target;
+    }
+
+    Target route(boolean transactionActive, boolean readOnly, String userId) {
+        long now = clock.millis();
+
+        if (!readOnly) {
+            if (transactionActive && userId != null) {
+                lastWriteAtByUser.put(userId, now);
+                evictExpiredWrites(now);
+            }
+            return Target.PRIMARY;
+        }
+
+        if (userId != null) {
+            Long lastWriteAt = lastWriteAtByUser.get(userId);
+            if (lastWriteAt != null && now - lastWriteAt < stickiness.toMillis()) {
+                return Target.PRIMARY;
+            }
+        }
+
+        return replicaAvailable.getAsBoolean() ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    /**
+     * stickiness 시간이 지난 쓰기 기록 정리 (stickiness 시간마다 최대 한 번)
+     */
+    private void evictExpiredWrites(long now) {
+        if (now - lastEvictedAt < stickiness.toMillis()) {
+            return;
+        }
+        lastEvictedAt = now;
+        long threshold = now - stickiness.toMillis();
+        lastWriteAtByUser.values().removeIf(lastWriteAt -> lastWriteAt < threshold);
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
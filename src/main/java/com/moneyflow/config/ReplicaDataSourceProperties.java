@@ -0,0 +1,30 @@
+package com.moneyflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본(replica) 접속 및 라우팅 설정
+ *
+ * url이 설정된 경우에만 ReadWriteDataSourceConfig가 활성화됩니다.
+ * username/password를 비우면 주(primary) DB 계정을 그대로 사용합니다.
+ */
+@ConfigurationProperties(prefix = "moneyflow.datasource.replica")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    private String url;
+    private String username;
+    private String password;
+
+    /** 복제 지연이 이 값(초)을 넘으면 읽기도 primary로 보냄 */
+    private double maxLagSeconds = 5;
+
+    /** 쓰기 후 이 시간(초) 동안 같은 사용자의 읽기는 primary로 보냄 (read-your-writes) */
+    private long stickinessSeconds = 5;
+
+    /** 복제 지연 확인 주기 (ms) */
+    private long lagCheckIntervalMs = 5000;
+}
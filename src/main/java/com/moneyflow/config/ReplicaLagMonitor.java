@@ -0,0 +1,74 @@
+package com.moneyflow.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * replica 복제 지연 주기 확인
+ *
+ * 지연이 허용치를 넘거나 확인 쿼리가 실패하면 replica를 사용 불가로 표시하여
+ * 읽기 전용 트랜잭션도 primary로 보내고, 회복되면 다시 replica를 사용합니다.
+ * 수신한 WAL을 모두 재생한 상태면(쓰기가 없어 대기 중) 지연 0으로 봅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final DataSource replicaDataSource;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds;
+    private volatile boolean available = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource,
+                             double maxLagSeconds,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("moneyflow.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("moneyflow.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${moneyflow.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean wasAvailable = available;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            available = lagSeconds <= maxLagSeconds;
+        } catch (Exception e) {
+            available = false;
+            if (wasAvailable) {
+                log.warn("replica 상태 확인 실패, primary로 전환: {}", e.getMessage());
+            }
+        }
+
+        if (wasAvailable && !available) {
+            log.warn("replica 사용 중지: lag={}s (허용 {}s)", lagSeconds, maxLagSeconds);
+        } else if (!wasAvailable && available) {
+            log.info("replica 사용 재개: lag={}s", lagSeconds);
+        }
+    }
+}
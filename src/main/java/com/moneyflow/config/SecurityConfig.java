@@ -3,11 +3,14 @@ package com.moneyflow.config;
 import com.moneyflow.security.CustomAuthenticationEntryPoint;
 import com.moneyflow.security.CustomUserDetailsService;
 import com.moneyflow.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,7 +19,9 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -37,6 +42,9 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins:*}")
     private String allowedOrigins;
 
+    @Value("${metrics.allowed-ips:127.0.0.1,::1}")
+    private String metricsAllowedIps;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -52,6 +60,20 @@ public class SecurityConfig {
         return Arrays.asList(environment.getActiveProfiles()).contains("dev");
     }
 
+    /**
+     * Prometheus 스크랩 허용 여부: 설정된 IP(또는 CIDR)에서 온 요청만 인증 없이 허용
+     */
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapers() {
+        List<IpAddressMatcher> matchers = Arrays.stream(metricsAllowedIps.split(","))
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+
+        return (authentication, context) -> new AuthorizationDecision(
+                matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -68,6 +90,9 @@ public class SecurityConfig {
                                 "/api/test/**").denyAll();
                     }
 
+                    // 비동기 응답(CompletableFuture, SSE)의 재디스패치: 최초 요청에서 이미 인가됨 (JWT는 재검사하지 않음)
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                     auth.requestMatchers("/api/auth/**").permitAll()
                             .requestMatchers("/api/terms/active").permitAll() // 약관 조회 (회원가입 전 조회 필요)
                             .requestMatchers("/api/talmo/**").permitAll() // Talmo 타이핑 연습 (인증 불필요)
@@ -81,6 +106,8 @@ public class SecurityConfig {
                                     "/webjars/**")
                             .permitAll()
                             .requestMatchers("/actuator/health").permitAll()
+                            .requestMatchers("/actuator/prometheus").access(metricsScrapers())
+                            .requestMatchers("/actuator/**").denyAll()
                             .anyRequest().authenticated();
                 })
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,38 @@
+package com.moneyflow.config;
+
+import com.moneyflow.domain.common.SqlTraceLogger;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 추적 로그 설정 (느린 문장 + 표본)
+ *
+ * Hibernate가 직접 생성하는 StatementInspector/SessionEventListener가 읽을 수 있도록
+ * 바인딩된 값을 SqlTraceLogger에 정적으로 적용합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "moneyflow.sql-trace")
+@Getter
+@Setter
+public class SqlTraceConfig {
+
+    private boolean enabled = true;
+
+    /** 이 시간(ms) 이상 걸린 문장은 항상 WARN으로 기록 */
+    private long slowThresholdMs = 200;
+
+    /** 임계값 미만 문장 중 INFO로 기록할 비율 (0.0 ~ 1.0) */
+    private double sampleRate = 0.0;
+
+    /** 기록할 SQL 최대 길이 */
+    private int maxSqlLength = 2000;
+
+    @PostConstruct
+    void apply() {
+        SqlTraceLogger.configure(new SqlTraceLogger.Settings(
+                enabled, slowThresholdMs, Math.max(0.0, Math.min(1.0, sampleRate)), maxSqlLength));
+    }
+}
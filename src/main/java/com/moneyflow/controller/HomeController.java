@@ -1,5 +1,6 @@
 package com.moneyflow.controller;
 
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
 import com.moneyflow.dto.response.DailySummaryDto;
 import com.moneyflow.service.HomeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 import java.util.UUID;
@@ -22,10 +24,12 @@ import java.util.UUID;
 public class HomeController {
 
     private final HomeService homeService;
+    private final AccountBookVersionService accountBookVersionService;
 
     @Operation(summary = "월간 데이터 조회", description = "특정 월의 일별 수입/지출 요약 및 상세 내역 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "400", description = "잘못된 yearMonth 형식"),
             @ApiResponse(responseCode = "401", description = "인증 실패")
     })
@@ -33,7 +37,8 @@ public class HomeController {
     public ResponseEntity<Map<String, DailySummaryDto>> getMonthlyData(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam String yearMonth, // "2025-12"
-            @RequestParam UUID accountBookId
+            @RequestParam UUID accountBookId,
+            WebRequest webRequest
     ) {
         UUID userId = UUID.fromString(userDetails.getUsername());
         // yearMonth 파싱 (예: "2025-12" → year=2025, month=12)
@@ -41,8 +46,13 @@ public class HomeController {
         int year = Integer.parseInt(parts[0]);
         int month = Integer.parseInt(parts[1]);
 
+        String etag = accountBookVersionService.etag(userId, accountBookId, "home-monthly", year, month);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         Map<String, DailySummaryDto> data =
                 homeService.getMonthlyData(userId, accountBookId, year, month);
-        return ResponseEntity.ok(data);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(data);
     }
 }
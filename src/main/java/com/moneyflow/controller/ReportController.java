@@ -1,12 +1,16 @@
 package com.moneyflow.controller;
 
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
 import com.moneyflow.dto.response.MonthlyReportResponse;
 import com.moneyflow.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportService reportService;
+    private final AccountBookVersionService accountBookVersionService;
 
     /**
      * 월간 리포트 조회
@@ -27,16 +32,23 @@ public class ReportController {
      * @param accountBookId 가계부 ID
      * @param year          연도
      * @param month         월
-     * @return 월간 리포트
+     * @return 월간 리포트 (If-None-Match가 현재 ETag와 같으면 304)
      */
     @GetMapping("/monthly")
     @Operation(summary = "월간 리포트 조회", description = "특정 월의 지출/수입 리포트를 조회합니다.")
     public ResponseEntity<MonthlyReportResponse> getMonthlyReport(
             @RequestParam UUID accountBookId,
             @RequestParam int year,
-            @RequestParam int month) {
+            @RequestParam int month,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
-        MonthlyReportResponse report = reportService.getMonthlyReport(accountBookId, year, month);
-        return ResponseEntity.ok(report);
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "report-monthly", year, month);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        MonthlyReportResponse report = reportService.getMonthlyReport(userId, accountBookId, year, month);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(report);
     }
 }
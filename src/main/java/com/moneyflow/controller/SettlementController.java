@@ -1,5 +1,6 @@
 package com.moneyflow.controller;
 
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
 import com.moneyflow.dto.request.BulkExpenseTransferRequest;
 import com.moneyflow.dto.request.ExpenseTransferRequest;
 import com.moneyflow.dto.response.ExpenseResponse;
@@ -17,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -33,6 +35,7 @@ public class SettlementController {
 
     private final SettlementService settlementService;
     private final ExpenseTransferService expenseTransferService;
+    private final AccountBookVersionService accountBookVersionService;
 
     /**
      * 정산 계산
@@ -43,17 +46,23 @@ public class SettlementController {
     @Operation(summary = "정산 계산", description = "장부의 공용 지출에 대한 N빵 정산 결과를 계산합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "정산 계산 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 없음 (장부 멤버가 아님)"),
             @ApiResponse(responseCode = "404", description = "장부를 찾을 수 없습니다")
     })
     public ResponseEntity<SettlementResponse> calculateSettlement(
             @AuthenticationPrincipal UserDetails userDetails,
-            @PathVariable UUID accountBookId) {
+            @PathVariable UUID accountBookId,
+            WebRequest webRequest) {
 
         UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "settlement");
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         SettlementResponse response = settlementService.calculateSettlement(userId, accountBookId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 
     /**
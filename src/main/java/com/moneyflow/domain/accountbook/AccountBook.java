@@ -1,6 +1,8 @@
 package com.moneyflow.domain.accountbook;
 
 import com.moneyflow.domain.couple.Couple;
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -23,6 +25,7 @@ import java.util.UUID;
  * - 여행/프로젝트: 별도 멤버 관리
  */
 @Entity
+@EntityListeners(AccountBookVersionListener.class)
 @Table(name = "account_books", indexes = {
         @Index(name = "idx_account_books_couple", columnList = "couple_id"),
         @Index(name = "idx_account_books_created_by", columnList = "created_by"),
@@ -33,7 +36,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class AccountBook {
+public class AccountBook implements AccountBookScoped {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -169,4 +172,9 @@ public class AccountBook {
     public void deactivate() {
         this.isActive = false;
     }
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return accountBookId;
+    }
 }
@@ -1,10 +1,13 @@
 package com.moneyflow.domain.accountbook;
 
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 장부 멤버 엔티티 (N:N 매핑)
@@ -13,12 +16,13 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "account_book_members")
+@EntityListeners(AccountBookVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class AccountBookMember {
+public class AccountBookMember implements AccountBookScoped {
 
     @EmbeddedId
     private AccountBookMemberId id;
@@ -59,4 +63,9 @@ public class AccountBookMember {
             this.joinedAt = LocalDateTime.now();
         }
     }
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return accountBook != null ? accountBook.getAccountBookId() : null;
+    }
 }
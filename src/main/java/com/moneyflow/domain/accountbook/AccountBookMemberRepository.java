@@ -1,7 +1,6 @@
 package com.moneyflow.domain.accountbook;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,18 +43,4 @@ public interface AccountBookMemberRepository extends JpaRepository<AccountBookMe
      */
     @Query("SELECT COUNT(m) FROM AccountBookMember m WHERE m.accountBook.accountBookId = :accountBookId")
     long countByAccountBookId(@Param("accountBookId") UUID accountBookId);
-
-    /**
-     * 사용자의 모든 멤버십 삭제 (회원 탈퇴용)
-     */
-    @Modifying
-    @Query("DELETE FROM AccountBookMember m WHERE m.user.userId = :userId")
-    void deleteByUserUserId(@Param("userId") UUID userId);
-
-    /**
-     * 특정 장부들의 모든 멤버십 삭제 (회원 탈퇴용)
-     */
-    @Modifying
-    @Query(value = "DELETE FROM account_book_members WHERE account_book_id IN (:accountBookIds)", nativeQuery = true)
-    void deleteByAccountBookIdIn(@Param("accountBookIds") List<UUID> accountBookIds);
 }
@@ -0,0 +1,104 @@
+package com.moneyflow.domain.accountbook;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 장부 조회 API의 조건부 요청(ETag/If-None-Match) 지원
+ *
+ * 장부 버전(account_book_change_seqs.last_seq)은 지출/수입/예산/고정비/멤버 등 장부 데이터가 바뀔 때마다
+ * 같은 트랜잭션에서 올라갑니다. (SyncChangeListener, AccountBookVersionListener)
+ * ETag는 (장부, 버전, 사용자, 요청 파라미터)로 만들므로, 컨트롤러는 통계 쿼리를 실행하기 전에
+ * 인덱스 한 번 조회로 304를 결정할 수 있습니다.
+ *
+ * 버전은 account_books가 아닌 별도 테이블에 있어, 쓰기마다 장부 행을 갱신하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBookVersionService {
+
+    /** 매번 서버에 재검증 (개인 데이터이므로 private) */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final String BOOK_VERSION_SQL = """
+            SELECT m.account_book_id, COALESCE(s.last_seq, 0)
+              FROM account_book_members m
+              LEFT JOIN account_book_change_seqs s ON s.account_book_id = m.account_book_id
+             WHERE m.account_book_id = ? AND m.user_id = ?
+            """;
+
+    // AccountBookRepository.findDefaultAccountBookByUserId와 같은 기준
+    private static final String DEFAULT_BOOK_VERSION_SQL = """
+            SELECT ab.account_book_id, COALESCE(s.last_seq, 0)
+              FROM account_books ab
+              JOIN account_book_members m ON m.account_book_id = ab.account_book_id AND m.user_id = ?
+              LEFT JOIN account_book_change_seqs s ON s.account_book_id = ab.account_book_id
+             WHERE ab.book_type = 'DEFAULT' AND ab.is_active = true
+             ORDER BY ab.created_at
+             LIMIT 1
+            """;
+
+    private static final RowMapper<BookVersion> BOOK_VERSION_MAPPER =
+            (rs, rowNum) -> new BookVersion(rs.getObject(1, UUID.class), rs.getLong(2));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 장부 조회 응답의 약한 ETag
+     *
+     * 장부가 없거나 멤버가 아니면 null을 반환합니다. 이때는 조건부 처리 없이 서비스를 호출해
+     * 기존과 같은 예외(404/403)가 나가도록 합니다.
+     *
+     * @param accountBookId 장부 ID (null이면 기본 장부)
+     * @param params        응답을 결정하는 요청 파라미터 (API 이름 포함)
+     */
+    @Transactional(readOnly = true)
+    public String etag(UUID userId, UUID accountBookId, Object... params) {
+        List<BookVersion> rows = accountBookId != null
+                ? jdbcTemplate.query(BOOK_VERSION_SQL, BOOK_VERSION_MAPPER, accountBookId, userId)
+                : jdbcTemplate.query(DEFAULT_BOOK_VERSION_SQL, BOOK_VERSION_MAPPER, userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        BookVersion book = rows.get(0);
+        StringBuilder key = new StringBuilder(userId.toString());
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return "W/\"" + book.accountBookId() + "-" + book.version() + "-" + digest(key.toString()) + "\"";
+    }
+
+    /**
+     * 장부 버전 (멤버가 아니거나 장부가 없으면 empty)
+     * 장부 데이터로 계산한 결과를 캐시할 때 무효화 기준으로 사용합니다. (CashFlowForecastService)
+     */
+    @Transactional(readOnly = true)
+    public OptionalLong version(UUID userId, UUID accountBookId) {
+        List<BookVersion> rows = jdbcTemplate.query(BOOK_VERSION_SQL, BOOK_VERSION_MAPPER, accountBookId, userId);
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0).version());
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record BookVersion(UUID accountBookId, long version) {
+    }
+}
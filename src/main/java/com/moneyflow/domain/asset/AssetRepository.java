@@ -1,8 +1,11 @@
 package com.moneyflow.domain.asset;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -63,8 +66,10 @@ public interface AssetRepository extends JpaRepository<Asset, UUID> {
 
     /**
      * 특정 장부들의 모든 자산 삭제 (회원 탈퇴용)
+     * 영향 테이블을 지정하여 2차 캐시 전체가 무효화되지 않도록 합니다.
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "assets"))
     @Query(value = "DELETE FROM assets WHERE account_book_id IN (:accountBookIds)", nativeQuery = true)
     void deleteByAccountBookIdIn(@Param("accountBookIds") List<UUID> accountBookIds);
 }
@@ -1,6 +1,7 @@
 package com.moneyflow.domain.asset;
 
 import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.common.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -28,7 +29,7 @@ import java.util.UUID;
 public class AssetSnapshot {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "snapshot_id")
     private UUID snapshotId;
 
@@ -1,6 +1,8 @@
 package com.moneyflow.domain.budget;
 
 import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -9,6 +11,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,12 +22,13 @@ import java.util.UUID;
 @Table(name = "budgets", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"account_book_id", "year", "month"})
 })
+@EntityListeners(AccountBookVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Budget {
+public class Budget implements AccountBookScoped {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -47,6 +52,13 @@ public class Budget {
     @Column(name = "target_amount", nullable = false, precision = 18, scale = 2)
     private BigDecimal targetAmount;
 
+    /**
+     * 카테고리별 목표 (없으면 월 전체 예산만 사용)
+     */
+    @OneToMany(mappedBy = "budget", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<CategoryBudget> categoryBudgets = new ArrayList<>();
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -54,4 +66,9 @@ public class Budget {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return accountBook != null ? accountBook.getAccountBookId() : null;
+    }
 }
@@ -1,7 +1,10 @@
 package com.moneyflow.domain.budget;
 
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
 import com.moneyflow.dto.request.BudgetRequest;
+import com.moneyflow.dto.response.BudgetReportResponse;
 import com.moneyflow.dto.response.BudgetResponse;
+import com.moneyflow.dto.response.YearlyBudgetResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,7 +15,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -26,6 +31,7 @@ import java.util.UUID;
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final AccountBookVersionService accountBookVersionService;
 
     @PostMapping
     @Operation(summary = "예산 생성 또는 수정")
@@ -44,16 +50,61 @@ public class BudgetController {
             @RequestParam UUID accountBookId,
             @RequestParam Integer year,
             @RequestParam Integer month,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "budget", year, month);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         BudgetResponse response = budgetService.getBudget(userId, accountBookId, year, month);
 
         if (response == null) {
-            return ResponseEntity.noContent().build();
+            return ResponseEntity.noContent().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
+    }
+
+    @GetMapping("/report")
+    @Operation(summary = "월 예산 리포트", description = "전체 및 카테고리별 목표, 지출, 남은 금액, 월말 예상 지출")
+    public ResponseEntity<BudgetReportResponse> getBudgetReport(
+            @RequestParam UUID accountBookId,
+            @RequestParam Integer year,
+            @RequestParam Integer month,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        // 월말 예상치가 날짜에 따라 바뀌므로 오늘 날짜도 ETag에 포함
+        String etag = accountBookVersionService.etag(userId, accountBookId, "budget-report", year, month,
+                LocalDate.now());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        BudgetReportResponse response = budgetService.getBudgetReport(userId, accountBookId, year, month);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
+    }
+
+    @GetMapping("/yearly")
+    @Operation(summary = "연간 예산 현황", description = "1~12월 목표와 지출")
+    public ResponseEntity<YearlyBudgetResponse> getYearlyOverview(
+            @RequestParam UUID accountBookId,
+            @RequestParam Integer year,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "budget-yearly", year);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
         }
 
-        return ResponseEntity.ok(response);
+        YearlyBudgetResponse response = budgetService.getYearlyOverview(userId, accountBookId, year);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 
     @DeleteMapping("/{budgetId}")
@@ -1,11 +1,17 @@
 package com.moneyflow.domain.budget;
 
+import com.moneyflow.dto.projection.CategoryBudgetUsage;
+import com.moneyflow.dto.projection.MonthlyBudgetUsage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +27,46 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
      */
     Optional<Budget> findByAccountBookAccountBookIdAndYearAndMonth(UUID accountBookId, Integer year, Integer month);
 
+    /**
+     * 카테고리별 목표와 지출 합계 (예산 리포트)
+     *
+     * 카테고리 예산 행과 해당 월 지출을 UNION ALL 후 카테고리로 한 번만 GROUP BY 합니다.
+     * 목표 없이 지출만 있는 카테고리는 targetAmount가 null, 목표만 있고 지출이 없으면 spentAmount가 0입니다.
+     * 날짜 범위는 지출 파티션 제외(pruning) 조건이기도 합니다.
+     */
+    @Query(value = "SELECT t.category AS \"category\", SUM(t.target_amount) AS \"targetAmount\", " +
+            "SUM(t.spent_amount) AS \"spentAmount\" " +
+            "FROM (" +
+            "  SELECT cb.category, cb.target_amount, 0 AS spent_amount " +
+            "  FROM category_budgets cb JOIN budgets b ON b.budget_id = cb.budget_id " +
+            "  WHERE b.account_book_id = :bookId AND b.year = :year AND b.month = :month " +
+            "  UNION ALL " +
+            "  SELECT e.category, NULL, e.amount " +
+            "  FROM expenses e " +
+            "  WHERE e.account_book_id = :bookId AND e.date BETWEEN :startDate AND :endDate" +
+            ") t " +
+            "GROUP BY t.category " +
+            "ORDER BY SUM(t.spent_amount) DESC, t.category", nativeQuery = true)
+    List<CategoryBudgetUsage> findCategoryUsage(
+            @Param("bookId") UUID bookId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 1~12월 예산과 월별 지출 합계 (연간 예산 현황)
+     *
+     * 월 목록(generate_series)에 예산 행과 budget_spends 합계를 붙여 한 번에 12행을 돌려줍니다.
+     */
+    @Query(value = "SELECT m.month AS \"month\", b.budget_id AS \"budgetId\", " +
+            "b.target_amount AS \"targetAmount\", COALESCE(s.spent_amount, 0) AS \"spentAmount\" " +
+            "FROM generate_series(1, 12) AS m(month) " +
+            "LEFT JOIN budgets b ON b.account_book_id = :bookId AND b.year = :year AND b.month = m.month " +
+            "LEFT JOIN budget_spends s ON s.account_book_id = :bookId AND s.year = :year AND s.month = m.month " +
+            "ORDER BY m.month", nativeQuery = true)
+    List<MonthlyBudgetUsage> findYearlyUsage(@Param("bookId") UUID bookId, @Param("year") int year);
+
     /**
      * 특정 예산이 사용자의 것인지 확인
      */
@@ -35,8 +81,10 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
 
     /**
      * 특정 장부들의 모든 예산 삭제 (회원 탈퇴용)
+     * 영향 테이블을 지정하여 2차 캐시 전체가 무효화되지 않도록 합니다.
      */
     @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "budgets"))
     @Query(value = "DELETE FROM budgets WHERE account_book_id IN (:accountBookIds)", nativeQuery = true)
     void deleteByAccountBookIdIn(@Param("accountBookIds") List<UUID> accountBookIds);
 }
@@ -2,11 +2,16 @@ package com.moneyflow.domain.budget;
 
 import com.moneyflow.domain.accountbook.AccountBook;
 import com.moneyflow.domain.accountbook.AccountBookRepository;
-import com.moneyflow.domain.expense.ExpenseRepository;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserRepository;
+import com.moneyflow.dto.projection.CategoryBudgetUsage;
+import com.moneyflow.dto.projection.MonthlyBudgetUsage;
 import com.moneyflow.dto.request.BudgetRequest;
+import com.moneyflow.dto.response.BudgetReportResponse;
 import com.moneyflow.dto.response.BudgetResponse;
+import com.moneyflow.dto.response.YearlyBudgetResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
 import com.moneyflow.exception.ResourceNotFoundException;
 import com.moneyflow.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +23,12 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -31,7 +42,7 @@ public class BudgetService {
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
     private final AccountBookRepository accountBookRepository;
-    private final ExpenseRepository expenseRepository;
+    private final BudgetSpendTracker budgetSpendTracker;
 
     /**
      * 예산 생성 또는 수정
@@ -39,8 +50,8 @@ public class BudgetService {
      */
     @Transactional
     public BudgetResponse createOrUpdateBudget(UUID userId, BudgetRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        // 아래 멤버 검증이 사용자 존재를 보장하므로 FK 참조만 사용 (SELECT 없음)
+        User user = userRepository.getReferenceById(userId);
 
         // 가계부 조회 및 권한 검증
         AccountBook accountBook = accountBookRepository.findById(request.getAccountBookId())
@@ -71,10 +82,48 @@ public class BudgetService {
             log.info("Created budget for account book {} - {}/{}", request.getAccountBookId(), request.getYear(), request.getMonth());
         }
 
+        if (request.getCategoryBudgets() != null) {
+            replaceCategoryBudgets(budget, request.getCategoryBudgets());
+        }
+
         Budget savedBudget = budgetRepository.save(budget);
+        // 목표를 줄여 이미 기준(80%, 100%)을 넘었으면 지금 알림
+        budgetSpendTracker.evaluate(request.getAccountBookId(), request.getYear(), request.getMonth(),
+                savedBudget.getBudgetId(), savedBudget.getTargetAmount());
         return toResponse(savedBudget);
     }
 
+    /**
+     * 카테고리 목표 교체 (같은 카테고리는 행을 유지하고 금액만 수정)
+     * 삭제 후 다시 넣으면 flush 순서(INSERT가 DELETE보다 먼저)상 (budget_id, category) 유니크 제약에 걸리므로 제자리에서 맞춥니다.
+     */
+    private void replaceCategoryBudgets(Budget budget, List<BudgetRequest.CategoryTarget> targets) {
+        Set<String> requested = new HashSet<>();
+        for (BudgetRequest.CategoryTarget target : targets) {
+            if (!requested.add(target.getCategory())) {
+                throw new BusinessException("카테고리 예산이 중복되었습니다: " + target.getCategory(),
+                        ErrorCode.INVALID_INPUT);
+            }
+        }
+
+        Map<String, CategoryBudget> existing = new HashMap<>();
+        budget.getCategoryBudgets().removeIf(categoryBudget -> !requested.contains(categoryBudget.getCategory()));
+        budget.getCategoryBudgets().forEach(categoryBudget -> existing.put(categoryBudget.getCategory(), categoryBudget));
+
+        for (BudgetRequest.CategoryTarget target : targets) {
+            CategoryBudget categoryBudget = existing.get(target.getCategory());
+            if (categoryBudget != null) {
+                categoryBudget.setTargetAmount(target.getTargetAmount());
+            } else {
+                budget.getCategoryBudgets().add(CategoryBudget.builder()
+                        .budget(budget)
+                        .category(target.getCategory())
+                        .targetAmount(target.getTargetAmount())
+                        .build());
+            }
+        }
+    }
+
     /**
      * 특정 년월의 예산 조회
      * 예산이 없으면 null 반환 (예산이 없는 것은 정상 상태)
@@ -99,6 +148,105 @@ public class BudgetService {
         return toResponse(budget);
     }
 
+    /**
+     * 월 예산 리포트 (전체 + 카테고리별 목표/지출/남은 금액/월말 예상)
+     *
+     * 카테고리별 값은 카테고리 예산과 지출 합계를 묶은 GROUP BY 쿼리 한 번으로 계산하고,
+     * 전체 지출은 카테고리 합계를 더해 구합니다. 예산이 없는 달이면 목표 관련 값만 null입니다.
+     */
+    @Transactional(readOnly = true)
+    public BudgetReportResponse getBudgetReport(UUID userId, UUID accountBookId, int year, int month) {
+        verifyMember(userId, accountBookId);
+
+        YearMonth yearMonth = YearMonth.of(year, month);
+        Budget budget = budgetRepository.findByAccountBookAccountBookIdAndYearAndMonth(accountBookId, year, month)
+                .orElse(null);
+        List<CategoryBudgetUsage> usages = budgetRepository.findCategoryUsage(
+                accountBookId, year, month, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+
+        LocalDate today = LocalDate.now();
+        int daysElapsed = daysElapsed(yearMonth, today);
+        int daysInMonth = yearMonth.lengthOfMonth();
+
+        BigDecimal totalSpent = BigDecimal.ZERO;
+        List<BudgetReportResponse.CategoryUsage> categories = new ArrayList<>();
+        for (CategoryBudgetUsage usage : usages) {
+            BigDecimal spent = usage.getSpentAmount() != null ? usage.getSpentAmount() : BigDecimal.ZERO;
+            BigDecimal target = usage.getTargetAmount();
+            BigDecimal projected = projectSpending(spent, daysElapsed, daysInMonth);
+            totalSpent = totalSpent.add(spent);
+            categories.add(BudgetReportResponse.CategoryUsage.builder()
+                    .category(usage.getCategory())
+                    .targetAmount(target)
+                    .spentAmount(spent)
+                    .remainingAmount(target != null ? target.subtract(spent) : null)
+                    .usagePercentage(target != null ? usagePercentage(spent, target) : null)
+                    .projectedSpending(projected)
+                    .projectedOverrun(target != null ? projected.compareTo(target) > 0 : null)
+                    .build());
+        }
+
+        BigDecimal target = budget != null ? budget.getTargetAmount() : null;
+        BigDecimal projected = projectSpending(totalSpent, daysElapsed, daysInMonth);
+        return BudgetReportResponse.builder()
+                .accountBookId(accountBookId)
+                .year(year)
+                .month(month)
+                .budgetId(budget != null ? budget.getBudgetId() : null)
+                .targetAmount(target)
+                .spentAmount(totalSpent)
+                .remainingAmount(target != null ? target.subtract(totalSpent) : null)
+                .usagePercentage(target != null ? usagePercentage(totalSpent, target) : null)
+                .daysElapsed(daysElapsed)
+                .daysInMonth(daysInMonth)
+                .dailyAverage(daysElapsed > 0
+                        ? totalSpent.divide(BigDecimal.valueOf(daysElapsed), 0, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .projectedSpending(projected)
+                .projectedUsagePercentage(target != null ? usagePercentage(projected, target) : null)
+                .categories(categories)
+                .build();
+    }
+
+    /**
+     * 연간 예산 현황 (1~12월 목표/지출을 쿼리 한 번으로 조회)
+     */
+    @Transactional(readOnly = true)
+    public YearlyBudgetResponse getYearlyOverview(UUID userId, UUID accountBookId, int year) {
+        verifyMember(userId, accountBookId);
+
+        BigDecimal totalTarget = BigDecimal.ZERO;
+        BigDecimal totalBudgetedSpending = BigDecimal.ZERO;
+        BigDecimal totalSpent = BigDecimal.ZERO;
+        List<YearlyBudgetResponse.MonthUsage> months = new ArrayList<>();
+        for (MonthlyBudgetUsage usage : budgetRepository.findYearlyUsage(accountBookId, year)) {
+            BigDecimal spent = usage.getSpentAmount() != null ? usage.getSpentAmount() : BigDecimal.ZERO;
+            BigDecimal target = usage.getTargetAmount();
+            totalSpent = totalSpent.add(spent);
+            if (target != null) {
+                totalTarget = totalTarget.add(target);
+                totalBudgetedSpending = totalBudgetedSpending.add(spent);
+            }
+            months.add(YearlyBudgetResponse.MonthUsage.builder()
+                    .month(usage.getMonth())
+                    .budgetId(usage.getBudgetId())
+                    .targetAmount(target)
+                    .spentAmount(spent)
+                    .remainingAmount(target != null ? target.subtract(spent) : null)
+                    .usagePercentage(target != null ? usagePercentage(spent, target) : null)
+                    .build());
+        }
+
+        return YearlyBudgetResponse.builder()
+                .accountBookId(accountBookId)
+                .year(year)
+                .totalTargetAmount(totalTarget)
+                .totalBudgetedSpending(totalBudgetedSpending)
+                .totalSpentAmount(totalSpent)
+                .months(months)
+                .build();
+    }
+
     /**
      * 예산 삭제
      */
@@ -119,29 +267,15 @@ public class BudgetService {
      * Entity를 Response DTO로 변환 (현재 소비 금액 포함)
      */
     private BudgetResponse toResponse(Budget budget) {
-        // 해당 월의 시작일과 종료일 계산
-        YearMonth yearMonth = YearMonth.of(budget.getYear(), budget.getMonth());
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        // 해당 가계부의 해당 월 총 지출 계산 (DB SUM 집계)
-        BigDecimal currentSpending = expenseRepository.sumAmountByPeriod(
-                budget.getAccountBook().getAccountBookId(), startDate, endDate);
+        // 해당 가계부의 해당 월 총 지출 (지출 쓰기마다 갱신되는 합계, 다시 합산하지 않음)
+        BigDecimal currentSpending = budgetSpendTracker.spent(
+                budget.getAccountBook().getAccountBookId(), budget.getYear(), budget.getMonth());
 
         // 남은 금액 계산
         BigDecimal remainingAmount = budget.getTargetAmount().subtract(currentSpending);
 
         // 사용률 계산 (%)
-        Double usagePercentage = 0.0;
-        if (budget.getTargetAmount().compareTo(BigDecimal.ZERO) > 0) {
-            usagePercentage = currentSpending
-                    .divide(budget.getTargetAmount(), 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100))
-                    .doubleValue();
-        } else if (currentSpending.compareTo(BigDecimal.ZERO) > 0) {
-            // targetAmount=0은 "지출 금지" 의미로 보고 지출이 발생하면 100%로 처리
-            usagePercentage = 100.0;
-        }
+        Double usagePercentage = usagePercentage(currentSpending, budget.getTargetAmount());
 
         return BudgetResponse.builder()
                 .budgetId(budget.getBudgetId())
@@ -153,8 +287,59 @@ public class BudgetService {
                 .currentSpending(currentSpending)
                 .remainingAmount(remainingAmount)
                 .usagePercentage(usagePercentage)
+                .categoryBudgets(budget.getCategoryBudgets().stream()
+                        .map(categoryBudget -> BudgetResponse.CategoryTarget.builder()
+                                .category(categoryBudget.getCategory())
+                                .targetAmount(categoryBudget.getTargetAmount())
+                                .build())
+                        .toList())
                 .createdAt(budget.getCreatedAt())
                 .updatedAt(budget.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 사용률 (%)
+     * targetAmount=0은 "지출 금지" 의미로 보고 지출이 발생하면 100%로 처리
+     */
+    static Double usagePercentage(BigDecimal spent, BigDecimal target) {
+        if (target.compareTo(BigDecimal.ZERO) > 0) {
+            return spent
+                    .divide(target, 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(100))
+                    .doubleValue();
+        }
+        return spent.compareTo(BigDecimal.ZERO) > 0 ? 100.0 : 0.0;
+    }
+
+    /**
+     * 해당 월에서 지난 날짜 수 (지난 달은 전체, 이번 달은 오늘까지, 다음 달 이후는 0)
+     */
+    static int daysElapsed(YearMonth yearMonth, LocalDate today) {
+        YearMonth current = YearMonth.from(today);
+        if (yearMonth.isBefore(current)) {
+            return yearMonth.lengthOfMonth();
+        }
+        return yearMonth.equals(current) ? today.getDayOfMonth() : 0;
+    }
+
+    /**
+     * 월말 예상 지출 (지난 날짜의 일평균 × 월 일수, 지난 날짜가 없으면 현재 지출)
+     */
+    static BigDecimal projectSpending(BigDecimal spent, int daysElapsed, int daysInMonth) {
+        if (daysElapsed <= 0 || daysElapsed >= daysInMonth) {
+            return spent;
+        }
+        return spent.multiply(BigDecimal.valueOf(daysInMonth))
+                .divide(BigDecimal.valueOf(daysElapsed), 0, RoundingMode.HALF_UP);
+    }
+
+    private void verifyMember(UUID userId, UUID accountBookId) {
+        AccountBook accountBook = accountBookRepository.findById(accountBookId)
+                .orElseThrow(() -> new ResourceNotFoundException("가계부를 찾을 수 없습니다"));
+
+        if (!accountBook.isMember(userId)) {
+            throw UnauthorizedException.accessDenied("해당 가계부에 접근할 권한이 없습니다");
+        }
+    }
 }
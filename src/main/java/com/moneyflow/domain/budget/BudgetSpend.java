@@ -0,0 +1,41 @@
+package com.moneyflow.domain.budget;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.math.BigDecimal;
+
+/**
+ * 장부/월별 지출 합계 엔티티
+ *
+ * 값은 BudgetSpendTracker가 지출 쓰기마다 JDBC upsert로 증감하고, 이 엔티티는 조회에만 사용합니다.
+ */
+@Entity
+@Table(name = "budget_spends")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSpend {
+
+    @EmbeddedId
+    private BudgetSpendId id;
+
+    /**
+     * 해당 월 지출 합계
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "spent_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal spentAmount = BigDecimal.ZERO;
+
+    /**
+     * 이미 알린 예산 사용률 기준 (0, 80, 100)
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "alerted_level", nullable = false)
+    private Integer alertedLevel = 0;
+}
@@ -0,0 +1,29 @@
+package com.moneyflow.domain.budget;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * BudgetSpend 복합 기본키
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class BudgetSpendId implements Serializable {
+
+    @Column(name = "account_book_id")
+    private UUID accountBookId;
+
+    @Column(name = "year")
+    private Integer year;
+
+    @Column(name = "month")
+    private Integer month;
+}
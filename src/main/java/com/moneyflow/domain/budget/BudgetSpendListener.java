@@ -0,0 +1,93 @@
+package com.moneyflow.domain.budget;
+
+import com.moneyflow.domain.expense.Expense;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 지출 저장/수정/삭제/장부 이동 시 장부/월별 지출 합계(BudgetSpendTracker)에 증감분을 반영하는 엔티티 리스너
+ *
+ * 조회/저장 시점의 장부, 날짜, 금액을 엔티티에 기억해 두고(컬럼 아님), 수정되면 이전 값을 빼고 새 값을 더합니다.
+ * 같은 장부/월 안에서의 수정은 차액 하나만 반영합니다.
+ * JPQL/네이티브 일괄 삭제는 리스너를 거치지 않으므로 호출하는 쪽에서 recomputeMemberBooks로 맞춥니다. (탈퇴 데이터 삭제)
+ *
+ * BudgetSpendTracker 빈이 없으면(일부 슬라이스 테스트) 아무것도 하지 않습니다.
+ */
+public class BudgetSpendListener {
+
+    @Autowired
+    private ObjectProvider<BudgetSpendTracker> budgetSpendTracker;
+
+    @PostLoad
+    void remember(Expense expense) {
+        expense.setTrackedSpend(Spend.of(expense));
+    }
+
+    @PostPersist
+    void afterCreate(Expense expense) {
+        Spend current = Spend.of(expense);
+        BudgetSpendTracker tracker = tracker();
+        if (tracker != null) {
+            tracker.apply(current.accountBookId(), current.date(), current.amount());
+        }
+        expense.setTrackedSpend(current);
+    }
+
+    @PostUpdate
+    void afterUpdate(Expense expense) {
+        Spend previous = expense.getTrackedSpend();
+        Spend current = Spend.of(expense);
+        BudgetSpendTracker tracker = tracker();
+        if (tracker != null && !current.equals(previous)) {
+            if (previous != null && previous.sameMonth(current)) {
+                tracker.apply(current.accountBookId(), current.date(), current.amount().subtract(previous.amount()));
+            } else {
+                if (previous != null) {
+                    tracker.apply(previous.accountBookId(), previous.date(), previous.amount().negate());
+                }
+                tracker.apply(current.accountBookId(), current.date(), current.amount());
+            }
+        }
+        expense.setTrackedSpend(current);
+    }
+
+    @PostRemove
+    void afterDelete(Expense expense) {
+        Spend previous = expense.getTrackedSpend() != null ? expense.getTrackedSpend() : Spend.of(expense);
+        BudgetSpendTracker tracker = tracker();
+        if (tracker != null) {
+            tracker.apply(previous.accountBookId(), previous.date(), previous.amount().negate());
+        }
+    }
+
+    private BudgetSpendTracker tracker() {
+        return budgetSpendTracker != null ? budgetSpendTracker.getIfAvailable() : null;
+    }
+
+    /**
+     * 합계에 반영된 지출 값 (장부, 날짜, 금액)
+     */
+    public record Spend(UUID accountBookId, LocalDate date, BigDecimal amount) {
+
+        static Spend of(Expense expense) {
+            return new Spend(expense.getSyncAccountBookId(), expense.getDate(),
+                    expense.getAmount() != null ? expense.getAmount() : BigDecimal.ZERO);
+        }
+
+        boolean sameMonth(Spend other) {
+            return Objects.equals(accountBookId, other.accountBookId)
+                    && date != null && other.date != null
+                    && YearMonth.from(date).equals(YearMonth.from(other.date));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.moneyflow.domain.budget;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BudgetSpendRepository extends JpaRepository<BudgetSpend, BudgetSpendId> {
+}
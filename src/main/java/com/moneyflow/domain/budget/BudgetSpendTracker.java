@@ -0,0 +1,218 @@
+package com.moneyflow.domain.budget;
+
+import com.moneyflow.domain.common.UuidV7;
+import com.moneyflow.domain.live.LiveEvent;
+import com.moneyflow.domain.live.LiveEventPublisher;
+import com.moneyflow.domain.live.LiveEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장부/월별 지출 합계 추적 + 예산 기준(80%, 100%) 초과 알림
+ *
+ * 지출 쓰기마다(BudgetSpendListener) 해당 월 합계에 증감분만 upsert하고, 같은 쿼리로 돌려받은 합계와 예산을 비교합니다.
+ * 쓰기 한 건당 쿼리 한 번(기준을 새로 넘었을 때만 추가 쿼리)이라 월 지출을 다시 합산하지 않습니다.
+ *
+ * upsert한 행은 트랜잭션이 끝날 때까지 잠겨 있으므로 같은 장부/월의 쓰기는 순서대로 반영되고,
+ * alerted_level을 올린 트랜잭션만 알림을 만듭니다. 알림 행도 같은 트랜잭션에서 INSERT하므로 롤백되면 함께 취소되어
+ * 기준마다 월 한 번만 알림이 나갑니다. (한 번에 100%를 넘으면 80% 알림은 건너뜀)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetSpendTracker {
+
+    /** 알림 기준 (예산 대비 %) */
+    static final int WARNING_LEVEL = 80;
+    static final int EXCEEDED_LEVEL = 100;
+
+    static final String NOTIFICATION_TYPE = "BUDGET";
+
+    private static final String APPLY_SQL = """
+            WITH s AS (
+                INSERT INTO budget_spends (account_book_id, year, month, spent_amount, alerted_level)
+                VALUES (?, ?, ?, ?, 0)
+                ON CONFLICT (account_book_id, year, month)
+                DO UPDATE SET spent_amount = budget_spends.spent_amount + EXCLUDED.spent_amount
+                RETURNING account_book_id, year, month, spent_amount, alerted_level
+            )
+            SELECT s.spent_amount, s.alerted_level, b.budget_id, b.target_amount
+              FROM s
+              LEFT JOIN budgets b
+                ON b.account_book_id = s.account_book_id AND b.year = s.year AND b.month = s.month
+            """;
+
+    private static final String RAISE_LEVEL_SQL = """
+            UPDATE budget_spends SET alerted_level = ?
+             WHERE account_book_id = ? AND year = ? AND month = ? AND alerted_level < ?
+            """;
+
+    private static final String MEMBERS_SQL = """
+            SELECT m.user_id, b.name
+              FROM account_book_members m
+              JOIN account_books b ON b.account_book_id = m.account_book_id
+             WHERE m.account_book_id = ?
+            """;
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+            INSERT INTO notifications (notification_id, user_id, title, message, type, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, false, ?)
+            """;
+
+    private static final String RECOMPUTE_MEMBER_BOOKS_SQL = """
+            UPDATE budget_spends s
+               SET spent_amount = COALESCE((
+                       SELECT SUM(e.amount) FROM expenses e
+                        WHERE e.account_book_id = s.account_book_id
+                          AND e.date >= make_date(s.year, s.month, 1)
+                          AND e.date < make_date(s.year, s.month, 1) + INTERVAL '1 month'), 0)
+             WHERE s.account_book_id IN (SELECT account_book_id FROM account_book_members WHERE user_id = ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BudgetSpendRepository budgetSpendRepository;
+    private final ObjectProvider<LiveEventPublisher> liveEventPublisher;
+
+    /**
+     * 지출 증감 반영 (음수면 차감) 후 기준을 새로 넘었으면 알림
+     */
+    public void apply(UUID accountBookId, LocalDate date, BigDecimal delta) {
+        if (accountBookId == null || date == null || delta == null || delta.signum() == 0) {
+            return;
+        }
+        upsertAndCheck(accountBookId, date.getYear(), date.getMonthValue(), delta, null);
+    }
+
+    /**
+     * 예산 저장 직후 현재 지출로 기준 확인 (예산을 줄여 이미 기준을 넘은 경우)
+     * 예산 행이 아직 flush되지 않았을 수 있으므로 목표 금액을 직접 받습니다.
+     */
+    public void evaluate(UUID accountBookId, int year, int month, UUID budgetId, BigDecimal targetAmount) {
+        upsertAndCheck(accountBookId, year, month, BigDecimal.ZERO, new Target(budgetId, targetAmount));
+    }
+
+    /**
+     * 해당 월 지출 합계 (지출이 없던 달이면 0)
+     */
+    public BigDecimal spent(UUID accountBookId, int year, int month) {
+        return budgetSpendRepository.findById(new BudgetSpendId(accountBookId, year, month))
+                .map(BudgetSpend::getSpentAmount)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * 사용자가 속한 장부의 합계를 지출 테이블에서 다시 계산 (탈퇴 데이터 삭제처럼 엔티티를 거치지 않는 일괄 삭제용)
+     */
+    public int recomputeMemberBooks(UUID userId) {
+        return jdbcTemplate.update(RECOMPUTE_MEMBER_BOOKS_SQL, userId);
+    }
+
+    /**
+     * 사용률 기준 (0, 80, 100). 목표가 0원이면 지출이 있을 때 100%로 봅니다. (BudgetService와 같은 규칙)
+     */
+    static int levelOf(BigDecimal spent, BigDecimal target) {
+        if (target.signum() <= 0) {
+            return spent.signum() > 0 ? EXCEEDED_LEVEL : 0;
+        }
+        if (spent.compareTo(target) >= 0) {
+            return EXCEEDED_LEVEL;
+        }
+        if (spent.multiply(BigDecimal.valueOf(100)).compareTo(target.multiply(BigDecimal.valueOf(WARNING_LEVEL))) >= 0) {
+            return WARNING_LEVEL;
+        }
+        return 0;
+    }
+
+    private void upsertAndCheck(UUID accountBookId, int year, int month, BigDecimal delta, Target override) {
+        Snapshot snapshot = jdbcTemplate.queryForObject(APPLY_SQL, (rs, rowNum) -> new Snapshot(
+                        rs.getBigDecimal("spent_amount"),
+                        rs.getInt("alerted_level"),
+                        rs.getObject("budget_id", UUID.class),
+                        rs.getBigDecimal("target_amount")),
+                accountBookId, year, month, delta);
+        if (snapshot == null || delta.signum() < 0) {
+            return;
+        }
+        Target target = override != null ? override : new Target(snapshot.budgetId(), snapshot.targetAmount());
+        if (target.amount() == null) {
+            return;
+        }
+        int level = levelOf(snapshot.spent(), target.amount());
+        if (level <= snapshot.alertedLevel()) {
+            return;
+        }
+        int raised = jdbcTemplate.update(RAISE_LEVEL_SQL, level, accountBookId, year, month, level);
+        if (raised == 1) {
+            notifyMembers(accountBookId, year, month, level, snapshot.spent(), target);
+        }
+    }
+
+    private void notifyMembers(UUID accountBookId, int year, int month, int level, BigDecimal spent, Target target) {
+        List<Object[]> rows = new ArrayList<>();
+        List<Recipient> recipients = new ArrayList<>();
+        String title = level >= EXCEEDED_LEVEL ? "예산을 초과했어요" : "예산의 " + level + "%를 사용했어요";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.query(MEMBERS_SQL, rs -> {
+            UUID userId = rs.getObject("user_id", UUID.class);
+            String message = String.format("%s 장부의 %d년 %d월 지출이 %,d원으로 예산 %,d원의 %d%%에 도달했습니다.",
+                    rs.getString("name"), year, month, spent.longValue(), target.amount().longValue(),
+                    usagePercent(spent, target.amount()));
+            UUID notificationId = UuidV7.generate();
+            rows.add(new Object[]{notificationId, userId, title, message, NOTIFICATION_TYPE, now});
+            recipients.add(new Recipient(userId, notificationId));
+        }, accountBookId);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, rows);
+        }
+        log.info("[Budget] Book {} reached {}% of {}/{} budget, notified {} members",
+                accountBookId, level, year, month, recipients.size());
+
+        LiveEventPublisher publisher = liveEventPublisher.getIfAvailable();
+        if (publisher == null) {
+            return;
+        }
+        // JDBC로 넣은 알림은 NotificationLiveListener를 거치지 않으므로 직접 발행
+        for (Recipient recipient : recipients) {
+            publisher.publishToUser(recipient.userId(), LiveEvent.builder()
+                    .type(LiveEventType.NOTIFICATION_CREATED)
+                    .id(recipient.notificationId())
+                    .title(title)
+                    .build());
+        }
+        publisher.publishToBook(accountBookId, LiveEvent.builder()
+                .type(LiveEventType.BUDGET_THRESHOLD)
+                .accountBookId(accountBookId)
+                .id(target.budgetId())
+                .title(title)
+                .threshold(level)
+                .build());
+    }
+
+    private static long usagePercent(BigDecimal spent, BigDecimal target) {
+        if (target.signum() <= 0) {
+            return EXCEEDED_LEVEL;
+        }
+        return spent.multiply(BigDecimal.valueOf(100)).divide(target, 0, RoundingMode.DOWN).longValue();
+    }
+
+    private record Snapshot(BigDecimal spent, int alertedLevel, UUID budgetId, BigDecimal targetAmount) {
+    }
+
+    private record Target(UUID budgetId, BigDecimal amount) {
+    }
+
+    private record Recipient(UUID userId, UUID notificationId) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.moneyflow.domain.budget;
+
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 카테고리별 예산 엔티티 (월 예산에 딸린 카테고리 목표)
+ */
+@Entity
+@Table(name = "category_budgets", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"budget_id", "category"})
+})
+@EntityListeners(AccountBookVersionListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryBudget implements AccountBookScoped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "category_budget_id")
+    private UUID categoryBudgetId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "budget_id", nullable = false)
+    private Budget budget;
+
+    /**
+     * 지출 카테고리 (expenses.category와 같은 값)
+     */
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(name = "target_amount", nullable = false, precision = 18, scale = 2)
+    private BigDecimal targetAmount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return budget != null ? budget.getScopedAccountBookId() : null;
+    }
+}
@@ -1,9 +1,13 @@
 package com.moneyflow.domain.category;
 
+import com.moneyflow.domain.common.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
 @Table(name = "categories")
 @Getter
 @Setter
@@ -0,0 +1,109 @@
+package com.moneyflow.domain.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업무 지표 카운터 (/actuator/prometheus 로 노출)
+ *
+ * - moneyflow.bulk.import.rows: 일괄 등록 처리 행 수 (type, result=saved|failed)
+ * - moneyflow.classifier.calls: 카테고리 자동 분류 호출 수 (category, matched)
+ * - moneyflow.notifications.dispatched: 푸시 알림 발송 시도 수 (target=users|all, outcome=sent|skipped|failed)
+ * - moneyflow.emails.dispatched: 대기열 이메일 발송 결과 수 (outcome=sent|retried|dead)
+ * - moneyflow.account.purge.rows: 탈퇴 데이터 삭제 작업이 삭제/변경한 행 수 (step)
+ * - moneyflow.account.purge.jobs: 탈퇴 데이터 삭제 작업 결과 수 (outcome=completed|retried|failed)
+ *
+ * 태그 값은 모두 고정된 집합이라 시계열 수가 제한됩니다. (사용자 ID 등은 태그로 쓰지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 일괄 등록 결과 기록
+     *
+     * @param type 등록 대상 (예: expense)
+     */
+    public void recordBulkImport(String type, int saved, int failed) {
+        bulkImportRows(type, "saved").increment(saved);
+        bulkImportRows(type, "failed").increment(failed);
+    }
+
+    /**
+     * 카테고리 자동 분류 호출 기록
+     */
+    public void recordClassification(String category, boolean matched) {
+        Counter.builder("moneyflow.classifier.calls")
+                .description("카테고리 자동 분류 호출 수")
+                .tag("category", category)
+                .tag("matched", String.valueOf(matched))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 푸시 알림 발송 시도 기록
+     *
+     * @param target  발송 대상 (users: 특정 사용자, all: 전체)
+     * @param outcome 결과 (sent, skipped, failed)
+     */
+    public void recordNotificationDispatch(String target, String outcome) {
+        Counter.builder("moneyflow.notifications.dispatched")
+                .description("푸시 알림 발송 시도 수")
+                .tag("target", target)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 대기열 이메일 발송 결과 기록
+     *
+     * @param outcome 결과 (sent, retried, dead)
+     */
+    public void recordEmailDispatch(String outcome) {
+        Counter.builder("moneyflow.emails.dispatched")
+                .description("대기열 이메일 발송 결과 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 탈퇴 데이터 삭제 배치 기록
+     *
+     * @param step 삭제 단계 (AccountPurgeStep 이름)
+     */
+    public void recordAccountPurgeRows(String step, int rows) {
+        Counter.builder("moneyflow.account.purge.rows")
+                .description("탈퇴 데이터 삭제 작업이 삭제/변경한 행 수")
+                .tag("step", step)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * 탈퇴 데이터 삭제 작업 결과 기록
+     *
+     * @param outcome 결과 (completed, retried, failed)
+     */
+    public void recordAccountPurge(String outcome) {
+        Counter.builder("moneyflow.account.purge.jobs")
+                .description("탈퇴 데이터 삭제 작업 결과 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Counter bulkImportRows(String type, String result) {
+        return Counter.builder("moneyflow.bulk.import.rows")
+                .description("일괄 등록 처리 행 수")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
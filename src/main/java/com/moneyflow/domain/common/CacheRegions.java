@@ -0,0 +1,24 @@
+package com.moneyflow.domain.common;
+
+/**
+ * Hibernate 2차 캐시 리전 이름
+ *
+ * TTL/최대 크기는 hibernate-cache.conf에 리전별로 정의합니다.
+ * 정의되지 않은 리전을 쓰면 기동 시 실패합니다. (hibernate.javax.cache.missing_cache_strategy: fail)
+ *
+ * 캐시는 인스턴스마다 따로 있어 다른 인스턴스의 수정은 무효화되지 않습니다.
+ * 그래서 배포 시에만 바뀌는 참조 데이터만 캐시하고, 사용자/장부처럼 요청으로 바뀌는 엔티티는 캐시하지 않습니다.
+ */
+public final class CacheRegions {
+
+    /** 약관 문서 (배포 시에만 변경) */
+    public static final String TERMS = "terms";
+    public static final String TERMS_QUERY = "terms-query";
+
+    /** 카테고리 마스터 */
+    public static final String CATEGORY = "category";
+    public static final String CATEGORY_QUERY = "category-query";
+
+    private CacheRegions() {
+    }
+}
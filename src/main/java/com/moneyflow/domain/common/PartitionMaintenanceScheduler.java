@@ -0,0 +1,276 @@
+package com.moneyflow.domain.common;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위 파티션 유지 스케줄러
+ * 매일 새벽 4시에 expenses/incomes의 미래 월 파티션을 미리 생성 (V24 ensure_monthly_partitions)
+ *
+ * 파티션이 없는 월의 데이터는 기본 파티션(<table>_default)에 들어가며,
+ * 해당 월 파티션이 생성될 때 함수가 자동으로 옮깁니다.
+ *
+ * 이어서 V24에서 기존 테이블 전체를 연결한 과거 구간 파티션을 월 단위 하위 파티션 테이블로 교체합니다.
+ * (V32 split_legacy_partition) 행을 배치로 복사하므로 실행당 복사 배치 수를 제한하고,
+ * 남은 행은 다음 날 이어서 복사합니다. 복사가 끝나면 짧은 락 구간에서 한 번에 바꿔 끼웁니다.
+ *
+ * 파티션 테이블에는 CONCURRENTLY로 인덱스를 만들 수 없으므로 마이그레이션은 부모에만 인덱스를 정의하고(ON ONLY, 무효 상태),
+ * 이 스케줄러가 파티션별 인덱스를 CONCURRENTLY로 만들어 연결합니다. 모든 파티션이 연결되면 부모 인덱스가 유효해집니다.
+ * (V28, V29) 연결되지 않은 파티션이 있는 동안에는 과거 구간을 교체하지 않습니다.
+ * (교체 테이블에 부모와 같은 인덱스가 미리 있어야 연결 시 락을 잡은 채 인덱스를 생성하지 않으므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintenanceScheduler {
+
+    static final List<String> PARTITIONED_TABLES = List.of("expenses", "incomes");
+
+    /**
+     * 파티션 인덱스가 아직 연결되지 않은 (부모 인덱스, 파티션) 하나
+     */
+    private static final String PENDING_INDEX_SQL = """
+            SELECT pi.indexrelid::regclass::text AS parent_index,
+                   part.inhrelid::regclass::text AS partition,
+                   pg_get_indexdef(pi.indexrelid) AS definition
+              FROM pg_index pi
+              JOIN pg_class t ON t.oid = pi.indrelid
+              JOIN pg_inherits part ON part.inhparent = pi.indrelid
+             WHERE t.relkind = 'p'
+               AND t.relname = ANY (string_to_array(?, ','))
+               AND NOT pi.indisvalid
+               AND NOT EXISTS (SELECT 1
+                                 FROM pg_inherits ci
+                                 JOIN pg_index c ON c.indexrelid = ci.inhrelid
+                                WHERE ci.inhparent = pi.indexrelid
+                                  AND c.indrelid = part.inhrelid)
+             ORDER BY 1, 2
+             LIMIT 1
+            """;
+
+    private static final Pattern INDEX_HEADER = Pattern.compile("^CREATE (UNIQUE )?INDEX \\S+ ON ONLY \\S+ USING");
+
+    private static final String INDEX_BUILD_LOCK = "SELECT pg_try_advisory_lock(hashtext('partition_index_build'))";
+    private static final String INDEX_BUILD_UNLOCK = "SELECT pg_advisory_unlock(hashtext('partition_index_build'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("partition-index-"));
+    private final AtomicBoolean indexBuildRunning = new AtomicBoolean();
+
+    @Value("${moneyflow.partitioning.months-ahead:12}")
+    private int monthsAhead;
+
+    @Value("${moneyflow.partitioning.legacy-split-batch-rows:5000}")
+    private int legacySplitBatchRows;
+
+    @Value("${moneyflow.partitioning.legacy-split-batches-per-run:200}")
+    private int legacySplitBatchesPerRun;
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void ensureFuturePartitions() {
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                Integer created = jdbcTemplate.queryForObject(
+                        "SELECT ensure_monthly_partitions(?, ?)", Integer.class, table, monthsAhead);
+                log.info("[Partition] {}: {} monthly partitions created ({} months ahead)",
+                        table, created, monthsAhead);
+            } catch (DataAccessException e) {
+                log.error("[Partition] Failed to create monthly partitions for {}", table, e);
+            }
+        }
+        splitLegacyPartitions();
+    }
+
+    void splitLegacyPartitions() {
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                if (pendingIndexes(table) > 0) {
+                    log.info("[Partition] {}: partition indexes are still being built, legacy split postponed", table);
+                    continue;
+                }
+                int batches = 0;
+                while (batches < legacySplitBatchesPerRun) {
+                    String step = jdbcTemplate.queryForObject(
+                            "SELECT split_legacy_partition(?, ?)", String.class, table, legacySplitBatchRows);
+                    if ("COPIED".equals(step)) {
+                        batches++;
+                        continue;
+                    }
+                    if (!"DONE".equals(step)) {
+                        log.info("[Partition] {}: legacy partition split {}", table, step);
+                    }
+                    if (!"PREPARED".equals(step) && !"RESTARTED".equals(step)) {
+                        break;
+                    }
+                }
+                if (batches > 0) {
+                    log.info("[Partition] {}: copied {} batches of the legacy partition", table, batches);
+                }
+            } catch (DataAccessException e) {
+                log.error("[Partition] Failed to split the legacy partition of {}", table, e);
+            }
+        }
+    }
+
+    /**
+     * 연결되지 않은 파티션 인덱스가 있으면 전용 스레드에서 생성 시작 (이미 진행 중이면 건너뜀)
+     * 인덱스 생성은 오래 걸릴 수 있으므로 다른 @Scheduled 작업을 막지 않도록 분리
+     */
+    @Scheduled(fixedDelayString = "${moneyflow.partitioning.index-build-interval-ms:60000}")
+    public void schedulePartitionIndexBuilds() {
+        if (!indexBuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            indexExecutor.execute(() -> {
+                try {
+                    buildPartitionIndexes();
+                } finally {
+                    indexBuildRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            indexBuildRunning.set(false);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 CONCURRENTLY 생성이 중단되면 무효 인덱스가 남고, 다음 실행에서 지우고 다시 생성
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * 연결되지 않은 파티션 인덱스를 하나씩 CONCURRENTLY로 생성해 부모 인덱스에 연결
+     * (여러 인스턴스 중 advisory lock을 잡은 하나만 실행)
+     *
+     * @return 연결한 파티션 인덱스 수
+     */
+    int buildPartitionIndexes() {
+        try {
+            Integer attached = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                if (!queryBoolean(connection, INDEX_BUILD_LOCK)) {
+                    return 0;
+                }
+                try {
+                    int count = 0;
+                    PendingIndex pending;
+                    while ((pending = nextPendingIndex(connection)) != null) {
+                        buildAndAttach(connection, pending);
+                        count++;
+                    }
+                    return count;
+                } finally {
+                    queryBoolean(connection, INDEX_BUILD_UNLOCK);
+                }
+            });
+            return attached != null ? attached : 0;
+        } catch (DataAccessException e) {
+            log.error("[Partition] Failed to build partition indexes", e);
+            return 0;
+        }
+    }
+
+    private int pendingIndexes(String table) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                  FROM pg_index pi
+                  JOIN pg_class t ON t.oid = pi.indrelid
+                 WHERE t.relkind = 'p' AND t.relname = ? AND NOT pi.indisvalid
+                """, Integer.class, table);
+        return count != null ? count : 0;
+    }
+
+    private PendingIndex nextPendingIndex(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(PENDING_INDEX_SQL)) {
+            statement.setString(1, String.join(",", PARTITIONED_TABLES));
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new PendingIndex(rs.getString("parent_index"), rs.getString("partition"),
+                        rs.getString("definition"));
+            }
+        }
+    }
+
+    private void buildAndAttach(Connection connection, PendingIndex pending) throws SQLException {
+        String child = childIndexName(pending);
+        long startedAt = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            Boolean valid = null;
+            try (PreparedStatement lookup = connection.prepareStatement(
+                    "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)")) {
+                lookup.setString(1, '"' + child + '"');
+                try (ResultSet rs = lookup.executeQuery()) {
+                    if (rs.next()) {
+                        valid = rs.getBoolean(1);
+                    }
+                }
+            }
+            // 중단된 CONCURRENTLY 생성이 남긴 무효 인덱스는 지우고 다시 생성
+            if (Boolean.FALSE.equals(valid)) {
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS \"" + child + '"');
+            }
+            if (!Boolean.TRUE.equals(valid)) {
+                statement.execute(concurrentDefinition(pending, child));
+            }
+            statement.execute("ALTER INDEX " + pending.parentIndex() + " ATTACH PARTITION \"" + child + '"');
+        }
+        log.info("[Partition] {}: index {} built and attached to {} ({}ms)", pending.partition(), child,
+                pending.parentIndex(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 부모 인덱스 정의(CREATE INDEX name ON ONLY parent USING ...)를 파티션용 CONCURRENTLY 생성문으로 변환
+     */
+    static String concurrentDefinition(PendingIndex pending, String child) {
+        Matcher matcher = INDEX_HEADER.matcher(pending.definition());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected index definition: " + pending.definition());
+        }
+        String unique = matcher.group(1) != null ? matcher.group(1) : "";
+        return matcher.replaceFirst(Matcher.quoteReplacement(
+                "CREATE " + unique + "INDEX CONCURRENTLY \"" + child + "\" ON " + pending.partition() + " USING"));
+    }
+
+    /**
+     * <파티션>_<부모 인덱스> (식별자 최대 63자)
+     */
+    static String childIndexName(PendingIndex pending) {
+        String parentIndex = pending.parentIndex().substring(pending.parentIndex().lastIndexOf('.') + 1);
+        String name = pending.partition().substring(pending.partition().lastIndexOf('.') + 1) + "_" + parentIndex;
+        return name.length() <= 63 ? name : name.substring(0, 63);
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    record PendingIndex(String parentIndex, String partition, String definition) {
+    }
+}
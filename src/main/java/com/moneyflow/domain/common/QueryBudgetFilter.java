@@ -0,0 +1,71 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.config.QueryBudgetConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 SQL 실행 횟수를 집계해 허용치 초과/N+1 의심 패턴을 로그로 남기는 필터
+ *
+ * 집계 결과는 QueryBudgetHeaderAdvice가 응답 헤더로 노출합니다. (prod 제외)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final int SQL_LOG_LENGTH = 200;
+
+    private final QueryBudgetConfig queryBudgetConfig;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !queryBudgetConfig.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI();
+        int budget = queryBudgetConfig.budgetFor(path);
+
+        try (QueryCounter counter = QueryCounter.start(budget, queryBudgetConfig.isEnforce())) {
+            filterChain.doFilter(request, response);
+            report(request.getMethod() + " " + path, counter);
+        }
+    }
+
+    private void report(String endpoint, QueryCounter counter) {
+        int statements = counter.getStatementCount();
+        long dbTimeMillis = TimeUnit.NANOSECONDS.toMillis(counter.getDbTimeNanos());
+
+        if (counter.isOverBudget()) {
+            log.warn("쿼리 허용치 초과: {} statements={} budget={} dbTime={}ms",
+                    endpoint, statements, counter.getBudget(), dbTimeMillis);
+        }
+
+        counter.mostRepeatedStatement()
+                .filter(entry -> entry.getValue() >= queryBudgetConfig.getRepeatedStatementThreshold())
+                .ifPresentOrElse(
+                        entry -> log.warn("N+1 의심: {} 같은 SQL {}회 실행 - {}",
+                                endpoint, entry.getValue(), abbreviate(entry)),
+                        () -> log.debug("쿼리 집계: {} statements={} dbTime={}ms",
+                                endpoint, statements, dbTimeMillis));
+    }
+
+    private static String abbreviate(Map.Entry<String, Integer> entry) {
+        String sql = entry.getKey().replaceAll("\\s+", " ");
+        return sql.length() <= SQL_LOG_LENGTH ? sql : sql.substring(0, SQL_LOG_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,57 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.config.QueryBudgetConfig;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문을 쓰기 직전에 현재 요청의 쿼리 집계를 헤더로 노출 (prod 프로파일 제외)
+ *
+ * - X-Query-Count: 실행된 SQL 문장 수
+ * - X-DB-Time: JDBC 실행 시간 합계 (ms)
+ *
+ * 본문을 버퍼링하지 않도록 필터 대신 ResponseBodyAdvice에서 헤더를 설정합니다.
+ */
+@ControllerAdvice
+public class QueryBudgetHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String DB_TIME_HEADER = "X-DB-Time";
+
+    private final boolean exposeHeaders;
+
+    public QueryBudgetHeaderAdvice(QueryBudgetConfig queryBudgetConfig, Environment environment) {
+        this.exposeHeaders = queryBudgetConfig.isExposeHeaders()
+                && !environment.acceptsProfiles(Profiles.of("prod"));
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return exposeHeaders;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(counter.getStatementCount()));
+            response.getHeaders().set(DB_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(counter.getDbTimeNanos())));
+        }
+        return body;
+    }
+}
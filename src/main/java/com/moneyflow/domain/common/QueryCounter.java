@@ -0,0 +1,103 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청(스레드) 단위 SQL 실행 횟수/DB 시간 집계
+ *
+ * QueryBudgetFilter가 요청마다 start()로 열고 닫으며,
+ * QueryCountingStatementInspector(문장 수)와 QueryTimingSessionListener(실행 시간)가 기록합니다.
+ * 같은 SQL이 반복 실행된 횟수도 함께 세어 N+1 의심 패턴을 찾습니다.
+ *
+ * 중첩해서 열 수 있으며(테스트 헬퍼 등), 닫으면 바깥 집계가 다시 현재 집계가 됩니다.
+ */
+public final class QueryCounter implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final QueryCounter previous;
+    private final int budget;
+    private final boolean enforce;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statementCount;
+    private long dbTimeNanos;
+    private boolean budgetViolationRaised;
+
+    private QueryCounter(QueryCounter previous, int budget, boolean enforce) {
+        this.previous = previous;
+        this.budget = budget;
+        this.enforce = enforce;
+    }
+
+    /**
+     * 현재 스레드에 새 집계 시작
+     *
+     * @param budget  허용 문장 수
+     * @param enforce true면 허용 문장 수를 넘는 순간 QUERY_BUDGET_EXCEEDED 예외
+     */
+    public static QueryCounter start(int budget, boolean enforce) {
+        QueryCounter counter = new QueryCounter(CURRENT.get(), budget, enforce);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * 현재 스레드의 집계 (요청 밖이면 null)
+     */
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statementCount++;
+        executionsBySql.merge(sql, 1, Integer::sum);
+
+        if (enforce && statementCount > budget && !budgetViolationRaised) {
+            budgetViolationRaised = true;
+            throw new BusinessException(
+                    String.format("요청당 DB 쿼리 허용 횟수(%d)를 초과했습니다", budget),
+                    ErrorCode.QUERY_BUDGET_EXCEEDED);
+        }
+    }
+
+    void recordExecution(long nanos) {
+        dbTimeNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        return statementCount > budget;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL과 반복 횟수
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeatedStatement() {
+        return executionsBySql.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
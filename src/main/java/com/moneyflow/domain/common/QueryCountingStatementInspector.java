@@ -0,0 +1,23 @@
+package com.moneyflow.domain.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 요청의 QueryCounter에 기록하고
+ * SQL 추적(SqlTraceLogger)을 위해 실행 직전 문장으로 기억
+ *
+ * hibernate.session_factory.statement_inspector 속성으로 등록합니다. (application.yml)
+ * SQL은 변경하지 않고 그대로 반환합니다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlTraceLogger.prepared(sql);
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.recordStatement(sql);
+        }
+        return sql;
+    }
+}
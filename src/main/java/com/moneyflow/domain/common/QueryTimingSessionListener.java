@@ -0,0 +1,47 @@
+package com.moneyflow.domain.common;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간을 현재 요청의 QueryCounter에 누적하고 SqlTraceLogger에 전달
+ *
+ * hibernate.session.events.auto 속성으로 등록되어 세션마다 하나씩 생성됩니다. (application.yml)
+ */
+public class QueryTimingSessionListener implements SessionEventListener {
+
+    private long executionStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        if (executionStartedAt == 0) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - executionStartedAt;
+        executionStartedAt = 0;
+
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.recordExecution(elapsedNanos);
+        }
+        SqlTraceLogger.executed(elapsedNanos);
+    }
+}
@@ -0,0 +1,116 @@
+package com.moneyflow.domain.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 느린 SQL / 표본 SQL을 한 줄 JSON으로 기록 (moneyflow.sql 로거)
+ *
+ * org.hibernate.SQL DEBUG처럼 모든 문장을 남기지 않고,
+ * - 실행 시간이 임계값 이상인 문장은 WARN (reason=slow)
+ * - 나머지는 sampleRate 비율만 INFO (reason=sampled)
+ * 로 기록합니다. 문자열/숫자 리터럴은 '?'로 가리고, 바인딩 값은 기록하지 않습니다.
+ *
+ * Hibernate가 리플렉션으로 생성하는 QueryCountingStatementInspector(SQL)와
+ * QueryTimingSessionListener(실행 시간)가 호출하므로 설정은 정적으로 보관합니다. (SqlTraceConfig)
+ */
+public final class SqlTraceLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("moneyflow.sql");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ThreadLocal<String> PREPARED_SQL = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static volatile Settings settings = Settings.DEFAULT;
+
+    private SqlTraceLogger() {
+    }
+
+    /**
+     * @param slowThresholdMillis 이 시간 이상 걸린 문장은 항상 기록
+     * @param sampleRate          나머지 문장 중 기록할 비율 (0.0 ~ 1.0)
+     * @param maxSqlLength        기록할 SQL 최대 길이
+     */
+    public record Settings(boolean enabled, long slowThresholdMillis, double sampleRate, int maxSqlLength) {
+
+        /** 설정 바인딩 전(또는 슬라이스 테스트)에는 느린 문장만 기록 */
+        static final Settings DEFAULT = new Settings(true, 200, 0.0, 2000);
+    }
+
+    public static void configure(Settings newSettings) {
+        settings = newSettings;
+    }
+
+    /**
+     * 곧 실행될 SQL 기억 (StatementInspector에서 호출)
+     */
+    static void prepared(String sql) {
+        if (settings.enabled()) {
+            PREPARED_SQL.set(sql);
+        }
+    }
+
+    /**
+     * 직전에 준비된 SQL의 실행 완료 (SessionEventListener에서 호출)
+     */
+    static void executed(long elapsedNanos) {
+        Settings current = settings;
+        String sql = PREPARED_SQL.get();
+        if (!current.enabled() || sql == null) {
+            return;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis >= current.slowThresholdMillis()) {
+            if (log.isWarnEnabled()) {
+                log.warn(toJson("slow", elapsedNanos, sql, current.maxSqlLength()));
+            }
+        } else if (current.sampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < current.sampleRate()
+                && log.isInfoEnabled()) {
+            log.info(toJson("sampled", elapsedNanos, sql, current.maxSqlLength()));
+        }
+    }
+
+    static String toJson(String reason, long elapsedNanos, String sql, int maxSqlLength) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", "sql");
+        entry.put("reason", reason);
+        entry.put("durationMs", Math.round(elapsedNanos / 10_000.0) / 100.0);
+        String requestId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        if (requestId != null) {
+            entry.put("requestId", requestId);
+        }
+        entry.put("sql", abbreviate(redact(sql), maxSqlLength));
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            return "{\"type\":\"sql\",\"reason\":\"" + reason + "\"}";
+        }
+    }
+
+    /**
+     * 리터럴 값 제거 + 공백 정규화 (한 줄)
+     */
+    static String redact(String sql) {
+        String withoutStrings = STRING_LITERAL.matcher(sql).replaceAll("'?'");
+        String withoutNumbers = NUMERIC_LITERAL.matcher(withoutStrings).replaceAll("?");
+        return WHITESPACE.matcher(withoutNumbers).replaceAll(" ").trim();
+    }
+
+    private static String abbreviate(String sql, int maxLength) {
+        return sql.length() <= maxLength ? sql : sql.substring(0, maxLength) + "...";
+    }
+}
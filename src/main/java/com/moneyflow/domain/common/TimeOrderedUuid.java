@@ -0,0 +1,28 @@
+package com.moneyflow.domain.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 시간 순 정렬 UUID(UUIDv7) 식별자 생성
+ *
+ * 삽입이 많은 테이블의 PK에 {@code @GeneratedValue(strategy = GenerationType.UUID)} 대신 사용합니다.
+ * 기존 v4 UUID 행은 그대로 두고 새 행부터 적용됩니다.
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;TimeOrderedUuid
+ * private UUID expenseId;
+ * </pre>
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
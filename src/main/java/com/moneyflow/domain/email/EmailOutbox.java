@@ -0,0 +1,77 @@
+package com.moneyflow.domain.email;
+
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 이메일 발송 대기열(outbox) 엔티티
+ *
+ * 인증 코드 등 발송할 메일을 업무 데이터와 같은 트랜잭션에서 저장하고,
+ * EmailOutboxDispatcher가 커밋된 행만 골라 비동기로 발송합니다.
+ */
+@Entity
+@Table(name = "email_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "email_id")
+    private UUID emailId;
+
+    @Column(name = "to_email", nullable = false, length = 255)
+    private String toEmail;
+
+    @Column(nullable = false, length = 255)
+    private String subject;
+
+    @Column(name = "html_body", nullable = false, columnDefinition = "TEXT")
+    private String htmlBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * 발송 시도 횟수 (점유할 때마다 증가)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    /**
+     * 다음 발송 시도 시각 (SENDING 상태에서는 점유 만료 시각)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 발송 상태
+     */
+    public enum Status {
+        PENDING,    // 발송 대기 (재시도 대기 포함)
+        SENDING,    // 디스패처가 점유하여 발송 중
+        SENT,       // 발송 완료
+        DEAD        // 재시도 포기 (last_error 확인 후 수동 처리)
+    }
+}
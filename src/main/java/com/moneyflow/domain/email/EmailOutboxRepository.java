@@ -0,0 +1,37 @@
+package com.moneyflow.domain.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    /**
+     * 발송 시각이 된 대기 행 + 점유가 만료된 발송 중 행을 잠금 조회
+     * 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 인스턴스가 동시에 돌아도 같은 메일을 나눠 갖지 않습니다.
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<EmailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 보관 기간이 지난 행 삭제 (본문에 인증 코드가 있으므로 오래 두지 않음)
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") EmailOutbox.Status status,
+                                        @Param("before") LocalDateTime before);
+
+    long countByStatus(EmailOutbox.Status status);
+}
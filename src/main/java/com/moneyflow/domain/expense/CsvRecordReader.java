@@ -0,0 +1,138 @@
+package com.moneyflow.domain.expense;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 레코드 단위 읽기 (한 번에 한 레코드만 메모리에 유지)
+ *
+ * - 따옴표로 감싼 필드 안의 쉼표/줄바꿈/두 번 쓴 따옴표("") 지원
+ * - 줄바꿈은 CRLF, LF 모두 허용, 빈 줄은 건너뜀
+ * - 파일 앞의 UTF-8 BOM 제거 (엑셀에서 저장한 CSV, 내보내기 파일)
+ */
+class CsvRecordReader {
+
+    /**
+     * 한 필드 최대 길이 (줄바꿈 없는 잘못된 따옴표로 파일 전체가 한 필드가 되는 것 방지)
+     */
+    static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final Reader reader;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+    private boolean started;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드
+     *
+     * @return 필드 목록, 파일 끝이면 null
+     */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        recordLineNumber = lineNumber;
+
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        append(field, '"');
+                        continue;
+                    }
+                    quoted = false;
+                    if (nextChar == -1) {
+                        break;
+                    }
+                    c = nextChar;
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append(field, (char) c);
+                    continue;
+                }
+            }
+
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                any = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                any = true;
+            } else if (c == '\r') {
+                // CRLF의 CR은 무시
+            } else if (c == '\n') {
+                lineNumber++;
+                if (any || !field.isEmpty()) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                recordLineNumber = lineNumber;
+            } else {
+                append(field, (char) c);
+                any = true;
+            }
+        }
+
+        if (quoted) {
+            throw new MalformedCsvException(recordLineNumber, "따옴표가 닫히지 않았습니다");
+        }
+        if (any || !field.isEmpty()) {
+            fields.add(field.toString());
+            return fields;
+        }
+        return null;
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+     */
+    long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new MalformedCsvException(recordLineNumber, "필드가 너무 깁니다 (최대 " + MAX_FIELD_LENGTH + "자)");
+        }
+        field.append(c);
+    }
+
+    /**
+     * 더 읽을 수 없는 CSV 형식 오류
+     */
+    static class MalformedCsvException extends IOException {
+        private final long line;
+
+        MalformedCsvException(long line, String message) {
+            super(message);
+            this.line = line;
+        }
+
+        long getLine() {
+            return line;
+        }
+    }
+}
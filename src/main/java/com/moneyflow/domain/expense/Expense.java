@@ -2,9 +2,15 @@ package com.moneyflow.domain.expense;
 
 import com.moneyflow.domain.accountbook.AccountBook;
 import com.moneyflow.domain.accountbook.FundingSource;
+import com.moneyflow.domain.budget.BudgetSpendListener;
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import com.moneyflow.domain.sync.SyncChangeListener;
+import com.moneyflow.domain.sync.SyncEntityType;
+import com.moneyflow.domain.sync.SyncTracked;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,15 +23,16 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "expenses")
+@EntityListeners({SyncChangeListener.class, BudgetSpendListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Expense {
+public class Expense implements SyncTracked {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "expense_id")
     private UUID expenseId;
 
@@ -98,6 +105,32 @@ public class Expense {
     @Column(name = "linked_payment_id")
     private UUID linkedPaymentId;
 
+    /**
+     * 중복 판별 키 (ExpenseDedupKey, 저장/수정 시 자동 계산)
+     */
+    @Column(name = "dedup_key", length = 32)
+    private String dedupKey;
+
+    /**
+     * 장부 내 마지막 변경 순번 (SyncChangeListener가 저장/수정 시 발급, 엔티티를 거치지 않은 INSERT는 0)
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq = 0L;
+
+    /**
+     * 조회/저장 시점의 장부 ID (장부 이동 감지용, 컬럼 아님)
+     */
+    @Transient
+    private UUID syncedAccountBookId;
+
+    /**
+     * 월별 지출 합계에 반영된 장부/날짜/금액 (수정 시 증감 계산용, 컬럼 아님)
+     */
+    @Transient
+    private BudgetSpendListener.Spend trackedSpend;
+
     /**
      * 지출 참여자 목록 (SHARED_POOL일 때 N빵 대상자)
      */
@@ -113,6 +146,28 @@ public class Expense {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @PrePersist
+    @PreUpdate
+    void refreshDedupKey() {
+        dedupKey = ExpenseDedupKey.of(accountBook != null ? accountBook.getAccountBookId() : null,
+                date, amount, merchant);
+    }
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.EXPENSE;
+    }
+
+    @Override
+    public UUID getSyncEntityId() {
+        return expenseId;
+    }
+
+    @Override
+    public UUID getSyncAccountBookId() {
+        return accountBook != null ? accountBook.getAccountBookId() : null;
+    }
+
     // ===== 비즈니스 메서드 =====
 
     /**
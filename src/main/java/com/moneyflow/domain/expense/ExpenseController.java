@@ -1,13 +1,20 @@
 package com.moneyflow.domain.expense;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.domain.receipt.OcrJob;
 import com.moneyflow.dto.request.BulkExpenseRequest;
+import com.moneyflow.dto.request.ExpenseImportMapping;
 import com.moneyflow.dto.request.ExpenseRequest;
+import com.moneyflow.dto.request.ExpenseSearchCondition;
 import com.moneyflow.dto.response.BulkExpenseResponse;
+import com.moneyflow.dto.response.ExpenseImportProgress;
 import com.moneyflow.dto.response.ExpenseListResponse;
 import com.moneyflow.dto.response.ExpenseResponse;
-import com.moneyflow.dto.response.OcrResponse;
+import com.moneyflow.dto.response.OcrJobResponse;
 import com.moneyflow.exception.BusinessException;
-import com.moneyflow.service.OcrService;
+import com.moneyflow.exception.ErrorCode;
+import com.moneyflow.service.OcrJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +35,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -39,7 +55,9 @@ import java.util.UUID;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
-    private final OcrService ocrService;
+    private final OcrJobService ocrJobService;
+    private final ExpenseImportService expenseImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "지출 생성")
@@ -67,16 +85,78 @@ public class ExpenseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "CSV 명세서 가져오기", description = "카드/은행 명세서 CSV를 한 행씩 읽어 청크 단위로 저장합니다. " +
+            "이미 있는 지출(장부, 날짜, 금액, 가맹점이 같은 내역)은 건너뛰므로 같은 파일을 다시 올려도 중복되지 않습니다. " +
+            "청크가 저장될 때마다 진행 상황을 한 줄씩(NDJSON) 보내고, 마지막 줄(done=true)에 결과와 실패 상세를 담습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "진행 상황 스트림", content = @Content(schema = @Schema(implementation = ExpenseImportProgress.class))),
+            @ApiResponse(responseCode = "400", description = "빈 파일, 열 매핑 오류"),
+            @ApiResponse(responseCode = "403", description = "장부 접근 권한 없음")
+    })
+    public void importExpenses(
+            @Parameter(description = "CSV 파일", required = true, schema = @Schema(type = "string", format = "binary")) @RequestPart("file") MultipartFile file,
+            @Parameter(description = "열 매핑 (JSON, 생략 시 내보내기 파일 형식)") @RequestPart(value = "mapping", required = false) ExpenseImportMapping mapping,
+            @Parameter(description = "장부 ID (생략 시 기본 장부)") @RequestParam(required = false) UUID accountBookId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException("CSV 파일이 비어있습니다", ErrorCode.INVALID_INPUT);
+        }
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        UUID bookId = expenseImportService.resolveAccountBook(userId, accountBookId);
+        try (InputStream in = file.getInputStream()) {
+            ExpenseImportService.Session session = expenseImportService.open(userId, bookId, in,
+                    mapping != null ? mapping : new ExpenseImportMapping());
+            log.info("CSV import started for user: {}, book: {}, filename: {}, size: {} bytes",
+                    userId, bookId, file.getOriginalFilename(), file.getSize());
+
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            PrintWriter writer = response.getWriter();
+            expenseImportService.run(session, progress -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(progress));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+                writer.write('\n');
+                writer.flush();
+            });
+        }
+    }
+
     @GetMapping
-    @Operation(summary = "지출 목록 조회")
+    @Operation(summary = "지출 목록 조회", description = "커서 기반 페이지네이션. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다. " +
+            "totalAmount/count는 조회 기간 전체 기준입니다. 필터는 지정한 항목만 적용됩니다.")
     public ResponseEntity<ExpenseListResponse> getExpenses(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) String category,
+            @Parameter(description = "카테고리 (단일, 하위 호환용)") @RequestParam(required = false) String category,
+            @Parameter(description = "카테고리 목록 (OR 조건)") @RequestParam(required = false) List<String> categories,
+            @Parameter(description = "최소 금액 (이상)") @RequestParam(required = false) BigDecimal minAmount,
+            @Parameter(description = "최대 금액 (이하)") @RequestParam(required = false) BigDecimal maxAmount,
+            @Parameter(description = "결제 수단 (CARD, CASH, TRANSFER)") @RequestParam(required = false) String paymentMethod,
+            @Parameter(description = "가맹점명 접두사") @RequestParam(required = false) String merchant,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 200)") @RequestParam(defaultValue = "50") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         UUID userId = UUID.fromString(userDetails.getUsername());
-        ExpenseListResponse response = expenseService.getExpenses(userId, startDate, endDate, category);
+        ExpenseSearchCondition condition = ExpenseSearchCondition.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .categories(mergeCategories(category, categories))
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .paymentMethod(paymentMethod)
+                .merchantPrefix(merchant)
+                .build();
+
+        ExpenseListResponse response = expenseService.getExpenses(condition, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -125,14 +205,17 @@ public class ExpenseController {
     }
 
     @PostMapping(value = "/ocr", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "OCR 이미지 처리", description = "영수증/결제 알림 이미지를 업로드하여 금액, 날짜, 가맹점 정보를 자동으로 추출합니다. " +
+    @Operation(summary = "OCR 작업 등록", description = "영수증/결제 알림 이미지를 업로드하면 OCR 작업을 등록하고 작업 ID를 바로 반환합니다. " +
+            "결과는 GET /api/expenses/ocr/jobs/{jobId}로 조회합니다. 이전에 처리한 것과 같은 이미지면 결과가 바로 포함됩니다. " +
             "현재는 Mock 데이터를 반환하며, 추후 Google Cloud Vision API로 교체 예정입니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "OCR 처리 성공", content = @Content(schema = @Schema(implementation = OcrResponse.class))),
+            @ApiResponse(responseCode = "202", description = "작업 등록 (처리 대기)", content = @Content(schema = @Schema(implementation = OcrJobResponse.class))),
+            @ApiResponse(responseCode = "200", description = "같은 이미지의 이전 결과로 즉시 완료", content = @Content(schema = @Schema(implementation = OcrJobResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 (파일 형식 또는 크기 초과)"),
-            @ApiResponse(responseCode = "401", description = "인증 실패")
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "503", description = "OCR 대기열이 가득 참 (잠시 후 재시도)")
     })
-    public ResponseEntity<OcrResponse> processOcr(
+    public ResponseEntity<OcrJobResponse> processOcr(
             @Parameter(description = "업로드할 이미지 파일 (JPG, PNG)", required = true, schema = @Schema(type = "string", format = "binary")) @RequestPart("image") MultipartFile image,
             @AuthenticationPrincipal UserDetails userDetails) {
 
@@ -155,11 +238,42 @@ public class ExpenseController {
             throw new BusinessException("이미지 형식은 JPG 또는 PNG만 지원합니다");
         }
 
-        // 4. OCR 처리
-        OcrResponse response = ocrService.processImage(image);
-        log.info("OCR processed for user: {}, filename: {}, size: {} bytes",
-                userDetails.getUsername(), image.getOriginalFilename(), image.getSize());
+        // 4. OCR 작업 등록
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        OcrJob job = ocrJobService.submit(userId, image);
+        log.info("OCR job {} submitted for user: {}, filename: {}, size: {} bytes, status: {}",
+                job.getJobId(), userId, image.getOriginalFilename(), image.getSize(), job.getStatus());
 
-        return ResponseEntity.ok(response);
+        HttpStatus status = job.isDone() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(OcrJobResponse.from(job));
+    }
+
+    @GetMapping("/ocr/jobs/{jobId}")
+    @Operation(summary = "OCR 작업 조회", description = "OCR 작업 상태와 결과를 조회합니다. " +
+            "waitSeconds를 지정하면 최대 그 시간(상한 20초)까지 완료를 기다렸다가 응답합니다.")
+    public CompletableFuture<OcrJobResponse> getOcrJob(
+            @PathVariable UUID jobId,
+            @Parameter(description = "완료 대기 시간 (초, 기본 0: 즉시 응답)") @RequestParam(defaultValue = "0") long waitSeconds,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        return ocrJobService.awaitJob(userId, jobId, Duration.ofSeconds(waitSeconds))
+                .thenApply(OcrJobResponse::from);
+    }
+
+    /**
+     * 단일 category 파라미터(하위 호환)와 categories 목록을 하나로 합침
+     */
+    private List<String> mergeCategories(String category, List<String> categories) {
+        List<String> merged = new ArrayList<>();
+        if (category != null && !category.isBlank()) {
+            merged.add(category);
+        }
+        if (categories != null) {
+            categories.stream()
+                    .filter(c -> c != null && !c.isBlank() && !merged.contains(c))
+                    .forEach(merged::add);
+        }
+        return merged;
     }
 }
@@ -0,0 +1,38 @@
+package com.moneyflow.domain.expense;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 지출 중복 판별 키: MD5(장부 ID | 날짜 | 금액 | 정규화한 가맹점명)
+ *
+ * 명세서를 다시 가져올 때 이미 있는 지출을 찾기 위한 값으로 expenses.dedup_key에 저장되며 해시 인덱스로 조회합니다.
+ * 형식은 V28 마이그레이션의 md5(...) 식과 같아야 합니다. (금액은 소수점 2자리, 장부가 없으면 빈 문자열)
+ */
+public final class ExpenseDedupKey {
+
+    private ExpenseDedupKey() {
+    }
+
+    public static String of(UUID accountBookId, LocalDate date, BigDecimal amount, String merchant) {
+        if (date == null || amount == null) {
+            return null;
+        }
+        String source = (accountBookId != null ? accountBookId.toString() : "")
+                + "|" + date
+                + "|" + amount.setScale(2, RoundingMode.HALF_UP).toPlainString()
+                + "|" + MerchantNormalizer.canonical(merchant);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMemberRepository;
+import com.moneyflow.domain.accountbook.AccountBookRepository;
+import com.moneyflow.domain.accountbook.FundingSource;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.domain.user.UserRepository;
+import com.moneyflow.dto.projection.DedupKeyCount;
+import com.moneyflow.dto.request.ExpenseImportMapping;
+import com.moneyflow.dto.response.ExpenseImportProgress;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import com.moneyflow.service.CategoryClassifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 카드/은행 명세서 가져오기
+ *
+ * 파일을 한 레코드씩 읽어 chunk-size 행마다 다음을 처리하므로, 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * 1. 가맹점명 정리(MerchantNormalizer) 후 카테고리가 없는 행을 가맹점별로 한 번씩 분류
+ * 2. 중복 판별 키(ExpenseDedupKey)별 기존 지출 건수를 한 번의 쿼리로 조회
+ *    같은 키가 파일에 n건, 이미 m건 있으면 n - m건만 저장 (같은 날 같은 곳에서 같은 금액을 두 번 쓴 경우 보존)
+ *    앞 청크에서 이 가져오기가 저장한 건수는 조회 결과에서 빼고, 파일에서 그 키를 몇 번째 만났는지와 비교하므로
+ *    같은 키의 행이 청크 경계에 걸쳐 있어도 결과가 같습니다. (키별 건수는 세션에 보관, 파일의 서로 다른 키 수만큼)
+ * 3. 청크 단위 트랜잭션으로 saveAll (direct 프로파일에서는 JDBC 배치 INSERT)
+ *
+ * 청크가 커밋될 때마다 진행 상황을 listener로 전달합니다. 중간에 실패해도 이미 커밋된 청크는 유지되며,
+ * 같은 파일을 다시 가져오면 중복 판별로 남은 행만 저장됩니다.
+ */
+@Slf4j
+@Service
+public class ExpenseImportService {
+
+    static final int MAX_REPORTED_FAILURES = 100;
+
+    private static final List<DateTimeFormatter> DEFAULT_DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.BASIC_ISO_DATE);
+
+    private final ExpenseRepository expenseRepository;
+    private final AccountBookRepository accountBookRepository;
+    private final AccountBookMemberRepository accountBookMemberRepository;
+    private final UserRepository userRepository;
+    private final CategoryClassifier categoryClassifier;
+    private final BusinessMetrics businessMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ExpenseImportService(ExpenseRepository expenseRepository,
+                                AccountBookRepository accountBookRepository,
+                                AccountBookMemberRepository accountBookMemberRepository,
+                                UserRepository userRepository,
+                                CategoryClassifier categoryClassifier,
+                                BusinessMetrics businessMetrics,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${expense.import.chunk-size:500}") int chunkSize) {
+        this.expenseRepository = expenseRepository;
+        this.accountBookRepository = accountBookRepository;
+        this.accountBookMemberRepository = accountBookMemberRepository;
+        this.userRepository = userRepository;
+        this.categoryClassifier = categoryClassifier;
+        this.businessMetrics = businessMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 가져올 장부 확인 (응답을 쓰기 전에 호출)
+     *
+     * @param accountBookId null이면 기본 장부
+     * @return 멤버로 참여 중인 장부 ID
+     */
+    public UUID resolveAccountBook(UUID userId, UUID accountBookId) {
+        if (accountBookId == null) {
+            return accountBookRepository.findDefaultAccountBookByUserId(userId)
+                    .map(AccountBook::getAccountBookId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_BOOK_REQUIRED));
+        }
+        if (!accountBookMemberRepository.existsByAccountBookAccountBookIdAndUserUserId(accountBookId, userId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+        }
+        return accountBookId;
+    }
+
+    /**
+     * 헤더와 문자 집합을 확인하고 가져오기 준비 (잘못된 매핑은 응답을 쓰기 전에 오류)
+     */
+    public Session open(UUID userId, UUID accountBookId, InputStream in, ExpenseImportMapping mapping)
+            throws IOException {
+        Charset charset;
+        try {
+            charset = mapping.getCharset() != null ? Charset.forName(mapping.getCharset()) : StandardCharsets.UTF_8;
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new BusinessException("지원하지 않는 문자 집합입니다: " + mapping.getCharset(), ErrorCode.INVALID_INPUT);
+        }
+
+        DateTimeFormatter dateFormat = null;
+        if (mapping.getDateFormat() != null && !mapping.getDateFormat().isBlank()) {
+            try {
+                dateFormat = DateTimeFormatter.ofPattern(mapping.getDateFormat());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("날짜 형식이 올바르지 않습니다: " + mapping.getDateFormat(),
+                        ErrorCode.INVALID_INPUT);
+            }
+        }
+
+        CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new InputStreamReader(in, charset)));
+        List<String> header;
+        try {
+            header = mapping.isHeader() ? reader.next() : List.of();
+        } catch (CsvRecordReader.MalformedCsvException e) {
+            throw new BusinessException("헤더를 읽을 수 없습니다: " + e.getMessage(), ErrorCode.INVALID_INPUT);
+        }
+        if (header == null) {
+            throw new BusinessException("빈 파일입니다", ErrorCode.INVALID_INPUT);
+        }
+
+        Columns columns = new Columns(
+                requiredColumn(header, mapping.getDate(), "날짜"),
+                requiredColumn(header, mapping.getAmount(), "금액"),
+                optionalColumn(header, mapping.getMerchant()),
+                optionalColumn(header, mapping.getMemo()),
+                optionalColumn(header, mapping.getPaymentMethod()),
+                optionalColumn(header, mapping.getCategory()));
+        return new Session(userId, accountBookId, reader, columns, dateFormat, mapping.isExpensesNegative());
+    }
+
+    /**
+     * 파일 끝까지 청크 단위로 저장
+     *
+     * @param listener 청크가 커밋될 때마다 호출 (마지막 호출은 done=true)
+     */
+    public ExpenseImportProgress run(Session session, Consumer<ExpenseImportProgress> listener) throws IOException {
+        long startedAt = System.nanoTime();
+        Counts counts = new Counts();
+        List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            List<String> record;
+            while ((record = session.reader.next()) != null) {
+                counts.processed++;
+                ParsedRow row = parse(session, record, counts);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    saveChunk(session, chunk, counts);
+                    chunk.clear();
+                    listener.accept(counts.toProgress(false));
+                }
+            }
+        } catch (CsvRecordReader.MalformedCsvException e) {
+            // 이후 레코드 경계를 알 수 없으므로 여기서 중단 (앞부분은 저장)
+            counts.fail(e.getLine(), e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(session, chunk, counts);
+        }
+
+        ExpenseImportProgress result = counts.toProgress(true);
+        listener.accept(result);
+
+        businessMetrics.recordBulkImport("expense_csv", (int) counts.imported, (int) counts.failed);
+        log.info("[Import] userId={}, accountBookId={}: processed={}, imported={}, duplicates={}, skipped={}, "
+                        + "failed={}, {}ms", session.userId, session.accountBookId, counts.processed, counts.imported,
+                counts.duplicates, counts.skipped, counts.failed, (System.nanoTime() - startedAt) / 1_000_000);
+        return result;
+    }
+
+    private ParsedRow parse(Session session, List<String> record, Counts counts) {
+        long line = session.reader.getRecordLineNumber();
+        Columns columns = session.columns;
+
+        LocalDate date = parseDate(field(record, columns.date()), session.dateFormat);
+        if (date == null) {
+            counts.fail(line, "날짜를 읽을 수 없습니다: " + field(record, columns.date()));
+            return null;
+        }
+
+        BigDecimal amount = parseAmount(field(record, columns.amount()));
+        if (amount == null) {
+            counts.fail(line, "금액을 읽을 수 없습니다: " + field(record, columns.amount()));
+            return null;
+        }
+        if (session.expensesNegative) {
+            amount = amount.negate();
+        }
+        if (amount.signum() <= 0) {
+            counts.skipped++;
+            return null;
+        }
+
+        String merchant = truncate(MerchantNormalizer.normalize(field(record, columns.merchant())), 255);
+        String category = field(record, columns.category());
+        if (category != null) {
+            category = category.trim().toUpperCase(Locale.ROOT);
+            if (!categoryClassifier.getSupportedCategories().contains(category)) {
+                category = null;
+            }
+        }
+
+        return new ParsedRow(date, amount, merchant, blankToNull(field(record, columns.memo())),
+                truncate(blankToNull(field(record, columns.paymentMethod())), 20), category,
+                ExpenseDedupKey.of(session.accountBookId, date, amount, merchant));
+    }
+
+    private void saveChunk(Session session, List<ParsedRow> rows, Counts counts) {
+        // 분류는 트랜잭션 밖에서 (커넥션 점유 시간 단축)
+        Map<String, String> classified = categoryClassifier.classifyAll(rows.stream()
+                .filter(row -> row.category() == null)
+                .map(row -> row.merchant() != null ? row.merchant() : "")
+                .collect(Collectors.toSet()));
+
+        LocalDate from = rows.stream().map(ParsedRow::date).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = rows.stream().map(ParsedRow::date).max(LocalDate::compareTo).orElseThrow();
+        Set<String> keys = rows.stream().map(ParsedRow::dedupKey).collect(Collectors.toSet());
+
+        Map<String, Long> seen = new HashMap<>();
+        Map<String, Long> inserted = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이 가져오기 이전부터 있던 건수 = 현재 건수 - 앞 청크에서 저장한 건수
+            Map<String, Long> existing = new HashMap<>();
+            for (DedupKeyCount count : expenseRepository.countByDedupKeys(session.accountBookId, from, to, keys)) {
+                existing.put(count.getDedupKey(),
+                        count.getCount() - session.inserted.getOrDefault(count.getDedupKey(), 0L));
+            }
+
+            User user = userRepository.getReferenceById(session.userId);
+            AccountBook accountBook = accountBookRepository.getReferenceById(session.accountBookId);
+            List<Expense> expenses = new ArrayList<>(rows.size());
+            long duplicates = 0;
+            for (ParsedRow row : rows) {
+                // 파일에서 이 키를 만난 순서가 기존 건수 이하면 기존 지출과 같은 건
+                long occurrence = session.seen.getOrDefault(row.dedupKey(), 0L)
+                        + seen.merge(row.dedupKey(), 1L, Long::sum);
+                if (occurrence <= existing.getOrDefault(row.dedupKey(), 0L)) {
+                    duplicates++;
+                    continue;
+                }
+                inserted.merge(row.dedupKey(), 1L, Long::sum);
+                boolean autoCategorized = row.category() == null;
+                expenses.add(Expense.builder()
+                        .user(user)
+                        .accountBook(accountBook)
+                        .fundingSource(FundingSource.PERSONAL)
+                        .amount(row.amount())
+                        .date(row.date())
+                        .category(autoCategorized
+                                ? classified.get(row.merchant() != null ? row.merchant() : "")
+                                : row.category())
+                        .merchant(row.merchant())
+                        .memo(row.memo())
+                        .paymentMethod(row.paymentMethod())
+                        .isAutoCategorized(autoCategorized)
+                        .build());
+            }
+            expenseRepository.saveAll(expenses);
+
+            counts.imported += expenses.size();
+            counts.duplicates += duplicates;
+        });
+
+        // 커밋된 청크만 반영
+        seen.forEach((key, count) -> session.seen.merge(key, count, Long::sum));
+        inserted.forEach((key, count) -> session.inserted.merge(key, count, Long::sum));
+    }
+
+    private static LocalDate parseDate(String value, DateTimeFormatter format) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        try {
+            if (format != null) {
+                return LocalDate.parse(text, format);
+            }
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        // 2025.03.01, 2025/03/01, 2025-03-01 12:34 → 2025-03-01
+        String normalized = text.replace('.', '-').replace('/', '-');
+        if (normalized.length() > 10 && normalized.charAt(4) == '-') {
+            normalized = normalized.substring(0, 10);
+        }
+        for (DateTimeFormatter candidate : DEFAULT_DATE_FORMATS) {
+            try {
+                return LocalDate.parse(normalized, candidate);
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+
+    /**
+     * "12,000원", "₩12,000", "(12,000)" 같은 표기 허용 (괄호는 음수)
+     */
+    private static BigDecimal parseAmount(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        boolean parenthesized = text.startsWith("(") && text.endsWith(")");
+        text = text.replaceAll("[\\s,₩원()]", "");
+        try {
+            BigDecimal amount = new BigDecimal(text);
+            return parenthesized ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int requiredColumn(List<String> header, String column, String label) {
+        int index = optionalColumn(header, column);
+        if (index < 0) {
+            throw new BusinessException(label + " 열을 찾을 수 없습니다: " + column, ErrorCode.INVALID_INPUT);
+        }
+        return index;
+    }
+
+    /**
+     * 헤더 이름(대소문자/앞뒤 공백 무시) 또는 1부터 시작하는 열 번호
+     *
+     * @return 0부터 시작하는 인덱스, 없으면 -1
+     */
+    private static int optionalColumn(List<String> header, String column) {
+        if (column == null || column.isBlank()) {
+            return -1;
+        }
+        String name = column.trim();
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        if (name.chars().allMatch(Character::isDigit)) {
+            return Integer.parseInt(name) - 1;
+        }
+        return -1;
+    }
+
+    private static String field(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * 열 인덱스 (0부터, 없으면 -1)
+     */
+    private record Columns(int date, int amount, int merchant, int memo, int paymentMethod, int category) {
+    }
+
+    private record ParsedRow(LocalDate date, BigDecimal amount, String merchant, String memo,
+                             String paymentMethod, String category, String dedupKey) {
+    }
+
+    /**
+     * 진행 중인 가져오기 (open()으로 헤더까지 읽은 상태)
+     */
+    public static final class Session {
+        private final UUID userId;
+        private final UUID accountBookId;
+        private final CsvRecordReader reader;
+        private final Columns columns;
+        private final DateTimeFormatter dateFormat;
+        private final boolean expensesNegative;
+        /** 중복 판별 키별로 파일에서 만난 행 수 */
+        private final Map<String, Long> seen = new HashMap<>();
+        /** 중복 판별 키별로 이 가져오기가 저장한 행 수 */
+        private final Map<String, Long> inserted = new HashMap<>();
+
+        private Session(UUID userId, UUID accountBookId, CsvRecordReader reader, Columns columns,
+                        DateTimeFormatter dateFormat, boolean expensesNegative) {
+            this.userId = userId;
+            this.accountBookId = accountBookId;
+            this.reader = reader;
+            this.columns = columns;
+            this.dateFormat = dateFormat;
+            this.expensesNegative = expensesNegative;
+        }
+    }
+
+    private static final class Counts {
+        long processed;
+        long imported;
+        long duplicates;
+        long skipped;
+        long failed;
+        final List<ExpenseImportProgress.FailedRow> failures = new ArrayList<>();
+
+        void fail(long line, String reason) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(ExpenseImportProgress.FailedRow.builder().line(line).reason(truncate(reason, 200)).build());
+            }
+        }
+
+        ExpenseImportProgress toProgress(boolean done) {
+            return ExpenseImportProgress.builder()
+                    .done(done)
+                    .processed(processed)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .skipped(skipped)
+                    .failed(failed)
+                    .failures(done && !failures.isEmpty() ? List.copyOf(failures) : null)
+                    .build();
+        }
+    }
+}
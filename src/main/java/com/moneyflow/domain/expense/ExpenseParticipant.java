@@ -1,5 +1,7 @@
 package com.moneyflow.domain.expense;
 
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -7,6 +9,7 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 지출 참여자 엔티티
@@ -17,12 +20,13 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "expense_participants")
+@EntityListeners(AccountBookVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ExpenseParticipant {
+public class ExpenseParticipant implements AccountBookScoped {
 
     @EmbeddedId
     private ExpenseParticipantId id;
@@ -71,4 +75,9 @@ public class ExpenseParticipant {
                     .divide(totalRatioSum, 2, java.math.RoundingMode.HALF_UP);
         }
     }
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return expense != null ? expense.getSyncAccountBookId() : null;
+    }
 }
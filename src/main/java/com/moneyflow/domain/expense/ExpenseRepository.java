@@ -1,19 +1,20 @@
 package com.moneyflow.domain.expense;
 
 import com.moneyflow.dto.projection.CategorySummary;
+import com.moneyflow.dto.projection.DedupKeyCount;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
+public interface ExpenseRepository extends JpaRepository<Expense, UUID>, ExpenseSearchRepository {
 
         /**
          * 지출 ID로 조회 (User, AccountBook JOIN FETCH)
@@ -25,23 +26,6 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
                         "WHERE e.expenseId = :expenseId")
         Optional<Expense> findByIdWithUserAndAccountBook(@Param("expenseId") UUID expenseId);
 
-        /**
-         * 사용자별 기간별 지출 조회 (User, AccountBook JOIN FETCH)
-         * N+1 방지: 리스트 순회 시 user, accountBook 접근
-         */
-        @Query("SELECT e FROM Expense e " +
-                        "LEFT JOIN FETCH e.user " +
-                        "LEFT JOIN FETCH e.accountBook " +
-                        "WHERE e.user.userId = :userId " +
-                        "AND e.date BETWEEN :startDate AND :endDate " +
-                        "AND (:category IS NULL OR e.category = :category) " +
-                        "ORDER BY e.date DESC, e.createdAt DESC")
-        List<Expense> findExpensesByUserAndDateRange(
-                        @Param("userId") UUID userId,
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("category") String category);
-
         /**
          * 장부별 기간별 지출 조회 (User, AccountBook JOIN FETCH)
          */
@@ -50,13 +34,11 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
                         "LEFT JOIN FETCH e.accountBook " +
                         "WHERE e.accountBook.accountBookId = :accountBookId " +
                         "AND e.date BETWEEN :startDate AND :endDate " +
-                        "AND (:category IS NULL OR e.category = :category) " +
                         "ORDER BY e.date DESC, e.createdAt DESC")
         List<Expense> findByAccountBookAndDateRange(
                         @Param("accountBookId") UUID accountBookId,
                         @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("category") String category);
+                        @Param("endDate") LocalDate endDate);
 
         /**
          * 장부별 모든 지출 조회 (User, AccountBook JOIN FETCH)
@@ -157,16 +139,30 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
                         @Param("endDate") LocalDate endDate);
 
         /**
-         * 사용자의 모든 지출 삭제 (회원 탈퇴용)
+         * 중복 판별 키별 기존 지출 건수 (명세서 가져오기용, idx_expenses_dedup_key 해시 인덱스)
+         * 날짜 범위는 파티션 제외(pruning)를 위한 조건입니다.
          */
-        @Modifying
-        @Query("DELETE FROM Expense e WHERE e.user.userId = :userId")
-        void deleteByUserUserId(@Param("userId") UUID userId);
+        @Query("SELECT e.dedupKey AS dedupKey, COUNT(e) AS count " +
+                        "FROM Expense e " +
+                        "WHERE e.accountBook.accountBookId = :bookId " +
+                        "AND e.date BETWEEN :startDate AND :endDate " +
+                        "AND e.dedupKey IN :dedupKeys " +
+                        "GROUP BY e.dedupKey")
+        List<DedupKeyCount> countByDedupKeys(
+                        @Param("bookId") UUID bookId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("dedupKeys") Collection<String> dedupKeys);
 
         /**
-         * 특정 장부들의 모든 지출 삭제 (회원 탈퇴용)
+         * [동기화] 장부의 변경 순번 범위 (since, until]에 해당하는 지출
          */
-        @Modifying
-        @Query(value = "DELETE FROM expenses WHERE account_book_id IN (:accountBookIds)", nativeQuery = true)
-        void deleteByAccountBookIdIn(@Param("accountBookIds") List<UUID> accountBookIds);
+        @Query("SELECT e FROM Expense e " +
+                        "WHERE e.accountBook.accountBookId = :bookId " +
+                        "AND e.changeSeq > :since AND e.changeSeq <= :until " +
+                        "ORDER BY e.changeSeq")
+        List<Expense> findSyncChanges(
+                        @Param("bookId") UUID bookId,
+                        @Param("since") long since,
+                        @Param("until") long until);
 }
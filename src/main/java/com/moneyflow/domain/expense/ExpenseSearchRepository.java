@@ -0,0 +1,24 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.dto.projection.AmountSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 지출 동적 검색 리포지토리 (Criteria API 기반 커스텀 프래그먼트)
+ *
+ * ExpenseRepository가 이 인터페이스를 상속하며, 구현은 ExpenseSearchRepositoryImpl입니다.
+ */
+public interface ExpenseSearchRepository {
+
+    /**
+     * 조건에 맞는 지출을 (date DESC, created_at DESC, expense_id DESC) 순으로 최대 limit건 조회
+     */
+    List<Expense> search(Specification<Expense> spec, int limit);
+
+    /**
+     * 조건에 맞는 지출의 합계/건수 집계
+     */
+    AmountSummary summarize(Specification<Expense> spec);
+}
@@ -3,9 +3,13 @@ package com.moneyflow.domain.expense;
 import com.moneyflow.domain.accountbook.AccountBook;
 import com.moneyflow.domain.accountbook.AccountBookRepository;
 import com.moneyflow.domain.accountbook.FundingSource;
+import com.moneyflow.domain.common.BusinessMetrics;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserRepository;
+import com.moneyflow.dto.projection.AmountSummary;
 import com.moneyflow.dto.request.ExpenseRequest;
+import com.moneyflow.dto.request.ExpenseSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
 import com.moneyflow.dto.response.BulkExpenseResponse;
 import com.moneyflow.dto.response.ExpenseListResponse;
 import com.moneyflow.dto.response.ExpenseResponse;
@@ -15,6 +19,7 @@ import com.moneyflow.service.CategoryClassifier;
 import com.moneyflow.service.RecurringExpenseMatchingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,20 +35,26 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ExpenseService {
 
+    /**
+     * 목록 조회 페이지 크기 상한
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final ExpenseRepository expenseRepository;
     private final ExpenseParticipantRepository expenseParticipantRepository;
     private final UserRepository userRepository;
     private final AccountBookRepository accountBookRepository;
     private final CategoryClassifier categoryClassifier;
     private final RecurringExpenseMatchingService matchingService;
+    private final BusinessMetrics businessMetrics;
 
     /**
      * 지출 생성
      */
     @Transactional
     public ExpenseResponse createExpense(UUID userId, ExpenseRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+        // 인증된 사용자의 FK 참조만 필요하므로 프록시 사용 (SELECT 없음)
+        User user = userRepository.getReferenceById(userId);
 
         // 장부 ID가 제공된 경우 검증, 없으면 기본 장부 자동 할당
         AccountBook accountBook;
@@ -134,25 +145,39 @@ public class ExpenseService {
     }
 
     /**
-     * 지출 목록 조회
+     * 지출 목록 조회 (커서 기반 페이지네이션)
+     *
+     * 페이지당 최대 MAX_PAGE_SIZE건만 로드하며, 합계/건수는 별도 집계 쿼리로 계산합니다.
+     * 조회 기간이 아무리 길어도 응답 크기와 메모리 사용량이 일정하게 유지됩니다.
+     * 검색 조건은 값이 주어진 항목만 WHERE 절에 포함됩니다 (ExpenseSpecifications).
      */
     @Transactional(readOnly = true)
-    public ExpenseListResponse getExpenses(UUID userId, LocalDate startDate, LocalDate endDate, String category) {
-        List<Expense> expenses = expenseRepository.findExpensesByUserAndDateRange(
-                userId, startDate, endDate, category);
-
-        List<ExpenseResponse> expenseResponses = expenses.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public ExpenseListResponse getExpenses(ExpenseSearchCondition condition, String cursorToken, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(cursorToken);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Specification<Expense> filter = ExpenseSpecifications.matches(condition);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Expense> expenses = expenseRepository.search(
+                filter.and(ExpenseSpecifications.after(cursor)), pageSize + 1);
+
+        boolean hasNext = expenses.size() > pageSize;
+        List<Expense> page = hasNext ? expenses.subList(0, pageSize) : expenses;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Expense last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getDate(), last.getCreatedAt(), last.getExpenseId()).encode();
+        }
 
-        BigDecimal totalAmount = expenses.stream()
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        AmountSummary summary = expenseRepository.summarize(filter);
 
         return ExpenseListResponse.builder()
-                .expenses(expenseResponses)
-                .totalAmount(totalAmount)
-                .count(expenses.size())
+                .expenses(page.stream().map(this::toResponse).collect(Collectors.toList()))
+                .totalAmount(summary.getTotalAmount())
+                .count(summary.getCount().intValue())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
     }
 
@@ -259,6 +284,7 @@ public class ExpenseService {
 
         log.info("Bulk expense creation: {} success, {} failed out of {} total",
                 savedExpenses.size(), failures.size(), requests.size());
+        businessMetrics.recordBulkImport("expense", savedExpenses.size(), failures.size());
 
         return BulkExpenseResponse.builder()
                 .totalRequested(requests.size())
@@ -270,9 +296,9 @@ public class ExpenseService {
     }
 
     /**
-     * Entity를 Response DTO로 변환
+     * Entity를 Response DTO로 변환 (동기화 응답에서도 사용)
      */
-    private ExpenseResponse toResponse(Expense expense) {
+    public ExpenseResponse toResponse(Expense expense) {
         return ExpenseResponse.builder()
                 .expenseId(expense.getExpenseId())
                 .userId(expense.getUser().getUserId())
@@ -288,6 +314,7 @@ public class ExpenseService {
                 .isAutoCategorized(expense.getIsAutoCategorized())
                 .createdAt(expense.getCreatedAt())
                 .updatedAt(expense.getUpdatedAt())
+                .changeSeq(expense.getChangeSeq())
                 .build();
     }
 }
@@ -0,0 +1,140 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.dto.request.ExpenseSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지출 동적 검색 조건 (JPA Specification)
+ *
+ * (:param IS NULL OR col = :param) 패턴 대신 값이 주어진 조건만 WHERE 절에 추가합니다.
+ * 실제로 필요한 조건만 SQL에 포함되므로 PostgreSQL이 조건 조합별로 알맞은 인덱스를 선택할 수 있습니다.
+ */
+public final class ExpenseSpecifications {
+
+    private ExpenseSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 하나의 Specification으로 조합
+     */
+    public static Specification<Expense> matches(ExpenseSearchCondition condition) {
+        return Specification.where(userIdEquals(condition.getUserId()))
+                .and(dateFrom(condition.getStartDate()))
+                .and(dateTo(condition.getEndDate()))
+                .and(categoryIn(condition.getCategories()))
+                .and(amountAtLeast(condition.getMinAmount()))
+                .and(amountAtMost(condition.getMaxAmount()))
+                .and(paymentMethodEquals(condition.getPaymentMethod()))
+                .and(merchantStartsWith(condition.getMerchantPrefix()));
+    }
+
+    /**
+     * 커서 이후 행만 조회 (date DESC, created_at DESC, expense_id DESC 기준)
+     *
+     * date <= :cursorDate 조건은 인덱스 범위 탐색의 시작점을 커서 위치로 옮기기 위한 중복 조건입니다.
+     */
+    public static Specification<Expense> after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDate> date = root.get("date");
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("expenseId");
+            return cb.and(
+                    cb.lessThanOrEqualTo(date, cursor.date()),
+                    cb.or(
+                            cb.lessThan(date, cursor.date()),
+                            cb.and(
+                                    cb.equal(date, cursor.date()),
+                                    cb.or(
+                                            cb.lessThan(createdAt, cursor.createdAt()),
+                                            cb.and(
+                                                    cb.equal(createdAt, cursor.createdAt()),
+                                                    cb.lessThan(id, cursor.id()))))));
+        };
+    }
+
+    public static Specification<Expense> userIdEquals(UUID userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    public static Specification<Expense> dateFrom(LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Expense> dateTo(LocalDate endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    /**
+     * 카테고리 필터 (1개면 =, 여러 개면 IN)
+     */
+    public static Specification<Expense> categoryIn(List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        if (categories.size() == 1) {
+            return (root, query, cb) -> cb.equal(root.get("category"), categories.get(0));
+        }
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    public static Specification<Expense> amountAtLeast(BigDecimal minAmount) {
+        if (minAmount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Expense> amountAtMost(BigDecimal maxAmount) {
+        if (maxAmount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
+    }
+
+    public static Specification<Expense> paymentMethodEquals(String paymentMethod) {
+        if (paymentMethod == null || paymentMethod.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("paymentMethod"), paymentMethod);
+    }
+
+    /**
+     * 가맹점명 접두사 검색 (LIKE 'prefix%')
+     *
+     * 와일드카드 문자를 이스케이프하여 항상 접두사 범위 탐색이 가능한 패턴만 생성합니다.
+     * idx_expenses_user_merchant_prefix (text_pattern_ops) 인덱스를 사용합니다.
+     */
+    public static Specification<Expense> merchantStartsWith(String merchantPrefix) {
+        if (merchantPrefix == null || merchantPrefix.isBlank()) {
+            return null;
+        }
+        String pattern = escapeLike(merchantPrefix.trim()) + "%";
+        return (root, query, cb) -> cb.like(root.get("merchant"), pattern, '\\');
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
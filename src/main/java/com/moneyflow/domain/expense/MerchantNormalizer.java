@@ -0,0 +1,50 @@
+package com.moneyflow.domain.expense;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 가맹점명 정규화
+ *
+ * 카드/은행 명세서의 가맹점명은 법인 표기와 공백이 제각각이라("(주)스타벅스 강남점", "스타벅스  강남점")
+ * 저장용 정리(normalize)와 중복 비교용 키(canonical)를 나눠 제공합니다.
+ * canonical 규칙은 V28 마이그레이션의 기존 행 dedup_key 채우기 SQL과 같아야 합니다.
+ */
+public final class MerchantNormalizer {
+
+    private static final Pattern CORPORATE_MARKERS = Pattern.compile("\\(주\\)|㈜|주식회사");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private MerchantNormalizer() {
+    }
+
+    /**
+     * 저장용: 법인 표기 제거, 연속 공백 정리
+     *
+     * @return 빈 문자열이면 null
+     */
+    public static String normalize(String merchant) {
+        if (merchant == null) {
+            return null;
+        }
+        String cleaned = WHITESPACE.matcher(CORPORATE_MARKERS.matcher(merchant).replaceAll(" "))
+                .replaceAll(" ")
+                .trim();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    /**
+     * 중복 비교용: 법인 표기 제거 후 소문자 + 문자/숫자만 남김
+     */
+    public static String canonical(String merchant) {
+        if (merchant == null) {
+            return "";
+        }
+        String withoutMarkers = CORPORATE_MARKERS.matcher(merchant).replaceAll("").toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(withoutMarkers.length());
+        withoutMarkers.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+}
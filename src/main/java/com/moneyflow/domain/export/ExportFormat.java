@@ -0,0 +1,25 @@
+package com.moneyflow.domain.export;
+
+/**
+ * 내보내기 파일 형식 (ZIP 안의 테이블별 파일)
+ */
+public enum ExportFormat {
+    /**
+     * UTF-8 CSV (엑셀에서 한글이 깨지지 않도록 BOM 포함)
+     */
+    CSV("csv"),
+    /**
+     * 행 객체의 JSON 배열
+     */
+    JSON("json");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,59 @@
+package com.moneyflow.domain.export;
+
+import java.util.List;
+
+/**
+ * 내보내기 ZIP에 들어가는 파일 (테이블별 하나)
+ *
+ * 컬럼 순서가 곧 CSV 헤더/JSON 필드 순서입니다.
+ */
+public enum ExportSection {
+    EXPENSES("expenses", "date, expense_id",
+            "expense_id", "account_book_id", "user_id", "paid_by_user_id", "date", "amount", "category",
+            "merchant", "memo", "payment_method", "funding_source", "image_url", "created_at"),
+    INCOMES("incomes", "date, income_id",
+            "income_id", "account_book_id", "user_id", "date", "amount", "source", "description",
+            "funding_source", "created_at"),
+    RECURRING_EXPENSES("recurring_expenses", "start_date, recurring_expense_id",
+            "recurring_expense_id", "account_book_id", "user_id", "name", "amount", "category", "description",
+            "recurring_type", "start_date", "end_date", "day_of_month", "day_of_week", "next_payment_date",
+            "is_subscription", "subscription_provider", "created_at"),
+    ASSETS("assets", "asset_id",
+            "asset_id", "account_book_id", "user_id", "name", "category", "amount", "memo", "created_at"),
+    BUDGETS("budgets", "year, month, budget_id",
+            "budget_id", "account_book_id", "user_id", "year", "month", "target_amount", "created_at");
+
+    private final String table;
+    private final String orderBy;
+    private final List<String> columns;
+
+    ExportSection(String table, String orderBy, String... columns) {
+        this.table = table;
+        this.orderBy = orderBy;
+        this.columns = List.of(columns);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * ZIP 항목 이름 (예: expenses.csv)
+     */
+    public String fileName(ExportFormat format) {
+        return table + "." + format.getExtension();
+    }
+
+    /**
+     * 장부 기준(:accountBookId) 또는 작성자 기준(:userId) 조회 SQL
+     */
+    String selectSql(boolean byAccountBook) {
+        return "SELECT " + String.join(", ", columns) + " FROM " + table
+                + (byAccountBook ? " WHERE account_book_id = :accountBookId" : " WHERE user_id = :userId")
+                + " ORDER BY " + orderBy;
+    }
+}
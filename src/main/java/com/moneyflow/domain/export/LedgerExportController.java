@@ -0,0 +1,55 @@
+package com.moneyflow.domain.export;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "데이터 내보내기 API")
+public class LedgerExportController {
+
+    private final LedgerExportService ledgerExportService;
+
+    @GetMapping
+    @Operation(summary = "전체 데이터 내보내기", description = "지출/수입/고정지출/자산/예산을 테이블별 CSV 또는 JSON 파일로 " +
+            "묶은 ZIP을 내려받습니다. 장부 ID를 생략하면 본인이 등록한 내역 전체를 내보냅니다. " +
+            "데이터를 읽는 대로 전송하므로 Content-Length 없이 바로 다운로드가 시작됩니다. " +
+            "동시 내보내기가 많으면 503으로 거부합니다.")
+    public void export(
+            @Parameter(description = "장부 ID (생략 시 본인 내역 전체)") @RequestParam(required = false) UUID accountBookId,
+            @Parameter(description = "파일 형식 (CSV, JSON)") @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        ledgerExportService.validateAccess(userId, accountBookId);
+
+        try (LedgerExportService.ExportSlot slot = ledgerExportService.acquireSlot()) {
+            String fileName = "moneyflow-export-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                    + "-" + format.getExtension() + ".zip";
+            response.setContentType("application/zip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(fileName).build().toString());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+            ledgerExportService.export(userId, accountBookId, format, response.getOutputStream());
+        }
+    }
+}
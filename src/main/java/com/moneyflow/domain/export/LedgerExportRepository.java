@@ -0,0 +1,75 @@
+package com.moneyflow.domain.export;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 내보내기용 행 조회 (서버 측 커서)
+ *
+ * PostgreSQL 드라이버는 트랜잭션 안(autocommit off)에서 fetch size가 지정된 경우에만
+ * 결과를 fetch-size 행씩 나눠 가져오므로, 반드시 트랜잭션 안에서 소비하고 사용 후 닫아야 합니다.
+ * 엔티티를 거치지 않아 영속성 컨텍스트에 쌓이는 것도 없습니다.
+ */
+@Repository
+public class LedgerExportRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LedgerExportRepository(DataSource dataSource,
+                                  @Value("${export.fetch-size:500}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * 장부 단위 조회 (멤버십 검증은 호출 측 책임)
+     *
+     * @return 컬럼 순서(ExportSection.getColumns())대로 담긴 값 배열의 스트림
+     */
+    public Stream<Object[]> streamByAccountBook(ExportSection section, UUID accountBookId) {
+        return jdbcTemplate.queryForStream(section.selectSql(true),
+                new MapSqlParameterSource("accountBookId", accountBookId), LedgerExportRepository::toValues);
+    }
+
+    /**
+     * 작성자 단위 조회 (장부와 무관하게 본인이 등록한 내역)
+     */
+    public Stream<Object[]> streamByUser(ExportSection section, UUID userId) {
+        return jdbcTemplate.queryForStream(section.selectSql(false),
+                new MapSqlParameterSource("userId", userId), LedgerExportRepository::toValues);
+    }
+
+    /**
+     * 현재 트랜잭션에만 적용되는 타임아웃 (커밋/롤백 후 연결 풀에 돌아갈 때는 원래 값)
+     *
+     * @param statementTimeout 커서에서 한 번 가져오는(fetch) 데 걸리는 최대 시간
+     * @param idleTimeout      다음 fetch 없이 트랜잭션이 열려 있을 수 있는 시간 (넘으면 서버가 세션을 종료)
+     */
+    public void applySessionTimeouts(Duration statementTimeout, Duration idleTimeout) {
+        jdbcTemplate.queryForMap("SELECT set_config('statement_timeout', :statementTimeout, true), " +
+                        "set_config('idle_in_transaction_session_timeout', :idleTimeout, true)",
+                new MapSqlParameterSource()
+                        .addValue("statementTimeout", statementTimeout.toMillis() + "ms")
+                        .addValue("idleTimeout", idleTimeout.toMillis() + "ms"));
+    }
+
+    private static Object[] toValues(ResultSet rs, int rowNum) throws SQLException {
+        int count = rs.getMetaData().getColumnCount();
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = rs.getObject(i + 1);
+        }
+        return values;
+    }
+}
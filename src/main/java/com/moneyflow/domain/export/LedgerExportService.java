@@ -0,0 +1,236 @@
+package com.moneyflow.domain.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.moneyflow.domain.accountbook.AccountBookMemberRepository;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 가계부 전체 데이터 내보내기 (ZIP 안에 테이블별 CSV/JSON)
+ *
+ * 테이블마다 서버 측 커서로 읽은 행을 바로 ZIP 스트림에 써서, 데이터 양과 무관하게
+ * 메모리 사용량이 일정하고 첫 바이트가 곧바로 전송됩니다.
+ * 응답 스트림 쓰기가 클라이언트 속도에 맞춰 블로킹되므로 느린 클라이언트에서는 커서도 그만큼 천천히 읽습니다.
+ *
+ * 내보내기 하나가 다운로드가 끝날 때까지 연결 하나와 스냅샷을 잡고 있으므로
+ * 인스턴스당 동시 내보내기 수를 제한하고(export.max-concurrent, 초과 시 EXPORT_BUSY),
+ * 클라이언트가 멈추면 idle_in_transaction_session_timeout으로 서버가 세션을 끊게 합니다.
+ */
+@Slf4j
+@Service
+public class LedgerExportService {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final LedgerExportRepository ledgerExportRepository;
+    private final AccountBookMemberRepository accountBookMemberRepository;
+    private final Semaphore slots;
+    private final Duration statementTimeout;
+    private final Duration idleTimeout;
+
+    public LedgerExportService(LedgerExportRepository ledgerExportRepository,
+                               AccountBookMemberRepository accountBookMemberRepository,
+                               @Value("${export.max-concurrent:4}") int maxConcurrent,
+                               @Value("${export.statement-timeout:30s}") Duration statementTimeout,
+                               @Value("${export.idle-timeout:60s}") Duration idleTimeout) {
+        this.ledgerExportRepository = ledgerExportRepository;
+        this.accountBookMemberRepository = accountBookMemberRepository;
+        this.slots = new Semaphore(maxConcurrent);
+        this.statementTimeout = statementTimeout;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * 응답을 쓰기 전에 호출 (쓰기 시작 후에는 오류 응답을 보낼 수 없음)
+     *
+     * @param accountBookId null이면 본인이 등록한 내역 전체
+     */
+    @Transactional(readOnly = true)
+    public void validateAccess(UUID userId, UUID accountBookId) {
+        if (accountBookId != null && !accountBookMemberRepository
+                .existsByAccountBookAccountBookIdAndUserUserId(accountBookId, userId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 내보내기 자리 확보 (응답을 쓰기 전, export 트랜잭션 밖에서 호출하고 끝나면 close)
+     * 기다리지 않고 바로 거부해 요청 스레드와 연결 풀을 붙잡지 않습니다.
+     *
+     * @throws BusinessException 동시 내보내기 수를 넘은 경우 (EXPORT_BUSY)
+     */
+    public ExportSlot acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new BusinessException(ErrorCode.EXPORT_BUSY);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    /**
+     * 모든 테이블을 ZIP으로 출력 (out은 닫지 않음)
+     *
+     * @param accountBookId null이면 본인이 등록한 내역 전체, 아니면 해당 장부의 모든 멤버 내역
+     */
+    @Transactional(readOnly = true)
+    public void export(UUID userId, UUID accountBookId, ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long totalRows = 0;
+        ledgerExportRepository.applySessionTimeouts(statementTimeout, idleTimeout);
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        for (ExportSection section : ExportSection.values()) {
+            zip.putNextEntry(new ZipEntry(section.fileName(format)));
+            try (Stream<Object[]> rows = accountBookId != null
+                    ? ledgerExportRepository.streamByAccountBook(section, accountBookId)
+                    : ledgerExportRepository.streamByUser(section, userId)) {
+                totalRows += format == ExportFormat.CSV
+                        ? writeCsv(writer, section.getColumns(), rows.iterator())
+                        : writeJson(writer, section.getColumns(), rows.iterator());
+            }
+            writer.flush();
+            zip.closeEntry();
+        }
+        zip.finish();
+        zip.flush();
+
+        log.info("[Export] userId={}, accountBookId={}, format={}, rows={}, {}ms", userId, accountBookId,
+                format, totalRows, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 확보한 내보내기 자리 (close로 반납, 여러 번 호출해도 한 번만 반납)
+     */
+    public interface ExportSlot extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static long writeCsv(Writer writer, List<String> columns, Iterator<Object[]> rows) throws IOException {
+        writer.write('\uFEFF');
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            Object[] values = rows.next();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvField(values[i]));
+            }
+            writer.write("\r\n");
+            count++;
+        }
+        return count;
+    }
+
+    private static long writeJson(Writer writer, List<String> columns, Iterator<Object[]> rows) throws IOException {
+        long count = 0;
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+            json.writeStartArray();
+            while (rows.hasNext()) {
+                Object[] values = rows.next();
+                json.writeStartObject();
+                for (int i = 0; i < values.length; i++) {
+                    json.writeFieldName(columns.get(i));
+                    writeJsonValue(json, values[i]);
+                }
+                json.writeEndObject();
+                count++;
+            }
+            json.writeEndArray();
+        }
+        return count;
+    }
+
+    private static void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof BigDecimal decimal) {
+            json.writeNumber(decimal);
+        } else if (value instanceof Integer number) {
+            json.writeNumber(number);
+        } else if (value instanceof Long number) {
+            json.writeNumber(number);
+        } else if (value instanceof Boolean flag) {
+            json.writeBoolean(flag);
+        } else {
+            json.writeString(text(value));
+        }
+    }
+
+    /**
+     * RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+     *
+     * 사용자가 입력한 문자열이 =, +, -, @, 탭, CR로 시작하면 스프레드시트가 수식으로 실행하므로
+     * 앞에 '를 붙여 텍스트로 만들고 따옴표로 감쌉니다. (음수 금액 등 숫자/날짜 값은 그대로)
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = text(value);
+        if (value instanceof CharSequence && startsWithFormula(text)) {
+            return "\"'" + text.replace("\"", "\"\"") + '"';
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean startsWithFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static String text(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+}
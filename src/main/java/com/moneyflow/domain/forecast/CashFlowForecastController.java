@@ -0,0 +1,50 @@
+package com.moneyflow.domain.forecast;
+
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
+import com.moneyflow.dto.response.CashFlowForecastResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 현금 흐름 예측 API
+ */
+@RestController
+@RequestMapping("/api/forecast")
+@RequiredArgsConstructor
+@Tag(name = "Forecast", description = "현금 흐름 예측 API")
+public class CashFlowForecastController {
+
+    private final CashFlowForecastService cashFlowForecastService;
+    private final AccountBookVersionService accountBookVersionService;
+
+    @GetMapping
+    @Operation(summary = "월말 잔액 예측", description = "고정비 결제 일정과 지난 달 평균 지출/수입으로 앞으로 N개월(이번 달 포함) 잔액 추정")
+    public ResponseEntity<CashFlowForecastResponse> getForecast(
+            @RequestParam UUID accountBookId,
+            @RequestParam(defaultValue = "6") Integer months,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        // 이번 달 남은 결제/평균이 날짜에 따라 바뀌므로 오늘 날짜도 ETag에 포함
+        String etag = accountBookVersionService.etag(userId, accountBookId, "forecast", months, LocalDate.now());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CashFlowForecastResponse response = cashFlowForecastService.forecast(userId, accountBookId, months);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
+    }
+}
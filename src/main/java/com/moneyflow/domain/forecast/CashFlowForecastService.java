@@ -0,0 +1,281 @@
+package com.moneyflow.domain.forecast;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moneyflow.config.ForecastConfig;
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
+import com.moneyflow.domain.recurringexpense.RecurringExpenseRepository;
+import com.moneyflow.dto.response.CashFlowForecastResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 현금 흐름 예측 서비스
+ *
+ * 장부의 고정비를 결제 일정으로 펼치고(RecurringPlan), 지난 N개월 카테고리별 평균 지출과 평균 수입을 더해
+ * 앞으로 몇 달의 월말 잔액을 추정합니다.
+ *
+ * 예측에 필요한 데이터(고정비 목록, 카테고리별 지출 합계, 잔액/수입 합계)는 장부별로 한 번 읽어 캐시하고,
+ * 이후 요청은 메모리에서만 계산합니다. 캐시 항목에는 읽을 당시의 장부 버전을 함께 두어, 요청마다
+ * 버전 조회(멤버 확인 겸용) 한 번으로 지출/수입/고정비/장부 변경 여부를 판단합니다.
+ * 버전이 DB에 있으므로 다른 인스턴스에서 생긴 쓰기도 다음 요청에서 반영됩니다.
+ *
+ * 고정비 결제로 생긴 지출(linked_payment_id)은 결제 일정으로 따로 계산하므로 변동 지출 평균에서 제외합니다.
+ */
+@Slf4j
+@Service
+public class CashFlowForecastService {
+
+    private static final String CATEGORY_SPEND_SQL = """
+            SELECT e.category,
+                   COALESCE(SUM(e.amount) FILTER (WHERE e.date < ?), 0) AS trailing_amount,
+                   COALESCE(SUM(e.amount) FILTER (WHERE e.date >= ?), 0) AS current_amount
+              FROM expenses e
+             WHERE e.account_book_id = ?
+               AND e.linked_payment_id IS NULL
+               AND e.date >= ? AND e.date < ?
+             GROUP BY e.category
+             ORDER BY e.category
+            """;
+
+    private static final String TOTALS_SQL = """
+            SELECT ab.initial_balance, ab.created_at,
+                   (SELECT COALESCE(SUM(e.amount), 0) FROM expenses e
+                     WHERE e.account_book_id = ab.account_book_id) AS expense_total,
+                   (SELECT COALESCE(SUM(i.amount), 0) FROM incomes i
+                     WHERE i.account_book_id = ab.account_book_id) AS income_total,
+                   (SELECT COALESCE(SUM(i.amount), 0) FROM incomes i
+                     WHERE i.account_book_id = ab.account_book_id AND i.date >= ? AND i.date < ?) AS trailing_income,
+                   (SELECT COALESCE(SUM(i.amount), 0) FROM incomes i
+                     WHERE i.account_book_id = ab.account_book_id AND i.date >= ? AND i.date < ?) AS current_income
+              FROM account_books ab
+             WHERE ab.account_book_id = ?
+            """;
+
+    private final RecurringExpenseRepository recurringExpenseRepository;
+    private final AccountBookVersionService accountBookVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ForecastConfig config;
+    private final Cache<UUID, ForecastModel> models;
+
+    public CashFlowForecastService(RecurringExpenseRepository recurringExpenseRepository,
+                                   AccountBookVersionService accountBookVersionService,
+                                   JdbcTemplate jdbcTemplate,
+                                   ForecastConfig config) {
+        this.recurringExpenseRepository = recurringExpenseRepository;
+        this.accountBookVersionService = accountBookVersionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.models = Caffeine.newBuilder()
+                .maximumSize(config.getCacheSize())
+                .expireAfterWrite(config.getCacheTtl())
+                .build();
+    }
+
+    /**
+     * 오늘부터 months개월(이번 달 포함) 현금 흐름 예측
+     */
+    @Transactional(readOnly = true)
+    public CashFlowForecastResponse forecast(UUID userId, UUID accountBookId, int months) {
+        if (months < 1 || months > config.getMaxMonths()) {
+            throw new BusinessException("예측 개월 수는 1~" + config.getMaxMonths() + " 사이여야 합니다",
+                    ErrorCode.INVALID_INPUT);
+        }
+        OptionalLong version = accountBookVersionService.version(userId, accountBookId);
+        if (version.isEmpty()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+        }
+
+        LocalDate today = LocalDate.now();
+        ForecastModel model = models.getIfPresent(accountBookId);
+        // 날짜가 바뀌면 '이번 달'과 평균 구간이 달라지므로 버전과 함께 기준일도 비교
+        if (model == null || model.version() != version.getAsLong() || !model.asOf().equals(today)) {
+            model = load(accountBookId, version.getAsLong(), today);
+            models.put(accountBookId, model);
+        }
+        return project(accountBookId, model, months);
+    }
+
+    /**
+     * 장부 예측 데이터 일괄 조회 (고정비 목록, 카테고리별 지출, 잔액/수입 합계 각 한 번)
+     */
+    ForecastModel load(UUID accountBookId, long version, LocalDate today) {
+        YearMonth currentMonth = YearMonth.from(today);
+        LocalDate monthStart = currentMonth.atDay(1);
+        LocalDate nextMonthStart = currentMonth.plusMonths(1).atDay(1);
+        LocalDate trailingStart = currentMonth.minusMonths(config.getTrailingMonths()).atDay(1);
+
+        List<RecurringPlan> plans = recurringExpenseRepository.findActiveByAccountBook(accountBookId, today).stream()
+                .map(RecurringPlan::of)
+                .toList();
+
+        List<CategorySpend> spends = jdbcTemplate.query(CATEGORY_SPEND_SQL, (rs, rowNum) -> new CategorySpend(
+                        rs.getString("category"),
+                        rs.getBigDecimal("trailing_amount"),
+                        rs.getBigDecimal("current_amount")),
+                monthStart, monthStart, accountBookId, trailingStart, nextMonthStart);
+
+        List<BookTotals> totals = jdbcTemplate.query(TOTALS_SQL, (rs, rowNum) -> {
+                    LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+                    BigDecimal initialBalance = rs.getBigDecimal("initial_balance");
+                    return new BookTotals(
+                            initialBalance != null ? initialBalance : BigDecimal.ZERO,
+                            createdAt != null ? createdAt.toLocalDate() : null,
+                            rs.getBigDecimal("expense_total"),
+                            rs.getBigDecimal("income_total"),
+                            rs.getBigDecimal("trailing_income"),
+                            rs.getBigDecimal("current_income"));
+                },
+                trailingStart, monthStart, monthStart, nextMonthStart, accountBookId);
+        if (totals.isEmpty()) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_NOT_FOUND);
+        }
+        BookTotals book = totals.get(0);
+
+        int divisor = trailingDivisor(config.getTrailingMonths(), book.createdOn(), currentMonth);
+        List<CategoryTrend> categories = spends.stream()
+                .map(spend -> new CategoryTrend(spend.category(),
+                        average(spend.trailingAmount(), divisor), spend.currentAmount()))
+                .toList();
+
+        log.debug("[Forecast] Loaded book {} v{}: {} recurring, {} categories",
+                accountBookId, version, plans.size(), categories.size());
+        return new ForecastModel(version, today,
+                book.initialBalance().add(book.incomeTotal()).subtract(book.expenseTotal()),
+                divisor, categories, average(book.trailingIncome(), divisor), book.currentIncome(), plans);
+    }
+
+    /**
+     * 캐시된 데이터로 월별 예측 (DB 조회 없음)
+     *
+     * 이번 달은 오늘부터의 고정비 결제와, 평균 중 이번 달에 아직 쓰지/받지 않은 금액만 더합니다.
+     * 다음 달부터는 평균을 그대로 사용합니다.
+     */
+    static CashFlowForecastResponse project(UUID accountBookId, ForecastModel model, int months) {
+        YearMonth currentMonth = YearMonth.from(model.asOf());
+        BigDecimal fullVariable = BigDecimal.ZERO;
+        BigDecimal remainingVariable = BigDecimal.ZERO;
+        for (CategoryTrend trend : model.categories()) {
+            fullVariable = fullVariable.add(trend.monthlyAverage());
+            remainingVariable = remainingVariable.add(
+                    trend.monthlyAverage().subtract(trend.currentMonthSpent()).max(BigDecimal.ZERO));
+        }
+        BigDecimal remainingIncome = model.incomeAverage().subtract(model.currentMonthIncome()).max(BigDecimal.ZERO);
+
+        List<CashFlowForecastResponse.MonthForecast> forecasts = new ArrayList<>(months);
+        BigDecimal balance = model.currentBalance();
+        for (int i = 0; i < months; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            LocalDate from = i == 0 ? model.asOf() : month.atDay(1);
+            LocalDate to = month.atEndOfMonth();
+
+            List<CashFlowForecastResponse.ScheduledPayment> payments = new ArrayList<>();
+            BigDecimal recurring = BigDecimal.ZERO;
+            for (RecurringPlan plan : model.plans()) {
+                for (LocalDate date : plan.occurrences(from, to)) {
+                    payments.add(CashFlowForecastResponse.ScheduledPayment.builder()
+                            .recurringExpenseId(plan.recurringExpenseId())
+                            .name(plan.name())
+                            .category(plan.category())
+                            .date(date)
+                            .amount(plan.amount())
+                            .build());
+                    recurring = recurring.add(plan.amount());
+                }
+            }
+            payments.sort(Comparator.comparing(CashFlowForecastResponse.ScheduledPayment::getDate));
+
+            BigDecimal income = i == 0 ? remainingIncome : model.incomeAverage();
+            BigDecimal variable = i == 0 ? remainingVariable : fullVariable;
+            BigDecimal closing = balance.add(income).subtract(recurring).subtract(variable);
+            forecasts.add(CashFlowForecastResponse.MonthForecast.builder()
+                    .year(month.getYear())
+                    .month(month.getMonthValue())
+                    .openingBalance(balance)
+                    .projectedIncome(income)
+                    .recurringExpense(recurring)
+                    .variableExpense(variable)
+                    .closingBalance(closing)
+                    .payments(payments)
+                    .build());
+            balance = closing;
+        }
+
+        return CashFlowForecastResponse.builder()
+                .accountBookId(accountBookId)
+                .asOf(model.asOf())
+                .currentBalance(model.currentBalance())
+                .trailingMonths(model.trailingMonths())
+                .monthlyIncomeAverage(model.incomeAverage())
+                .categories(model.categories().stream()
+                        .map(trend -> CashFlowForecastResponse.CategoryTrend.builder()
+                                .category(trend.category())
+                                .monthlyAverage(trend.monthlyAverage())
+                                .currentMonthSpent(trend.currentMonthSpent())
+                                .build())
+                        .toList())
+                .months(forecasts)
+                .build();
+    }
+
+    /**
+     * 평균을 낼 지난 달 수: 설정값과 장부 생성 후 지난 달 수 중 작은 값 (최소 1)
+     * 이번 달에 만든 장부를 3으로 나누면 평균이 실제보다 작아지기 때문입니다.
+     */
+    static int trailingDivisor(int trailingMonths, LocalDate createdOn, YearMonth currentMonth) {
+        if (createdOn == null) {
+            return Math.max(trailingMonths, 1);
+        }
+        long elapsed = ChronoUnit.MONTHS.between(YearMonth.from(createdOn), currentMonth);
+        return (int) Math.max(1, Math.min(trailingMonths, elapsed));
+    }
+
+    private static BigDecimal average(BigDecimal total, int divisor) {
+        return total.divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 장부별 캐시 항목 (version, asOf가 현재와 같을 때만 사용)
+     */
+    record ForecastModel(
+            long version,
+            LocalDate asOf,
+            BigDecimal currentBalance,
+            int trailingMonths,
+            List<CategoryTrend> categories,
+            BigDecimal incomeAverage,
+            BigDecimal currentMonthIncome,
+            List<RecurringPlan> plans) {
+    }
+
+    record CategoryTrend(String category, BigDecimal monthlyAverage, BigDecimal currentMonthSpent) {
+    }
+
+    private record CategorySpend(String category, BigDecimal trailingAmount, BigDecimal currentAmount) {
+    }
+
+    private record BookTotals(
+            BigDecimal initialBalance,
+            LocalDate createdOn,
+            BigDecimal expenseTotal,
+            BigDecimal incomeTotal,
+            BigDecimal trailingIncome,
+            BigDecimal currentIncome) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.moneyflow.domain.forecast;
+
+import com.moneyflow.domain.recurringexpense.RecurringExpense;
+import com.moneyflow.domain.recurringexpense.RecurringType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예측에 필요한 고정비 값만 담은 불변 스냅샷 (캐시에 엔티티를 두지 않기 위함)
+ *
+ * 결제일은 다음 결제일(anchor)을 기준으로 날짜 계산만으로 구합니다. 하루/한 주씩 더해 가며 찾지 않으므로
+ * 기간이 길어도 결과 건수만큼만 계산합니다.
+ * - WEEKLY: anchor + 7k일
+ * - MONTHLY: 매달 dayOfMonth일 (없으면 anchor의 일, 그 달에 없는 날이면 말일)
+ * - YEARLY: 매년 anchor의 월/일 (2월 29일은 평년에 28일)
+ *
+ * @param anchor 다음 결제 예정일 (이보다 이른 결제는 없음)
+ */
+public record RecurringPlan(
+        UUID recurringExpenseId,
+        String name,
+        String category,
+        BigDecimal amount,
+        RecurringType type,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer dayOfMonth,
+        LocalDate anchor) {
+
+    public static RecurringPlan of(RecurringExpense expense) {
+        return new RecurringPlan(
+                expense.getRecurringExpenseId(),
+                expense.getName(),
+                expense.getCategory(),
+                expense.getAmount(),
+                expense.getRecurringType(),
+                expense.getStartDate(),
+                expense.getEndDate(),
+                expense.getDayOfMonth(),
+                expense.getNextPaymentDate());
+    }
+
+    /**
+     * [from, to] 기간의 결제일 (날짜순)
+     */
+    public List<LocalDate> occurrences(LocalDate from, LocalDate to) {
+        LocalDate lower = latest(from, anchor, startDate);
+        LocalDate upper = endDate != null && endDate.isBefore(to) ? endDate : to;
+        List<LocalDate> dates = new ArrayList<>();
+        if (lower == null || upper == null || lower.isAfter(upper) || type == null) {
+            return dates;
+        }
+
+        switch (type) {
+            case WEEKLY -> {
+                long first = -Math.floorDiv(-ChronoUnit.DAYS.between(anchor, lower), 7);
+                long last = Math.floorDiv(ChronoUnit.DAYS.between(anchor, upper), 7);
+                for (long k = first; k <= last; k++) {
+                    dates.add(anchor.plusWeeks(k));
+                }
+            }
+            case MONTHLY -> {
+                int day = dayOfMonth != null ? dayOfMonth : anchor.getDayOfMonth();
+                for (YearMonth month = YearMonth.from(lower); !month.isAfter(YearMonth.from(upper));
+                     month = month.plusMonths(1)) {
+                    addIfWithin(dates, clamp(month, day), lower, upper);
+                }
+            }
+            case YEARLY -> {
+                for (int year = lower.getYear(); year <= upper.getYear(); year++) {
+                    addIfWithin(dates, clamp(YearMonth.of(year, anchor.getMonth()), anchor.getDayOfMonth()), lower, upper);
+                }
+            }
+        }
+        return dates;
+    }
+
+    private static LocalDate clamp(YearMonth month, int day) {
+        return month.atDay(Math.min(Math.max(day, 1), month.lengthOfMonth()));
+    }
+
+    private static void addIfWithin(List<LocalDate> dates, LocalDate date, LocalDate lower, LocalDate upper) {
+        if (!date.isBefore(lower) && !date.isAfter(upper)) {
+            dates.add(date);
+        }
+    }
+
+    private static LocalDate latest(LocalDate... dates) {
+        LocalDate latest = null;
+        for (LocalDate date : dates) {
+            if (date == null) {
+                continue;
+            }
+            if (latest == null || date.isAfter(latest)) {
+                latest = date;
+            }
+        }
+        return latest;
+    }
+}
@@ -1,8 +1,13 @@
 package com.moneyflow.domain.income;
 
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import com.moneyflow.domain.sync.SyncChangeListener;
+import com.moneyflow.domain.sync.SyncEntityType;
+import com.moneyflow.domain.sync.SyncTracked;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,20 +25,21 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "incomes", indexes = {
-        @Index(name = "idx_income_user_date", columnList = "user_id, date DESC")
+        @Index(name = "idx_incomes_user_keyset", columnList = "user_id, date DESC, created_at DESC, income_id DESC")
 })
+@EntityListeners(SyncChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Income {
+public class Income implements SyncTracked {
 
     /**
      * 수입 ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "income_id")
     private UUID incomeId;
 
@@ -97,4 +103,33 @@ public class Income {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * 장부 내 마지막 변경 순번 (SyncChangeListener가 저장/수정 시 발급, 엔티티를 거치지 않은 INSERT는 0)
+     */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq = 0L;
+
+    /**
+     * 조회/저장 시점의 장부 ID (장부 이동 감지용, 컬럼 아님)
+     */
+    @Transient
+    private UUID syncedAccountBookId;
+
+    @Override
+    public SyncEntityType getSyncEntityType() {
+        return SyncEntityType.INCOME;
+    }
+
+    @Override
+    public UUID getSyncEntityId() {
+        return incomeId;
+    }
+
+    @Override
+    public UUID getSyncAccountBookId() {
+        return accountBook != null ? accountBook.getAccountBookId() : null;
+    }
 }
@@ -1,6 +1,7 @@
 package com.moneyflow.domain.income;
 
 import com.moneyflow.dto.request.IncomeRequest;
+import com.moneyflow.dto.request.IncomeSearchCondition;
 import com.moneyflow.dto.response.IncomeListResponse;
 import com.moneyflow.dto.response.IncomeResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,7 +16,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -56,20 +59,40 @@ public class IncomeController {
      *
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
-     * @param source 수입 출처 (선택)
+     * @param source 수입 출처 (선택, 하위 호환용 단일 값)
+     * @param sources 수입 출처 목록 (선택, OR 조건)
+     * @param minAmount 최소 금액 (선택)
+     * @param maxAmount 최대 금액 (선택)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 200)
      * @param userDetails 인증된 사용자 정보
      * @return 수입 목록 응답
      */
     @GetMapping
-    @Operation(summary = "수입 목록 조회", description = "기간별 수입 목록을 조회합니다. 수입 출처로 필터링할 수 있습니다.")
+    @Operation(summary = "수입 목록 조회", description = "기간별 수입 목록을 커서 기반으로 페이지 조회합니다. 수입 출처, 금액 범위로 필터링할 수 있습니다. " +
+            "totalAmount/count는 조회 기간 전체 기준입니다.")
     public ResponseEntity<IncomeListResponse> getIncomes(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) String source,
+            @RequestParam(required = false) List<String> sources,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         UUID userId = UUID.fromString(userDetails.getUsername());
-        IncomeListResponse response = incomeService.getIncomes(userId, startDate, endDate, source);
+        IncomeSearchCondition condition = IncomeSearchCondition.builder()
+                .userId(userId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .sources(mergeSources(source, sources))
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .build();
+
+        IncomeListResponse response = incomeService.getIncomes(condition, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -144,4 +167,20 @@ public class IncomeController {
         incomeService.deleteIncome(userId, incomeId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 단일 source 파라미터(하위 호환)와 sources 목록을 하나로 합침
+     */
+    private List<String> mergeSources(String source, List<String> sources) {
+        List<String> merged = new ArrayList<>();
+        if (source != null && !source.isBlank()) {
+            merged.add(source);
+        }
+        if (sources != null) {
+            sources.stream()
+                    .filter(s -> s != null && !s.isBlank() && !merged.contains(s))
+                    .forEach(merged::add);
+        }
+        return merged;
+    }
 }
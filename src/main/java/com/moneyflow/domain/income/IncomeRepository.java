@@ -1,9 +1,12 @@
 package com.moneyflow.domain.income;
 
 import com.moneyflow.dto.projection.CategorySummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,7 +21,7 @@ import java.util.UUID;
  * 수입 데이터에 대한 데이터베이스 액세스를 제공합니다.
  */
 @Repository
-public interface IncomeRepository extends JpaRepository<Income, UUID> {
+public interface IncomeRepository extends JpaRepository<Income, UUID>, IncomeSearchRepository {
 
         /**
          * 수입 ID로 조회 (User, AccountBook JOIN FETCH)
@@ -30,23 +33,6 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
                         "WHERE i.incomeId = :incomeId")
         Optional<Income> findByIdWithUserAndAccountBook(@Param("incomeId") UUID incomeId);
 
-        /**
-         * 사용자별 기간별 수입 조회 (User, AccountBook JOIN FETCH)
-         * N+1 방지: 리스트 순회 시 user, accountBook 접근
-         */
-        @Query("SELECT i FROM Income i " +
-                        "LEFT JOIN FETCH i.user " +
-                        "LEFT JOIN FETCH i.accountBook " +
-                        "WHERE i.user.userId = :userId " +
-                        "AND i.date BETWEEN :startDate AND :endDate " +
-                        "AND (:source IS NULL OR i.source = :source) " +
-                        "ORDER BY i.date DESC, i.createdAt DESC")
-        List<Income> findIncomesByUserAndDateRange(
-                        @Param("userId") UUID userId,
-                        @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("source") String source);
-
         /**
          * 장부별 기간별 수입 조회 (User, AccountBook JOIN FETCH)
          */
@@ -55,13 +41,11 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
                         "LEFT JOIN FETCH i.accountBook " +
                         "WHERE i.accountBook.accountBookId = :accountBookId " +
                         "AND i.date BETWEEN :startDate AND :endDate " +
-                        "AND (:source IS NULL OR i.source = :source) " +
                         "ORDER BY i.date DESC, i.createdAt DESC")
         List<Income> findByAccountBookAndDateRange(
                         @Param("accountBookId") UUID accountBookId,
                         @Param("startDate") LocalDate startDate,
-                        @Param("endDate") LocalDate endDate,
-                        @Param("source") String source);
+                        @Param("endDate") LocalDate endDate);
 
         /**
          * 장부별 모든 수입 조회 (User, AccountBook JOIN FETCH)
@@ -149,6 +133,18 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
                         @Param("startDate") LocalDate startDate,
                         @Param("endDate") LocalDate endDate);
 
+        /**
+         * [동기화] 장부의 변경 순번 범위 (since, until]에 해당하는 수입
+         */
+        @Query("SELECT i FROM Income i " +
+                        "WHERE i.accountBook.accountBookId = :bookId " +
+                        "AND i.changeSeq > :since AND i.changeSeq <= :until " +
+                        "ORDER BY i.changeSeq")
+        List<Income> findSyncChanges(
+                        @Param("bookId") UUID bookId,
+                        @Param("since") long since,
+                        @Param("until") long until);
+
         /**
          * 사용자의 모든 수입 삭제 (회원 탈퇴용)
          */
@@ -158,8 +154,10 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
 
         /**
          * 특정 장부들의 모든 수입 삭제 (회원 탈퇴용)
+         * 영향 테이블을 지정하여 2차 캐시 전체가 무효화되지 않도록 합니다.
          */
         @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "incomes"))
         @Query(value = "DELETE FROM incomes WHERE account_book_id IN (:accountBookIds)", nativeQuery = true)
         void deleteByAccountBookIdIn(@Param("accountBookIds") List<UUID> accountBookIds);
 }
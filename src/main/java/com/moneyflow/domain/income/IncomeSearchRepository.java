@@ -0,0 +1,24 @@
+package com.moneyflow.domain.income;
+
+import com.moneyflow.dto.projection.AmountSummary;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 수입 동적 검색 리포지토리 (Criteria API 기반 커스텀 프래그먼트)
+ *
+ * IncomeRepository가 이 인터페이스를 상속하며, 구현은 IncomeSearchRepositoryImpl입니다.
+ */
+public interface IncomeSearchRepository {
+
+    /**
+     * 조건에 맞는 수입을 (date DESC, created_at DESC, income_id DESC) 순으로 최대 limit건 조회
+     */
+    List<Income> search(Specification<Income> spec, int limit);
+
+    /**
+     * 조건에 맞는 수입의 합계/건수 집계
+     */
+    AmountSummary summarize(Specification<Income> spec);
+}
@@ -0,0 +1,76 @@
+package com.moneyflow.domain.income;
+
+import com.moneyflow.dto.projection.AmountSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 수입 동적 검색 리포지토리 구현
+ *
+ * Specification이 만든 조건만 WHERE 절에 포함한 Criteria 쿼리를 실행합니다.
+ */
+class IncomeSearchRepositoryImpl implements IncomeSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Income> search(Specification<Income> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Income> query = cb.createQuery(Income.class);
+        Root<Income> root = query.from(Income.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(
+                cb.desc(root.get("date")),
+                cb.desc(root.get("createdAt")),
+                cb.desc(root.get("incomeId")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public AmountSummary summarize(Specification<Income> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Income> root = query.from(Income.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(
+                cb.coalesce(cb.sum(root.<BigDecimal>get("amount")), BigDecimal.ZERO),
+                cb.count(root));
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new Summary(result.get(0, BigDecimal.class), result.get(1, Long.class));
+    }
+
+    private record Summary(BigDecimal totalAmount, Long count) implements AmountSummary {
+
+        @Override
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
+}
@@ -4,17 +4,20 @@ import com.moneyflow.domain.accountbook.AccountBook;
 import com.moneyflow.domain.accountbook.AccountBookRepository;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserRepository;
+import com.moneyflow.dto.projection.AmountSummary;
 import com.moneyflow.dto.request.IncomeRequest;
+import com.moneyflow.dto.request.IncomeSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
 import com.moneyflow.dto.response.IncomeListResponse;
 import com.moneyflow.dto.response.IncomeResponse;
 import com.moneyflow.exception.ResourceNotFoundException;
 import com.moneyflow.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +33,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class IncomeService {
 
+        /**
+         * 목록 조회 페이지 크기 상한
+         */
+        public static final int MAX_PAGE_SIZE = 200;
+
         private final IncomeRepository incomeRepository;
         private final UserRepository userRepository;
         private final AccountBookRepository accountBookRepository;
@@ -43,8 +51,8 @@ public class IncomeService {
          */
         @Transactional
         public IncomeResponse createIncome(UUID userId, IncomeRequest request) {
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+                // 인증된 사용자의 FK 참조만 필요하므로 프록시 사용 (SELECT 없음)
+                User user = userRepository.getReferenceById(userId);
 
                 AccountBook accountBook = null;
                 if (request.getAccountBookId() != null) {
@@ -76,31 +84,44 @@ public class IncomeService {
         }
 
         /**
-         * 수입 목록 조회
+         * 수입 목록 조회 (커서 기반 페이지네이션)
+         *
+         * 페이지당 최대 MAX_PAGE_SIZE건만 로드하며, 합계/건수는 별도 집계 쿼리로 계산합니다.
+         * 검색 조건은 값이 주어진 항목만 WHERE 절에 포함됩니다 (IncomeSpecifications).
          *
-         * @param userId    사용자 ID
-         * @param startDate 시작 날짜
-         * @param endDate   종료 날짜
-         * @param source    수입 출처 (null이면 전체 조회)
+         * @param condition   검색 조건 (사용자, 기간, 출처, 금액 범위)
+         * @param cursorToken 이전 페이지의 nextCursor (null이면 첫 페이지)
+         * @param size        페이지 크기
          * @return 수입 목록 응답
          */
         @Transactional(readOnly = true)
-        public IncomeListResponse getIncomes(UUID userId, LocalDate startDate, LocalDate endDate, String source) {
-                List<Income> incomes = incomeRepository.findIncomesByUserAndDateRange(
-                                userId, startDate, endDate, source);
-
-                List<IncomeResponse> incomeResponses = incomes.stream()
-                                .map(this::toResponse)
-                                .collect(Collectors.toList());
+        public IncomeListResponse getIncomes(IncomeSearchCondition condition, String cursorToken, int size) {
+                KeysetCursor cursor = KeysetCursor.decode(cursorToken);
+                int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+                Specification<Income> filter = IncomeSpecifications.matches(condition);
+
+                // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+                List<Income> incomes = incomeRepository.search(
+                                filter.and(IncomeSpecifications.after(cursor)), pageSize + 1);
+
+                boolean hasNext = incomes.size() > pageSize;
+                List<Income> page = hasNext ? incomes.subList(0, pageSize) : incomes;
+
+                String nextCursor = null;
+                if (hasNext) {
+                        Income last = page.get(page.size() - 1);
+                        nextCursor = new KeysetCursor(last.getDate(), last.getCreatedAt(), last.getIncomeId())
+                                        .encode();
+                }
 
-                BigDecimal totalAmount = incomes.stream()
-                                .map(Income::getAmount)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                AmountSummary summary = incomeRepository.summarize(filter);
 
                 return IncomeListResponse.builder()
-                                .incomes(incomeResponses)
-                                .totalAmount(totalAmount)
-                                .count(incomes.size())
+                                .incomes(page.stream().map(this::toResponse).collect(Collectors.toList()))
+                                .totalAmount(summary.getTotalAmount())
+                                .count(summary.getCount().intValue())
+                                .nextCursor(nextCursor)
+                                .hasNext(hasNext)
                                 .build();
         }
 
@@ -187,12 +208,12 @@ public class IncomeService {
         }
 
         /**
-         * Entity를 Response DTO로 변환
+         * Entity를 Response DTO로 변환 (동기화 응답에서도 사용)
          *
          * @param income 수입 엔티티
          * @return 수입 응답 DTO
          */
-        private IncomeResponse toResponse(Income income) {
+        public IncomeResponse toResponse(Income income) {
                 return IncomeResponse.builder()
                                 .incomeId(income.getIncomeId())
                                 .userId(income.getUser().getUserId())
@@ -208,6 +229,7 @@ public class IncomeService {
                                 .description(income.getDescription())
                                 .createdAt(income.getCreatedAt())
                                 .updatedAt(income.getUpdatedAt())
+                                .changeSeq(income.getChangeSeq())
                                 .build();
         }
 }
@@ -0,0 +1,108 @@
+package com.moneyflow.domain.income;
+
+import com.moneyflow.dto.request.IncomeSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 수입 동적 검색 조건 (JPA Specification)
+ *
+ * 값이 주어진 조건만 WHERE 절에 추가합니다 (ExpenseSpecifications와 동일한 방식).
+ */
+public final class IncomeSpecifications {
+
+    private IncomeSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 하나의 Specification으로 조합
+     */
+    public static Specification<Income> matches(IncomeSearchCondition condition) {
+        return Specification.where(userIdEquals(condition.getUserId()))
+                .and(dateFrom(condition.getStartDate()))
+                .and(dateTo(condition.getEndDate()))
+                .and(sourceIn(condition.getSources()))
+                .and(amountAtLeast(condition.getMinAmount()))
+                .and(amountAtMost(condition.getMaxAmount()));
+    }
+
+    /**
+     * 커서 이후 행만 조회 (date DESC, created_at DESC, income_id DESC 기준)
+     */
+    public static Specification<Income> after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDate> date = root.get("date");
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("incomeId");
+            return cb.and(
+                    cb.lessThanOrEqualTo(date, cursor.date()),
+                    cb.or(
+                            cb.lessThan(date, cursor.date()),
+                            cb.and(
+                                    cb.equal(date, cursor.date()),
+                                    cb.or(
+                                            cb.lessThan(createdAt, cursor.createdAt()),
+                                            cb.and(
+                                                    cb.equal(createdAt, cursor.createdAt()),
+                                                    cb.lessThan(id, cursor.id()))))));
+        };
+    }
+
+    public static Specification<Income> userIdEquals(UUID userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+
+    public static Specification<Income> dateFrom(LocalDate startDate) {
+        if (startDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Income> dateTo(LocalDate endDate) {
+        if (endDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    /**
+     * 수입 출처 필터 (1개면 =, 여러 개면 IN)
+     */
+    public static Specification<Income> sourceIn(List<String> sources) {
+        if (sources == null || sources.isEmpty()) {
+            return null;
+        }
+        if (sources.size() == 1) {
+            return (root, query, cb) -> cb.equal(root.get("source"), sources.get(0));
+        }
+        return (root, query, cb) -> root.get("source").in(sources);
+    }
+
+    public static Specification<Income> amountAtLeast(BigDecimal minAmount) {
+        if (minAmount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), minAmount);
+    }
+
+    public static Specification<Income> amountAtMost(BigDecimal maxAmount) {
+        if (maxAmount == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), maxAmount);
+    }
+}
@@ -0,0 +1,42 @@
+package com.moneyflow.domain.live;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 실시간 이벤트 본문 (SSE data, JSON)
+ *
+ * 변경 내용 전체가 아니라 무엇이 바뀌었는지만 알립니다. 클라이언트는 changeSeq로 /api/sync를 조회하거나
+ * 장부 조회 API를 If-None-Match로 다시 요청합니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveEvent {
+
+    private LiveEventType type;
+
+    private UUID accountBookId;
+
+    /** 대상 ID (지출/수입/알림/예산) */
+    private UUID id;
+
+    /** 지출/수입 변경 순번 (이미 동기화한 순번이면 무시해도 됨) */
+    private Long changeSeq;
+
+    /** 알림 제목 */
+    private String title;
+
+    /** 넘은 예산 사용률 기준 (BUDGET_THRESHOLD, 80 또는 100) */
+    private Integer threshold;
+
+    /** 읽지 않은 알림 수 (알림 이벤트) */
+    private Long unreadCount;
+}
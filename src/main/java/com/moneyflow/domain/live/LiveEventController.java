@@ -0,0 +1,48 @@
+package com.moneyflow.domain.live;
+
+import com.moneyflow.config.LiveEventConfig;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+@Tag(name = "Live", description = "실시간 이벤트 API")
+public class LiveEventController {
+
+    private final LiveEventHub liveEventHub;
+    private final LiveEventConfig config;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "실시간 이벤트 스트림 (SSE)", description = "내 장부의 지출/수입 변경, 새 알림(읽지 않은 수 포함), 예산 기준 초과를 " +
+            "이벤트로 보냅니다. 끊기면 Last-Event-ID 헤더로 다시 연결하면 놓친 이벤트부터 이어받고, " +
+            "이어받을 수 없으면 RESYNC 이벤트를 받습니다. unread-count 폴링 대신 사용합니다.")
+    public SseEmitter events(
+            @Parameter(description = "마지막으로 받은 이벤트 ID") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        // nginx 등 프록시가 이벤트를 모아 보내지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        SseEmitter emitter = new SseEmitter(config.getTimeout().toMillis());
+        liveEventHub.connect(userId, lastEventId, emitter);
+        return emitter;
+    }
+}
@@ -0,0 +1,385 @@
+package com.moneyflow.domain.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.config.LiveEventConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 실시간 이벤트 스트림 (SSE) 연결 관리와 전송
+ *
+ * - 사용자 채널: 최근 이벤트를 replay-size개까지 보관하여 재연결 시 Last-Event-ID 이후를 다시 보냄
+ *   (보관 범위를 벗어났거나 서버가 재시작되어 이어받을 수 없으면 RESYNC)
+ * - 연결: connection-buffer 크기의 대기열을 가지며, 넘치면 연결을 닫아 느린 클라이언트가 메모리를 쌓지 않도록 함
+ * - 전송: 발행 스레드는 대기열에 넣기만 하고, 전용 스레드(live-sender-)가 연결별로 순서대로 씀
+ *   요청 스레드는 SseEmitter를 반환하면 바로 풀려나므로 연결 수만큼 서블릿 스레드를 잡고 있지 않음
+ * - 하트비트: 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 행 전송
+ *
+ * 연결과 보관 이벤트는 이 인스턴스 메모리에만 있으므로, 다른 인스턴스로 재연결하면 RESYNC를 받습니다.
+ * 어느 인스턴스에서 발행한 이벤트든 LiveEventRelay가 모든 인스턴스의 publish로 전달합니다.
+ *
+ * 이벤트 ID는 "채널 키:순번" 형식이며 채널 키는 서버 기동 시각과 채널 생성 번호로 만듭니다.
+ *
+ * 메트릭:
+ * - moneyflow.live.connections: 열린 연결 수
+ * - moneyflow.live.overflows: 대기열이 넘쳐 닫은 연결 수
+ */
+@Slf4j
+@Component
+public class LiveEventHub {
+
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final LiveEventConfig config;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senders;
+    private final ConcurrentMap<UUID, UserChannel> channels = new ConcurrentHashMap<>();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong channelCounter = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter overflows;
+
+    public LiveEventHub(LiveEventConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.senders = new ThreadPoolExecutor(
+                config.getSenders(), config.getSenders(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                new CustomizableThreadFactory("live-sender-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("moneyflow.live.connections", connectionCount, AtomicInteger::get)
+                .description("열린 실시간 이벤트 연결 수")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("moneyflow.live.overflows")
+                .description("대기열이 넘쳐 닫은 실시간 이벤트 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 등록
+     * Last-Event-ID 이후 이벤트를 먼저 보내고(이어받을 수 없으면 RESYNC), 이후 발행되는 이벤트를 이어서 보냅니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (처음 연결이면 null)
+     */
+    public void connect(UUID userId, String lastEventId, SseEmitter emitter) {
+        while (true) {
+            UserChannel channel = channels.computeIfAbsent(userId, this::newChannel);
+            synchronized (channel) {
+                if (channel.removed) {
+                    // 정리와 경합: 새 채널로 다시 시도
+                    continue;
+                }
+                Connection connection = new Connection(channel, emitter);
+                emitter.onCompletion(connection::detach);
+                emitter.onTimeout(connection::detach);
+                emitter.onError(error -> connection.detach());
+
+                if (channel.connections.size() >= config.getMaxConnectionsPerUser()) {
+                    channel.connections.get(0).close();
+                }
+                channel.connections.add(connection);
+                connectionCount.incrementAndGet();
+                for (Outgoing outgoing : channel.resume(lastEventId)) {
+                    connection.offer(outgoing);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 연결된 사용자에게 이벤트 발행 (연결이 없는 사용자는 건너뜀)
+     * JSON은 한 번만 만들고 사용자별 대기열에 넣기만 하므로 호출 스레드를 오래 잡지 않습니다.
+     */
+    public void publish(Collection<UUID> userIds, LiveEvent event) {
+        String data = null;
+        for (UUID userId : userIds) {
+            UserChannel channel = channels.get(userId);
+            if (channel == null) {
+                continue;
+            }
+            if (data == null) {
+                data = serialize(event);
+            }
+            channel.append(event.getType().name(), data);
+        }
+    }
+
+    public void publish(UUID userId, LiveEvent event) {
+        publish(List.of(userId), event);
+    }
+
+    /**
+     * 채널이 있는 모든 사용자에게 발행 (중계가 끊겨 놓친 이벤트가 있을 수 있을 때 RESYNC)
+     */
+    public void publishToAll(LiveEvent event) {
+        publish(List.copyOf(channels.keySet()), event);
+    }
+
+    /**
+     * 전송 스레드에서 작업 실행 (수신자 조회 등, 요청 스레드를 잡지 않도록)
+     *
+     * @return 대기열이 가득 차 실행하지 못했으면 false
+     */
+    public boolean execute(Runnable task) {
+        try {
+            senders.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("[Live] Sender queue is full, dropping task");
+            return false;
+        }
+    }
+
+    /**
+     * 하트비트 전송 + 재연결 보관 기간이 지난 채널 정리
+     */
+    @Scheduled(fixedDelayString = "${live.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        long retention = config.getReplayRetention().toNanos();
+        Outgoing heartbeat = Outgoing.comment(HEARTBEAT_COMMENT);
+        for (UserChannel channel : channels.values()) {
+            synchronized (channel) {
+                if (channel.connections.isEmpty()) {
+                    if (now - channel.idleSince > retention) {
+                        channel.removed = true;
+                        channels.remove(channel.userId, channel);
+                    }
+                    continue;
+                }
+                for (Connection connection : List.copyOf(channel.connections)) {
+                    connection.offer(heartbeat);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (UserChannel channel : channels.values()) {
+            synchronized (channel) {
+                for (Connection connection : List.copyOf(channel.connections)) {
+                    connection.close();
+                }
+            }
+        }
+        senders.shutdownNow();
+    }
+
+    private UserChannel newChannel(UUID userId) {
+        return new UserChannel(userId, epoch + "." + Long.toString(channelCounter.incrementAndGet(), 36));
+    }
+
+    private String serialize(LiveEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 이벤트를 직렬화하지 못했습니다: " + event.getType(), e);
+        }
+    }
+
+    /**
+     * 사용자 채널: 최근 이벤트 보관 + 열린 연결 (모든 접근은 채널 객체로 동기화)
+     */
+    private final class UserChannel {
+        private final UUID userId;
+        private final String key;
+        private final ArrayDeque<Outgoing> replay = new ArrayDeque<>();
+        private final List<Connection> connections = new ArrayList<>();
+        private long lastSeq;
+        /** 이 순번 이하는 보관하지 않음 (이어받기 가능한 최소 Last-Event-ID 순번) */
+        private long floor;
+        private long idleSince = System.nanoTime();
+        private boolean removed;
+
+        private UserChannel(UUID userId, String key) {
+            this.userId = userId;
+            this.key = key;
+        }
+
+        private synchronized void append(String name, String data) {
+            if (removed) {
+                return;
+            }
+            Outgoing outgoing = Outgoing.event(id(++lastSeq), name, data, lastSeq);
+            replay.addLast(outgoing);
+            while (replay.size() > config.getReplaySize()) {
+                floor = replay.removeFirst().seq();
+            }
+            for (Connection connection : List.copyOf(connections)) {
+                connection.offer(outgoing);
+            }
+        }
+
+        /**
+         * 연결 직후 보낼 이벤트: Last-Event-ID 이후 보관 이벤트, 이어받을 수 없으면 RESYNC, 처음이면 READY
+         */
+        private List<Outgoing> resume(String lastEventId) {
+            String current = id(lastSeq);
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return List.of(control(current, LiveEventType.READY));
+            }
+            long seq = parseSeq(lastEventId);
+            long missed = lastSeq - seq;
+            if (seq < floor || missed < 0 || missed > config.getConnectionBuffer()) {
+                return List.of(control(current, LiveEventType.RESYNC));
+            }
+            List<Outgoing> backlog = new ArrayList<>();
+            for (Outgoing outgoing : replay) {
+                if (outgoing.seq() > seq) {
+                    backlog.add(outgoing);
+                }
+            }
+            return backlog;
+        }
+
+        /**
+         * 이 채널에서 발급한 ID면 순번, 아니면 -1 (다른 인스턴스/재시작 전/정리된 채널)
+         */
+        private long parseSeq(String eventId) {
+            int separator = eventId.lastIndexOf(':');
+            if (separator < 0 || !eventId.substring(0, separator).equals(key)) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(eventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private String id(long seq) {
+            return key + ":" + seq;
+        }
+
+        private Outgoing control(String id, LiveEventType type) {
+            return Outgoing.event(id, type.name(), serialize(LiveEvent.builder().type(type).build()), lastSeq);
+        }
+    }
+
+    /**
+     * 연결 하나: 대기열에 쌓인 이벤트를 전송 스레드가 순서대로 씀 (동시에 한 스레드만 전송)
+     */
+    private final class Connection {
+        private final UserChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean detached = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(UserChannel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(config.getConnectionBuffer());
+        }
+
+        private void offer(Outgoing outgoing) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(outgoing)) {
+                // 클라이언트가 따라오지 못함: 연결을 닫고 Last-Event-ID 재연결(또는 RESYNC)에 맡김
+                overflows.increment();
+                log.debug("[Live] Connection buffer overflow for user {}, closing", channel.userId);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true) && !execute(this::drain)) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while (!closed && (outgoing = queue.poll()) != null) {
+                    emitter.send(outgoing.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊김: 컨테이너가 오류/완료 콜백으로 정리
+                closed = true;
+                detach();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            detach();
+            emitter.complete();
+        }
+
+        private void detach() {
+            closed = true;
+            if (!detached.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            connectionCount.decrementAndGet();
+            synchronized (channel) {
+                channel.connections.remove(this);
+                if (channel.connections.isEmpty()) {
+                    channel.idleSince = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송 단위 (이벤트 또는 하트비트 주석)
+     */
+    private record Outgoing(String id, String name, String data, long seq, String comment) {
+
+        static Outgoing event(String id, String name, String data, long seq) {
+            return new Outgoing(id, name, data, seq, null);
+        }
+
+        static Outgoing comment(String comment) {
+            return new Outgoing(null, null, null, -1, comment);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
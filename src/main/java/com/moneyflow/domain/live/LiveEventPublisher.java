@@ -0,0 +1,179 @@
+package com.moneyflow.domain.live;
+
+import com.moneyflow.config.LiveEventConfig;
+import com.moneyflow.domain.sync.SyncEntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 쓰기 트랜잭션이 커밋된 뒤 실시간 이벤트 발행
+ *
+ * 엔티티 리스너(SyncChangeListener, NotificationLiveListener)가 트랜잭션 동안 이벤트를 모아 두고,
+ * 커밋되면 전송 스레드에서 수신자(장부 멤버)를 조회해 LiveEventRelay로 모든 인스턴스에 보냅니다.
+ * 롤백되면 아무것도 보내지 않습니다.
+ *
+ * - 수신자가 다른 인스턴스에 연결되어 있을 수 있으므로 이 인스턴스의 연결 여부와 무관하게 보냄
+ * - 한 트랜잭션에서 한 장부의 변경이 coalesce-threshold를 넘으면 BOOK_CHANGED 하나로 묶음
+ * - 알림 이벤트에는 커밋 후의 읽지 않은 알림 수를 담아 unread-count 폴링이 필요 없도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveEventPublisher {
+
+    private static final String BOOK_MEMBERS_SQL = "SELECT user_id FROM account_book_members WHERE account_book_id = ?";
+
+    private static final String UNREAD_COUNT_SQL =
+            "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = false";
+
+    private final LiveEventHub liveEventHub;
+    private final LiveEventRelay liveEventRelay;
+    private final LiveEventConfig config;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지출/수입 변경 (장부 멤버 전체에게)
+     */
+    public void entityChanged(LiveEventType type, UUID accountBookId, UUID entityId, Long changeSeq) {
+        if (accountBookId == null) {
+            return;
+        }
+        publishToBook(accountBookId, LiveEvent.builder()
+                .type(type)
+                .accountBookId(accountBookId)
+                .id(entityId)
+                .changeSeq(changeSeq)
+                .build());
+    }
+
+    public void entityCreated(SyncEntityType entityType, UUID accountBookId, UUID entityId, Long changeSeq) {
+        entityChanged(LiveEventType.created(entityType), accountBookId, entityId, changeSeq);
+    }
+
+    public void entityUpdated(SyncEntityType entityType, UUID accountBookId, UUID entityId, Long changeSeq) {
+        entityChanged(LiveEventType.updated(entityType), accountBookId, entityId, changeSeq);
+    }
+
+    public void entityDeleted(SyncEntityType entityType, UUID accountBookId, UUID entityId) {
+        entityChanged(LiveEventType.deleted(entityType), accountBookId, entityId, null);
+    }
+
+    /**
+     * 장부 멤버 전체에게 (예산 기준 초과 등)
+     */
+    public void publishToBook(UUID accountBookId, LiveEvent event) {
+        enqueue(pending -> pending.bookEvents.computeIfAbsent(accountBookId, id -> new ArrayList<>()).add(event));
+    }
+
+    /**
+     * 한 사용자에게 (알림)
+     */
+    public void publishToUser(UUID userId, LiveEvent event) {
+        enqueue(pending -> pending.userEvents.computeIfAbsent(userId, id -> new ArrayList<>()).add(event));
+    }
+
+    /**
+     * 현재 트랜잭션에 모아 커밋 후 발행 (트랜잭션 밖이면 바로 발행)
+     */
+    private void enqueue(Consumer<Pending> add) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Pending immediate = new Pending();
+            add.accept(immediate);
+            liveEventHub.execute(() -> deliver(immediate));
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    liveEventHub.execute(() -> deliver(created));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(LiveEventPublisher.this);
+                }
+            });
+            pending = created;
+        }
+        add.accept(pending);
+    }
+
+    /**
+     * 전송 스레드에서 실행: 수신자 조회 후 모든 인스턴스로 발행
+     */
+    private void deliver(Pending pending) {
+        try {
+            List<LiveEventRelay.Message> messages = new ArrayList<>();
+            pending.bookEvents.forEach((accountBookId, events) -> addBookMessages(messages, accountBookId, events));
+            pending.userEvents.forEach((userId, events) -> addUserMessages(messages, userId, events));
+            liveEventRelay.send(messages);
+        } catch (RuntimeException e) {
+            log.warn("[Live] Failed to deliver events: {}", e.getMessage());
+        }
+    }
+
+    private void addBookMessages(List<LiveEventRelay.Message> messages, UUID accountBookId, List<LiveEvent> events) {
+        List<UUID> members = jdbcTemplate.queryForList(BOOK_MEMBERS_SQL, UUID.class, accountBookId);
+        if (members.isEmpty()) {
+            return;
+        }
+        for (LiveEvent event : coalesce(accountBookId, events)) {
+            messages.add(new LiveEventRelay.Message(members, event));
+        }
+    }
+
+    private List<LiveEvent> coalesce(UUID accountBookId, List<LiveEvent> events) {
+        long entityChanges = events.stream().filter(event -> event.getType().isEntityChange()).count();
+        if (entityChanges <= config.getCoalesceThreshold()) {
+            return events;
+        }
+        Long maxSeq = events.stream()
+                .map(LiveEvent::getChangeSeq)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+        List<LiveEvent> coalesced = new ArrayList<>();
+        coalesced.add(LiveEvent.builder()
+                .type(LiveEventType.BOOK_CHANGED)
+                .accountBookId(accountBookId)
+                .changeSeq(maxSeq)
+                .build());
+        events.stream().filter(event -> !event.getType().isEntityChange()).forEach(coalesced::add);
+        return coalesced;
+    }
+
+    private void addUserMessages(List<LiveEventRelay.Message> messages, UUID userId, List<LiveEvent> events) {
+        Long unreadCount = null;
+        for (LiveEvent event : events) {
+            LiveEvent outgoing = event;
+            if (event.getType() == LiveEventType.NOTIFICATION_CREATED || event.getType() == LiveEventType.NOTIFICATION_READ) {
+                if (unreadCount == null) {
+                    unreadCount = jdbcTemplate.queryForObject(UNREAD_COUNT_SQL, Long.class, userId);
+                }
+                outgoing = event.toBuilder().unreadCount(unreadCount).build();
+            }
+            messages.add(new LiveEventRelay.Message(List.of(userId), outgoing));
+        }
+    }
+
+    private static final class Pending {
+        private final Map<UUID, List<LiveEvent>> bookEvents = new LinkedHashMap<>();
+        private final Map<UUID, List<LiveEvent>> userEvents = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,206 @@
+package com.moneyflow.domain.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.config.LiveEventConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 실시간 이벤트 중계 (PostgreSQL LISTEN/NOTIFY)
+ *
+ * SSE 연결은 연결을 받은 인스턴스 메모리(LiveEventHub)에만 있으므로, 발행하는 인스턴스는 커밋 후
+ * 수신자와 이벤트를 live_events 채널로 NOTIFY하고, 모든 인스턴스는 전용 연결로 LISTEN하다가
+ * 자기에게 연결된 사용자에게만 전달합니다. 발행한 인스턴스도 같은 경로로 받습니다.
+ *
+ * - 수신자는 발행 측에서 한 번만 조회해 알림에 담으므로 받는 쪽은 DB를 조회하지 않음
+ * - 한 번에 보낸 알림은 한 트랜잭션으로 커밋되어 보낸 순서대로 도착
+ * - LISTEN은 세션 단위라 풀 밖의 전용 연결(live.events.listen-url)을 사용
+ * - 연결이 끊긴 동안의 알림은 받을 수 없으므로, 다시 LISTEN하면 연결된 사용자 모두에게 RESYNC
+ */
+@Slf4j
+@Component
+public class LiveEventRelay {
+
+    static final String CHANNEL = "live_events";
+
+    /** PostgreSQL NOTIFY 페이로드 상한 (8000바이트 미만) */
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String NOTIFY_SQL =
+            "SELECT pg_notify('" + CHANNEL + "', payload) FROM unnest(?::text[]) AS payload";
+
+    /** 알림 대기 시간, 알림이 없으면 이 주기로 연결이 살아 있는지 확인 */
+    private static final int POLL_TIMEOUT_MS = 10_000;
+
+    private final LiveEventHub liveEventHub;
+    private final LiveEventConfig config;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final String listenUrl;
+    private final Properties connectionProperties = new Properties();
+
+    private volatile boolean running = true;
+    private volatile boolean listening;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    public LiveEventRelay(LiveEventHub liveEventHub, LiveEventConfig config, ObjectMapper objectMapper,
+                          JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.liveEventHub = liveEventHub;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenUrl = StringUtils.hasText(config.getListenUrl())
+                ? config.getListenUrl()
+                : dataSourceProperties.determineUrl();
+        connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            connectionProperties.setProperty("password", password);
+        }
+        connectionProperties.setProperty("ApplicationName", "moneyflow-live-relay");
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+    }
+
+    @PostConstruct
+    void start() {
+        listener = new Thread(this::listen, "live-relay");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("[Live] Failed to close relay connection: {}", e.getMessage());
+            }
+        }
+        listener.interrupt();
+    }
+
+    /**
+     * 모든 인스턴스로 전송 (트랜잭션 밖에서 호출, 비어 있으면 아무것도 하지 않음)
+     */
+    public void send(List<Message> messages) {
+        List<String> payloads = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            String payload = serialize(message);
+            if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+                log.warn("[Live] Event too large to relay, dropping: type={}, recipients={}",
+                        message.event().getType(), message.userIds().size());
+                continue;
+            }
+            payloads.add(payload);
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL);
+            statement.setArray(1, connection.createArrayOf("text", payloads.toArray()));
+            return statement;
+        }, rs -> {
+        });
+    }
+
+    /**
+     * 전용 스레드에서 실행: LISTEN 연결을 유지하며 받은 이벤트를 이 인스턴스의 연결로 전달
+     */
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(listenUrl, connectionProperties)) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // LISTEN 전(기동 중이거나 연결이 끊긴 동안)에 발행된 이벤트는 받지 못했으므로 다시 동기화
+                liveEventHub.publishToAll(LiveEvent.builder().type(LiveEventType.RESYNC).build());
+                listening = true;
+                log.info("[Live] Listening for relayed events");
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null || notifications.length == 0) {
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        receive(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[Live] Relay connection lost, reconnecting in {}: {}",
+                        config.getRelayReconnectDelay(), e.getMessage());
+            } finally {
+                listening = false;
+                listenConnection = null;
+            }
+            try {
+                Thread.sleep(config.getRelayReconnectDelay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * LISTEN 중인지 (연결이 끊겨 다시 연결하는 중이면 false)
+     */
+    boolean isListening() {
+        return listening;
+    }
+
+    private void receive(String payload) {
+        try {
+            Message message = objectMapper.readValue(payload, Message.class);
+            liveEventHub.publish(message.userIds(), message.event());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[Live] Failed to handle relayed event: {}", e.getMessage());
+        }
+    }
+
+    private String serialize(Message message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 이벤트를 직렬화하지 못했습니다: " + message.event().getType(), e);
+        }
+    }
+
+    /**
+     * 중계 단위: 받을 사용자와 이벤트 (각 인스턴스는 자기에게 연결된 사용자에게만 전달)
+     */
+    public record Message(List<UUID> userIds, LiveEvent event) {
+    }
+}
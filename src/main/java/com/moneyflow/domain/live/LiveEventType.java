@@ -0,0 +1,48 @@
+package com.moneyflow.domain.live;
+
+import com.moneyflow.domain.sync.SyncEntityType;
+
+/**
+ * 실시간 이벤트 종류 (SSE event 이름)
+ */
+public enum LiveEventType {
+
+    /** 연결 직후 현재 위치(id) 안내, 이 id부터 이어받을 수 있음 */
+    READY,
+    /** 놓친 이벤트를 다시 보낼 수 없음: 화면 데이터를 새로 조회해야 함 (/api/sync 등) */
+    RESYNC,
+
+    EXPENSE_CREATED,
+    EXPENSE_UPDATED,
+    EXPENSE_DELETED,
+    INCOME_CREATED,
+    INCOME_UPDATED,
+    INCOME_DELETED,
+    /** 한 트랜잭션의 변경이 많아 묶어 보냄 (가져오기, 일괄 이동): changeSeq 이후를 /api/sync로 조회 */
+    BOOK_CHANGED,
+
+    NOTIFICATION_CREATED,
+    NOTIFICATION_READ,
+
+    /** 예산 사용률이 기준(80%, 100%)을 넘음 */
+    BUDGET_THRESHOLD;
+
+    /**
+     * 지출/수입 단건 변경 (BOOK_CHANGED로 묶을 수 있는 이벤트)
+     */
+    public boolean isEntityChange() {
+        return this.ordinal() >= EXPENSE_CREATED.ordinal() && this.ordinal() <= INCOME_DELETED.ordinal();
+    }
+
+    public static LiveEventType created(SyncEntityType entityType) {
+        return entityType == SyncEntityType.EXPENSE ? EXPENSE_CREATED : INCOME_CREATED;
+    }
+
+    public static LiveEventType updated(SyncEntityType entityType) {
+        return entityType == SyncEntityType.EXPENSE ? EXPENSE_UPDATED : INCOME_UPDATED;
+    }
+
+    public static LiveEventType deleted(SyncEntityType entityType) {
+        return entityType == SyncEntityType.EXPENSE ? EXPENSE_DELETED : INCOME_DELETED;
+    }
+}
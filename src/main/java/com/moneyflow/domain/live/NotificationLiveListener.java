@@ -0,0 +1,42 @@
+package com.moneyflow.domain.live;
+
+import com.moneyflow.domain.notification.Notification;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 알림 저장/읽음 처리 시 수신자에게 실시간 이벤트를 보내는 엔티티 리스너 (커밋 후 전송)
+ *
+ * 알림을 만드는 곳(NotificationService, 탈퇴 시 커플 알림 등)마다 호출하지 않아도 모두 적용됩니다.
+ */
+public class NotificationLiveListener {
+
+    @Autowired
+    private ObjectProvider<LiveEventPublisher> liveEventPublisher;
+
+    @PostPersist
+    void afterCreate(Notification notification) {
+        publish(notification, LiveEventType.NOTIFICATION_CREATED);
+    }
+
+    @PostUpdate
+    void afterUpdate(Notification notification) {
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            publish(notification, LiveEventType.NOTIFICATION_READ);
+        }
+    }
+
+    private void publish(Notification notification, LiveEventType type) {
+        LiveEventPublisher publisher = liveEventPublisher != null ? liveEventPublisher.getIfAvailable() : null;
+        if (publisher == null || notification.getUser() == null) {
+            return;
+        }
+        publisher.publishToUser(notification.getUser().getUserId(), LiveEvent.builder()
+                .type(type)
+                .id(notification.getNotificationId())
+                .title(type == LiveEventType.NOTIFICATION_CREATED ? notification.getTitle() : null)
+                .build());
+    }
+}
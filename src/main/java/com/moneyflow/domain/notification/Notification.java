@@ -1,5 +1,7 @@
 package com.moneyflow.domain.notification;
 
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import com.moneyflow.domain.live.NotificationLiveListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -13,6 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "notifications")
+@EntityListeners(NotificationLiveListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +24,7 @@ import java.util.UUID;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "notification_id")
     private UUID notificationId;
 
@@ -65,7 +65,7 @@ public class NotificationController {
     }
 
     @GetMapping("/unread-count")
-    @Operation(summary = "읽지 않은 알림 개수 조회")
+    @Operation(summary = "읽지 않은 알림 개수 조회", description = "실시간 이벤트(GET /api/live/events)의 알림 이벤트에 같은 값이 담기므로 화면 진입 시 한 번만 조회합니다.")
     public ResponseEntity<Map<String, Long>> getUnreadCount(
             @AuthenticationPrincipal UserDetails userDetails) {
 
@@ -1,6 +1,7 @@
 package com.moneyflow.domain.notification;
 
 import com.moneyflow.config.OneSignalConfig;
+import com.moneyflow.domain.common.BusinessMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -20,6 +21,7 @@ import java.util.Map;
 public class OneSignalService {
 
     private final OneSignalConfig oneSignalConfig;
+    private final BusinessMetrics businessMetrics;
     private final RestTemplate restTemplate = new RestTemplate();
     private static final String ONESIGNAL_API_URL = "https://onesignal.com/api/v1/notifications";
 
@@ -63,9 +65,10 @@ public class OneSignalService {
             // body.put("android_channel_id", "...");
 
             log.info("Sending OneSignal notification to users: {}", targetExternalUserIds);
-            sendRequest(body);
+            sendRequest(body, "users");
         } catch (Exception e) {
             log.error("Failed to send OneSignal notification", e);
+            businessMetrics.recordNotificationDispatch("users", "failed");
         }
     }
 
@@ -87,15 +90,17 @@ public class OneSignalService {
             body.put("data", data);
 
             log.info("Sending OneSignal notification to ALL users");
-            sendRequest(body);
+            sendRequest(body, "all");
         } catch (Exception e) {
             log.error("Failed to send OneSignal notification to all", e);
+            businessMetrics.recordNotificationDispatch("all", "failed");
         }
     }
 
-    private void sendRequest(Map<String, Object> body) {
+    private void sendRequest(Map<String, Object> body, String target) {
         if (oneSignalConfig.getApiKey() == null || oneSignalConfig.getApiKey().isBlank()) {
             log.warn("OneSignal API Key is missing. Skipping notification dispatch.");
+            businessMetrics.recordNotificationDispatch(target, "skipped");
             return;
         }
 
@@ -109,8 +114,10 @@ public class OneSignalService {
         try {
             String response = restTemplate.postForObject(ONESIGNAL_API_URL, entity, String.class);
             log.info("OneSignal Response: {}", response);
+            businessMetrics.recordNotificationDispatch(target, "sent");
         } catch (Exception e) {
             log.error("Error communicating with OneSignal API", e);
+            businessMetrics.recordNotificationDispatch(target, "failed");
         }
     }
 }
@@ -0,0 +1,135 @@
+package com.moneyflow.domain.receipt;
+
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import com.moneyflow.dto.response.OcrResponse;
+import com.moneyflow.service.FileStorageService;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * OCR 작업 엔티티
+ *
+ * 작업을 받은 인스턴스가 처리하면서 상태/결과를 기록하고 (OcrJobService),
+ * 상태 조회는 어느 인스턴스에서든 이 테이블을 읽습니다.
+ */
+@Entity
+@Table(name = "ocr_jobs", indexes = {
+        @Index(name = "idx_ocr_jobs_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcrJob {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "image_hash", nullable = false, length = 64)
+    private String imageHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /** 같은 이미지의 이전 결과를 재사용했는지 */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean cached = false;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "receipt_date")
+    private LocalDate receiptDate;
+
+    @Column(length = 255)
+    private String merchant;
+
+    @Column(name = "raw_text", columnDefinition = "TEXT")
+    private String rawText;
+
+    private Double confidence;
+
+    @Column(name = "suggested_category", length = 50)
+    private String suggestedCategory;
+
+    @Column(name = "error_message", length = 255)
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 저장된 영수증 이미지 경로 (지출 등록 시 imageUrl로 사용)
+     */
+    public String getImageUrl() {
+        return FileStorageService.RECEIPT_URL_PREFIX + imageHash;
+    }
+
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * OCR 결과 (COMPLETED일 때만)
+     */
+    public OcrResponse getResult() {
+        if (status != Status.COMPLETED) {
+            return null;
+        }
+        return OcrResponse.builder()
+                .amount(amount)
+                .date(receiptDate)
+                .merchant(merchant)
+                .rawText(rawText)
+                .confidence(confidence)
+                .suggestedCategory(suggestedCategory)
+                .build();
+    }
+
+    public void complete(OcrResponse result, boolean cached) {
+        this.amount = result.getAmount();
+        this.receiptDate = result.getDate();
+        this.merchant = result.getMerchant();
+        this.rawText = result.getRawText();
+        this.confidence = result.getConfidence();
+        this.suggestedCategory = result.getSuggestedCategory();
+        this.cached = cached;
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.status = Status.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        PENDING,      // 대기열에서 대기
+        PROCESSING,   // OCR 처리 중
+        COMPLETED,    // 완료 (result 사용 가능)
+        FAILED        // 실패 (errorMessage 확인)
+    }
+}
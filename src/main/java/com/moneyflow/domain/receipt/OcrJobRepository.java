@@ -0,0 +1,31 @@
+package com.moneyflow.domain.receipt;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface OcrJobRepository extends JpaRepository<OcrJob, UUID> {
+
+    /**
+     * 대기 중인 작업만 처리 중으로 변경 (이미 끝난 작업은 그대로)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OcrJob j SET j.status = 'PROCESSING' WHERE j.jobId = :jobId AND j.status = 'PENDING'")
+    int markProcessing(@Param("jobId") UUID jobId);
+
+    /**
+     * 조회 가능 시간이 지난 작업 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OcrJob j WHERE j.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,66 @@
+package com.moneyflow.domain.receipt;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import com.moneyflow.service.FileStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 영수증 이미지 조회
+ *
+ * 경로의 해시는 이미지 내용의 SHA-256이라 이미지를 가진 사람만 알 수 있으므로,
+ * 로그인한 사용자라면 해시를 아는 것을 조회 권한으로 봅니다. (같은 이미지는 사용자 간에도 한 번만 저장)
+ */
+@RestController
+@RequestMapping("/api/receipts")
+@RequiredArgsConstructor
+@Tag(name = "Receipt", description = "영수증 이미지 API")
+public class ReceiptController {
+
+    private final FileStorageService fileStorageService;
+    private final ReceiptFileSender receiptFileSender;
+
+    @GetMapping("/{hash}")
+    @Operation(summary = "영수증 원본 조회", description = "ETag(If-None-Match)와 Range 요청을 지원합니다. " +
+            "경로는 OCR 작업 결과의 imageUrl을 그대로 사용합니다.")
+    public void getReceipt(
+            @Parameter(description = "이미지 SHA-256 (hex)") @PathVariable String hash,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Path file = fileStorageService.findObject(hash)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RECEIPT_NOT_FOUND));
+        receiptFileSender.send(request, response, file, Files.size(file), hash,
+                FileStorageService.detectContentType(file));
+    }
+
+    @GetMapping("/{hash}/thumbnail")
+    @Operation(summary = "영수증 썸네일 조회", description = "목록 표시용 축소 이미지(JPEG)입니다. " +
+            "아직 생성되지 않았으면 원본을 반환합니다.")
+    public void getThumbnail(
+            @Parameter(description = "이미지 SHA-256 (hex)") @PathVariable String hash,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Path thumbnail = fileStorageService.findThumbnail(hash).orElse(null);
+        if (thumbnail == null) {
+            getReceipt(hash, request, response);
+            return;
+        }
+        receiptFileSender.send(request, response, thumbnail, Files.size(thumbnail), hash + "-thumbnail",
+                "image/jpeg");
+    }
+}
@@ -0,0 +1,142 @@
+package com.moneyflow.domain.receipt;
+
+import com.moneyflow.service.FileStorageService;
+import com.moneyflow.service.FileStorageService.StoredObject;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 영수증 파일 정리 스케줄러
+ * 매일 새벽 4시 20분에 어떤 지출(expenses.image_url)에서도 참조하지 않는 파일을 삭제하고,
+ * 남은 파일 중 썸네일이 없는 것은 다시 생성합니다.
+ *
+ * 참조 수는 따로 저장하지 않고 정리 시점에 expenses에서 조회합니다.
+ * (지출은 탈퇴/장부 삭제 등 여러 일괄 삭제 경로로 지워지므로 카운터를 맞춰 두기 어려움)
+ * 업로드 직후 아직 지출에 연결되지 않은 파일은 유예 기간(file.orphan-grace) 동안 남겨 둡니다.
+ * 목록을 만든 뒤 같은 파일이 다시 업로드되거나 지출에 연결될 수 있으므로,
+ * 삭제 직전에 수정 시각과 참조 여부를 파일별로 다시 확인합니다 (FileStorageService.deleteIfUnused).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptMaintenanceScheduler {
+
+    static final int LOOKUP_BATCH_SIZE = 500;
+
+    private final FileStorageService fileStorageService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.orphan-grace:24h}")
+    private Duration orphanGrace;
+
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("moneyflow.receipts.storage.bytes", storedBytes, AtomicLong::get)
+                .description("영수증 원본 저장 용량 (마지막 정리 기준)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("moneyflow.receipts.count", storedCount, AtomicLong::get)
+                .description("영수증 원본 파일 수 (마지막 정리 기준)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 20 4 * * *")
+    public void collectGarbage() {
+        List<StoredObject> objects;
+        try {
+            objects = fileStorageService.listObjects();
+        } catch (IOException e) {
+            log.error("[Receipt] Failed to list stored files", e);
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(orphanGrace);
+        int deleted = 0;
+        int thumbnails = 0;
+        long bytes = 0;
+        long count = 0;
+
+        for (int from = 0; from < objects.size(); from += LOOKUP_BATCH_SIZE) {
+            List<StoredObject> batch = objects.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, objects.size()));
+            Set<String> referenced;
+            try {
+                referenced = findReferencedUrls(batch);
+            } catch (DataAccessException e) {
+                // 참조 여부를 모르면 지우지 않음
+                log.error("[Receipt] Failed to look up receipt references", e);
+                return;
+            }
+
+            for (StoredObject object : batch) {
+                if (!referenced.contains(referenceKey(object)) && object.lastModified().isBefore(cutoff)) {
+                    // 목록/참조 조회 이후의 중복 업로드·지출 등록은 삭제 직전에 다시 확인
+                    boolean removed;
+                    try {
+                        removed = fileStorageService.deleteIfUnused(object, cutoff, () -> isUnreferenced(object));
+                    } catch (DataAccessException e) {
+                        log.error("[Receipt] Failed to re-check receipt reference", e);
+                        return;
+                    }
+                    if (removed) {
+                        deleted++;
+                        continue;
+                    }
+                }
+                bytes += object.size();
+                count++;
+                if (object.hash() != null && fileStorageService.findThumbnail(object.hash()).isEmpty()
+                        && fileStorageService.createThumbnail(object.hash())) {
+                    thumbnails++;
+                }
+            }
+        }
+
+        storedBytes.set(bytes);
+        storedCount.set(count);
+        log.info("[Receipt] {} unreferenced files deleted, {} thumbnails created, {} files ({} bytes) kept",
+                deleted, thumbnails, count, bytes);
+    }
+
+    private Set<String> findReferencedUrls(List<StoredObject> batch) {
+        List<String> keys = batch.stream().map(ReceiptMaintenanceScheduler::referenceKey).toList();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT image_url FROM expenses WHERE image_url IN (:urls)",
+                Map.of("urls", keys), String.class));
+    }
+
+    private boolean isUnreferenced(StoredObject object) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT NOT EXISTS (SELECT 1 FROM expenses WHERE image_url = :url)",
+                Map.of("url", referenceKey(object)), Boolean.class));
+    }
+
+    /**
+     * 지출에 저장되는 값: 내용 주소 파일은 조회 경로, 이전 방식 파일은 파일명
+     */
+    static String referenceKey(StoredObject object) {
+        return object.hash() != null
+                ? FileStorageService.RECEIPT_URL_PREFIX + object.hash()
+                : object.path().getFileName().toString();
+    }
+}
@@ -1,5 +1,7 @@
 package com.moneyflow.domain.recurringexpense;
 
+import com.moneyflow.domain.sync.AccountBookScoped;
+import com.moneyflow.domain.sync.AccountBookVersionListener;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,12 +19,13 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "recurring_expenses")
+@EntityListeners(AccountBookVersionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class RecurringExpense {
+public class RecurringExpense implements AccountBookScoped {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -155,4 +158,9 @@ public class RecurringExpense {
         }
         return LocalDate.now().isAfter(endDate);
     }
+
+    @Override
+    public UUID getScopedAccountBookId() {
+        return accountBook != null ? accountBook.getAccountBookId() : null;
+    }
 }
@@ -1,5 +1,6 @@
 package com.moneyflow.domain.recurringexpense;
 
+import com.moneyflow.domain.common.TimeOrderedUuid;
 import com.moneyflow.domain.expense.Expense;
 import jakarta.persistence.*;
 import lombok.*;
@@ -30,7 +31,7 @@ import java.util.UUID;
 public class RecurringExpensePayment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "payment_id")
     private UUID paymentId;
 
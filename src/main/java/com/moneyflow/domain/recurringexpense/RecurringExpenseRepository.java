@@ -45,6 +45,16 @@ public interface RecurringExpenseRepository extends JpaRepository<RecurringExpen
                         "WHERE r.accountBook.accountBookId = :accountBookId")
         List<RecurringExpense> findByAccountBook_AccountBookId(@Param("accountBookId") UUID accountBookId);
 
+        /**
+         * 장부의 종료되지 않은 고정비 (현금 흐름 예측용, 연관 엔티티 없이 값만 사용)
+         */
+        @Query("SELECT r FROM RecurringExpense r " +
+                        "WHERE r.accountBook.accountBookId = :accountBookId " +
+                        "AND (r.endDate IS NULL OR r.endDate >= :today)")
+        List<RecurringExpense> findActiveByAccountBook(
+                        @Param("accountBookId") UUID accountBookId,
+                        @Param("today") LocalDate today);
+
         /**
          * 사용자가 멤버인 모든 장부의 고정비 + 개인 고정비(장부 없음) 조회
          * (User, AccountBook JOIN FETCH)
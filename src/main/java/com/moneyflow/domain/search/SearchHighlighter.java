@@ -0,0 +1,110 @@
+package com.moneyflow.domain.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 결과 하이라이트 구간 계산
+ *
+ * 1. 검색어가 부분 문자열로 포함되면 모든 일치 구간 (대소문자 무시)
+ * 2. 포함되지 않으면(오타 허용 일치) 트라이그램 유사도가 가장 높은 단어 1개
+ *
+ * 오프셋은 Java/JavaScript 문자열과 동일한 UTF-16 인덱스이며 end는 미포함입니다.
+ */
+public final class SearchHighlighter {
+
+    /**
+     * 단어 하이라이트 최소 유사도 (pg_trgm similarity_threshold 기본값과 동일)
+     */
+    static final double MIN_WORD_SIMILARITY = 0.3;
+
+    public record Range(int start, int end) {
+    }
+
+    private SearchHighlighter() {
+    }
+
+    public static List<Range> highlight(String text, String query) {
+        if (text == null || text.isEmpty() || query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        List<Range> exact = findOccurrences(text, query);
+        if (!exact.isEmpty()) {
+            return exact;
+        }
+        return findMostSimilarWord(text, query);
+    }
+
+    private static List<Range> findOccurrences(String text, String query) {
+        List<Range> ranges = new ArrayList<>();
+        int length = query.length();
+        int i = 0;
+        while (i + length <= text.length()) {
+            if (text.regionMatches(true, i, query, 0, length)) {
+                ranges.add(new Range(i, i + length));
+                i += length;
+            } else {
+                i++;
+            }
+        }
+        return ranges;
+    }
+
+    private static List<Range> findMostSimilarWord(String text, String query) {
+        Set<String> queryTrigrams = trigrams(query);
+        Range best = null;
+        double bestSimilarity = 0;
+
+        int i = 0;
+        while (i < text.length()) {
+            while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (start == i) {
+                break;
+            }
+
+            double similarity = similarity(queryTrigrams, trigrams(text.substring(start, i)));
+            if (similarity >= MIN_WORD_SIMILARITY && (best == null || similarity > bestSimilarity)) {
+                bestSimilarity = similarity;
+                best = new Range(start, i);
+            }
+        }
+        return best == null ? List.of() : List.of(best);
+    }
+
+    /**
+     * pg_trgm과 같은 방식으로 단어 앞 공백 2칸, 뒤 공백 1칸을 붙여 트라이그램 추출
+     */
+    static Set<String> trigrams(String value) {
+        Set<String> result = new HashSet<>();
+        for (String word : value.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int[] codePoints = ("  " + word + " ").codePoints().toArray();
+            for (int i = 0; i + 3 <= codePoints.length; i++) {
+                result.add(new String(codePoints, i, 3));
+            }
+        }
+        return result;
+    }
+
+    private static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        int union = a.size() + b.size() - intersection.size();
+        return (double) intersection.size() / union;
+    }
+}
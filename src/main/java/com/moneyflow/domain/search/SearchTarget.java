@@ -0,0 +1,18 @@
+package com.moneyflow.domain.search;
+
+/**
+ * 거래 내역 검색 대상
+ */
+public enum SearchTarget {
+    ALL,
+    EXPENSE,
+    INCOME;
+
+    public boolean includesExpenses() {
+        return this != INCOME;
+    }
+
+    public boolean includesIncomes() {
+        return this != EXPENSE;
+    }
+}
@@ -0,0 +1,42 @@
+package com.moneyflow.domain.search;
+
+import com.moneyflow.dto.response.TransactionSearchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "거래 내역 검색 API")
+public class TransactionSearchController {
+
+    private final TransactionSearchService transactionSearchService;
+
+    @GetMapping("/transactions")
+    @Operation(summary = "거래 내역 검색", description = "가맹점명/메모(지출), 출처/설명(수입)에서 부분 일치 및 오타 허용 검색. " +
+            "관련도 순으로 정렬되며 highlights에 일치 구간 오프셋을 포함합니다. 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다.")
+    public ResponseEntity<TransactionSearchResponse> search(
+            @Parameter(description = "검색어 (1~100자)") @RequestParam String q,
+            @Parameter(description = "장부 ID (생략 시 참여 중인 모든 장부)") @RequestParam(required = false) UUID accountBookId,
+            @Parameter(description = "검색 대상 (ALL, EXPENSE, INCOME)") @RequestParam(defaultValue = "ALL") SearchTarget type,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        TransactionSearchResponse response = transactionSearchService.search(
+                userId, q, accountBookId, type, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
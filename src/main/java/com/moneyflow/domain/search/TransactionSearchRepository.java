@@ -0,0 +1,142 @@
+package com.moneyflow.domain.search;
+
+import com.moneyflow.dto.request.SearchCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 거래 내역 트라이그램 검색 리포지토리 (PostgreSQL pg_trgm)
+ *
+ * - 부분 일치: ILIKE '%검색어%' (GIN gin_trgm_ops 인덱스 사용)
+ * - 오타 허용: 검색어 <% 컬럼 (word_similarity >= pg_trgm.word_similarity_threshold)
+ * - 관련도: 부분 일치 1.0, 그 외 word_similarity 값. 메모/설명 일치는 0.8 가중치
+ *
+ * pg_trgm 연산자는 JPQL로 표현할 수 없어 네이티브 쿼리로 작성합니다. (V22 마이그레이션 인덱스 필요)
+ */
+@Repository
+public class TransactionSearchRepository {
+
+    private static final String EXPENSE_BRANCH =
+            "SELECT 'EXPENSE' AS type, e.expense_id AS id, e.account_book_id, e.date, e.amount, " +
+            "       e.category, e.merchant AS title, e.memo, " +
+            "       CAST(GREATEST( " +
+            "           CASE WHEN e.merchant ILIKE :pattern THEN 1.0 ELSE word_similarity(:q, e.merchant) END, " +
+            "           0.8 * CASE WHEN e.memo ILIKE :pattern THEN 1.0 ELSE word_similarity(:q, e.memo) END " +
+            "       ) AS real) AS score " +
+            "FROM expenses e " +
+            "WHERE %s " +
+            "AND (e.merchant ILIKE :pattern OR e.memo ILIKE :pattern " +
+            "     OR :q <%% e.merchant OR :q <%% e.memo)";
+
+    private static final String INCOME_BRANCH =
+            "SELECT 'INCOME' AS type, i.income_id AS id, i.account_book_id, i.date, i.amount, " +
+            "       i.source AS category, i.source AS title, i.description AS memo, " +
+            "       CAST(GREATEST( " +
+            "           CASE WHEN i.source ILIKE :pattern THEN 1.0 ELSE word_similarity(:q, i.source) END, " +
+            "           0.8 * CASE WHEN i.description ILIKE :pattern THEN 1.0 ELSE word_similarity(:q, i.description) END " +
+            "       ) AS real) AS score " +
+            "FROM incomes i " +
+            "WHERE %s " +
+            "AND (i.source ILIKE :pattern OR i.description ILIKE :pattern " +
+            "     OR :q <%% i.source OR :q <%% i.description)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 사용자 장부 범위 내 거래 내역 검색 (관련도 → 날짜 → ID 내림차순)
+     *
+     * @param userId        요청 사용자 (accountBookId가 없으면 참여 중인 모든 장부 + 장부 미지정 본인 내역)
+     * @param accountBookId 특정 장부로 한정 (멤버십 검증은 호출 측 책임)
+     * @param query         검색어 (trim 완료)
+     * @param target        검색 대상
+     * @param cursor        이전 페이지 마지막 행 (첫 페이지면 null)
+     * @param limit         최대 조회 건수
+     */
+    @SuppressWarnings("unchecked")
+    public List<TransactionSearchRow> search(UUID userId, UUID accountBookId, String query,
+                                             SearchTarget target, SearchCursor cursor, int limit) {
+        List<String> branches = new ArrayList<>();
+        if (target.includesExpenses()) {
+            branches.add(String.format(EXPENSE_BRANCH, scope("e", accountBookId)));
+        }
+        if (target.includesIncomes()) {
+            branches.add(String.format(INCOME_BRANCH, scope("i", accountBookId)));
+        }
+
+        String sql = "SELECT type, id, account_book_id, date, amount, category, title, memo, score " +
+                "FROM (" + String.join(" UNION ALL ", branches) + ") hits " +
+                (cursor != null
+                        ? "WHERE (score, date, id) < (CAST(:cursorScore AS real), CAST(:cursorDate AS date), CAST(:cursorId AS uuid)) "
+                        : "") +
+                "ORDER BY score DESC, date DESC, id DESC " +
+                "LIMIT :limit";
+
+        Query nativeQuery = entityManager.createNativeQuery(sql)
+                .setParameter("q", query)
+                .setParameter("pattern", "%" + escapeLike(query) + "%")
+                .setParameter("limit", limit);
+
+        if (accountBookId != null) {
+            nativeQuery.setParameter("accountBookId", accountBookId);
+        } else {
+            nativeQuery.setParameter("userId", userId);
+        }
+        if (cursor != null) {
+            nativeQuery.setParameter("cursorScore", cursor.score())
+                    .setParameter("cursorDate", cursor.date())
+                    .setParameter("cursorId", cursor.id());
+        }
+
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream().map(TransactionSearchRepository::toRow).toList();
+    }
+
+    /**
+     * 검색 범위 조건
+     * - 장부 지정: 해당 장부
+     * - 미지정: 참여 중인 장부 전체 + 장부가 없는 본인 내역
+     */
+    private static String scope(String alias, UUID accountBookId) {
+        if (accountBookId != null) {
+            return alias + ".account_book_id = :accountBookId";
+        }
+        return "(" + alias + ".account_book_id IN (SELECT m.account_book_id FROM account_book_members m WHERE m.user_id = :userId) " +
+                "OR (" + alias + ".account_book_id IS NULL AND " + alias + ".user_id = :userId))";
+    }
+
+    private static TransactionSearchRow toRow(Object[] row) {
+        return new TransactionSearchRow(
+                (String) row[0],
+                (UUID) row[1],
+                (UUID) row[2],
+                toLocalDate(row[3]),
+                (BigDecimal) row[4],
+                (String) row[5],
+                (String) row[6],
+                (String) row[7],
+                ((Number) row[8]).floatValue());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
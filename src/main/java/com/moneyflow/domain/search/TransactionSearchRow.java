@@ -0,0 +1,20 @@
+package com.moneyflow.domain.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 거래 내역 검색 결과 행 (지출/수입 공통)
+ */
+public record TransactionSearchRow(
+        String type,
+        UUID id,
+        UUID accountBookId,
+        LocalDate date,
+        BigDecimal amount,
+        String category,
+        String title,
+        String memo,
+        float score) {
+}
@@ -0,0 +1,105 @@
+package com.moneyflow.domain.search;
+
+import com.moneyflow.domain.accountbook.AccountBookMemberRepository;
+import com.moneyflow.dto.request.SearchCursor;
+import com.moneyflow.dto.response.TransactionSearchResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionSearchService {
+
+    /**
+     * 페이지 크기 상한
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 검색어 최대 길이 (트라이그램 수가 과도하게 늘어나는 것 방지)
+     */
+    static final int MAX_QUERY_LENGTH = 100;
+
+    private final TransactionSearchRepository transactionSearchRepository;
+    private final AccountBookMemberRepository accountBookMemberRepository;
+
+    /**
+     * 거래 내역 검색 (가맹점명/메모, 수입 출처/설명)
+     *
+     * @param accountBookId 특정 장부로 한정 (null이면 참여 중인 모든 장부)
+     * @param cursorToken   이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse search(UUID userId, String query, UUID accountBookId,
+                                            SearchTarget target, String cursorToken, int size) {
+        String keyword = query == null ? "" : query.trim();
+        if (keyword.isEmpty() || keyword.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(
+                    "검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요", ErrorCode.INVALID_INPUT);
+        }
+
+        if (accountBookId != null && !accountBookMemberRepository
+                .existsByAccountBookAccountBookIdAndUserUserId(accountBookId, userId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+        }
+
+        SearchCursor cursor = SearchCursor.decode(cursorToken);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<TransactionSearchRow> rows = transactionSearchRepository.search(
+                userId, accountBookId, keyword, target, cursor, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionSearchRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionSearchRow last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(last.score(), last.date(), last.id()).encode();
+        }
+
+        return TransactionSearchResponse.builder()
+                .results(page.stream().map(row -> toHit(row, keyword)).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private TransactionSearchResponse.Hit toHit(TransactionSearchRow row, String keyword) {
+        List<TransactionSearchResponse.Highlight> highlights = new ArrayList<>();
+        addHighlights(highlights, "title", row.title(), keyword);
+        addHighlights(highlights, "memo", row.memo(), keyword);
+
+        return TransactionSearchResponse.Hit.builder()
+                .id(row.id().toString())
+                .type(row.type())
+                .accountBookId(row.accountBookId() != null ? row.accountBookId().toString() : null)
+                .date(row.date())
+                .amount(row.amount())
+                .category(row.category())
+                .title(row.title())
+                .memo(row.memo())
+                .score(row.score())
+                .highlights(highlights)
+                .build();
+    }
+
+    private void addHighlights(List<TransactionSearchResponse.Highlight> highlights,
+                               String field, String text, String keyword) {
+        for (SearchHighlighter.Range range : SearchHighlighter.highlight(text, keyword)) {
+            highlights.add(TransactionSearchResponse.Highlight.builder()
+                    .field(field)
+                    .start(range.start())
+                    .end(range.end())
+                    .build());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.moneyflow.domain.statistics;
 
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
 import com.moneyflow.dto.response.CategoryMonthlyComparisonResponse;
 import com.moneyflow.dto.response.MonthlyStatisticsResponse;
 import com.moneyflow.dto.response.TotalAssetResponse;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -25,6 +27,8 @@ import java.util.UUID;
  * - 주간 통계 조회 (일별 지출, 최다 카테고리, 일평균)
  * - 자산 현황 조회 (총자산, 기간별 손익)
  * - 장부별 개별 통계 지원
+ *
+ * 모든 조회는 장부 버전 기반 약한 ETag를 내려주며, If-None-Match가 일치하면 통계 쿼리 없이 304를 응답합니다.
  */
 @RestController
 @RequestMapping("/api/statistics")
@@ -33,6 +37,7 @@ import java.util.UUID;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final AccountBookVersionService accountBookVersionService;
 
     /**
      * 월간 통계 조회
@@ -43,10 +48,15 @@ public class StatisticsController {
             @Parameter(description = "년도", example = "2026") @RequestParam int year,
             @Parameter(description = "월 (1-12)", example = "1") @RequestParam int month,
             @Parameter(description = "장부 ID (null이면 기본 장부)") @RequestParam(required = false) UUID accountBookId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "monthly", year, month);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         MonthlyStatisticsResponse response = statisticsService.getMonthlyStatistics(userId, year, month, accountBookId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 
     /**
@@ -58,10 +68,15 @@ public class StatisticsController {
             @Parameter(description = "년도", example = "2026") @RequestParam int year,
             @Parameter(description = "월 (1-12)", example = "1") @RequestParam int month,
             @Parameter(description = "장부 ID (null이면 기본 장부)") @RequestParam(required = false) UUID accountBookId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "category-comparison", year, month);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         CategoryMonthlyComparisonResponse response = statisticsService.getCategoryMonthlyComparison(userId, year, month, accountBookId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 
     /**
@@ -72,10 +87,15 @@ public class StatisticsController {
     public ResponseEntity<WeeklyStatisticsResponse> getWeeklyStatistics(
             @Parameter(description = "시작 날짜 (해당 날짜부터 7일)", example = "2026-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "장부 ID (null이면 기본 장부)") @RequestParam(required = false) UUID accountBookId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         UUID userId = UUID.fromString(userDetails.getUsername());
+        String etag = accountBookVersionService.etag(userId, accountBookId, "weekly", startDate);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
         WeeklyStatisticsResponse response = statisticsService.getWeeklyStatistics(userId, startDate, accountBookId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 
     /**
@@ -106,7 +126,8 @@ public class StatisticsController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @Parameter(description = "카테고리별 통계 포함 여부 (true: 수입 출처별/지출 카테고리별 통계 포함)", example = "false")
             @RequestParam(defaultValue = "false") boolean includeStats,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
 
         UUID userId = UUID.fromString(userDetails.getUsername());
 
@@ -119,9 +140,15 @@ public class StatisticsController {
             endDate = now; // 오늘
         }
 
+        // 기본값이 적용된 기간으로 ETag 생성 (날짜가 바뀌면 기간도 바뀜)
+        String etag = accountBookVersionService.etag(userId, accountBookId, "assets", startDate, endDate, includeStats);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         TotalAssetResponse response = statisticsService.getAssetStatistics(
             userId, accountBookId, startDate, endDate, includeStats
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).cacheControl(AccountBookVersionService.REVALIDATE).body(response);
     }
 }
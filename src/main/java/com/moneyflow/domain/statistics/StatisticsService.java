@@ -293,7 +293,7 @@ public class StatisticsService {
          * 장부별 지출 내역 조회
          */
         private List<Expense> getExpensesForAccountBook(UUID accountBookId, LocalDate startDate, LocalDate endDate) {
-                return expenseRepository.findByAccountBookAndDateRange(accountBookId, startDate, endDate, null);
+                return expenseRepository.findByAccountBookAndDateRange(accountBookId, startDate, endDate);
         }
 
         /**
@@ -0,0 +1,38 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 장부별 변경 순번 엔티티
+ *
+ * 순번 발급은 ChangeSequencer가 JDBC upsert로 처리하고, 이 엔티티는 조회(pruned_seq 확인)에만 사용합니다.
+ */
+@Entity
+@Table(name = "account_book_change_seqs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBookChangeSequence {
+
+    @Id
+    @Column(name = "account_book_id")
+    private UUID accountBookId;
+
+    /**
+     * 마지막으로 발급한 순번
+     */
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    /**
+     * 정리된 삭제 기록의 최대 순번 (이보다 오래된 since로는 삭제를 알 수 없어 전체 동기화 필요)
+     */
+    @Column(name = "pruned_seq", nullable = false)
+    @Builder.Default
+    private Long prunedSeq = 0L;
+}
@@ -0,0 +1,8 @@
+package com.moneyflow.domain.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface AccountBookChangeSequenceRepository extends JpaRepository<AccountBookChangeSequence, UUID> {
+}
@@ -0,0 +1,14 @@
+package com.moneyflow.domain.sync;
+
+import java.util.UUID;
+
+/**
+ * 장부 조회 결과(통계, 예산, 정산 등)에 영향을 주는 엔티티 (AccountBookVersionListener 대상)
+ */
+public interface AccountBookScoped {
+
+    /**
+     * 쓰기 시 버전을 올릴 장부 ID (장부가 없으면 null)
+     */
+    UUID getScopedAccountBookId();
+}
@@ -0,0 +1,34 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+/**
+ * 예산/고정비/멤버/참여자 등 지출·수입 외의 쓰기에도 장부 버전(account_book_change_seqs.last_seq)을 올리는 엔티티 리스너
+ *
+ * 지출/수입은 SyncChangeListener가 변경 순번을 발급하면서 버전이 함께 올라갑니다.
+ * 장부 조회 API는 이 버전으로 ETag를 만들므로, 조회 결과에 영향을 주는 쓰기는 모두 여기를 거쳐야 합니다.
+ *
+ * 장부 행이 먼저 저장된 뒤에 올리도록 Post 콜백을 사용합니다. (새 장부와 멤버를 한 트랜잭션에서 저장하는 경우)
+ */
+public class AccountBookVersionListener {
+
+    @Autowired
+    private ObjectProvider<ChangeSequencer> changeSequencer;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onWrite(Object entity) {
+        ChangeSequencer sequencer = changeSequencer != null ? changeSequencer.getIfAvailable() : null;
+        UUID accountBookId = ((AccountBookScoped) entity).getScopedAccountBookId();
+        if (sequencer != null && accountBookId != null) {
+            sequencer.touch(accountBookId);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.moneyflow.domain.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 장부별 변경 순번 발급 + 삭제 기록
+ *
+ * 순번은 account_book_change_seqs 행을 upsert로 늘려 발급합니다. 그 행은 트랜잭션이 끝날 때까지 잠겨 있으므로
+ * 같은 장부에 쓰는 트랜잭션은 순서대로 커밋되고, 먼저 커밋된 변경의 순번이 항상 더 작습니다.
+ *
+ * 트랜잭션마다 장부별로 순번을 묶음(1, 2, 4 ... 최대 MAX_BLOCK_SIZE개)으로 받아 두고 나눠 쓰므로
+ * 가져오기처럼 한 트랜잭션에서 많은 행을 쓰더라도 순번 발급 쿼리는 몇 번만 실행됩니다.
+ * (쓰지 않고 남은 순번은 버려지며, 순번 사이의 빈 번호는 동기화에 영향 없음)
+ *
+ * 한 트랜잭션이 두 장부의 행을 잠가야 하면(장부 이동) lockInOrder로 account_book_id 오름차순으로 잠급니다.
+ * 반대 방향으로 행을 옮기는 두 트랜잭션이 서로의 행을 기다리는 교착 상태를 막기 위함입니다.
+ *
+ * last_seq는 장부 버전으로도 쓰입니다. 장부 데이터를 바꾸는 트랜잭션은 순번을 한 번 이상 발급받거나 touch를 호출하므로
+ * 커밋 후에는 last_seq가 항상 커집니다. (AccountBookVersionService의 ETag)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeSequencer {
+
+    static final int MAX_BLOCK_SIZE = 64;
+
+    private static final String ALLOCATE_SQL = """
+            INSERT INTO account_book_change_seqs (account_book_id, last_seq, pruned_seq) VALUES (?, ?, 0)
+            ON CONFLICT (account_book_id) DO UPDATE SET last_seq = account_book_change_seqs.last_seq + EXCLUDED.last_seq
+            RETURNING last_seq
+            """;
+
+    private static final String RECORD_DELETION_SQL = """
+            INSERT INTO sync_tombstones (account_book_id, entity_type, entity_id, change_seq, deleted_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (account_book_id, entity_type, entity_id)
+            DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at
+            """;
+
+    private static final String CLEAR_DELETION_SQL =
+            "DELETE FROM sync_tombstones WHERE account_book_id = ? AND entity_type = ? AND entity_id = ?";
+
+    private static final String TOUCH_MEMBER_BOOKS_SQL = """
+            INSERT INTO account_book_change_seqs (account_book_id, last_seq, pruned_seq)
+            SELECT account_book_id, 1, 0 FROM account_book_members WHERE user_id = ? ORDER BY account_book_id
+            ON CONFLICT (account_book_id) DO UPDATE SET last_seq = account_book_change_seqs.last_seq + 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다음 변경 순번 (트랜잭션 안에서 호출해야 커밋 순서가 보장됨)
+     */
+    public long next(UUID accountBookId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return allocate(accountBookId, 1);
+        }
+        return block(accountBookId).next++;
+    }
+
+    /**
+     * 아직 이 트랜잭션에서 순번을 받지 않은 장부들의 순번 행을 account_book_id 오름차순으로 잠금
+     * (PostgreSQL uuid 정렬과 같은 순서: 소문자 16진 문자열 비교, TOUCH_MEMBER_BOOKS_SQL의 ORDER BY와 일치)
+     *
+     * 받아 둔 순번 묶음은 이후 next에서 그대로 사용합니다.
+     */
+    public void lockInOrder(UUID... accountBookIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Map<UUID, Block> blocks = currentBlocks();
+        Arrays.stream(accountBookIds)
+                .filter(Objects::nonNull)
+                .filter(accountBookId -> !blocks.containsKey(accountBookId))
+                .distinct()
+                .sorted(Comparator.comparing(UUID::toString))
+                .forEach(this::block);
+    }
+
+    /**
+     * 장부 버전만 올림 (지출/수입 외의 쓰기: 예산, 고정비, 멤버 등)
+     * 이 트랜잭션에서 이미 순번을 받은 장부면 버전이 올라가 있으므로 쿼리하지 않습니다.
+     */
+    public void touch(UUID accountBookId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && currentBlocks().containsKey(accountBookId)) {
+            return;
+        }
+        next(accountBookId);
+    }
+
+    /**
+     * 사용자가 속한 모든 장부의 버전을 올림 (탈퇴 데이터 삭제처럼 엔티티를 거치지 않는 일괄 삭제용)
+     */
+    public int touchMemberBooks(UUID userId) {
+        return jdbcTemplate.update(TOUCH_MEMBER_BOOKS_SQL, userId);
+    }
+
+    /**
+     * 장부에서 사라진 행(삭제 또는 다른 장부로 이동) 기록
+     */
+    public void recordDeletion(UUID accountBookId, SyncEntityType entityType, UUID entityId) {
+        jdbcTemplate.update(RECORD_DELETION_SQL, accountBookId, entityType.name(), entityId,
+                next(accountBookId), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 장부로 다시 들어온 행의 삭제 기록 제거
+     */
+    public void clearDeletion(UUID accountBookId, SyncEntityType entityType, UUID entityId) {
+        jdbcTemplate.update(CLEAR_DELETION_SQL, accountBookId, entityType.name(), entityId);
+    }
+
+    /**
+     * 이 트랜잭션에서 쓸 수 있는 순번 묶음 (다 썼으면 두 배 크기로 새로 받음)
+     */
+    private Block block(UUID accountBookId) {
+        Map<UUID, Block> blocks = currentBlocks();
+        Block block = blocks.get(accountBookId);
+        if (block == null || block.next > block.last) {
+            int size = block == null ? 1 : Math.min(block.size * 2, MAX_BLOCK_SIZE);
+            long last = allocate(accountBookId, size);
+            block = new Block(last - size + 1, last, size);
+            blocks.put(accountBookId, block);
+        }
+        return block;
+    }
+
+    private long allocate(UUID accountBookId, int size) {
+        Long last = jdbcTemplate.queryForObject(ALLOCATE_SQL, Long.class, accountBookId, size);
+        if (last == null) {
+            throw new IllegalStateException("변경 순번을 발급하지 못했습니다: " + accountBookId);
+        }
+        return last;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Block> currentBlocks() {
+        Map<UUID, Block> blocks = (Map<UUID, Block>) TransactionSynchronizationManager.getResource(this);
+        if (blocks == null) {
+            Map<UUID, Block> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequencer.this);
+                }
+            });
+            blocks = created;
+        }
+        return blocks;
+    }
+
+    private static final class Block {
+        private long next;
+        private final long last;
+        private final int size;
+
+        private Block(long first, long last, int size) {
+            this.next = first;
+            this.last = last;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.moneyflow.domain.sync;
+
+import com.moneyflow.domain.live.LiveEventPublisher;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 지출/수입 저장/수정/삭제 시 장부 변경 순번과 삭제 기록을 남기는 엔티티 리스너
+ *
+ * 서비스마다 호출하지 않아도 엔티티를 통한 모든 쓰기(가져오기, 장부 이동 포함)에 적용됩니다.
+ * 저장/수정/삭제가 실행된 뒤에는 장부 멤버에게 보낼 실시간 이벤트를 LiveEventPublisher에 넘깁니다. (커밋 후 전송)
+ * JPQL/네이티브 일괄 삭제는 리스너를 거치지 않으므로 동기화 대상이 아닙니다. (탈퇴 데이터 삭제 등)
+ *
+ * Hibernate가 스프링 빈 컨테이너로 생성하며, ChangeSequencer/LiveEventPublisher 빈이 없으면(일부 슬라이스 테스트)
+ * 해당 처리를 건너뜁니다.
+ */
+public class SyncChangeListener {
+
+    @Autowired
+    private ObjectProvider<ChangeSequencer> changeSequencer;
+
+    @Autowired
+    private ObjectProvider<LiveEventPublisher> liveEventPublisher;
+
+    @PostLoad
+    void remember(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        tracked.setSyncedAccountBookId(tracked.getSyncAccountBookId());
+    }
+
+    @PrePersist
+    void onCreate(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        ChangeSequencer sequencer = sequencer();
+        UUID accountBookId = tracked.getSyncAccountBookId();
+        if (sequencer != null && accountBookId != null) {
+            tracked.setChangeSeq(sequencer.next(accountBookId));
+        }
+    }
+
+    @PreUpdate
+    void onUpdate(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        ChangeSequencer sequencer = sequencer();
+        if (sequencer == null) {
+            return;
+        }
+        UUID previous = tracked.getSyncedAccountBookId();
+        UUID current = tracked.getSyncAccountBookId();
+        if (!Objects.equals(previous, current)) {
+            // 장부 이동: 이전 장부에는 삭제로, 새 장부에는 새 행으로 보임
+            // 반대 방향 이동과 교착되지 않도록 두 장부의 순번 행을 정해진 순서로 먼저 잠금
+            sequencer.lockInOrder(previous, current);
+            if (previous != null) {
+                sequencer.recordDeletion(previous, tracked.getSyncEntityType(), tracked.getSyncEntityId());
+            }
+            if (current != null) {
+                sequencer.clearDeletion(current, tracked.getSyncEntityType(), tracked.getSyncEntityId());
+            }
+        }
+        if (current != null) {
+            tracked.setChangeSeq(sequencer.next(current));
+        }
+    }
+
+    @PreRemove
+    void onDelete(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        ChangeSequencer sequencer = sequencer();
+        UUID accountBookId = tracked.getSyncedAccountBookId() != null
+                ? tracked.getSyncedAccountBookId()
+                : tracked.getSyncAccountBookId();
+        if (sequencer != null && accountBookId != null) {
+            sequencer.recordDeletion(accountBookId, tracked.getSyncEntityType(), tracked.getSyncEntityId());
+        }
+    }
+
+    @PostPersist
+    void afterCreate(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        LiveEventPublisher publisher = publisher();
+        if (publisher != null) {
+            publisher.entityCreated(tracked.getSyncEntityType(), tracked.getSyncAccountBookId(),
+                    tracked.getSyncEntityId(), tracked.getChangeSeq());
+        }
+        remember(entity);
+    }
+
+    @PostUpdate
+    void afterUpdate(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        LiveEventPublisher publisher = publisher();
+        if (publisher != null) {
+            UUID previous = tracked.getSyncedAccountBookId();
+            UUID current = tracked.getSyncAccountBookId();
+            if (Objects.equals(previous, current)) {
+                publisher.entityUpdated(tracked.getSyncEntityType(), current,
+                        tracked.getSyncEntityId(), tracked.getChangeSeq());
+            } else {
+                publisher.entityDeleted(tracked.getSyncEntityType(), previous, tracked.getSyncEntityId());
+                publisher.entityCreated(tracked.getSyncEntityType(), current,
+                        tracked.getSyncEntityId(), tracked.getChangeSeq());
+            }
+        }
+        remember(entity);
+    }
+
+    @PostRemove
+    void afterDelete(Object entity) {
+        SyncTracked tracked = (SyncTracked) entity;
+        LiveEventPublisher publisher = publisher();
+        if (publisher != null) {
+            UUID accountBookId = tracked.getSyncedAccountBookId() != null
+                    ? tracked.getSyncedAccountBookId()
+                    : tracked.getSyncAccountBookId();
+            publisher.entityDeleted(tracked.getSyncEntityType(), accountBookId, tracked.getSyncEntityId());
+        }
+    }
+
+    private LiveEventPublisher publisher() {
+        return liveEventPublisher != null ? liveEventPublisher.getIfAvailable() : null;
+    }
+
+    private ChangeSequencer sequencer() {
+        return changeSequencer != null ? changeSequencer.getIfAvailable() : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.moneyflow.domain.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장부 변경 순번 조회/삭제 기록 정리 (지출/수입/삭제 기록을 한 번에 다루는 네이티브 쿼리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncChangeRepository {
+
+    private static final String CHANGE_SEQS_SQL = """
+            SELECT change_seq FROM (
+                SELECT change_seq FROM expenses WHERE account_book_id = :accountBookId AND change_seq > :since
+                UNION ALL
+                SELECT change_seq FROM incomes WHERE account_book_id = :accountBookId AND change_seq > :since
+                UNION ALL
+                SELECT change_seq FROM sync_tombstones
+                 WHERE :includeDeletions AND account_book_id = :accountBookId AND change_seq > :since
+            ) changes
+            ORDER BY change_seq
+            LIMIT :limit
+            """;
+
+    /**
+     * 보관 기간이 지난 삭제 기록을 지우고, 장부별로 지운 기록의 최대 순번을 pruned_seq에 남김
+     */
+    private static final String PRUNE_TOMBSTONES_SQL = """
+            WITH pruned AS (
+                DELETE FROM sync_tombstones WHERE deleted_at < :cutoff
+                RETURNING account_book_id, change_seq
+            )
+            UPDATE account_book_change_seqs s
+               SET pruned_seq = GREATEST(s.pruned_seq, p.max_seq)
+              FROM (SELECT account_book_id, MAX(change_seq) AS max_seq FROM pruned GROUP BY account_book_id) p
+             WHERE s.account_book_id = p.account_book_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * since 이후 변경 순번을 오름차순으로 최대 limit개 (세 테이블의 (장부, 순번) 인덱스를 병합해 읽음)
+     */
+    public List<Long> findChangeSeqs(UUID accountBookId, long since, boolean includeDeletions, int limit) {
+        return jdbcTemplate.queryForList(CHANGE_SEQS_SQL, new MapSqlParameterSource()
+                .addValue("accountBookId", accountBookId)
+                .addValue("since", since)
+                .addValue("includeDeletions", includeDeletions)
+                .addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * @return 정리한 장부 수
+     */
+    public int pruneTombstones(LocalDateTime cutoff) {
+        return jdbcTemplate.update(PRUNE_TOMBSTONES_SQL, new MapSqlParameterSource("cutoff", cutoff));
+    }
+}
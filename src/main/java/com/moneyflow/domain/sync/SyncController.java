@@ -0,0 +1,52 @@
+package com.moneyflow.domain.sync;
+
+import com.moneyflow.dto.request.SyncRequest;
+import com.moneyflow.dto.response.SyncResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "오프라인 동기화 API")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(summary = "변경분 조회", description = "since(이전 응답의 cursor) 이후 바뀐 지출/수입과 삭제된 항목만 반환합니다. " +
+            "since를 생략하면 장부 전체를 반환합니다(reset=true). hasMore면 cursor로 다시 요청합니다.")
+    public ResponseEntity<SyncResponse> pull(
+            @Parameter(description = "장부 ID") @RequestParam UUID accountBookId,
+            @Parameter(description = "마지막으로 받은 cursor") @RequestParam(required = false) Long since,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        return ResponseEntity.ok(syncService.pull(userId, accountBookId, since));
+    }
+
+    @PostMapping
+    @Operation(summary = "동기화", description = "오프라인에서 쌓인 변경(mutations)을 한 트랜잭션으로 반영한 뒤 since 이후 변경분을 반환합니다. " +
+            "UPDATE/DELETE의 baseSeq가 서버의 changeSeq와 다르면 반영하지 않고 conflicts로 돌려줍니다.")
+    public ResponseEntity<SyncResponse> sync(
+            @Valid @RequestBody SyncRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        UUID userId = UUID.fromString(userDetails.getUsername());
+        return ResponseEntity.ok(syncService.sync(userId, request));
+    }
+}
@@ -0,0 +1,38 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 동기화 CREATE 기록 (clientId → 서버 ID)
+ *
+ * 응답을 받지 못한 클라이언트가 같은 CREATE를 다시 보내면 새로 만들지 않고 이 기록의 행을 돌려줍니다.
+ * 보관 기간이 지나면 SyncTombstonePruner가 정리합니다.
+ */
+@Entity
+@Table(name = "sync_creations", indexes = {
+        @Index(name = "idx_sync_creations_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncCreation {
+
+    @EmbeddedId
+    private SyncCreationId id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
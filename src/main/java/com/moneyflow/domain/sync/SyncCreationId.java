@@ -0,0 +1,26 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * SyncCreation 복합 기본키 (장부 안에서 clientId는 한 번만 생성에 쓰임)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SyncCreationId implements Serializable {
+
+    @Column(name = "account_book_id")
+    private UUID accountBookId;
+
+    @Column(name = "client_id", length = 100)
+    private String clientId;
+}
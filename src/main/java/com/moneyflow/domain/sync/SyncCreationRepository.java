@@ -0,0 +1,18 @@
+package com.moneyflow.domain.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SyncCreationRepository extends JpaRepository<SyncCreation, SyncCreationId> {
+
+    /**
+     * 보관 기간이 지난 CREATE 기록 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM SyncCreation c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,9 @@
+package com.moneyflow.domain.sync;
+
+/**
+ * 동기화 대상 종류 (sync_tombstones.entity_type)
+ */
+public enum SyncEntityType {
+    EXPENSE, // 지출
+    INCOME // 수입
+}
@@ -0,0 +1,304 @@
+package com.moneyflow.domain.sync;
+
+import com.moneyflow.domain.accountbook.AccountBookMemberRepository;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.expense.ExpenseRepository;
+import com.moneyflow.domain.expense.ExpenseService;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.income.IncomeRepository;
+import com.moneyflow.domain.income.IncomeService;
+import com.moneyflow.dto.request.SyncRequest;
+import com.moneyflow.dto.request.SyncRequest.Mutation;
+import com.moneyflow.dto.response.SyncResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 동기화 서비스
+ *
+ * 클라이언트는 마지막으로 받은 순번(cursor)만 보내고, 서버는 그 이후 바뀐 행과 삭제 기록만 돌려줍니다.
+ * 로컬 변경(mutations)은 기존 지출/수입 서비스를 그대로 거쳐 한 트랜잭션으로 반영하며,
+ * UPDATE/DELETE는 클라이언트가 본 changeSeq(baseSeq)와 서버 값이 다르면 반영하지 않고 충돌로 돌려줍니다.
+ * CREATE는 장부별 clientId를 기록(SyncCreation)해 두고, 응답을 받지 못한 클라이언트가 다시 보내면
+ * 새로 만들지 않고 앞서 만든 행의 ID와 순번을 돌려줍니다.
+ * (권한 오류 등 예외가 나면 배치 전체가 롤백됨)
+ *
+ * 응답은 순번 기준 최대 sync.page-size건이며, 남은 변경이 있으면 hasMore=true입니다.
+ * since가 없거나 삭제 기록이 이미 정리된 순번(pruned_seq)보다 오래되면 전체 동기화(reset=true)로 응답합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncService {
+
+    static final String CONFLICT_MODIFIED = "MODIFIED";
+    static final String CONFLICT_DELETED = "DELETED";
+
+    private final ExpenseService expenseService;
+    private final IncomeService incomeService;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncCreationRepository syncCreationRepository;
+    private final AccountBookChangeSequenceRepository changeSequenceRepository;
+    private final AccountBookMemberRepository accountBookMemberRepository;
+    private final EntityManager entityManager;
+
+    @Value("${sync.page-size:500}")
+    private int pageSize;
+
+    /**
+     * since 이후 변경분 조회 (읽기 전용)
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse pull(UUID userId, UUID accountBookId, Long since) {
+        validateMember(userId, accountBookId);
+        return collectChanges(accountBookId, since, List.of(), List.of());
+    }
+
+    /**
+     * 로컬 변경 반영 + since 이후 변경분 조회 (한 트랜잭션)
+     */
+    @Transactional
+    public SyncResponse sync(UUID userId, SyncRequest request) {
+        UUID accountBookId = request.getAccountBookId();
+        validateMember(userId, accountBookId);
+
+        List<Applied> applied = new ArrayList<>();
+        List<SyncResponse.Conflict> conflicts = new ArrayList<>();
+        if (request.getMutations() != null) {
+            for (Mutation mutation : request.getMutations()) {
+                apply(userId, accountBookId, mutation, applied, conflicts);
+            }
+        }
+
+        // 변경 순번은 flush 시점(@PreUpdate)에 발급되므로 먼저 반영
+        entityManager.flush();
+        List<SyncResponse.Applied> results = applied.stream().map(Applied::toResponse).collect(Collectors.toList());
+
+        if (!applied.isEmpty() || !conflicts.isEmpty()) {
+            log.info("[Sync] Applied {} mutations ({} conflicts) to account book {}",
+                    applied.size(), conflicts.size(), accountBookId);
+        }
+        return collectChanges(accountBookId, request.getSince(), results, conflicts);
+    }
+
+    private void apply(UUID userId, UUID accountBookId, Mutation mutation,
+                       List<Applied> applied, List<SyncResponse.Conflict> conflicts) {
+        if (mutation.getOp() == SyncRequest.Operation.CREATE) {
+            applied.add(create(userId, accountBookId, mutation));
+            return;
+        }
+        if (mutation.getId() == null || mutation.getBaseSeq() == null) {
+            throw new BusinessException("UPDATE/DELETE에는 id와 baseSeq가 필요합니다", ErrorCode.INVALID_INPUT);
+        }
+
+        SyncTracked current = find(mutation.getType(), mutation.getId());
+        if (current == null || !accountBookId.equals(current.getSyncAccountBookId())) {
+            if (mutation.getOp() == SyncRequest.Operation.DELETE) {
+                // 이미 삭제(또는 이동)된 행 삭제는 결과가 같으므로 반영된 것으로 처리
+                applied.add(new Applied(mutation, mutation.getId(), () -> 0L));
+            } else {
+                conflicts.add(conflict(mutation, CONFLICT_DELETED, null));
+            }
+            return;
+        }
+        long serverSeq = changeSeqOf(current);
+        if (serverSeq != mutation.getBaseSeq()) {
+            conflicts.add(conflict(mutation, CONFLICT_MODIFIED, serverSeq));
+            return;
+        }
+
+        if (mutation.getOp() == SyncRequest.Operation.UPDATE) {
+            update(userId, mutation);
+            applied.add(new Applied(mutation, mutation.getId(), () -> changeSeqOf(current)));
+        } else {
+            delete(userId, mutation);
+            applied.add(new Applied(mutation, mutation.getId(),
+                    () -> tombstoneSeq(accountBookId, mutation.getType(), mutation.getId())));
+        }
+    }
+
+    private Applied create(UUID userId, UUID accountBookId, Mutation mutation) {
+        SyncCreationId creationId = mutation.getClientId() != null
+                ? new SyncCreationId(accountBookId, mutation.getClientId())
+                : null;
+        if (creationId != null) {
+            SyncCreation previous = syncCreationRepository.findById(creationId).orElse(null);
+            if (previous != null) {
+                return replay(accountBookId, mutation, previous);
+            }
+        }
+
+        UUID id;
+        if (mutation.getType() == SyncEntityType.EXPENSE) {
+            requirePayload(mutation.getExpense());
+            mutation.getExpense().setAccountBookId(accountBookId);
+            id = expenseService.createExpense(userId, mutation.getExpense()).getExpenseId();
+        } else {
+            requirePayload(mutation.getIncome());
+            mutation.getIncome().setAccountBookId(accountBookId);
+            id = incomeService.createIncome(userId, mutation.getIncome()).getIncomeId();
+        }
+
+        if (creationId != null) {
+            // 같은 clientId가 동시에 들어오면 기본키 충돌로 이 트랜잭션이 롤백됨 (재시도 시 replay)
+            entityManager.persist(SyncCreation.builder()
+                    .id(creationId)
+                    .entityType(mutation.getType())
+                    .entityId(id)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        SyncEntityType type = mutation.getType();
+        return new Applied(mutation, id, () -> changeSeqOf(find(type, id)));
+    }
+
+    /**
+     * 이미 반영된 CREATE 재전송: 앞서 만든 행의 ID와 현재 순번 (그 사이 삭제/이동됐으면 삭제 기록의 순번)
+     */
+    private Applied replay(UUID accountBookId, Mutation mutation, SyncCreation previous) {
+        if (previous.getEntityType() != mutation.getType()) {
+            throw new BusinessException("이미 다른 종류의 생성에 사용된 clientId입니다: " + mutation.getClientId(),
+                    ErrorCode.INVALID_INPUT);
+        }
+        UUID id = previous.getEntityId();
+        SyncTracked current = find(previous.getEntityType(), id);
+        if (current != null && accountBookId.equals(current.getSyncAccountBookId())) {
+            return new Applied(mutation, id, () -> changeSeqOf(current));
+        }
+        return new Applied(mutation, id, () -> tombstoneSeq(accountBookId, previous.getEntityType(), id));
+    }
+
+    private void update(UUID userId, Mutation mutation) {
+        if (mutation.getType() == SyncEntityType.EXPENSE) {
+            requirePayload(mutation.getExpense());
+            expenseService.updateExpense(userId, mutation.getId(), mutation.getExpense());
+        } else {
+            requirePayload(mutation.getIncome());
+            incomeService.updateIncome(userId, mutation.getId(), mutation.getIncome());
+        }
+    }
+
+    private void delete(UUID userId, Mutation mutation) {
+        if (mutation.getType() == SyncEntityType.EXPENSE) {
+            expenseService.deleteExpense(userId, mutation.getId());
+        } else {
+            incomeService.deleteIncome(userId, mutation.getId());
+        }
+    }
+
+    private SyncResponse collectChanges(UUID accountBookId, Long since,
+                                        List<SyncResponse.Applied> applied, List<SyncResponse.Conflict> conflicts) {
+        boolean reset = since == null || since < prunedSeq(accountBookId);
+        long from = reset ? -1 : since;
+
+        // 순번만 먼저 pageSize + 1개 읽어 이번 응답의 상한(until)을 정함
+        List<Long> seqs = syncChangeRepository.findChangeSeqs(accountBookId, from, !reset, pageSize + 1);
+        boolean hasMore = seqs.size() > pageSize;
+        long until = seqs.isEmpty() ? from : seqs.get(Math.min(seqs.size(), pageSize) - 1);
+
+        List<SyncResponse.Deletion> deleted = reset ? List.of() : syncTombstoneRepository
+                .findChanges(accountBookId, from, until).stream()
+                .map(t -> SyncResponse.Deletion.builder()
+                        .type(t.getId().getEntityType())
+                        .id(t.getId().getEntityId())
+                        .changeSeq(t.getChangeSeq())
+                        .build())
+                .collect(Collectors.toList());
+
+        return SyncResponse.builder()
+                .accountBookId(accountBookId)
+                .cursor(Math.max(until, 0))
+                .hasMore(hasMore)
+                .reset(reset)
+                .expenses(expenseRepository.findSyncChanges(accountBookId, from, until).stream()
+                        .map(expenseService::toResponse)
+                        .collect(Collectors.toList()))
+                .incomes(incomeRepository.findSyncChanges(accountBookId, from, until).stream()
+                        .map(incomeService::toResponse)
+                        .collect(Collectors.toList()))
+                .deleted(deleted)
+                .applied(applied)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    private long prunedSeq(UUID accountBookId) {
+        return changeSequenceRepository.findById(accountBookId)
+                .map(AccountBookChangeSequence::getPrunedSeq)
+                .orElse(0L);
+    }
+
+    private long tombstoneSeq(UUID accountBookId, SyncEntityType type, UUID id) {
+        return syncTombstoneRepository.findById(new SyncTombstoneId(accountBookId, type, id))
+                .map(SyncTombstone::getChangeSeq)
+                .orElse(0L);
+    }
+
+    private SyncTracked find(SyncEntityType type, UUID id) {
+        if (type == SyncEntityType.EXPENSE) {
+            return expenseRepository.findById(id).orElse(null);
+        }
+        return incomeRepository.findById(id).orElse(null);
+    }
+
+    private static long changeSeqOf(SyncTracked tracked) {
+        if (tracked instanceof Expense expense) {
+            return expense.getChangeSeq();
+        }
+        return ((Income) tracked).getChangeSeq();
+    }
+
+    private static void requirePayload(Object payload) {
+        if (payload == null) {
+            throw new BusinessException("CREATE/UPDATE에는 지출(expense) 또는 수입(income) 내용이 필요합니다",
+                    ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private static SyncResponse.Conflict conflict(Mutation mutation, String reason, Long serverSeq) {
+        return SyncResponse.Conflict.builder()
+                .clientId(mutation.getClientId())
+                .type(mutation.getType())
+                .id(mutation.getId())
+                .reason(reason)
+                .serverSeq(serverSeq)
+                .build();
+    }
+
+    private void validateMember(UUID userId, UUID accountBookId) {
+        if (!accountBookMemberRepository.existsByAccountBookAccountBookIdAndUserUserId(accountBookId, userId)) {
+            throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 반영된 변경 (순번은 flush 후에 확정되므로 나중에 읽음)
+     */
+    private record Applied(Mutation mutation, UUID id, Supplier<Long> changeSeq) {
+
+        SyncResponse.Applied toResponse() {
+            return SyncResponse.Applied.builder()
+                    .clientId(mutation.getClientId())
+                    .type(mutation.getType())
+                    .id(id)
+                    .changeSeq(changeSeq.get())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화용 삭제 기록 엔티티
+ *
+ * 지출/수입이 삭제되거나 다른 장부로 이동하면 원래 장부에 남깁니다. (ChangeSequencer가 JDBC로 기록)
+ * 보관 기간이 지나면 SyncTombstonePruner가 정리합니다.
+ */
+@Entity
+@Table(name = "sync_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @EmbeddedId
+    private SyncTombstoneId id;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,32 @@
+package com.moneyflow.domain.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * SyncTombstone 복합 기본키
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SyncTombstoneId implements Serializable {
+
+    @Column(name = "account_book_id")
+    private UUID accountBookId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id")
+    private UUID entityId;
+}
@@ -0,0 +1,45 @@
+package com.moneyflow.domain.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 삭제 기록 정리 스케줄러
+ * 매일 새벽 4시 40분에 보관 기간(sync.tombstone-retention)이 지난 삭제 기록을 지웁니다.
+ *
+ * 지운 기록의 최대 순번은 장부별 pruned_seq에 남으며, 그보다 오래된 since로 요청한 클라이언트는
+ * 삭제를 놓치지 않도록 전체 동기화(reset)를 받습니다.
+ * 같은 보관 기간이 지난 CREATE 기록(SyncCreation)도 함께 지웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncTombstonePruner {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final SyncCreationRepository syncCreationRepository;
+
+    @Value("${sync.tombstone-retention:90d}")
+    private Duration retention;
+
+    @Scheduled(cron = "0 40 4 * * *")
+    @Transactional
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int books = syncChangeRepository.pruneTombstones(cutoff);
+        if (books > 0) {
+            log.info("[Sync] Pruned tombstones older than {} in {} account books", retention, books);
+        }
+        int creations = syncCreationRepository.deleteCreatedBefore(cutoff);
+        if (creations > 0) {
+            log.info("[Sync] Pruned {} create records older than {}", creations, retention);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.moneyflow.domain.sync;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, SyncTombstoneId> {
+
+    /**
+     * 순번 범위 (since, until]의 삭제 기록
+     */
+    @Query("SELECT t FROM SyncTombstone t WHERE t.id.accountBookId = :accountBookId " +
+            "AND t.changeSeq > :since AND t.changeSeq <= :until ORDER BY t.changeSeq")
+    List<SyncTombstone> findChanges(@Param("accountBookId") UUID accountBookId,
+                                    @Param("since") long since,
+                                    @Param("until") long until);
+}
@@ -0,0 +1,29 @@
+package com.moneyflow.domain.sync;
+
+import java.util.UUID;
+
+/**
+ * 장부 단위 변경 순번을 기록하는 엔티티 (SyncChangeListener 대상)
+ */
+public interface SyncTracked {
+
+    SyncEntityType getSyncEntityType();
+
+    UUID getSyncEntityId();
+
+    /**
+     * 현재 소속 장부 ID (장부가 없으면 동기화 대상 아님)
+     */
+    UUID getSyncAccountBookId();
+
+    Long getChangeSeq();
+
+    void setChangeSeq(Long changeSeq);
+
+    /**
+     * 조회/저장 시점의 장부 ID (장부 이동 시 이전 장부에 삭제 기록을 남기기 위해 보관)
+     */
+    UUID getSyncedAccountBookId();
+
+    void setSyncedAccountBookId(UUID accountBookId);
+}
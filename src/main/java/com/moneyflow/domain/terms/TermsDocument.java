@@ -1,7 +1,10 @@
 package com.moneyflow.domain.terms;
 
+import com.moneyflow.domain.common.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +18,7 @@ import java.util.UUID;
  * 과거 버전 삭제 금지 (법적 증거용)
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TERMS)
 @Table(
     name = "terms_documents",
     uniqueConstraints = @UniqueConstraint(columnNames = {"type", "version"})
@@ -1,6 +1,10 @@
 package com.moneyflow.domain.terms;
 
+import com.moneyflow.domain.common.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +13,8 @@ import java.util.UUID;
 
 /**
  * 약관 문서 Repository
+ *
+ * 조회 결과는 쿼리 캐시(terms-query)에 보관되며, terms_documents 변경 시 자동 무효화됩니다.
  */
 @Repository
 public interface TermsDocumentRepository extends JpaRepository<TermsDocument, UUID> {
@@ -16,15 +22,24 @@ public interface TermsDocumentRepository extends JpaRepository<TermsDocument, UU
     /**
      * 현재 유효한 모든 약관 조회 (is_active = true)
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TERMS_QUERY)})
     List<TermsDocument> findByIsActiveTrue();
 
     /**
      * 특정 타입의 최신 약관 조회
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TERMS_QUERY)})
     Optional<TermsDocument> findByTypeAndIsActiveTrue(DocumentType type);
 
     /**
      * 특정 타입과 버전의 약관 조회
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TERMS_QUERY)})
     Optional<TermsDocument> findByTypeAndVersion(DocumentType type, String version);
 }
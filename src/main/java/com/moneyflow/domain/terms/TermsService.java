@@ -43,8 +43,8 @@ public class TermsService {
      * 사용자의 약관 동의 이력 조회
      */
     public List<UserAgreementResponse> getUserAgreements(UUID userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 조회 조건의 FK 값만 필요하므로 프록시 사용 (SELECT 없음)
+        User user = userRepository.getReferenceById(userId);
         return userAgreementRepository.findByUserOrderByAgreedAtDesc(user)
             .stream()
             .map(UserAgreementResponse::from)
@@ -1,5 +1,6 @@
 package com.moneyflow.domain.token;
 
+import com.moneyflow.domain.common.TimeOrderedUuid;
 import com.moneyflow.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -30,7 +31,7 @@ import java.util.UUID;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     /**
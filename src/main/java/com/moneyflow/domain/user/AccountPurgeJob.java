@@ -0,0 +1,83 @@
+package com.moneyflow.domain.user;
+
+import com.moneyflow.domain.common.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회원 탈퇴 데이터 삭제 작업 엔티티
+ *
+ * 탈퇴 요청 트랜잭션에서 사용자 삭제 표시와 함께 저장하고,
+ * AccountPurgeWorker가 단계(AccountPurgeStep)별로 나눠 삭제하면서 진행 상황을 기록합니다.
+ */
+@Entity
+@Table(name = "account_purge_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountPurgeJob {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * 진행 중인 삭제 단계 (완료된 단계는 다시 실행하지 않음)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    @Builder.Default
+    private AccountPurgeStep step = AccountPurgeStep.first();
+
+    @Column(name = "deleted_rows", nullable = false)
+    @Builder.Default
+    private Long deletedRows = 0L;
+
+    /**
+     * 실패 횟수 (성공하면 초기화하지 않음)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    /**
+     * 다음 처리 시각 (RUNNING 상태에서는 점유 만료 시각)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        PENDING,    // 처리 대기 (재시도 대기 포함)
+        RUNNING,    // 워커가 점유하여 삭제 중
+        COMPLETED,  // 사용자 행까지 삭제 완료
+        FAILED      // 재시도 포기 (last_error 확인 후 수동 처리)
+    }
+}
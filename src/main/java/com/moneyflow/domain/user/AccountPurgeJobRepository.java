@@ -0,0 +1,30 @@
+package com.moneyflow.domain.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AccountPurgeJobRepository extends JpaRepository<AccountPurgeJob, UUID> {
+
+    /**
+     * 처리 시각이 된 대기 작업 + 점유가 만료된 진행 중 작업 하나를 잠금 조회
+     * 다른 인스턴스가 잠근 행은 건너뜁니다. (SKIP LOCKED)
+     */
+    @Query(value = """
+            SELECT * FROM account_purge_jobs
+            WHERE status IN ('PENDING', 'RUNNING') AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    Optional<AccountPurgeJob> findDueForUpdate(@Param("now") LocalDateTime now);
+
+    Optional<AccountPurgeJob> findByUserId(UUID userId);
+
+    long countByStatus(AccountPurgeJob.Status status);
+}
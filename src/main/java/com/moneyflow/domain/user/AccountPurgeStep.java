@@ -0,0 +1,122 @@
+package com.moneyflow.domain.user;
+
+/**
+ * 회원 탈퇴 데이터 삭제 단계 (선언 순서대로 실행)
+ *
+ * 참조하는 쪽을 먼저 지우도록 정렬되어 있어 DB의 ON DELETE CASCADE에 기대지 않습니다.
+ * 각 단계는 키 순서로 최대 :limit 행씩 처리하며, 처리한 행이 :limit보다 적으면 다음 단계로 넘어갑니다.
+ *
+ * 삭제 범위는 기존 동기 탈퇴와 같습니다.
+ * - 사용자가 만든 장부(account_books.created_by)와 그 장부의 모든 데이터
+ * - 다른 장부에 사용자가 등록한 지출/수입/고정비/자산, 멤버십, 커플 연결, 알림
+ * - 다른 사람 지출의 결제자(paid_by_user_id)는 삭제 대신 비움
+ */
+public enum AccountPurgeStep {
+
+    NOTIFICATIONS("notifications", "notification_id",
+            "user_id = :userId"),
+
+    EXPENSE_PARTICIPANTS("expense_participants", "expense_id, user_id",
+            "user_id = :userId OR expense_id IN (SELECT expense_id FROM expenses WHERE "
+                    + Scopes.OWNED_OR_IN_OWNED_BOOK + ")"),
+
+    RECURRING_EXPENSE_PAYMENTS("recurring_expense_payments", "payment_id",
+            "recurring_expense_id IN (SELECT recurring_expense_id FROM recurring_expenses WHERE "
+                    + Scopes.OWNED_OR_IN_OWNED_BOOK + ")"
+                    + " OR expense_id IN (SELECT expense_id FROM expenses WHERE " + Scopes.OWNED_OR_IN_OWNED_BOOK + ")"),
+
+    EXPENSES("expenses", "expense_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    /** 남은 지출(다른 사람 장부)의 결제자 정보만 비움 */
+    EXPENSE_PAYERS("expenses", "expense_id", "paid_by_user_id = :userId") {
+        @Override
+        public String sql() {
+            return "UPDATE expenses SET paid_by_user_id = NULL WHERE expense_id IN ("
+                    + "SELECT expense_id FROM expenses WHERE paid_by_user_id = :userId"
+                    + " ORDER BY expense_id LIMIT :limit)";
+        }
+    },
+
+    INCOMES("incomes", "income_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    CATEGORY_BUDGETS("category_budgets", "category_budget_id",
+            "budget_id IN (SELECT budget_id FROM budgets WHERE " + Scopes.OWNED_OR_IN_OWNED_BOOK + ")"),
+
+    BUDGETS("budgets", "budget_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    RECURRING_EXPENSES("recurring_expenses", "recurring_expense_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    ASSET_SNAPSHOTS("asset_snapshots", "snapshot_id", "account_book_id IN (" + Scopes.OWNED_BOOKS + ")"),
+
+    ASSETS("assets", "asset_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    ACCOUNT_BOOK_MEMBERS("account_book_members", "account_book_id, user_id", Scopes.OWNED_OR_IN_OWNED_BOOK),
+
+    /** 동기화 삭제 기록/CREATE 기록/변경 순번 (사용자가 만든 장부) */
+    SYNC_TOMBSTONES("sync_tombstones", "account_book_id, entity_type, entity_id",
+            "account_book_id IN (" + Scopes.OWNED_BOOKS + ")"),
+
+    SYNC_CREATIONS("sync_creations", "account_book_id, client_id",
+            "account_book_id IN (" + Scopes.OWNED_BOOKS + ")"),
+
+    ACCOUNT_BOOK_CHANGE_SEQS("account_book_change_seqs", "account_book_id",
+            "account_book_id IN (" + Scopes.OWNED_BOOKS + ")"),
+
+    /** 장부/월별 지출 합계 (사용자가 만든 장부) */
+    BUDGET_SPENDS("budget_spends", "account_book_id, year, month",
+            "account_book_id IN (" + Scopes.OWNED_BOOKS + ")"),
+
+    ACCOUNT_BOOKS("account_books", "account_book_id", "created_by = :userId"),
+
+    COUPLES("couples", "couple_id", "user1_id = :userId OR user2_id = :userId"),
+
+    /** 마지막 단계: 사용자 행 (이 단계가 끝나면 작업 완료) */
+    USER("users", "user_id", "user_id = :userId") {
+        @Override
+        public String sql() {
+            return "DELETE FROM users WHERE user_id = :userId";
+        }
+    };
+
+    private final String table;
+    private final String key;
+    private final String condition;
+
+    AccountPurgeStep(String table, String key, String condition) {
+        this.table = table;
+        this.key = key;
+        this.condition = condition;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * 한 배치를 처리하는 SQL (파라미터: :userId, :limit)
+     */
+    public String sql() {
+        return "DELETE FROM " + table + " WHERE (" + key + ") IN ("
+                + "SELECT " + key + " FROM " + table + " WHERE " + condition
+                + " ORDER BY " + key + " LIMIT :limit)";
+    }
+
+    /**
+     * 다음 단계 (마지막 단계면 null)
+     */
+    public AccountPurgeStep next() {
+        AccountPurgeStep[] steps = values();
+        return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+    }
+
+    public static AccountPurgeStep first() {
+        return values()[0];
+    }
+
+    private static final class Scopes {
+
+        static final String OWNED_BOOKS = "SELECT account_book_id FROM account_books WHERE created_by = :userId";
+
+        static final String OWNED_OR_IN_OWNED_BOOK = "user_id = :userId OR account_book_id IN (" + OWNED_BOOKS + ")";
+    }
+}
@@ -48,4 +48,10 @@ public class User {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    /**
+     * 탈퇴 일시 (탈퇴 데이터 삭제 작업이 끝나면 행 자체가 삭제됨)
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
@@ -0,0 +1,21 @@
+package com.moneyflow.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 기간 합계/건수 집계 결과 DTO (Projection)
+ *
+ * 목록 페이지와 분리된 SUM/COUNT 집계 쿼리 결과를 받기 위한 인터페이스
+ */
+public interface AmountSummary {
+
+    /**
+     * 합계 금액
+     */
+    BigDecimal getTotalAmount();
+
+    /**
+     * 건수
+     */
+    Long getCount();
+}
@@ -0,0 +1,26 @@
+package com.moneyflow.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 예산/지출 집계 결과 (Projection)
+ *
+ * 카테고리 예산 행과 지출 합계를 한 번의 GROUP BY로 묶은 결과입니다.
+ */
+public interface CategoryBudgetUsage {
+
+    /**
+     * 카테고리명
+     */
+    String getCategory();
+
+    /**
+     * 카테고리 목표 금액 (목표 없이 지출만 있으면 null)
+     */
+    BigDecimal getTargetAmount();
+
+    /**
+     * 지출 합계
+     */
+    BigDecimal getSpentAmount();
+}
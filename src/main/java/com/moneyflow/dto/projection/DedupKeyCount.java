@@ -0,0 +1,17 @@
+package com.moneyflow.dto.projection;
+
+/**
+ * 중복 판별 키별 건수 (Projection)
+ */
+public interface DedupKeyCount {
+
+    /**
+     * 중복 판별 키 (expenses.dedup_key)
+     */
+    String getDedupKey();
+
+    /**
+     * 같은 키의 지출 건수
+     */
+    Long getCount();
+}
@@ -0,0 +1,29 @@
+package com.moneyflow.dto.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 월별 예산/지출 집계 결과 (Projection)
+ *
+ * 1~12월 각각의 예산 행과 월별 지출 합계(budget_spends)를 한 번의 쿼리로 묶은 결과입니다.
+ */
+public interface MonthlyBudgetUsage {
+
+    Integer getMonth();
+
+    /**
+     * 예산 ID (예산이 없는 달이면 null)
+     */
+    UUID getBudgetId();
+
+    /**
+     * 목표 금액 (예산이 없는 달이면 null)
+     */
+    BigDecimal getTargetAmount();
+
+    /**
+     * 지출 합계
+     */
+    BigDecimal getSpentAmount();
+}
@@ -1,5 +1,6 @@
 package com.moneyflow.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,4 +36,28 @@ public class BudgetRequest {
     @NotNull(message = "목표 금액은 필수입니다")
     @DecimalMin(value = "0.0", inclusive = true, message = "목표 금액은 0 이상이어야 합니다")
     private BigDecimal targetAmount;
+
+    /**
+     * 카테고리별 목표 (선택)
+     * - null: 기존 카테고리 목표 유지
+     * - 목록: 이 목록으로 교체 (빈 목록이면 모두 삭제)
+     */
+    @Valid
+    @Size(max = 50, message = "카테고리 예산은 50개까지 설정할 수 있습니다")
+    private List<CategoryTarget> categoryBudgets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryTarget {
+
+        @NotBlank(message = "카테고리는 필수입니다")
+        @Size(max = 50)
+        private String category;
+
+        @NotNull(message = "목표 금액은 필수입니다")
+        @DecimalMin(value = "0.0", inclusive = true, message = "목표 금액은 0 이상이어야 합니다")
+        private BigDecimal targetAmount;
+    }
 }
@@ -0,0 +1,57 @@
+package com.moneyflow.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * CSV 명세서 가져오기 열 매핑
+ *
+ * 열은 헤더 이름(대소문자 무시) 또는 1부터 시작하는 열 번호로 지정합니다.
+ * 기본값은 내보내기(expenses.csv) 헤더와 같아 내보낸 파일을 그대로 다시 가져올 수 있습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "CSV 가져오기 열 매핑")
+public class ExpenseImportMapping {
+
+    @Builder.Default
+    @Schema(description = "날짜 열 (필수)", example = "거래일자")
+    private String date = "date";
+
+    @Builder.Default
+    @Schema(description = "금액 열 (필수)", example = "이용금액")
+    private String amount = "amount";
+
+    @Builder.Default
+    @Schema(description = "가맹점 열", example = "가맹점명")
+    private String merchant = "merchant";
+
+    @Builder.Default
+    @Schema(description = "메모 열")
+    private String memo = "memo";
+
+    @Builder.Default
+    @Schema(description = "결제 수단 열")
+    private String paymentMethod = "payment_method";
+
+    @Builder.Default
+    @Schema(description = "카테고리 열 (값이 없거나 지원하지 않는 카테고리면 자동 분류)")
+    private String category = "category";
+
+    @Schema(description = "날짜 형식 (생략 시 yyyy-MM-dd, yyyy.MM.dd, yyyy/MM/dd, yyyyMMdd 자동 인식)", example = "yyyy.MM.dd")
+    private String dateFormat;
+
+    @Builder.Default
+    @Schema(description = "첫 줄이 헤더인지 여부 (false면 열 번호로만 지정)")
+    private boolean header = true;
+
+    @Builder.Default
+    @Schema(description = "파일 문자 집합 (은행/카드사 CSV는 EUC-KR인 경우가 많음)", example = "EUC-KR")
+    private String charset = "UTF-8";
+
+    @Schema(description = "출금이 음수로 표시된 명세서면 true (양수 행은 입금으로 보고 건너뜀)")
+    private boolean expensesNegative;
+}
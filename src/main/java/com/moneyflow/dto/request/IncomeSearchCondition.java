@@ -0,0 +1,40 @@
+package com.moneyflow.dto.request;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 수입 검색 조건
+ *
+ * null/빈 값인 조건은 쿼리에 포함되지 않습니다 (IncomeSpecifications 참고).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IncomeSearchCondition {
+
+    /**
+     * 조회 대상 사용자 (필수)
+     */
+    private UUID userId;
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * 수입 출처 목록 (OR 조건)
+     */
+    private List<String> sources;
+
+    /**
+     * 금액 범위 (이상/이하)
+     */
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+}
@@ -0,0 +1,58 @@
+package com.moneyflow.dto.request;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 커서 기반(Keyset) 페이지네이션 커서
+ *
+ * 정렬 키 (date DESC, created_at DESC, id DESC)의 마지막 행 값을 담습니다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명(opaque) 토큰으로만 노출됩니다.
+ */
+public record KeysetCursor(LocalDate date, LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String raw = date + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 토큰을 커서로 디코딩
+     *
+     * @param token 클라이언트가 전달한 커서 토큰 (null/빈 값이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.moneyflow.dto.request;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 검색 결과 커서 기반 페이지네이션 커서
+ *
+ * 정렬 키 (score DESC, date DESC, id DESC)의 마지막 행 값을 담습니다.
+ * score는 DB가 계산한 real 값을 그대로 왕복시켜야 같은 행에서 정확히 이어집니다.
+ */
+public record SearchCursor(float score, LocalDate date, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + date + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 불투명 토큰을 커서로 디코딩
+     *
+     * @param token 클라이언트가 전달한 커서 토큰 (null/빈 값이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            float score = Float.parseFloat(parts[0]);
+            if (!Float.isFinite(score)) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new SearchCursor(score, LocalDate.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
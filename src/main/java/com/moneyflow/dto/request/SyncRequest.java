@@ -0,0 +1,74 @@
+package com.moneyflow.dto.request;
+
+import com.moneyflow.domain.sync.SyncEntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동기화 요청 DTO
+ * 오프라인에서 쌓인 변경을 한 트랜잭션으로 반영하고, since 이후 서버 변경분을 받습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "동기화 요청")
+public class SyncRequest {
+
+    @NotNull(message = "장부 ID는 필수입니다")
+    @Schema(description = "장부 ID")
+    private UUID accountBookId;
+
+    @Schema(description = "마지막으로 받은 순번 (응답의 cursor, 생략 시 전체 동기화)")
+    private Long since;
+
+    @Valid
+    @Size(max = 200, message = "한 번에 최대 200건까지 반영할 수 있습니다")
+    @Schema(description = "반영할 로컬 변경 (순서대로 적용)")
+    private List<Mutation> mutations;
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Mutation {
+        @Size(max = 100, message = "clientId는 100자 이하여야 합니다")
+        @Schema(description = "클라이언트 측 식별자 (결과 매칭용, CREATE는 서버 ID를 이 값으로 돌려주며 "
+                + "같은 값으로 다시 보내면 새로 만들지 않고 앞서 만든 행을 돌려줌)")
+        private String clientId;
+
+        @NotNull
+        @Schema(description = "대상 종류 (EXPENSE, INCOME)")
+        private SyncEntityType type;
+
+        @NotNull
+        @Schema(description = "작업 (CREATE, UPDATE, DELETE)")
+        private Operation op;
+
+        @Schema(description = "대상 ID (UPDATE, DELETE)")
+        private UUID id;
+
+        @Schema(description = "클라이언트가 마지막으로 본 행의 changeSeq (UPDATE, DELETE, 다르면 충돌)")
+        private Long baseSeq;
+
+        @Valid
+        @Schema(description = "지출 내용 (type=EXPENSE의 CREATE, UPDATE)")
+        private ExpenseRequest expense;
+
+        @Valid
+        @Schema(description = "수입 내용 (type=INCOME의 CREATE, UPDATE)")
+        private IncomeRequest income;
+    }
+}
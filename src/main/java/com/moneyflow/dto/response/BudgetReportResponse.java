@@ -0,0 +1,55 @@
+package com.moneyflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 월 예산 리포트 응답 DTO (전체 + 카테고리별 목표/지출/남은 금액/월말 예상)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetReportResponse {
+
+    private UUID accountBookId;
+    private Integer year;
+    private Integer month;
+
+    // 월 전체 예산 (예산이 없으면 budgetId/targetAmount가 null)
+    private UUID budgetId;
+    private BigDecimal targetAmount;
+    private BigDecimal spentAmount;
+    private BigDecimal remainingAmount;
+    private Double usagePercentage;
+
+    // 소진 속도 (지난 날짜 기준 일평균으로 월말 지출 추정)
+    private Integer daysElapsed;
+    private Integer daysInMonth;
+    private BigDecimal dailyAverage;
+    private BigDecimal projectedSpending;
+    private Double projectedUsagePercentage;
+
+    // 카테고리별 (목표가 있거나 지출이 있는 카테고리)
+    private List<CategoryUsage> categories;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryUsage {
+        private String category;
+        private BigDecimal targetAmount;      // 목표 없으면 null
+        private BigDecimal spentAmount;
+        private BigDecimal remainingAmount;   // 목표 없으면 null
+        private Double usagePercentage;       // 목표 없으면 null
+        private BigDecimal projectedSpending;
+        private Boolean projectedOverrun;     // 월말 예상 지출이 목표를 넘으면 true
+    }
+}
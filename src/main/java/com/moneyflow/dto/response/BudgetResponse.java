@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -27,6 +28,16 @@ public class BudgetResponse {
     private BigDecimal currentSpending;  // 현재 소비 금액
     private BigDecimal remainingAmount;  // 남은 금액
     private Double usagePercentage;      // 사용률 (%)
+    private List<CategoryTarget> categoryBudgets;  // 카테고리별 목표 (지출은 예산 리포트에서 조회)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryTarget {
+        private String category;
+        private BigDecimal targetAmount;
+    }
 }
@@ -0,0 +1,69 @@
+package com.moneyflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 현금 흐름 예측 응답 DTO (고정비 결제 일정 + 지난 달 평균 기반 변동 지출/수입으로 월말 잔액 추정)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowForecastResponse {
+
+    private UUID accountBookId;
+    private LocalDate asOf;                   // 예측 기준일 (오늘)
+    private BigDecimal currentBalance;        // 초기 잔액 + 전체 수입 - 전체 지출
+
+    // 평균을 낸 지난 달 수 (장부가 생긴 지 얼마 안 되면 설정보다 적음)
+    private Integer trailingMonths;
+    private BigDecimal monthlyIncomeAverage;
+    private List<CategoryTrend> categories;
+
+    private List<MonthForecast> months;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryTrend {
+        private String category;
+        private BigDecimal monthlyAverage;    // 고정비 결제로 생긴 지출 제외
+        private BigDecimal currentMonthSpent;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthForecast {
+        private Integer year;
+        private Integer month;
+        private BigDecimal openingBalance;    // 이번 달은 현재 잔액
+        private BigDecimal projectedIncome;
+        private BigDecimal recurringExpense;
+        private BigDecimal variableExpense;   // 이번 달은 평균 중 아직 쓰지 않은 금액만
+        private BigDecimal closingBalance;
+        private List<ScheduledPayment> payments;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScheduledPayment {
+        private UUID recurringExpenseId;
+        private String name;
+        private String category;
+        private LocalDate date;
+        private BigDecimal amount;
+    }
+}
@@ -0,0 +1,54 @@
+package com.moneyflow.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * CSV 명세서 가져오기 진행 상황 (청크마다 한 줄, 마지막 줄은 done=true)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "CSV 가져오기 진행 상황")
+public class ExpenseImportProgress {
+
+    @Schema(description = "완료 여부 (마지막 줄만 true)")
+    private boolean done;
+
+    @Schema(description = "읽은 데이터 행 수")
+    private long processed;
+
+    @Schema(description = "저장한 지출 수")
+    private long imported;
+
+    @Schema(description = "이미 있는 지출이라 건너뛴 수")
+    private long duplicates;
+
+    @Schema(description = "입금/0원 등 지출이 아니라 건너뛴 수")
+    private long skipped;
+
+    @Schema(description = "형식 오류로 실패한 수")
+    private long failed;
+
+    @Schema(description = "실패 상세 (마지막 줄에만, 최대 100건)")
+    private List<FailedRow> failures;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FailedRow {
+        @Schema(description = "CSV 줄 번호 (1부터 시작)")
+        private long line;
+
+        @Schema(description = "실패 사유")
+        private String reason;
+    }
+}
@@ -15,4 +15,10 @@ public class ExpenseListResponse {
     private List<ExpenseResponse> expenses;
     private BigDecimal totalAmount;
     private int count;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+    private boolean hasNext;
 }
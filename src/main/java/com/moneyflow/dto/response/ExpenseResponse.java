@@ -28,4 +28,5 @@ public class ExpenseResponse {
     private Boolean isAutoCategorized;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long changeSeq;
 }
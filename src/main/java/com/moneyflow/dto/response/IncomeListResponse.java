@@ -26,7 +26,17 @@ public class IncomeListResponse {
     private BigDecimal totalAmount;
 
     /**
-     * 수입 개수
+     * 수입 개수 (조회 기간 전체)
      */
     private int count;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
 }
@@ -66,4 +66,9 @@ public class IncomeResponse {
      * 수정 일시
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * 장부 내 변경 순번 (동기화 충돌 확인용 baseSeq)
+     */
+    private Long changeSeq;
 }
@@ -0,0 +1,36 @@
+package com.moneyflow.dto.response;
+
+import com.moneyflow.domain.receipt.OcrJob;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcrJobResponse {
+
+    private UUID jobId;
+    private OcrJob.Status status;
+    /** 저장된 영수증 이미지 경로 (지출 등록 시 imageUrl로 전달) */
+    private String imageUrl;
+    /** COMPLETED일 때만 포함 */
+    private OcrResponse result;
+    /** FAILED일 때만 포함 */
+    private String errorMessage;
+    /** 같은 이미지의 이전 처리 결과를 재사용했는지 */
+    private boolean cached;
+
+    public static OcrJobResponse from(OcrJob job) {
+        return OcrJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .imageUrl(job.getImageUrl())
+                .result(job.getResult())
+                .errorMessage(job.getErrorMessage())
+                .cached(job.isCached())
+                .build();
+    }
+}
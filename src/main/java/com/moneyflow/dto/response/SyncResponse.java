@@ -0,0 +1,105 @@
+package com.moneyflow.dto.response;
+
+import com.moneyflow.domain.sync.SyncEntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동기화 응답 DTO
+ * since 이후 바뀐 행과 삭제된 행만 담습니다. hasMore면 cursor를 since로 다시 요청합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "동기화 응답")
+public class SyncResponse {
+
+    @Schema(description = "장부 ID")
+    private UUID accountBookId;
+
+    @Schema(description = "다음 요청의 since로 보낼 순번")
+    private long cursor;
+
+    @Schema(description = "아직 받지 않은 변경이 남아 있는지 여부")
+    private boolean hasMore;
+
+    @Schema(description = "전체 동기화 응답 여부 (true면 로컬 데이터를 이 응답으로 교체)")
+    private boolean reset;
+
+    @Schema(description = "추가/수정된 지출")
+    private List<ExpenseResponse> expenses;
+
+    @Schema(description = "추가/수정된 수입")
+    private List<IncomeResponse> incomes;
+
+    @Schema(description = "삭제되었거나 다른 장부로 이동한 항목")
+    private List<Deletion> deleted;
+
+    @Schema(description = "반영된 로컬 변경")
+    private List<Applied> applied;
+
+    @Schema(description = "서버 변경과 충돌해 반영하지 않은 로컬 변경")
+    private List<Conflict> conflicts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Deletion {
+        @Schema(description = "대상 종류")
+        private SyncEntityType type;
+
+        @Schema(description = "대상 ID")
+        private UUID id;
+
+        @Schema(description = "삭제 순번")
+        private long changeSeq;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Applied {
+        @Schema(description = "요청의 clientId")
+        private String clientId;
+
+        @Schema(description = "대상 종류")
+        private SyncEntityType type;
+
+        @Schema(description = "서버 ID")
+        private UUID id;
+
+        @Schema(description = "반영 후 changeSeq (삭제는 삭제 순번)")
+        private long changeSeq;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Conflict {
+        @Schema(description = "요청의 clientId")
+        private String clientId;
+
+        @Schema(description = "대상 종류")
+        private SyncEntityType type;
+
+        @Schema(description = "대상 ID")
+        private UUID id;
+
+        @Schema(description = "충돌 사유 (MODIFIED: 다른 곳에서 수정됨, DELETED: 이미 삭제됨)")
+        private String reason;
+
+        @Schema(description = "서버의 현재 changeSeq (삭제된 경우 null)")
+        private Long serverSeq;
+    }
+}
@@ -0,0 +1,59 @@
+package com.moneyflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래 내역(지출/수입) 검색 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchResponse {
+
+    // 관련도 순 검색 결과
+    private List<Hit> results;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+    private boolean hasNext;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+        private String id;
+        private String type; // EXPENSE, INCOME
+        private String accountBookId;
+        private LocalDate date;
+        private BigDecimal amount;
+        private String category; // 지출: 카테고리, 수입: 출처
+        private String title;    // 지출: 가맹점명, 수입: 출처
+        private String memo;     // 지출: 메모, 수입: 설명
+        private Float score;     // 관련도 (0~1)
+        private List<Highlight> highlights;
+    }
+
+    /**
+     * 일치 구간 (title/memo 문자열 기준 UTF-16 오프셋, end는 미포함)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Highlight {
+        private String field; // title, memo
+        private int start;
+        private int end;
+    }
+}
@@ -0,0 +1,45 @@
+package com.moneyflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 연간 예산 현황 응답 DTO (1~12월)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearlyBudgetResponse {
+
+    private UUID accountBookId;
+    private Integer year;
+
+    // 예산이 있는 달의 목표/지출 합계
+    private BigDecimal totalTargetAmount;
+    private BigDecimal totalBudgetedSpending;
+
+    // 연간 전체 지출
+    private BigDecimal totalSpentAmount;
+
+    private List<MonthUsage> months;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthUsage {
+        private Integer month;
+        private UUID budgetId;               // 예산 없으면 null
+        private BigDecimal targetAmount;     // 예산 없으면 null
+        private BigDecimal spentAmount;
+        private BigDecimal remainingAmount;  // 예산 없으면 null
+        private Double usagePercentage;      // 예산 없으면 null
+    }
+}
@@ -18,6 +18,8 @@ public enum ErrorCode {
     INVALID_INPUT("C001", "입력값이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
     VALIDATION_ERROR("C002", "입력값 검증에 실패했습니다", HttpStatus.BAD_REQUEST),
     INTERNAL_ERROR("C003", "서버 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_CURSOR("C004", "유효하지 않은 페이지 커서입니다", HttpStatus.BAD_REQUEST),
+    QUERY_BUDGET_EXCEEDED("C005", "요청당 DB 쿼리 허용 횟수를 초과했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // ===== 인증 (AUTH) =====
     INVALID_CREDENTIALS("A001", "이메일 또는 비밀번호가 올바르지 않습니다", HttpStatus.UNAUTHORIZED),
@@ -42,6 +44,14 @@ public enum ErrorCode {
     // ===== 지출 (EXPENSE) =====
     EXPENSE_NOT_FOUND("E001", "지출 내역을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
+    // ===== OCR =====
+    OCR_JOB_NOT_FOUND("OC001", "OCR 작업을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    OCR_QUEUE_FULL("OC002", "OCR 요청이 많습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
+    RECEIPT_NOT_FOUND("OC003", "영수증 이미지를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+
+    // ===== 내보내기 (EXPORT) =====
+    EXPORT_BUSY("EX001", "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
+
     // ===== 수입 (INCOME) =====
     INCOME_NOT_FOUND("I001", "수입 내역을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
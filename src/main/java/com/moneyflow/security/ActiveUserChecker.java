@@ -0,0 +1,78 @@
+package com.moneyflow.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰 사용자의 탈퇴 여부 확인 (JwtAuthenticationFilter)
+ *
+ * JWT만으로는 탈퇴를 알 수 없으므로 users.deleted_at을 확인하되, 요청마다 조회하지 않도록
+ * 결과를 인스턴스별로 ttl 동안 캐시합니다. 트랜잭션 밖에서 조회하므로 항상 primary를 읽습니다.
+ *
+ * 탈퇴를 처리한 인스턴스는 커밋 직후 바로 거부하고, 다른 인스턴스는 늦어도 ttl 안에 거부합니다.
+ * 탈퇴 데이터 삭제(AccountPurgeWorker)는 이 시간이 지난 뒤 시작하므로 삭제 중에 새 데이터가 생기지 않습니다.
+ */
+@Component
+public class ActiveUserChecker {
+
+    private static final String ACTIVE_SQL = "SELECT deleted_at IS NULL FROM users WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Cache<UUID, Boolean> active;
+
+    public ActiveUserChecker(JdbcTemplate jdbcTemplate,
+                             @Value("${jwt.active-user-cache-ttl:30s}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.active = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 탈퇴하지 않은 사용자면 true (사용자 행이 없으면 false)
+     */
+    public boolean isActive(UUID userId) {
+        return active.get(userId, this::load);
+    }
+
+    /**
+     * 탈퇴 처리 트랜잭션이 커밋되면 이 인스턴스에서 바로 거부
+     * (커밋 전에 지우면 다른 요청이 탈퇴 전 값을 다시 캐시할 수 있음)
+     */
+    public void markWithdrawn(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            active.put(userId, false);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                active.put(userId, false);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스가 탈퇴를 알게 되기까지의 최대 시간
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private Boolean load(UUID userId) {
+        List<Boolean> rows = jdbcTemplate.queryForList(ACTIVE_SQL, Boolean.class, userId);
+        return !rows.isEmpty() && Boolean.TRUE.equals(rows.get(0));
+    }
+}
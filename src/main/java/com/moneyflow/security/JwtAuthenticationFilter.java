@@ -19,6 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -26,6 +27,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ActiveUserChecker activeUserChecker;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -41,6 +43,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String userId = claims.getSubject();
                 String role = claims.get("role", String.class);
 
+                // 탈퇴한 사용자의 토큰은 만료 전이라도 인증하지 않음 (삭제 중인 데이터에 쓰지 못하도록)
+                if (!activeUserChecker.isActive(UUID.fromString(userId))) {
+                    log.debug("탈퇴한 사용자의 토큰: userId={}", userId);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
                 // 권한 정보 생성
                 SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
 
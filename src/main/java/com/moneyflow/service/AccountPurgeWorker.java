@@ -0,0 +1,243 @@
+package com.moneyflow.service;
+
+import com.moneyflow.config.AccountPurgeConfig;
+import com.moneyflow.domain.budget.BudgetSpendTracker;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.sync.ChangeSequencer;
+import com.moneyflow.domain.user.AccountPurgeJob;
+import com.moneyflow.domain.user.AccountPurgeJobRepository;
+import com.moneyflow.domain.user.AccountPurgeStep;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원 탈퇴 데이터 삭제 워커
+ *
+ * 탈퇴 요청에서 저장한 AccountPurgeJob을 점유하고, AccountPurgeStep 순서대로 최대 batch-size 행씩 삭제합니다.
+ * 배치마다 별도 트랜잭션으로 삭제와 진행 상황(단계, 삭제 행 수, 점유 만료)을 함께 커밋하므로
+ * 인스턴스가 중단되어도 점유 만료 후 마지막으로 커밋된 단계부터 이어서 진행합니다.
+ *
+ * - 배치 사이에 batch-pause만큼 쉬어 복제 지연과 WAL 급증을 완화
+ * - 다른 @Scheduled 작업을 막지 않도록 전용 스레드에서 실행
+ * - 실패 시 지수 백오프 후 재시도, max-attempts 초과 시 FAILED
+ * - 멤버십을 지우기 전까지는 배치마다 사용자가 속한 장부의 버전을 올려 공유 장부의 조회 캐시(ETag)를 무효화
+ */
+@Slf4j
+@Component
+public class AccountPurgeWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AccountPurgeJobRepository accountPurgeJobRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AccountPurgeConfig config;
+    private final BusinessMetrics businessMetrics;
+    private final ChangeSequencer changeSequencer;
+    private final BudgetSpendTracker budgetSpendTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("account-purge-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AccountPurgeWorker(AccountPurgeJobRepository accountPurgeJobRepository,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              AccountPurgeConfig config,
+                              BusinessMetrics businessMetrics,
+                              ChangeSequencer changeSequencer,
+                              BudgetSpendTracker budgetSpendTracker,
+                              PlatformTransactionManager transactionManager) {
+        this.accountPurgeJobRepository = accountPurgeJobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.businessMetrics = businessMetrics;
+        this.changeSequencer = changeSequencer;
+        this.budgetSpendTracker = budgetSpendTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대기 작업이 있으면 전용 스레드에서 처리 시작 (이미 처리 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${account.purge.poll-interval-ms:5000}")
+    public void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    processPending();
+                } catch (RuntimeException e) {
+                    log.error("[AccountPurge] Unexpected error while processing jobs", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 처리 시각이 된 작업을 하나씩 점유하여 끝까지 처리 (호출 스레드에서 실행)
+     * 이번 회차에서 실패해 다시 예약된 작업은 다음 회차에 처리합니다.
+     *
+     * @return 처리한 작업 수 (실패 포함)
+     */
+    public int processPending() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int processed = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            AccountPurgeJob job = transactionTemplate.execute(status -> claim(startedAt));
+            if (job == null) {
+                break;
+            }
+            purge(job.getJobId(), job.getUserId(), job.getStep());
+            processed++;
+        }
+        return processed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 배치는 커밋/롤백되고, 남은 작업은 점유 만료 후 이어서 처리
+        executor.shutdownNow();
+    }
+
+    private AccountPurgeJob claim(LocalDateTime dueBy) {
+        return accountPurgeJobRepository.findDueForUpdate(dueBy)
+                .map(job -> {
+                    job.setStatus(AccountPurgeJob.Status.RUNNING);
+                    job.setNextAttemptAt(LocalDateTime.now().plus(config.getLease()));
+                    return job;
+                })
+                .orElse(null);
+    }
+
+    private void purge(UUID jobId, UUID userId, AccountPurgeStep startStep) {
+        AccountPurgeStep step = startStep;
+        try {
+            while (step != null) {
+                AccountPurgeStep current = step;
+                int affected = transactionTemplate.execute(status -> runBatch(jobId, userId, current));
+                if (affected < config.getBatchSize()) {
+                    step = step.next();
+                } else if (!pause()) {
+                    // 종료 중: 점유 만료 후 커밋된 단계부터 이어서 처리
+                    log.info("[AccountPurge] Interrupted at {} for user {}, will resume after the lease expires",
+                            step, userId);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            AccountPurgeStep failedStep = step;
+            transactionTemplate.executeWithoutResult(status -> recordFailure(jobId, failedStep, e));
+            return;
+        }
+
+        businessMetrics.recordAccountPurge("completed");
+        log.info("[AccountPurge] Completed purge for user {}", userId);
+    }
+
+    /**
+     * 한 배치 삭제 + 진행 상황 기록 (같은 트랜잭션)
+     * 마지막 배치면 다음 단계로 넘기고, 마지막 단계면 작업을 완료 처리합니다.
+     */
+    private int runBatch(UUID jobId, UUID userId, AccountPurgeStep step) {
+        if (step.compareTo(AccountPurgeStep.ACCOUNT_BOOK_MEMBERS) <= 0) {
+            // JDBC 삭제는 엔티티 리스너를 거치지 않으므로 직접 버전을 올림 (멤버십이 남아 있을 때만 대상 장부를 찾을 수 있음)
+            changeSequencer.touchMemberBooks(userId);
+        }
+        int affected = jdbcTemplate.update(step.sql(), new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", config.getBatchSize()));
+        if (step == AccountPurgeStep.EXPENSES && affected < config.getBatchSize()) {
+            // 다른 사람 장부에서 지운 지출만큼 월별 지출 합계를 다시 계산 (멤버십이 남아 있는 동안)
+            budgetSpendTracker.recomputeMemberBooks(userId);
+        }
+
+        AccountPurgeJob job = accountPurgeJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("탈퇴 데이터 삭제 작업이 없습니다: " + jobId));
+        job.setDeletedRows(job.getDeletedRows() + affected);
+        job.setNextAttemptAt(LocalDateTime.now().plus(config.getLease()));
+        if (affected < config.getBatchSize()) {
+            AccountPurgeStep next = step.next();
+            if (next == null) {
+                job.setStatus(AccountPurgeJob.Status.COMPLETED);
+                job.setCompletedAt(LocalDateTime.now());
+                job.setLastError(null);
+            } else {
+                job.setStep(next);
+            }
+        }
+
+        if (affected > 0) {
+            businessMetrics.recordAccountPurgeRows(step.name(), affected);
+            log.debug("[AccountPurge] {} rows from {} for user {}", affected, step.getTable(), userId);
+        }
+        return affected;
+    }
+
+    private void recordFailure(UUID jobId, AccountPurgeStep step, RuntimeException error) {
+        AccountPurgeJob job = accountPurgeJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        int attempt = job.getAttemptCount() + 1;
+        String reason = truncate(step + ": " + error.getClass().getSimpleName() + ": " + error.getMessage());
+        job.setAttemptCount(attempt);
+        job.setLastError(reason);
+
+        if (attempt >= config.getMaxAttempts()) {
+            job.setStatus(AccountPurgeJob.Status.FAILED);
+            businessMetrics.recordAccountPurge("failed");
+            log.error("[AccountPurge] Giving up on user {} after {} attempts: {}", job.getUserId(), attempt, reason);
+            return;
+        }
+
+        Duration delay = EmailOutboxDispatcher.backoff(attempt, config.getInitialBackoff(), config.getMaxBackoff());
+        job.setStatus(AccountPurgeJob.Status.PENDING);
+        job.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        businessMetrics.recordAccountPurge("retried");
+        log.warn("[AccountPurge] Purge failed for user {} at {} (attempt {}), retrying in {}s: {}",
+                job.getUserId(), step, attempt, delay.toSeconds(), reason);
+    }
+
+    /**
+     * 배치 사이 대기
+     *
+     * @return 중단(interrupt)되었으면 false
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(config.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,5 +1,7 @@
 package com.moneyflow.service;
 
+import com.moneyflow.domain.common.BusinessMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -27,11 +29,14 @@ import java.util.*;
  * Phase 2: ML 모델로 교체 예정
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class CategoryClassifier {
 
     private static final String DEFAULT_CATEGORY = "UNCATEGORIZED";
 
+    private final BusinessMetrics businessMetrics;
+
     // 카테고리별 키워드 맵 (우선순위: 더 구체적인 키워드가 먼저 매칭되도록)
     private static final Map<String, List<String>> CATEGORY_KEYWORDS = new LinkedHashMap<>();
 
@@ -186,6 +191,7 @@ public class CategoryClassifier {
     public String classify(String merchant) {
         if (merchant == null || merchant.trim().isEmpty()) {
             log.debug("Empty merchant, returning default category: {}", DEFAULT_CATEGORY);
+            businessMetrics.recordClassification(DEFAULT_CATEGORY, false);
             return DEFAULT_CATEGORY;
         }
 
@@ -200,15 +206,33 @@ public class CategoryClassifier {
                 if (normalizedMerchant.contains(keyword.toLowerCase())) {
                     log.debug("Classified '{}' as '{}' (matched keyword: '{}')",
                             merchant, category, keyword);
+                    businessMetrics.recordClassification(category, true);
                     return category;
                 }
             }
         }
 
         log.debug("No category match for '{}', using default: {}", merchant, DEFAULT_CATEGORY);
+        businessMetrics.recordClassification(DEFAULT_CATEGORY, false);
         return DEFAULT_CATEGORY;
     }
 
+    /**
+     * 여러 가맹점명을 한 번에 분류 (같은 가맹점명은 한 번만 분류)
+     *
+     * @param merchants 가맹점명 목록 (null 포함 가능)
+     * @return 가맹점명 → 카테고리 코드 (null 가맹점명은 키 없음)
+     */
+    public Map<String, String> classifyAll(Collection<String> merchants) {
+        Map<String, String> categories = new HashMap<>();
+        for (String merchant : merchants) {
+            if (merchant != null && !categories.containsKey(merchant)) {
+                categories.put(merchant, classify(merchant));
+            }
+        }
+        return categories;
+    }
+
     /**
      * 지원되는 모든 카테고리 코드 목록 반환
      * 
@@ -0,0 +1,215 @@
+package com.moneyflow.service;
+
+import com.moneyflow.config.EmailOutboxConfig;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.email.EmailOutbox;
+import com.moneyflow.domain.email.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 발송 대기열(outbox) 디스패처
+ *
+ * 주기적으로 발송 시각이 된 행을 점유(SENDING)하고 커밋한 뒤, ResendEmailSender로 비동기 발송합니다.
+ * 결과는 HTTP 클라이언트 스레드에서 별도 트랜잭션으로 기록합니다.
+ *
+ * - 동시 발송 수: email.outbox.max-concurrency (남은 자리만큼만 점유)
+ * - 재시도: 429/5xx/네트워크 오류는 지수 백오프 후 재시도, max-attempts 초과 또는 그 밖의 4xx는 DEAD
+ * - 인스턴스가 발송 중 종료되면 점유 만료(lease) 후 다른 인스턴스가 다시 보냅니다. (최소 1회 발송)
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ResendEmailSender emailSender;
+    private final EmailOutboxConfig config;
+    private final BusinessMetrics businessMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore inFlight;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 ResendEmailSender emailSender,
+                                 EmailOutboxConfig config,
+                                 BusinessMetrics businessMetrics,
+                                 PlatformTransactionManager transactionManager) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailSender = emailSender;
+        this.config = config;
+        this.businessMetrics = businessMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inFlight = new Semaphore(config.getMaxConcurrency());
+    }
+
+    /**
+     * 발송 대상 점유 후 비동기 발송
+     *
+     * @return 발송을 시작한 메일 수
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public int dispatchPending() {
+        // 남은 자리를 먼저 모두 확보한 뒤 그만큼만 점유 (쓰지 않은 자리는 반환, 쓴 자리는 발송 완료 시 반환)
+        int capacity = inFlight.drainPermits();
+        if (capacity == 0) {
+            return 0;
+        }
+
+        List<EmailOutbox> claimed = List.of();
+        try {
+            claimed = transactionTemplate.execute(status -> claim(LocalDateTime.now(), capacity));
+        } finally {
+            inFlight.release(capacity - claimed.size());
+        }
+        claimed.forEach(this::send);
+        return claimed.size();
+    }
+
+    /**
+     * 발송 중인 메일이 모두 끝날 때까지 대기
+     *
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        int permits = config.getMaxConcurrency();
+        if (!inFlight.tryAcquire(permits, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        inFlight.release(permits);
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료/DEAD 행 삭제 (매일 새벽 4시 40분)
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteByStatusAndCreatedAtBefore(
+                        EmailOutbox.Status.SENT, now.minus(config.getSentRetention()))
+                + emailOutboxRepository.deleteByStatusAndCreatedAtBefore(
+                        EmailOutbox.Status.DEAD, now.minus(config.getDeadRetention())));
+        log.info("[EmailOutbox] {} expired rows purged", deleted);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (!awaitIdle(config.getRequestTimeout())) {
+            log.warn("[EmailOutbox] Shutting down with emails in flight, they will be retried after the lease expires");
+        }
+    }
+
+    private List<EmailOutbox> claim(LocalDateTime now, int limit) {
+        List<EmailOutbox> due = emailOutboxRepository.findDueForUpdate(now, limit);
+        return due.stream()
+                .filter(email -> {
+                    // 점유 만료로 돌아온 행이 이미 시도 횟수를 다 썼으면 더 보내지 않음
+                    if (email.getAttemptCount() >= config.getMaxAttempts()) {
+                        markDead(email, "lease expired after final attempt");
+                        return false;
+                    }
+                    email.setStatus(EmailOutbox.Status.SENDING);
+                    email.setAttemptCount(email.getAttemptCount() + 1);
+                    email.setNextAttemptAt(now.plus(config.getLease()));
+                    return true;
+                })
+                .toList();
+    }
+
+    private void send(EmailOutbox email) {
+        CompletableFuture<ResendEmailSender.SendResult> future;
+        try {
+            future = emailSender.send(email.getToEmail(), email.getSubject(), email.getHtmlBody());
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        UUID emailId = email.getEmailId();
+        int attempt = email.getAttemptCount();
+        future.whenComplete((result, error) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> recordResult(emailId, attempt, result, error));
+            } catch (RuntimeException e) {
+                log.error("[EmailOutbox] Failed to record result for {}, it will be retried after the lease expires",
+                        emailId, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void recordResult(UUID emailId, int attempt,
+                              ResendEmailSender.SendResult result, Throwable error) {
+        EmailOutbox email = emailOutboxRepository.findById(emailId).orElse(null);
+        if (email == null
+                || email.getStatus() != EmailOutbox.Status.SENDING
+                || email.getAttemptCount() != attempt) {
+            // 점유가 만료되어 다른 시도가 가져간 행
+            return;
+        }
+
+        if (error == null && result.isSuccess()) {
+            email.setStatus(EmailOutbox.Status.SENT);
+            email.setSentAt(LocalDateTime.now());
+            email.setLastError(null);
+            businessMetrics.recordEmailDispatch("sent");
+            return;
+        }
+
+        String reason = error != null
+                ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                : "HTTP " + result.statusCode() + ": " + result.body();
+        boolean retryable = error != null || result.isRetryable();
+
+        if (!retryable || attempt >= config.getMaxAttempts()) {
+            markDead(email, reason);
+            return;
+        }
+
+        Duration delay = backoff(attempt, config.getInitialBackoff(), config.getMaxBackoff());
+        email.setStatus(EmailOutbox.Status.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        email.setLastError(truncate(reason));
+        businessMetrics.recordEmailDispatch("retried");
+        log.warn("[EmailOutbox] Send failed for {} (attempt {}), retrying in {}s: {}",
+                emailId, attempt, delay.toSeconds(), truncate(reason));
+    }
+
+    private void markDead(EmailOutbox email, String reason) {
+        email.setStatus(EmailOutbox.Status.DEAD);
+        email.setLastError(truncate(reason));
+        businessMetrics.recordEmailDispatch("dead");
+        log.error("[EmailOutbox] Giving up on {} after {} attempts: {}",
+                email.getEmailId(), email.getAttemptCount(), truncate(reason));
+    }
+
+    /**
+     * 재시도 대기 시간: initial * 2^(attempt-1), 상한 max
+     */
+    static Duration backoff(int attempt, Duration initial, Duration max) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 20);
+        Duration delay = initial.multipliedBy(1L << exponent);
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,34 +1,32 @@
 package com.moneyflow.service;
 
+import com.moneyflow.domain.email.EmailOutbox;
+import com.moneyflow.domain.email.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 
 /**
  * 이메일 발송 서비스
- * Resend API를 사용하여 이메일 발송
+ * 메일 본문을 만들어 발송 대기열(email_outbox)에 등록하고, 실제 발송(Resend API)은 EmailOutboxDispatcher가 비동기로 처리
+ * 요청 스레드는 외부 API 응답을 기다리지 않습니다.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    @Value("${email.resend.api-key:re_test}")
-    private String resendApiKey;
-
-    @Value("${email.from:noreply@moneyflow.com}")
-    private String fromEmail;
+    private final EmailOutboxRepository emailOutboxRepository;
 
     @Value("${email.test-mode:true}")
     private boolean testMode;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final SecureRandom secureRandom = new SecureRandom();
 
     /**
@@ -44,70 +42,37 @@ public class EmailService {
     }
 
     /**
-     * 회원가입 인증 코드 이메일 발송
+     * 회원가입 인증 코드 이메일 발송 (대기열 등록, 인증 코드 저장과 같은 트랜잭션 필수)
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendSignupVerificationEmail(String toEmail, String verificationCode) {
         String subject = "[MoneyFlow] 회원가입 인증 코드";
         String htmlContent = buildSignupEmailHtml(verificationCode);
-        sendEmail(toEmail, subject, htmlContent);
+        enqueue(toEmail, subject, htmlContent);
     }
 
     /**
-     * 비밀번호 재설정 인증 코드 이메일 발송
+     * 비밀번호 재설정 인증 코드 이메일 발송 (대기열 등록, 인증 코드 저장과 같은 트랜잭션 필수)
      */
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendPasswordResetEmail(String toEmail, String verificationCode) {
         String subject = "[MoneyFlow] 비밀번호 재설정 인증 코드";
         String htmlContent = buildPasswordResetEmailHtml(verificationCode);
-        sendEmail(toEmail, subject, htmlContent);
+        enqueue(toEmail, subject, htmlContent);
     }
 
     /**
-     * Resend API를 통한 이메일 발송
+     * 발송 대기열에 등록
+     * 호출한 트랜잭션과 함께 커밋되며, 커밋된 뒤에 EmailOutboxDispatcher가 발송합니다.
      */
-    private void sendEmail(String toEmail, String subject, String htmlContent) {
-        if (testMode) {
-            // 테스트 모드: 실제로 이메일을 발송하지 않고 로그만 출력
-            log.info("📧 [테스트 모드] 이메일 발송 시뮬레이션");
-            log.info("수신자: {}", toEmail);
-            log.info("제목: {}", subject);
-            log.info("내용: {}", htmlContent);
-            return;
-        }
-
-        try {
-            String requestBody = String.format(
-                    """
-                            {
-                                "from": "%s",
-                                "to": ["%s"],
-                                "subject": "%s",
-                                "html": "%s"
-                            }
-                            """,
-                    fromEmail,
-                    toEmail,
-                    subject,
-                    escapeJson(htmlContent));
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create("https://api.resend.com/emails"))
-                    .header("Authorization", "Bearer " + resendApiKey)
-                    .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                log.info("✅ 이메일 발송 성공: {}", toEmail);
-            } else {
-                log.error("❌ 이메일 발송 실패: {} - {}", response.statusCode(), response.body());
-                throw new RuntimeException("이메일 발송에 실패했습니다: " + response.body());
-            }
-        } catch (IOException | InterruptedException e) {
-            log.error("❌ 이메일 발송 중 오류 발생", e);
-            throw new RuntimeException("이메일 발송 중 오류가 발생했습니다", e);
-        }
+    private void enqueue(String toEmail, String subject, String htmlContent) {
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .toEmail(toEmail)
+                .subject(subject)
+                .htmlBody(htmlContent)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("📧 이메일 발송 대기열 등록: {}", toEmail);
     }
 
     /**
@@ -159,14 +124,4 @@ public class EmailService {
                 """
                 .formatted(verificationCode);
     }
-
-    /**
-     * JSON 문자열 이스케이프 처리
-     */
-    private String escapeJson(String input) {
-        return input.replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
 }
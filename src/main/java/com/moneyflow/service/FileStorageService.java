@@ -2,39 +2,91 @@ package com.moneyflow.service;
 
 import com.moneyflow.exception.BusinessException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
- * 파일 저장 서비스 (로컬 파일 시스템)
- * Phase 1: 로컬 파일 시스템에 임시 저장
- * Phase 2: AWS S3로 교체 예정
+ * 영수증 이미지 저장 서비스 (로컬 파일 시스템, 내용 주소 방식)
+ *
+ * 파일은 내용의 SHA-256으로 저장하므로 같은 이미지는 한 번만 저장됩니다.
+ * - 원본: {upload-dir}/objects/ab/cd/{hash} (해시 앞 4자리로 디렉터리를 나눠 디렉터리당 파일 수 제한)
+ * - 썸네일: {upload-dir}/thumbnails/ab/cd/{hash}.jpg (저장 후 백그라운드 생성)
+ * - 업로드 중 파일: {upload-dir}/tmp (해시 계산이 끝나면 원본 위치로 원자적 이동)
+ *
+ * 지출(Expense.imageUrl)에는 /api/receipts/{hash} 형태로 연결하며,
+ * 어떤 지출에서도 참조하지 않는 파일은 ReceiptMaintenanceScheduler가 정리합니다.
  */
 @Service
 @Slf4j
 public class FileStorageService {
 
+    public static final String RECEIPT_URL_PREFIX = "/api/receipts/";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
     @Value("${file.upload-dir:uploads/ocr}")
     private String uploadDir;
 
+    /** 썸네일 긴 변 길이 (px) */
+    @Value("${file.thumbnail-size:320}")
+    private int thumbnailSize;
+
     private Path uploadPath;
+    private Path objectsPath;
+    private Path thumbnailsPath;
+    private Path tmpPath;
+
+    /** 썸네일 생성 작업 (가득 차면 버리고 정리 작업에서 다시 생성) */
+    private final ThreadPoolExecutor thumbnailExecutor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100),
+            new CustomizableThreadFactory("receipt-thumbnail-"),
+            new ThreadPoolExecutor.DiscardPolicy());
 
     @PostConstruct
     public void init() {
         try {
             this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            Files.createDirectories(this.uploadPath);
+            this.objectsPath = uploadPath.resolve("objects");
+            this.thumbnailsPath = uploadPath.resolve("thumbnails");
+            this.tmpPath = uploadPath.resolve("tmp");
+            Files.createDirectories(objectsPath);
+            Files.createDirectories(thumbnailsPath);
+            Files.createDirectories(tmpPath);
             log.info("File storage initialized: {}", this.uploadPath);
         } catch (IOException e) {
             log.error("Failed to create upload directory", e);
@@ -42,56 +94,279 @@ public class FileStorageService {
         }
     }
 
+    @PreDestroy
+    void shutdown() {
+        thumbnailExecutor.shutdownNow();
+    }
+
     /**
-     * 이미지 파일 저장
+     * 영수증 이미지 저장
+     * 임시 파일로 스트리밍하면서 해시를 계산하고, 같은 내용이 이미 있으면 임시 파일만 지웁니다.
+     *
      * @param file 업로드된 파일
-     * @return 저장된 파일 경로
+     * @return 저장된 파일 정보 (해시, 크기)
      */
-    public String storeFile(MultipartFile file) {
+    public StoredFile storeFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BusinessException("저장할 파일이 없습니다");
         }
 
+        Path tempFile = null;
         try {
-            // 고유 파일명 생성: {timestamp}_{uuid}_{originalFilename}
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String uuid = UUID.randomUUID().toString().substring(0, 8);
-            String originalFilename = file.getOriginalFilename();
-            String filename = String.format("%s_%s_%s", timestamp, uuid, originalFilename);
+            tempFile = Files.createTempFile(tmpPath, "upload-", ".part");
+            String hash;
+            long size;
+            try (DigestInputStream in = new DigestInputStream(file.getInputStream(), sha256())) {
+                size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                hash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            }
 
-            // 파일 저장
-            Path targetPath = this.uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            Path target = objectPath(hash);
+            if (Files.exists(target)) {
+                try {
+                    // 중복: 정리 유예 기간을 다시 시작하도록 수정 시각만 갱신
+                    // (정리 작업은 삭제 직전에 이 시각을 다시 읽으므로 갱신된 파일은 지우지 않음)
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    Files.delete(tempFile);
+                    log.info("File deduplicated: {} ({} bytes)", hash, size);
+                    return new StoredFile(hash, size);
+                } catch (NoSuchFileException e) {
+                    // 정리 작업이 방금 가져간 파일: 새로 저장
+                    log.info("Deduplication target collected, storing again: {}", hash);
+                }
+            }
 
-            log.info("File saved: {}", filename);
-            return filename;
+            Files.createDirectories(target.getParent());
+            // 같은 내용이 동시에 올라와도 rename은 원자적이고 내용이 같으므로 덮어써도 무방
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            thumbnailExecutor.execute(() -> createThumbnail(hash));
+            log.info("File saved: {} ({} bytes)", hash, size);
+            return new StoredFile(hash, size);
 
         } catch (IOException e) {
             log.error("Failed to store file: {}", file.getOriginalFilename(), e);
+            deleteQuietly(tempFile);
             throw new BusinessException("파일 저장에 실패했습니다");
         }
     }
 
     /**
-     * 파일 경로 반환
-     * @param filename 파일명
-     * @return 절대 경로
+     * 원본 파일 경로 (없거나 해시 형식이 아니면 empty)
      */
-    public Path getFilePath(String filename) {
-        return this.uploadPath.resolve(filename).normalize();
+    public Optional<Path> findObject(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = objectPath(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 썸네일 경로 (아직 생성되지 않았으면 empty)
+     */
+    public Optional<Path> findThumbnail(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = thumbnailPath(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 썸네일 생성 (이미 있으면 건너뜀)
+     *
+     * @return 썸네일이 있거나 새로 만들었으면 true, 이미지로 읽을 수 없으면 false
+     */
+    public boolean createThumbnail(String hash) {
+        Path source = objectPath(hash);
+        Path target = thumbnailPath(hash);
+        if (Files.exists(target)) {
+            return true;
+        }
+
+        Path tempFile = null;
+        try {
+            BufferedImage image = ImageIO.read(source.toFile());
+            if (image == null) {
+                log.debug("Not a readable image, skipping thumbnail: {}", hash);
+                return false;
+            }
+
+            double scale = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            Files.createDirectories(target.getParent());
+            tempFile = Files.createTempFile(tmpPath, "thumb-", ".part");
+            ImageIO.write(thumbnail, "jpg", tempFile.toFile());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+
+        } catch (IOException e) {
+            log.warn("Failed to create thumbnail: {}", hash, e);
+            deleteQuietly(tempFile);
+            return false;
+        }
+    }
+
+    /**
+     * 저장된 원본 목록 (정리 작업용)
+     * 이전 방식으로 저장된 파일({upload-dir} 바로 아래의 타임스탬프 파일명)은 hash가 null입니다.
+     */
+    public List<StoredObject> listObjects() throws IOException {
+        List<StoredObject> objects = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(objectsPath)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                String name = path.getFileName().toString();
+                if (attributes.isRegularFile() && isValidHash(name)) {
+                    objects.add(new StoredObject(name, path, attributes.size(),
+                            attributes.lastModifiedTime().toInstant()));
+                }
+            }
+        }
+        try (DirectoryStream<Path> legacyFiles = Files.newDirectoryStream(uploadPath, Files::isRegularFile)) {
+            for (Path path : legacyFiles) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                objects.add(new StoredObject(null, path, attributes.size(),
+                        attributes.lastModifiedTime().toInstant()));
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * 참조 없는 원본과 썸네일 삭제 (정리 작업용)
+     *
+     * 목록을 만든 뒤 같은 내용이 다시 업로드되면 수정 시각이 갱신되므로, 먼저 원본을 tmp로 옮겨
+     * 이후 업로드가 이 파일을 재사용하지 못하게 한 다음 옮긴 파일의 수정 시각과 참조 여부를 다시 확인합니다.
+     * 그 사이 수정 시각이 갱신됐거나 참조가 생겼으면 제자리로 되돌립니다.
+     * 파일 이동은 원자적이므로 업로드하는 인스턴스가 달라도 같은 방식으로 막힙니다.
+     *
+     * @param cutoff       이 시각 이후에 수정된 파일은 유예 기간으로 보고 남김
+     * @param unreferenced 삭제 직전 참조 재확인 (true면 참조 없음)
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfUnused(StoredObject object, Instant cutoff, BooleanSupplier unreferenced) {
+        Path claimed = tmpPath.resolve("gc-" + object.path().getFileName());
+        try {
+            Files.move(object.path(), claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            // 다른 인스턴스가 먼저 정리함
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to claim file for deletion: {}", object.path(), e);
+            return false;
+        }
+
+        boolean deleted = false;
+        try {
+            if (Files.getLastModifiedTime(claimed).toInstant().isBefore(cutoff) && unreferenced.getAsBoolean()) {
+                Files.delete(claimed);
+                deleted = true;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete file: {}", claimed, e);
+        } finally {
+            if (!deleted) {
+                restoreClaimed(claimed, object.path());
+            }
+        }
+        if (!deleted) {
+            return false;
+        }
+
+        if (object.hash() != null) {
+            deleteQuietly(thumbnailPath(object.hash()));
+        }
+        log.info("File deleted: {}", object.path().getFileName());
+        return true;
+    }
+
+    private static void restoreClaimed(Path claimed, Path original) {
+        try {
+            Files.move(claimed, original);
+        } catch (FileAlreadyExistsException e) {
+            // 그 사이 같은 내용이 다시 저장됨: 옮겨 둔 사본은 필요 없음
+            deleteQuietly(claimed);
+        } catch (IOException e) {
+            log.error("Failed to restore claimed file: {} -> {}", claimed, original, e);
+        }
     }
 
     /**
-     * 파일 삭제
-     * @param filename 파일명
+     * 이미지 종류 (파일 앞부분의 시그니처로 판별)
      */
-    public void deleteFile(String filename) {
+    public static String detectContentType(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] header = in.readNBytes(8);
+            if (header.length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8) {
+                return "image/jpeg";
+            }
+            if (header.length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+                return "image/png";
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read file header: {}", path, e);
+        }
+        return "application/octet-stream";
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    private Path objectPath(String hash) {
+        return objectsPath.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Path thumbnailPath(String hash) {
+        return thumbnailsPath.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + ".jpg");
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
         try {
-            Path filePath = getFilePath(filename);
-            Files.deleteIfExists(filePath);
-            log.info("File deleted: {}", filename);
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            log.warn("Failed to delete file: {}", filename, e);
+            log.warn("Failed to delete file: {}", path, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 저장 결과
+     */
+    public record StoredFile(String hash, long size) {
+
+        /** Expense.imageUrl에 저장할 조회 경로 */
+        public String url() {
+            return RECEIPT_URL_PREFIX + hash;
         }
     }
+
+    /**
+     * 저장된 원본 (정리 작업용)
+     *
+     * @param hash 내용 해시 (이전 방식 파일은 null)
+     */
+    public record StoredObject(String hash, Path path, long size, Instant lastModified) {
+    }
 }
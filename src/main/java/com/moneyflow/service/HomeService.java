@@ -40,10 +40,17 @@ public class HomeService {
 
         // 2. 한 달 치 데이터 한 번에 조회 (DB 쿼리 2회)
         List<Expense> allExpenses = expenseRepository.findByAccountBookAndDateRange(
-                accountBookId, startDate, endDate, null);
+                accountBookId, startDate, endDate);
         List<Income> allIncomes = incomeRepository.findByAccountBookAndDateRange(
-                accountBookId, startDate, endDate, null);
+                accountBookId, startDate, endDate);
 
+        return groupByDate(allExpenses, allIncomes);
+    }
+
+    /**
+     * 지출/수입을 날짜별 요약으로 묶기 (키: "2025-12-24")
+     */
+    Map<String, DailySummaryDto> groupByDate(List<Expense> allExpenses, List<Income> allIncomes) {
         // 3. 날짜별로 데이터 그룹화
         Map<LocalDate, List<Expense>> expensesByDate = allExpenses.stream()
                 .collect(Collectors.groupingBy(Expense::getDate));
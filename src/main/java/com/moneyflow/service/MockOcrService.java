@@ -4,7 +4,6 @@ import com.moneyflow.dto.response.OcrResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,7 +19,6 @@ import java.util.Random;
 public class MockOcrService implements OcrService {
 
     private final CategoryClassifier categoryClassifier;
-    private final FileStorageService fileStorageService;
     private final Random random = new Random();
 
     private static final String[] MERCHANTS = {
@@ -36,31 +34,27 @@ public class MockOcrService implements OcrService {
     };
 
     @Override
-    public OcrResponse processImage(MultipartFile image) {
-        log.info("Processing OCR with Mock Service: {}", image.getOriginalFilename());
+    public OcrResponse processImage(byte[] image, String originalFilename) {
+        log.info("Processing OCR with Mock Service: {} ({} bytes)", originalFilename, image.length);
 
-        // 1. 이미지 파일 저장
-        String savedFilename = fileStorageService.storeFile(image);
-        log.info("Image saved: {}", savedFilename);
-
-        // 2. 랜덤 가맹점 선택
+        // 1. 랜덤 가맹점 선택
         String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
 
-        // 3. 랜덤 금액 생성 (1,000 ~ 100,000원)
+        // 2. 랜덤 금액 생성 (1,000 ~ 100,000원)
         BigDecimal amount = BigDecimal.valueOf((random.nextInt(99) + 1) * 1000);
 
-        // 4. 랜덤 날짜 (최근 7일 이내)
+        // 3. 랜덤 날짜 (최근 7일 이내)
         LocalDate date = LocalDate.now().minusDays(random.nextInt(7));
 
-        // 5. 카테고리 자동 분류
+        // 4. 카테고리 자동 분류
         String suggestedCategory = categoryClassifier.classify(merchant);
 
-        // 6. 원본 텍스트 생성 (실제 OCR 결과 시뮬레이션)
+        // 5. 원본 텍스트 생성 (실제 OCR 결과 시뮬레이션)
         String rawText = String.format("승인 %s원\n%s\n%s",
                 String.format("%,d", amount.intValue()), merchant, date);
 
-        log.info("Mock OCR result: merchant={}, amount={}, category={}, saved={}",
-                merchant, amount, suggestedCategory, savedFilename);
+        log.info("Mock OCR result: merchant={}, amount={}, category={}",
+                merchant, amount, suggestedCategory);
 
         return OcrResponse.builder()
                 .amount(amount)
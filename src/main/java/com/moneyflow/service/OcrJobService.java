@@ -0,0 +1,287 @@
+package com.moneyflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moneyflow.config.OcrJobConfig;
+import com.moneyflow.domain.receipt.OcrJob;
+import com.moneyflow.domain.receipt.OcrJobRepository;
+import com.moneyflow.dto.response.OcrResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 작업 처리 서비스
+ *
+ * 업로드 요청은 작업만 등록하고 바로 반환하며, OCR은 고정 크기 작업 스레드에서 처리합니다.
+ * 이미지는 먼저 내용 주소 저장소에 저장하고, 결과는 저장 시 계산한 SHA-256으로 캐시하여 같은 이미지를 다시 올리면 즉시 완료되고,
+ * 같은 이미지가 처리 중이면 새로 처리하지 않고 진행 중인 작업 결과를 함께 받습니다.
+ *
+ * 작업 상태는 ocr_jobs 테이블에 기록하므로 상태 조회는 어느 인스턴스로 가도 됩니다.
+ * 완료 대기(long polling)는 작업을 처리하는 인스턴스면 완료 알림을, 다른 인스턴스면 주기적인 테이블 조회를 기다립니다.
+ * 결과 캐시와 처리 중 합치기는 인스턴스별입니다. (다른 인스턴스에서는 같은 이미지를 한 번 더 처리할 뿐)
+ *
+ * 지표:
+ * - moneyflow.ocr.queue.depth / moneyflow.ocr.workers.active: 대기 작업 수 / 처리 중 작업 수
+ * - moneyflow.ocr.queue.wait: 대기열 대기 시간
+ * - moneyflow.ocr.processing: OCR 처리 시간 (outcome=success|failure)
+ * - moneyflow.ocr.requests: 요청 처리 방식 (source=cache|joined|processed|rejected)
+ */
+@Slf4j
+@Service
+public class OcrJobService {
+
+    private final OcrService ocrService;
+    private final FileStorageService fileStorageService;
+    private final OcrJobRepository ocrJobRepository;
+    private final OcrJobConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("ocr-job-poll-"));
+    private final Cache<String, OcrResponse> resultCache;
+    private final ConcurrentMap<String, CompletableFuture<OcrResponse>> inProgress = new ConcurrentHashMap<>();
+    /** 이 인스턴스가 처리 중인 작업의 완료 알림 (완료되면 제거) */
+    private final ConcurrentMap<UUID, CompletableFuture<OcrJob>> localJobs = new ConcurrentHashMap<>();
+    private final Timer queueWaitTimer;
+
+    public OcrJobService(OcrService ocrService,
+                         FileStorageService fileStorageService,
+                         OcrJobRepository ocrJobRepository,
+                         OcrJobConfig config,
+                         MeterRegistry meterRegistry) {
+        this.ocrService = ocrService;
+        this.fileStorageService = fileStorageService;
+        this.ocrJobRepository = ocrJobRepository;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.workers = new ThreadPoolExecutor(
+                config.getWorkers(), config.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                new CustomizableThreadFactory("ocr-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.resultCache = Caffeine.newBuilder()
+                .maximumSize(config.getResultCacheSize())
+                .expireAfterWrite(config.getResultCacheTtl())
+                .build();
+
+        Gauge.builder("moneyflow.ocr.queue.depth", workers, executor -> executor.getQueue().size())
+                .description("OCR 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("moneyflow.ocr.workers.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("OCR 처리 중 작업 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("moneyflow.ocr.queue.wait")
+                .description("OCR 대기열 대기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * OCR 작업 등록
+     * 이미지를 저장하고 작업을 등록한 뒤 바로 반환합니다. (캐시에 결과가 있으면 완료 상태로 반환)
+     *
+     * @throws BusinessException 대기열이 가득 찬 경우 (OCR_QUEUE_FULL)
+     */
+    public OcrJob submit(UUID userId, MultipartFile image) {
+        String imageHash = fileStorageService.storeFile(image).hash();
+        OcrJob job = OcrJob.builder().userId(userId).imageHash(imageHash).build();
+
+        OcrResponse cachedResult = resultCache.getIfPresent(imageHash);
+        if (cachedResult != null) {
+            job.complete(cachedResult, true);
+            recordRequest("cache");
+            return ocrJobRepository.save(job);
+        }
+
+        // 작업 스레드가 상태를 기록하기 전에 행이 있어야 함
+        OcrJob saved = ocrJobRepository.save(job);
+        CompletableFuture<OcrJob> completion = new CompletableFuture<>();
+        localJobs.put(saved.getJobId(), completion);
+
+        boolean[] created = {false};
+        CompletableFuture<OcrResponse> processing;
+        try {
+            processing = inProgress.computeIfAbsent(imageHash, hash -> {
+                created[0] = true;
+                return enqueue(hash, readBytes(image), image.getOriginalFilename(), saved.getJobId());
+            });
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(saved.getJobId());
+            ocrJobRepository.deleteById(saved.getJobId());
+            recordRequest("rejected");
+            log.warn("OCR queue full (capacity {}), rejecting job for user {}", config.getQueueCapacity(), userId);
+            throw new BusinessException(ErrorCode.OCR_QUEUE_FULL);
+        }
+        processing.whenComplete((result, error) -> inProgress.remove(imageHash, processing));
+        recordRequest(created[0] ? "processed" : "joined");
+
+        boolean joined = !created[0];
+        processing.whenComplete((result, error) -> {
+            if (error == null) {
+                saved.complete(result, joined);
+            } else {
+                saved.fail("이미지에서 결제 정보를 읽지 못했습니다");
+            }
+            finish(saved, completion);
+        });
+        return saved;
+    }
+
+    /**
+     * 작업 상태 조회
+     * maxWait이 0보다 크면 그 시간 동안 완료를 기다린 뒤 응답합니다. (요청 스레드를 점유하지 않음)
+     */
+    public CompletableFuture<OcrJob> awaitJob(UUID userId, UUID jobId, Duration maxWait) {
+        OcrJob job = getJob(userId, jobId);
+        Duration wait = maxWait.compareTo(config.getMaxWait()) > 0 ? config.getMaxWait() : maxWait;
+        if (job.isDone() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(job);
+        }
+        CompletableFuture<OcrJob> local = localJobs.get(jobId);
+        // 공유 future에 타임아웃 완료를 걸지 않도록 복사본 사용
+        CompletableFuture<OcrJob> done = local != null ? local.copy() : pollUntilDone(jobId);
+        return done.completeOnTimeout(null, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(completed -> completed != null ? completed : ocrJobRepository.findById(jobId).orElse(job));
+    }
+
+    public OcrJob getJob(UUID userId, UUID jobId) {
+        OcrJob job = ocrJobRepository.findById(jobId).orElse(null);
+        // 다른 사용자의 작업은 존재 여부도 알리지 않음
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.OCR_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    /**
+     * 조회 가능 시간(job-ttl)이 지난 작업 삭제 (처리 중 인스턴스가 종료되어 끝나지 못한 작업 포함)
+     */
+    @Scheduled(fixedDelayString = "${ocr.jobs.cleanup-interval-ms:600000}")
+    public void deleteExpiredJobs() {
+        try {
+            int deleted = ocrJobRepository.deleteCreatedBefore(LocalDateTime.now().minus(config.getJobTtl()));
+            if (deleted > 0) {
+                log.info("Deleted {} expired OCR jobs", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to delete expired OCR jobs", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+        poller.shutdownNow();
+        // 끝내지 못한 작업은 실패로 기록해 다른 인스턴스의 조회가 기다리지 않게 함
+        localJobs.keySet().forEach(jobId -> {
+            try {
+                ocrJobRepository.findById(jobId).filter(job -> !job.isDone()).ifPresent(job -> {
+                    job.fail("서버 재시작으로 처리가 중단되었습니다. 다시 업로드해 주세요");
+                    ocrJobRepository.save(job);
+                });
+            } catch (DataAccessException e) {
+                log.warn("Failed to mark interrupted OCR job {} as failed", jobId, e);
+            }
+        });
+    }
+
+    /**
+     * 처리 결과 기록 후 이 인스턴스에서 기다리는 조회에 알림
+     */
+    private void finish(OcrJob job, CompletableFuture<OcrJob> completion) {
+        try {
+            completion.complete(ocrJobRepository.save(job));
+        } catch (DataAccessException e) {
+            log.error("Failed to record OCR job {} result", job.getJobId(), e);
+            completion.complete(job);
+        } finally {
+            localJobs.remove(job.getJobId(), completion);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 작업: 완료될 때까지 주기적으로 테이블 조회
+     * (호출 측의 타임아웃 완료 시 조회 중단)
+     */
+    private CompletableFuture<OcrJob> pollUntilDone(UUID jobId) {
+        CompletableFuture<OcrJob> future = new CompletableFuture<>();
+        long interval = config.getPollInterval().toMillis();
+        ScheduledFuture<?> task = poller.scheduleWithFixedDelay(() -> {
+            try {
+                ocrJobRepository.findById(jobId).filter(OcrJob::isDone).ifPresent(future::complete);
+            } catch (DataAccessException e) {
+                log.warn("Failed to poll OCR job {}", jobId, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, error) -> task.cancel(false));
+        return future;
+    }
+
+    private CompletableFuture<OcrResponse> enqueue(String imageHash, byte[] imageBytes,
+                                                   String originalFilename, UUID jobId) {
+        CompletableFuture<OcrResponse> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        workers.execute(() -> {
+            queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            ocrJobRepository.markProcessing(jobId);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                OcrResponse result = ocrService.processImage(imageBytes, originalFilename);
+                resultCache.put(imageHash, result);
+                future.complete(result);
+            } catch (RuntimeException e) {
+                outcome = "failure";
+                log.error("OCR processing failed: {}", originalFilename, e);
+                future.completeExceptionally(e);
+            } finally {
+                sample.stop(Timer.builder("moneyflow.ocr.processing")
+                        .description("OCR 처리 시간")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        });
+        return future;
+    }
+
+    private void recordRequest(String source) {
+        Counter.builder("moneyflow.ocr.requests")
+                .description("OCR 요청 처리 방식")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static byte[] readBytes(MultipartFile image) {
+        try {
+            return image.getBytes();
+        } catch (IOException e) {
+            throw new BusinessException("이미지 파일을 읽을 수 없습니다");
+        }
+    }
+}
@@ -1,18 +1,20 @@
 package com.moneyflow.service;
 
 import com.moneyflow.dto.response.OcrResponse;
-import org.springframework.web.multipart.MultipartFile;
 
 /**
  * OCR 서비스 인터페이스
  * 구현체: MockOcrService (개발), GoogleVisionOcrService (프로덕션)
+ *
+ * OcrJobService의 작업 스레드에서 호출되므로 요청(MultipartFile) 대신 이미지 바이트를 받습니다.
  */
 public interface OcrService {
 
     /**
      * 이미지에서 결제 정보 추출
-     * @param image 이미지 파일
+     * @param image 이미지 바이트
+     * @param originalFilename 업로드된 파일명 (로그용)
      * @return OCR 처리 결과
      */
-    OcrResponse processImage(MultipartFile image);
+    OcrResponse processImage(byte[] image, String originalFilename);
 }
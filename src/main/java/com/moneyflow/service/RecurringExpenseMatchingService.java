@@ -253,7 +253,7 @@ public class RecurringExpenseMatchingService {
         return LocalDate.of(year, month, day);
     }
 
-    private double calculateMatchScore(Expense expense, RecurringExpensePayment payment) {
+    double calculateMatchScore(Expense expense, RecurringExpensePayment payment) {
         // 1. 날짜 차이 점수 (0~1)
         long daysDiff = Math.abs(ChronoUnit.DAYS.between(
                 expense.getDate(), payment.getExpectedDate()));
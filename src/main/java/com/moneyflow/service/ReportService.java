@@ -1,13 +1,17 @@
 package com.moneyflow.service;
 
+import com.moneyflow.domain.accountbook.AccountBookMemberRepository;
 import com.moneyflow.domain.budget.Budget;
 import com.moneyflow.domain.budget.BudgetRepository;
+import com.moneyflow.domain.budget.BudgetSpendTracker;
 import com.moneyflow.domain.expense.Expense;
 import com.moneyflow.domain.expense.ExpenseRepository;
 import com.moneyflow.domain.income.IncomeRepository;
 import com.moneyflow.dto.projection.CategorySummary;
 import com.moneyflow.dto.response.MonthlyReportResponse;
 import com.moneyflow.dto.response.MonthlyReportResponse.*;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,11 +36,17 @@ public class ReportService {
         private final ExpenseRepository expenseRepository;
         private final IncomeRepository incomeRepository;
         private final BudgetRepository budgetRepository;
+        private final BudgetSpendTracker budgetSpendTracker;
+        private final AccountBookMemberRepository accountBookMemberRepository;
 
         /**
-         * 월간 리포트 생성
+         * 월간 리포트 생성 (장부 멤버만 조회 가능)
          */
-        public MonthlyReportResponse getMonthlyReport(UUID accountBookId, int year, int month) {
+        public MonthlyReportResponse getMonthlyReport(UUID userId, UUID accountBookId, int year, int month) {
+                if (!accountBookMemberRepository.existsByAccountBookAccountBookIdAndUserUserId(accountBookId, userId)) {
+                        throw new BusinessException(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+                }
+
                 YearMonth yearMonth = YearMonth.of(year, month);
                 LocalDate startDate = yearMonth.atDay(1);
                 LocalDate endDate = yearMonth.atEndOfMonth();
@@ -67,7 +77,7 @@ public class ReportService {
                 TopMerchant topMerchant = getTopMerchant(accountBookId, startDate, endDate);
 
                 // 예산 정보
-                BudgetSummary budget = getBudgetSummary(accountBookId, year, month, totalExpense);
+                BudgetSummary budget = getBudgetSummary(accountBookId, year, month);
 
                 return MonthlyReportResponse.builder()
                                 .year(year)
@@ -118,7 +128,7 @@ public class ReportService {
 
         private List<TopExpense> getTopExpenses(UUID accountBookId, LocalDate start, LocalDate end) {
                 List<Expense> expenses = expenseRepository.findByAccountBookAndDateRange(
-                                accountBookId, start, end, null);
+                                accountBookId, start, end);
 
                 return expenses.stream()
                                 .sorted(Comparator.comparing(Expense::getAmount).reversed())
@@ -134,7 +144,7 @@ public class ReportService {
 
         private TopMerchant getTopMerchant(UUID accountBookId, LocalDate start, LocalDate end) {
                 List<Expense> expenses = expenseRepository.findByAccountBookAndDateRange(
-                                accountBookId, start, end, null);
+                                accountBookId, start, end);
 
                 Map<String, Long> merchantCount = expenses.stream()
                                 .filter(e -> e.getMerchant() != null && !e.getMerchant().isBlank())
@@ -149,7 +159,10 @@ public class ReportService {
                                 .orElse(null);
         }
 
-        private BudgetSummary getBudgetSummary(UUID accountBookId, int year, int month, BigDecimal totalExpense) {
+        /**
+         * 예산 요약 (사용액은 지출 쓰기마다 갱신되는 월 합계를 사용)
+         */
+        private BudgetSummary getBudgetSummary(UUID accountBookId, int year, int month) {
                 Optional<Budget> budgetOpt = budgetRepository.findByAccountBookAccountBookIdAndYearAndMonth(
                                 accountBookId, year, month);
 
@@ -158,6 +171,7 @@ public class ReportService {
                 }
 
                 Budget budget = budgetOpt.get();
+                BigDecimal totalExpense = budgetSpendTracker.spent(accountBookId, year, month);
                 int usagePercentage;
                 if (budget.getTargetAmount().compareTo(BigDecimal.ZERO) > 0) {
                         usagePercentage = totalExpense.multiply(BigDecimal.valueOf(100))
@@ -0,0 +1,106 @@
+package com.moneyflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.config.EmailOutboxConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resend API 이메일 발송 (비동기)
+ * EmailOutboxDispatcher가 대기열의 메일을 발송할 때 사용하며, 요청 스레드에서는 호출하지 않습니다.
+ *
+ * 테스트 모드에서는 실제로 발송하지 않고 로그만 출력합니다.
+ */
+@Component
+@Slf4j
+public class ResendEmailSender {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final EmailOutboxConfig outboxConfig;
+
+    @Value("${email.resend.api-key:re_test}")
+    private String resendApiKey;
+
+    @Value("${email.resend.base-url:https://api.resend.com}")
+    private String baseUrl;
+
+    @Value("${email.from:noreply@moneyflow.com}")
+    private String fromEmail;
+
+    @Value("${email.test-mode:true}")
+    private boolean testMode;
+
+    public ResendEmailSender(EmailOutboxConfig outboxConfig) {
+        this.outboxConfig = outboxConfig;
+    }
+
+    /**
+     * 이메일 발송 요청
+     * 네트워크 오류/타임아웃은 예외로 완료되고, HTTP 응답은 상태 코드와 함께 결과로 완료됩니다.
+     */
+    public CompletableFuture<SendResult> send(String toEmail, String subject, String htmlContent) {
+        if (testMode) {
+            // 테스트 모드: 실제로 이메일을 발송하지 않고 로그만 출력
+            log.info("📧 [테스트 모드] 이메일 발송 시뮬레이션");
+            log.info("수신자: {}", toEmail);
+            log.info("제목: {}", subject);
+            log.info("내용: {}", htmlContent);
+            return CompletableFuture.completedFuture(new SendResult(200, ""));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/emails"))
+                .timeout(outboxConfig.getRequestTimeout())
+                .header("Authorization", "Bearer " + resendApiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(buildRequestBody(toEmail, subject, htmlContent)))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> new SendResult(response.statusCode(), response.body()));
+    }
+
+    private String buildRequestBody(String toEmail, String subject, String htmlContent) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "from", fromEmail,
+                    "to", List.of(toEmail),
+                    "subject", subject,
+                    "html", htmlContent));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이메일 요청 본문 생성에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 발송 API 응답
+     */
+    public record SendResult(int statusCode, String body) {
+
+        public boolean isSuccess() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        /**
+         * 다시 보내면 성공할 수 있는 응답인지 (요청 한도 초과, 서버 오류)
+         * 그 밖의 4xx(잘못된 주소, 인증 실패 등)는 재시도해도 같은 결과이므로 바로 DEAD 처리합니다.
+         */
+        public boolean isRetryable() {
+            return statusCode == 429 || statusCode >= 500;
+        }
+    }
+}
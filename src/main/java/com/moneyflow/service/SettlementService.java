@@ -176,7 +176,7 @@ public class SettlementService {
      * 3. 둘 중 작은 금액만큼 거래 생성
      * 4. 반복
      */
-    private List<SettlementTransaction> calculateTransactions(
+    List<SettlementTransaction> calculateTransactions(
             List<MemberSettlement> settlements,
             Map<UUID, String> nicknames) {
 
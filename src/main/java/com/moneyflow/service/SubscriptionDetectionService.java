@@ -149,7 +149,7 @@ public class SubscriptionDetectionService {
     /**
      * 지출 패턴 분석
      */
-    private Optional<SubscriptionPattern> analyzePattern(List<Expense> expenses) {
+    Optional<SubscriptionPattern> analyzePattern(List<Expense> expenses) {
         if (expenses.size() < 2) {
             return Optional.empty();
         }
@@ -315,7 +315,7 @@ public class SubscriptionDetectionService {
      */
     @lombok.Data
     @lombok.Builder
-    private static class SubscriptionPattern {
+    static class SubscriptionPattern {
         private BigDecimal amount;
         private RecurringType recurringType;
         private LocalDate lastPaymentDate;
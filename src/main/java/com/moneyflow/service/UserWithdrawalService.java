@@ -4,6 +4,9 @@ import com.moneyflow.domain.couple.CoupleRepository;
 import com.moneyflow.domain.notification.Notification;
 import com.moneyflow.domain.notification.NotificationRepository;
 import com.moneyflow.domain.terms.UserAgreementRepository;
+import com.moneyflow.domain.token.RefreshTokenRepository;
+import com.moneyflow.domain.user.AccountPurgeJob;
+import com.moneyflow.domain.user.AccountPurgeJobRepository;
 import com.moneyflow.domain.user.AuthProvider;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserAuth;
@@ -13,15 +16,24 @@ import com.moneyflow.dto.request.WithdrawRequest;
 import com.moneyflow.exception.BusinessException;
 import com.moneyflow.exception.ErrorCode;
 import com.moneyflow.exception.ResourceNotFoundException;
+import com.moneyflow.security.ActiveUserChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 회원 탈퇴 서비스
+ *
+ * 요청 트랜잭션에서는 로그인 수단(인증 정보, 리프레시 토큰)만 지우고 사용자를 삭제 표시한 뒤,
+ * 지출/수입/장부 등 나머지 데이터는 AccountPurgeJob으로 넘겨 AccountPurgeWorker가 나눠서 삭제합니다.
+ * 남은 액세스 토큰은 ActiveUserChecker가 거부하며, 삭제는 모든 인스턴스가 거부하기 시작한 뒤에 시작합니다.
+ * 이메일은 바로 재가입할 수 있도록 탈퇴용 주소로 바꿔 둡니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -33,10 +45,14 @@ public class UserWithdrawalService {
     private final CoupleRepository coupleRepository;
     private final NotificationRepository notificationRepository;
     private final UserAgreementRepository userAgreementRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccountPurgeJobRepository accountPurgeJobRepository;
+    private final ActiveUserChecker activeUserChecker;
 
     @Transactional
     public void withdraw(UUID userId, WithdrawRequest request) {
         User user = userRepository.findById(userId)
+                .filter(found -> found.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
         if (isEmailUser(userId)) {
@@ -49,18 +65,44 @@ public class UserWithdrawalService {
             log.info("회원 탈퇴 사유: userId={}, reason={}", userId, request.getReason());
         }
 
-        deleteNonCascadeData(userId);
-        userRepository.delete(user);
+        String email = user.getEmail();
+        deleteCredentials(userId);
+        markDeleted(user);
 
-        log.info("회원 탈퇴 완료: userId={}, email={}", userId, user.getEmail());
+        log.info("회원 탈퇴 접수: userId={}, email={} (데이터 삭제는 백그라운드에서 진행)", userId, email);
     }
 
-    private void deleteNonCascadeData(UUID userId) {
+    private void deleteCredentials(UUID userId) {
         userAgreementRepository.deleteByUserUserId(userId);
         log.debug("약관 동의 이력 선삭제 완료: userId={}", userId);
 
         userAuthRepository.deleteByUserUserId(userId);
         log.debug("인증 정보 선삭제 완료: userId={}", userId);
+
+        // 재발급 차단 (남은 액세스 토큰은 ActiveUserChecker가 거부)
+        refreshTokenRepository.deleteByUserId(userId);
+        log.debug("리프레시 토큰 삭제 완료: userId={}", userId);
+    }
+
+    private void markDeleted(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        user.setDeletedAt(now);
+        user.setEmail(withdrawnEmail(user.getUserId()));
+        userRepository.save(user);
+        activeUserChecker.markWithdrawn(user.getUserId());
+
+        // 다른 인스턴스에 캐시된 '탈퇴 전' 상태가 만료된 뒤 시작 (삭제 중에는 이 사용자의 쓰기 요청이 없음)
+        accountPurgeJobRepository.save(AccountPurgeJob.builder()
+                .userId(user.getUserId())
+                .nextAttemptAt(now.plus(activeUserChecker.getTtl()))
+                .build());
+    }
+
+    /**
+     * 삭제가 끝날 때까지 사용자 행이 남아 있으므로 같은 이메일로 재가입할 수 있도록 바꿔 두는 주소
+     */
+    static String withdrawnEmail(UUID userId) {
+        return "withdrawn+" + userId + "@deleted.moneyflow.invalid";
     }
 
     private boolean isEmailUser(UUID userId) {
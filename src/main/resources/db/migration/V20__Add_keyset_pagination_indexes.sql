@@ -0,0 +1,18 @@
+-- V20: 지출/수입 목록 커서(Keyset) 페이지네이션용 복합 인덱스
+-- 정렬 키 (date DESC, created_at DESC, id DESC)와 동일한 순서로 인덱스를 생성하여
+-- 커서 이후 N건을 인덱스 범위 탐색만으로 조회할 수 있게 합니다.
+
+-- 1. expenses: 사용자별 목록 (GET /api/expenses)
+CREATE INDEX IF NOT EXISTS idx_expenses_user_keyset
+    ON expenses(user_id, date DESC, created_at DESC, expense_id DESC);
+
+-- 2. incomes: 사용자별 목록 (GET /api/incomes)
+CREATE INDEX IF NOT EXISTS idx_incomes_user_keyset
+    ON incomes(user_id, date DESC, created_at DESC, income_id DESC);
+
+-- 기존 (user_id, date DESC) 인덱스는 새 인덱스의 접두사이므로 제거 (쓰기 비용 절감)
+DROP INDEX IF EXISTS idx_expenses_user_date;
+DROP INDEX IF EXISTS idx_incomes_user_date;
+
+COMMENT ON INDEX idx_expenses_user_keyset IS '지출 목록 커서 페이지네이션 (date, created_at, expense_id)';
+COMMENT ON INDEX idx_incomes_user_keyset IS '수입 목록 커서 페이지네이션 (date, created_at, income_id)';
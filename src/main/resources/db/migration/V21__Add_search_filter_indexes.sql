@@ -0,0 +1,21 @@
+-- V21: 지출/수입 동적 검색 필터용 인덱스
+-- Specification 기반 검색은 값이 주어진 조건만 WHERE 절에 포함하므로,
+-- 조건 조합별로 아래 인덱스를 플래너가 선택할 수 있습니다.
+-- (user_id + 기간만 있는 경우는 V20의 idx_*_user_keyset 인덱스 사용)
+
+-- 1. 지출 카테고리 필터 (category = ? / category IN (...))
+CREATE INDEX IF NOT EXISTS idx_expenses_user_category_date
+    ON expenses(user_id, category, date DESC);
+
+-- 2. 지출 가맹점 접두사 검색 (merchant LIKE '스타벅스%')
+--    text_pattern_ops: DB collation과 무관하게 LIKE 접두사 범위 탐색 가능
+CREATE INDEX IF NOT EXISTS idx_expenses_user_merchant_prefix
+    ON expenses(user_id, merchant text_pattern_ops);
+
+-- 3. 수입 출처 필터 (source = ? / source IN (...))
+CREATE INDEX IF NOT EXISTS idx_incomes_user_source_date
+    ON incomes(user_id, source, date DESC);
+
+-- 사용자 조건 없이 단독으로 쓰이지 않는 단일 컬럼 인덱스 제거 (쓰기 비용 절감)
+DROP INDEX IF EXISTS idx_expenses_category;
+DROP INDEX IF EXISTS idx_incomes_source;
@@ -0,0 +1,20 @@
+-- V22: 거래 내역 전문 검색용 pg_trgm GIN 인덱스
+-- 부분 문자열 검색(ILIKE '%스타벅%')과 오타 허용 검색(word_similarity, <% 연산자)을
+-- 모두 트라이그램 GIN 인덱스로 처리합니다.
+-- (한글 트라이그램 추출은 DB의 LC_CTYPE이 C가 아닌 UTF-8 로케일이어야 동작)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 1. 지출: 가맹점명 / 메모
+CREATE INDEX IF NOT EXISTS idx_expenses_merchant_trgm
+    ON expenses USING gin (merchant gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_expenses_memo_trgm
+    ON expenses USING gin (memo gin_trgm_ops);
+
+-- 2. 수입: 출처 / 설명
+CREATE INDEX IF NOT EXISTS idx_incomes_source_trgm
+    ON incomes USING gin (source gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_incomes_description_trgm
+    ON incomes USING gin (description gin_trgm_ops);
@@ -0,0 +1,37 @@
+-- V23: expenses/incomes 월 단위 파티셔닝 사전 작업 (온라인)
+-- V23__Prepare_monthly_partitioning.sql.conf 설정으로 트랜잭션 밖에서 실행됩니다.
+-- 무거운 작업(인덱스 생성, 전체 검증 스캔)은 모두 이 단계에서 쓰기를 막지 않는 락으로 처리하고,
+-- V24에서는 테이블 교체/연결만 짧게 수행합니다.
+
+-- 1. 파티션 테이블 PK (id, date)와 동일한 유니크 인덱스를 미리 생성
+--    V24에서 기존 테이블을 파티션으로 연결할 때 새로 만들지 않고 이 인덱스를 PK 인덱스로 사용
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS expenses_expense_id_date_key
+    ON expenses (expense_id, date);
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS incomes_income_id_date_key
+    ON incomes (income_id, date);
+
+-- 2. 기존 데이터가 속할 구간(date < 경계)을 CHECK 제약으로 선언 (NOT VALID: 스캔 없이 즉시 추가)
+--    경계 = max(다다음 달 1일, 가장 늦은 날짜의 다음 달 1일)
+--    V24 실행 전까지 경계 이후 날짜의 입력은 거부되므로 두 마이그레이션은 한 번에 배포합니다.
+DO $$
+DECLARE
+    tbl text;
+    bound date;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY['expenses', 'incomes'] LOOP
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                       WHERE conrelid = tbl::regclass AND conname = tbl || '_legacy_range_check') THEN
+            EXECUTE format(
+                'SELECT GREATEST(date_trunc(''month'', current_date) + interval ''2 month'', '
+                || 'date_trunc(''month'', max(date)) + interval ''1 month'')::date FROM %I', tbl)
+                INTO bound;
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (date < %L) NOT VALID',
+                           tbl, tbl || '_legacy_range_check', bound);
+        END IF;
+    END LOOP;
+END $$;
+
+-- 3. 제약 검증 (SHARE UPDATE EXCLUSIVE 락: 스캔 중에도 조회/입력/수정 가능)
+ALTER TABLE expenses VALIDATE CONSTRAINT expenses_legacy_range_check;
+ALTER TABLE incomes VALIDATE CONSTRAINT incomes_legacy_range_check;
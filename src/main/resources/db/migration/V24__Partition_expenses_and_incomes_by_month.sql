@@ -0,0 +1,195 @@
+-- V24: expenses/incomes를 date 기준 월 단위 범위 파티션 테이블로 전환
+--
+-- 데이터 복사 없이 기존 테이블을 "과거 구간" 파티션(<table>_legacy)으로 연결합니다.
+--   - V23에서 만든 (id, date) 유니크 인덱스와 VALIDATE된 범위 CHECK 제약 덕분에
+--     ATTACH 시 인덱스 재생성/전체 스캔이 없어 ACCESS EXCLUSIVE 락 구간이 짧습니다.
+--   - 경계 이후의 월은 월별 파티션(<table>_yYYYYmMM), 그 이후는 기본 파티션(<table>_default)에 저장됩니다.
+--   - 미래 월 파티션은 ensure_monthly_partitions()로 미리 생성합니다. (PartitionMaintenanceScheduler가 매일 호출)
+--
+-- 파티션 테이블의 PK/유니크 제약은 파티션 키를 포함해야 하므로 PK는 (id, date)가 되고,
+-- 이 테이블들을 참조하던 FK는 제거한 뒤 필요한 연쇄 동작을 트리거로 대체합니다.
+
+
+-- 1. 미래 월 파티션 생성 함수
+--    현재 범위 파티션의 마지막 경계부터 (이번 달 + months_ahead)까지 빈 월을 순서대로 생성
+--    기본 파티션에 해당 월 행이 있으면 잠시 옮겼다가 새 파티션 생성 후 다시 넣습니다.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent text, months_ahead integer)
+RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    target_date date := (date_trunc('month', current_date) + make_interval(months => months_ahead + 1))::date;
+    default_partition text := parent || '_default';
+    start_date date;
+    end_date date;
+    partition_name text;
+    has_default_rows boolean;
+    created integer := 0;
+BEGIN
+    -- 여러 인스턴스가 동시에 실행해도 한 번만 생성
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_monthly_partitions:' || parent));
+
+    SELECT max((regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \(''([0-9-]+)''\)'))[1]::date)
+      INTO start_date
+      FROM pg_inherits inh
+      JOIN pg_class c ON c.oid = inh.inhrelid
+     WHERE inh.inhparent = parent::regclass;
+
+    start_date := COALESCE(start_date, date_trunc('month', current_date)::date);
+
+    -- 기본 파티션에서 행을 옮기는 동안 삭제 연쇄 트리거가 동작하지 않도록 표시 (트랜잭션 범위)
+    PERFORM set_config('moneyflow.partition_maintenance', 'on', true);
+
+    WHILE start_date < target_date LOOP
+        end_date := (start_date + interval '1 month')::date;
+        partition_name := format('%s_y%sm%s', parent, to_char(start_date, 'YYYY'), to_char(start_date, 'MM'));
+
+        has_default_rows := false;
+        IF to_regclass(default_partition) IS NOT NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE date >= %L AND date < %L)',
+                           default_partition, start_date, end_date)
+                INTO has_default_rows;
+        END IF;
+
+        IF has_default_rows THEN
+            EXECUTE format('CREATE TEMP TABLE partition_rows_in_transit ON COMMIT DROP AS '
+                           || 'WITH moved AS (DELETE FROM %I WHERE date >= %L AND date < %L RETURNING *) '
+                           || 'SELECT * FROM moved',
+                           default_partition, start_date, end_date);
+        END IF;
+
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, parent, start_date, end_date);
+
+        IF has_default_rows THEN
+            EXECUTE format('INSERT INTO %I SELECT * FROM partition_rows_in_transit', parent);
+            DROP TABLE partition_rows_in_transit;
+        END IF;
+
+        created := created + 1;
+        start_date := end_date;
+    END LOOP;
+
+    PERFORM set_config('moneyflow.partition_maintenance', 'off', true);
+    RETURN created;
+END $$;
+
+COMMENT ON FUNCTION ensure_monthly_partitions(text, integer) IS '월 단위 범위 파티션을 이번 달 + months_ahead까지 생성하고 생성 개수를 반환';
+
+
+-- 2. 일반 테이블 → 파티션 테이블 전환 (이 마이그레이션에서만 사용)
+CREATE FUNCTION pg_temp.convert_to_monthly_partitions(tbl text, id_column text)
+RETURNS void
+LANGUAGE plpgsql AS $$
+DECLARE
+    legacy text := tbl || '_legacy';
+    range_check text := tbl || '_legacy_range_check';
+    bound date;
+    r record;
+BEGIN
+    SELECT (regexp_match(pg_get_constraintdef(oid), '''([0-9-]+)'''))[1]::date
+      INTO bound
+      FROM pg_constraint
+     WHERE conrelid = tbl::regclass AND conname = range_check AND convalidated;
+
+    IF bound IS NULL THEN
+        RAISE EXCEPTION '%: V23 범위 제약(%)이 없거나 검증되지 않았습니다', tbl, range_check;
+    END IF;
+
+    -- 2-1. 이 테이블을 참조하는 FK 제거 (파티션 키가 없는 컬럼은 참조할 수 없음)
+    FOR r IN SELECT conrelid::regclass AS child, conname
+               FROM pg_constraint
+              WHERE contype = 'f' AND confrelid = tbl::regclass LOOP
+        RAISE NOTICE '%: FK %.% 제거 (트리거로 대체)', tbl, r.child, r.conname;
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', r.child, r.conname);
+    END LOOP;
+
+    -- 2-2. 기존 테이블 PK를 V23의 (id, date) 유니크 인덱스로 교체 (스캔 없음)
+    --      ATTACH 시 부모 PK와 같은 제약이 있어야 인덱스를 재사용할 수 있음
+    SELECT conname INTO r FROM pg_constraint WHERE conrelid = tbl::regclass AND contype = 'p';
+    IF FOUND THEN
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tbl, r.conname);
+    END IF;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY USING INDEX %I',
+                   tbl, tbl || '_pkey', format('%s_%s_date_key', tbl, id_column));
+
+    -- 2-3. 기존 테이블/인덱스 이름 변경 (새 부모 테이블이 같은 이름을 사용)
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', tbl, legacy);
+    FOR r IN SELECT c.relname
+               FROM pg_index i
+               JOIN pg_class c ON c.oid = i.indexrelid
+              WHERE i.indrelid = legacy::regclass LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', r.relname, left(r.relname, 56) || '_legacy');
+    END LOOP;
+
+    -- 2-4. 부모 테이블 생성 (컬럼/기본값/NOT NULL/CHECK/컬럼 주석 복사)
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS INCLUDING STORAGE) '
+                   || 'PARTITION BY RANGE (date)', tbl, legacy);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', tbl, range_check);
+    EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (%I, date)', tbl, id_column);
+
+    -- 2-5. 다른 테이블을 참조하는 FK 복사 (ATTACH 시 기존 테이블의 동일한 FK를 재사용)
+    FOR r IN SELECT conname, pg_get_constraintdef(oid) AS definition
+               FROM pg_constraint
+              WHERE contype = 'f' AND conrelid = legacy::regclass LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', tbl, r.conname, r.definition);
+    END LOOP;
+
+    -- 2-6. 보조 인덱스 복사 (ATTACH 시 기존 테이블의 동일한 인덱스를 재사용, 유니크 인덱스 제외)
+    FOR r IN SELECT c.relname, pg_get_indexdef(i.indexrelid) AS definition
+               FROM pg_index i
+               JOIN pg_class c ON c.oid = i.indexrelid
+              WHERE i.indrelid = legacy::regclass AND NOT i.indisunique LOOP
+        EXECUTE regexp_replace(r.definition,
+                               'INDEX \S+ ON \S+ USING',
+                               format('INDEX %I ON %I USING', regexp_replace(r.relname, '_legacy$', ''), tbl));
+    END LOOP;
+
+    -- 2-7. 기존 테이블을 과거 구간 파티션으로 연결 후 불필요해진 범위 제약 제거
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)', tbl, legacy, bound);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', legacy, range_check);
+
+    -- 2-8. 기본 파티션 (월 파티션이 아직 없는 먼 미래 날짜)
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', tbl || '_default', tbl);
+END $$;
+
+SELECT pg_temp.convert_to_monthly_partitions('expenses', 'expense_id');
+SELECT pg_temp.convert_to_monthly_partitions('incomes', 'income_id');
+
+COMMENT ON TABLE expenses IS '지출 내역 (date 기준 월 단위 범위 파티션)';
+COMMENT ON TABLE incomes IS '수입 내역 (date 기준 월 단위 범위 파티션)';
+
+-- 3. 향후 12개월 파티션 생성
+SELECT ensure_monthly_partitions('expenses', 12);
+SELECT ensure_monthly_partitions('incomes', 12);
+
+
+-- 4. 제거한 FK의 삭제 연쇄 동작을 트리거로 대체
+--    - expense_participants: ON DELETE CASCADE
+--    - recurring_expense_payments.expense_id: 연결 해제 (SET NULL)
+--    날짜 변경으로 행이 다른 파티션으로 이동할 때 DELETE 트리거가 실행될 수 있으므로
+--    같은 ID의 행이 남아 있으면 연쇄 동작을 건너뜁니다.
+CREATE OR REPLACE FUNCTION expenses_after_delete()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF current_setting('moneyflow.partition_maintenance', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM expenses WHERE expense_id = OLD.expense_id) THEN
+        RETURN NULL;
+    END IF;
+
+    DELETE FROM expense_participants WHERE expense_id = OLD.expense_id;
+
+    IF to_regclass('recurring_expense_payments') IS NOT NULL THEN
+        EXECUTE 'UPDATE recurring_expense_payments SET expense_id = NULL WHERE expense_id = $1'
+            USING OLD.expense_id;
+    END IF;
+
+    RETURN NULL;
+END $$;
+
+CREATE TRIGGER trg_expenses_after_delete
+    AFTER DELETE ON expenses
+    FOR EACH ROW EXECUTE FUNCTION expenses_after_delete();
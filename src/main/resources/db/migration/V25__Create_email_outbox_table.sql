@@ -0,0 +1,33 @@
+-- 이메일 발송 대기열(outbox) 테이블 생성
+-- 인증 코드와 같은 트랜잭션에서 저장하고, EmailOutboxDispatcher가 비동기로 발송합니다.
+CREATE TABLE email_outbox (
+    email_id UUID PRIMARY KEY,
+    to_email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    html_body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempt_count INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP,
+
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'DEAD'))
+);
+
+-- 인덱스 생성 (발송 대상 조회: 대기/발송 중인 행만)
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at) WHERE status IN ('PENDING', 'SENDING');
+CREATE INDEX idx_email_outbox_status_created ON email_outbox(status, created_at);
+
+-- 코멘트 추가
+COMMENT ON TABLE email_outbox IS '이메일 발송 대기열';
+COMMENT ON COLUMN email_outbox.email_id IS '이메일 ID (UUID)';
+COMMENT ON COLUMN email_outbox.to_email IS '수신자 이메일 주소';
+COMMENT ON COLUMN email_outbox.subject IS '제목';
+COMMENT ON COLUMN email_outbox.html_body IS 'HTML 본문';
+COMMENT ON COLUMN email_outbox.status IS '발송 상태 (PENDING: 대기, SENDING: 발송 중, SENT: 완료, DEAD: 재시도 포기)';
+COMMENT ON COLUMN email_outbox.attempt_count IS '발송 시도 횟수';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS '다음 발송 시도 시각 (SENDING 상태에서는 점유 만료 시각)';
+COMMENT ON COLUMN email_outbox.last_error IS '마지막 실패 사유';
+COMMENT ON COLUMN email_outbox.created_at IS '생성 일시';
+COMMENT ON COLUMN email_outbox.sent_at IS '발송 완료 일시';
@@ -0,0 +1,6 @@
+-- 영수증 이미지 참조 조회용 인덱스
+-- ReceiptMaintenanceScheduler가 저장된 파일이 어떤 지출에서 참조되는지 image_url로 조회합니다.
+-- 대부분의 지출은 이미지가 없으므로 부분 인덱스로 생성
+CREATE INDEX IF NOT EXISTS idx_expenses_image_url ON expenses (image_url) WHERE image_url IS NOT NULL;
+
+COMMENT ON COLUMN expenses.image_url IS '영수증 이미지 경로 (/api/receipts/{SHA-256})';
@@ -0,0 +1,38 @@
+-- 회원 탈퇴 데이터 삭제 작업 테이블 생성
+-- 탈퇴 요청 시 사용자를 삭제 표시(deleted_at)만 하고, AccountPurgeWorker가 하위 데이터를 나눠서 삭제합니다.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+COMMENT ON COLUMN users.deleted_at IS '탈퇴 일시 (데이터 삭제 작업이 끝나면 행 자체가 삭제됨)';
+
+CREATE TABLE account_purge_jobs (
+    job_id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    step VARCHAR(50) NOT NULL,
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    attempt_count INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    -- 사용자 행은 작업 마지막에 삭제되므로 FK를 두지 않음
+    CONSTRAINT uk_account_purge_jobs_user UNIQUE (user_id),
+    CONSTRAINT chk_account_purge_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- 인덱스 생성 (처리 대상 조회: 대기/진행 중인 행만)
+CREATE INDEX idx_account_purge_jobs_due ON account_purge_jobs(next_attempt_at) WHERE status IN ('PENDING', 'RUNNING');
+
+-- 코멘트 추가
+COMMENT ON TABLE account_purge_jobs IS '회원 탈퇴 데이터 삭제 작업';
+COMMENT ON COLUMN account_purge_jobs.job_id IS '작업 ID (UUID)';
+COMMENT ON COLUMN account_purge_jobs.user_id IS '탈퇴한 사용자 ID';
+COMMENT ON COLUMN account_purge_jobs.status IS '상태 (PENDING: 대기, RUNNING: 진행 중, COMPLETED: 완료, FAILED: 재시도 포기)';
+COMMENT ON COLUMN account_purge_jobs.step IS '진행 중인 삭제 단계 (재시작 시 이 단계부터 이어서 진행)';
+COMMENT ON COLUMN account_purge_jobs.deleted_rows IS '지금까지 삭제/변경한 행 수';
+COMMENT ON COLUMN account_purge_jobs.attempt_count IS '실패 횟수';
+COMMENT ON COLUMN account_purge_jobs.next_attempt_at IS '다음 처리 시각 (RUNNING 상태에서는 점유 만료 시각)';
+COMMENT ON COLUMN account_purge_jobs.last_error IS '마지막 실패 사유';
+COMMENT ON COLUMN account_purge_jobs.created_at IS '생성 일시 (탈퇴 일시)';
+COMMENT ON COLUMN account_purge_jobs.completed_at IS '완료 일시';
@@ -0,0 +1,50 @@
+-- V28: 명세서 가져오기 중복 판별 키 (온라인)
+-- V28__Add_expense_dedup_key.sql.conf 설정으로 트랜잭션 밖에서 실행됩니다.
+--
+-- dedup_key = md5(장부 ID | 날짜 | 금액(소수점 2자리) | 정규화한 가맹점명)
+-- 애플리케이션은 저장/수정 시 ExpenseDedupKey로 계산하고, 기존 행은 아래에서 같은 규칙으로 채웁니다.
+-- 가맹점명 정규화(MerchantNormalizer.canonical): 법인 표기((주), ㈜, 주식회사) 제거 → 소문자 → 문자/숫자만 남김
+-- (한글이 [:alnum:]에 포함되려면 V22와 마찬가지로 DB의 LC_CTYPE이 UTF-8 로케일이어야 함)
+
+-- 1. 컬럼 추가 (NULL 허용, 기본값 없음: 카탈로그만 변경하고 테이블을 다시 쓰지 않음)
+ALTER TABLE expenses ADD COLUMN IF NOT EXISTS dedup_key VARCHAR(32);
+
+COMMENT ON COLUMN expenses.dedup_key IS '중복 판별 키 md5(장부|날짜|금액|정규화 가맹점명), 명세서 가져오기에서 사용';
+
+-- 2. 기존 행 채우기
+--    expense_id 순서로 5,000행씩 나눠 배치마다 커밋하므로 한 번에 잠그는 행과 남기는 dead tuple이 배치 크기로 제한됩니다.
+--    이미 값이 있는 행(애플리케이션이 저장한 행, 중단 후 재실행 시 앞서 채운 행)은 건너뜁니다.
+DO $$
+DECLARE
+    last_id uuid := '00000000-0000-0000-0000-000000000000';
+    batch_end uuid;
+BEGIN
+    LOOP
+        -- 이번 배치의 마지막 ID (남은 행이 5,000개 미만이면 NULL: 끝까지 처리하고 종료)
+        SELECT expense_id INTO batch_end
+          FROM expenses WHERE expense_id > last_id ORDER BY expense_id OFFSET 4999 LIMIT 1;
+
+        UPDATE expenses
+           SET dedup_key = md5(
+                   COALESCE(account_book_id::text, '')
+                   || '|' || to_char(date, 'YYYY-MM-DD')
+                   || '|' || round(amount, 2)::text
+                   || '|' || regexp_replace(
+                                lower(regexp_replace(COALESCE(merchant, ''), '\(주\)|㈜|주식회사', '', 'g')),
+                                '[^[:alnum:]]', '', 'g'))
+         WHERE expense_id > last_id
+           AND (batch_end IS NULL OR expense_id <= batch_end)
+           AND dedup_key IS NULL;
+        COMMIT;
+
+        EXIT WHEN batch_end IS NULL;
+        last_id := batch_end;
+    END LOOP;
+END $$;
+
+-- 3. 인덱스
+--    같은 키의 존재 여부/건수만 조회하므로 등호 비교 전용 해시 인덱스 사용 (B-tree보다 작고 키 길이와 무관)
+--    파티션 테이블에는 CONCURRENTLY로 인덱스를 만들 수 없으므로 부모에만 정의(ON ONLY, 아직 무효)하고,
+--    파티션별 인덱스는 PartitionMaintenanceScheduler가 CONCURRENTLY로 만들어 연결합니다.
+--    모든 파티션이 연결되면 부모 인덱스가 유효해지며, 그 전에도 가져오기 조회는 날짜 범위로 좁힌 파티션의 인덱스를 사용합니다.
+CREATE INDEX IF NOT EXISTS idx_expenses_dedup_key ON ONLY expenses USING hash (dedup_key);
@@ -0,0 +1,101 @@
+-- V29: 장부 단위 변경 순번과 삭제 기록 (오프라인 동기화 /api/sync, 온라인)
+-- V29__Create_sync_change_tracking.sql.conf 설정으로 트랜잭션 밖에서 실행되므로 각 문장은 다시 실행해도 안전하게 작성합니다.
+--
+-- 지출/수입 행은 마지막으로 바뀐 시점의 순번(change_seq)을 가지고, 삭제/장부 이동은 sync_tombstones에 남깁니다.
+-- 순번은 장부별 account_book_change_seqs.last_seq에서 발급하며, 발급한 트랜잭션이 끝날 때까지 그 행이 잠겨 있어
+-- 같은 장부에서는 순번이 커밋 순서와 일치합니다. (클라이언트가 "since 이후"를 조회할 때 중간 순번을 놓치지 않음)
+
+CREATE TABLE IF NOT EXISTS account_book_change_seqs (
+    account_book_id UUID PRIMARY KEY REFERENCES account_books(account_book_id) ON DELETE CASCADE,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    pruned_seq BIGINT NOT NULL DEFAULT 0
+);
+
+COMMENT ON TABLE account_book_change_seqs IS '장부별 변경 순번 (동기화)';
+COMMENT ON COLUMN account_book_change_seqs.last_seq IS '마지막으로 발급한 변경 순번';
+COMMENT ON COLUMN account_book_change_seqs.pruned_seq IS '정리된 삭제 기록의 최대 순번 (이보다 오래된 since는 전체 동기화 필요)';
+
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    account_book_id UUID NOT NULL REFERENCES account_books(account_book_id) ON DELETE CASCADE,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (account_book_id, entity_type, entity_id),
+    CONSTRAINT chk_sync_tombstones_entity_type CHECK (entity_type IN ('EXPENSE', 'INCOME'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_book_seq ON sync_tombstones(account_book_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
+
+COMMENT ON TABLE sync_tombstones IS '동기화용 삭제 기록 (삭제되었거나 다른 장부로 이동한 지출/수입)';
+COMMENT ON COLUMN sync_tombstones.entity_type IS '대상 종류 (EXPENSE, INCOME)';
+COMMENT ON COLUMN sync_tombstones.change_seq IS '삭제 시 발급한 변경 순번';
+
+-- 상수 기본값이 있는 NOT NULL 컬럼 추가는 카탈로그만 변경 (테이블을 다시 쓰지 않음)
+ALTER TABLE expenses ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE incomes ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN expenses.change_seq IS '장부 내 마지막 변경 순번 (동기화)';
+COMMENT ON COLUMN incomes.change_seq IS '장부 내 마지막 변경 순번 (동기화)';
+
+-- 기존 행에 장부별로 겹치지 않는 순번 부여
+-- ID 순서로 5,000행씩 나눠 배치마다 커밋합니다. 배치 안의 행 수만큼 장부별 last_seq를 upsert로 늘려 받고
+-- (애플리케이션의 ChangeSequencer와 같은 방식, 장부 ID 순서로 잠금) 받은 범위를 생성 시각 순으로 나눠 줍니다.
+-- 이미 순번이 있는 행(애플리케이션이 저장한 행, 중단 후 재실행 시 앞서 채운 행)은 건너뜁니다.
+DO $$
+DECLARE
+    target text[];
+    last_id uuid;
+    batch_end uuid;
+BEGIN
+    FOREACH target SLICE 1 IN ARRAY ARRAY[['expenses', 'expense_id'], ['incomes', 'income_id']] LOOP
+        last_id := '00000000-0000-0000-0000-000000000000';
+        LOOP
+            -- 이번 배치의 마지막 ID (남은 행이 5,000개 미만이면 NULL: 끝까지 처리하고 종료)
+            EXECUTE format('SELECT %2$I FROM %1$I WHERE %2$I > $1 ORDER BY %2$I OFFSET 4999 LIMIT 1',
+                           target[1], target[2])
+               INTO batch_end
+              USING last_id;
+
+            EXECUTE format($sql$
+                WITH batch AS (
+                    SELECT %2$I AS id, date, account_book_id,
+                           row_number() OVER (PARTITION BY account_book_id ORDER BY created_at, %2$I) AS n,
+                           count(*) OVER (PARTITION BY account_book_id) AS book_count
+                      FROM %1$I
+                     WHERE %2$I > $1
+                       AND ($2::uuid IS NULL OR %2$I <= $2)
+                       AND account_book_id IS NOT NULL
+                       AND change_seq = 0
+                ),
+                allocated AS (
+                    INSERT INTO account_book_change_seqs (account_book_id, last_seq, pruned_seq)
+                    SELECT account_book_id, count(*), 0 FROM batch GROUP BY account_book_id ORDER BY account_book_id
+                    ON CONFLICT (account_book_id)
+                    DO UPDATE SET last_seq = account_book_change_seqs.last_seq + EXCLUDED.last_seq
+                    RETURNING account_book_id, last_seq
+                )
+                UPDATE %1$I t
+                   SET change_seq = a.last_seq - b.book_count + b.n
+                  FROM batch b
+                  JOIN allocated a ON a.account_book_id = b.account_book_id
+                 WHERE t.%2$I = b.id
+                   AND t.date = b.date
+                   AND t.change_seq = 0
+                $sql$, target[1], target[2])
+              USING last_id, batch_end;
+            COMMIT;
+
+            EXIT WHEN batch_end IS NULL;
+            last_id := batch_end;
+        END LOOP;
+    END LOOP;
+END $$;
+
+-- since 이후 변경분 조회 (장부 + 순번 범위)
+-- 파티션 테이블이므로 부모에만 정의(ON ONLY)하고, 파티션별 인덱스는 PartitionMaintenanceScheduler가
+-- CONCURRENTLY로 만들어 연결합니다. (V28과 같은 방식)
+CREATE INDEX IF NOT EXISTS idx_expenses_book_change_seq ON ONLY expenses(account_book_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_incomes_book_change_seq ON ONLY incomes(account_book_id, change_seq);
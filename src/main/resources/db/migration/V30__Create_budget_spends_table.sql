@@ -0,0 +1,38 @@
+-- V30: 장부/월별 지출 합계 (예산 사용률 + 기준 초과 알림)
+--
+-- 지출을 저장/수정/삭제/장부 이동할 때마다 BudgetSpendTracker가 증감분만 반영하므로
+-- 예산 조회/리포트에서 해당 월 지출을 다시 합산하지 않습니다.
+-- alerted_level은 그 달에 이미 알린 가장 높은 기준(0, 80, 100)이며, 기준마다 한 번만 알림을 보내는 데 씁니다.
+
+CREATE TABLE budget_spends (
+    account_book_id UUID NOT NULL REFERENCES account_books(account_book_id) ON DELETE CASCADE,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL CHECK (month >= 1 AND month <= 12),
+    spent_amount DECIMAL(18, 2) NOT NULL DEFAULT 0,
+    alerted_level INTEGER NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (account_book_id, year, month)
+);
+
+COMMENT ON TABLE budget_spends IS '장부/월별 지출 합계 (지출 쓰기마다 증감 반영)';
+COMMENT ON COLUMN budget_spends.spent_amount IS '해당 월 지출 합계';
+COMMENT ON COLUMN budget_spends.alerted_level IS '이미 알린 예산 사용률 기준 (0, 80, 100)';
+
+-- 기존 지출로 채우고, 이미 넘은 기준은 알린 것으로 간주 (배포 직후 지난 달 알림이 한꺼번에 나가지 않도록)
+INSERT INTO budget_spends (account_book_id, year, month, spent_amount, alerted_level)
+SELECT s.account_book_id, s.year, s.month, s.spent_amount,
+       CASE
+           WHEN b.target_amount IS NULL THEN 0
+           WHEN s.spent_amount >= b.target_amount THEN 100
+           WHEN s.spent_amount * 100 >= b.target_amount * 80 THEN 80
+           ELSE 0
+       END
+  FROM (SELECT account_book_id,
+               EXTRACT(YEAR FROM date)::INTEGER AS year,
+               EXTRACT(MONTH FROM date)::INTEGER AS month,
+               SUM(amount) AS spent_amount
+          FROM expenses
+         WHERE account_book_id IS NOT NULL
+         GROUP BY account_book_id, EXTRACT(YEAR FROM date), EXTRACT(MONTH FROM date)) s
+  LEFT JOIN budgets b
+    ON b.account_book_id = s.account_book_id AND b.year = s.year AND b.month = s.month;
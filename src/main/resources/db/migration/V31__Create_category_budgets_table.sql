@@ -0,0 +1,19 @@
+-- V31: 카테고리별 예산 (월 전체 예산에 딸린 카테고리 목표)
+--
+-- 월 전체 예산(budgets) 하나에 카테고리마다 목표 금액을 하나씩 둘 수 있습니다.
+-- 예산 리포트는 이 행과 카테고리별 지출 합계를 한 번의 GROUP BY 쿼리로 묶어 계산합니다.
+
+CREATE TABLE category_budgets (
+    category_budget_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    budget_id UUID NOT NULL REFERENCES budgets(budget_id) ON DELETE CASCADE,
+    category VARCHAR(50) NOT NULL,
+    target_amount DECIMAL(18, 2) NOT NULL CHECK (target_amount >= 0),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT category_budgets_budget_category_unique UNIQUE (budget_id, category)
+);
+
+COMMENT ON TABLE category_budgets IS '카테고리별 예산 (월 예산에 딸림)';
+COMMENT ON COLUMN category_budgets.category IS '지출 카테고리 (expenses.category와 같은 값)';
+COMMENT ON COLUMN category_budgets.target_amount IS '카테고리 목표 금액';
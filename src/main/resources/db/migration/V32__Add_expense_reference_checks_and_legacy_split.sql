@@ -0,0 +1,199 @@
+-- V32: 파티션 전환(V24) 후속 작업
+--
+-- 1. V24에서 제거한 expenses 참조 FK의 입력/수정 쪽 검사를 제약 트리거로 대체합니다.
+--    (삭제 쪽 연쇄 동작은 V24의 expenses_after_delete 트리거)
+-- 2. V24에서 기존 테이블 전체를 연결한 과거 구간 파티션(<table>_legacy)을 월 파티션으로 나누는 함수를 추가합니다.
+--    PartitionMaintenanceScheduler가 매일 조금씩 호출하며, 과거 날짜 조회도 해당 월 파티션만 읽게 됩니다.
+
+
+-- 1. 자식 테이블의 expense_id가 실제 지출을 가리키는지 확인
+--    FK와 마찬가지로 부모 행을 FOR KEY SHARE로 잠가, 확인 직후 지출이 삭제되어 고아 행이 남지 않게 합니다.
+--    파티션 키(date)가 없으므로 모든 파티션의 (expense_id, date) PK 인덱스를 조회합니다.
+CREATE OR REPLACE FUNCTION check_expense_reference()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.expense_id IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM 1 FROM expenses WHERE expense_id = NEW.expense_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION '%.expense_id = %: 해당 지출이 없습니다', TG_TABLE_NAME, NEW.expense_id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+
+    RETURN NULL;
+END $$;
+
+COMMENT ON FUNCTION check_expense_reference() IS 'expenses를 참조하는 자식 행의 expense_id 존재 확인 (파티션 전환으로 제거한 FK 대체)';
+
+DROP TRIGGER IF EXISTS trg_expense_participants_expense_ref ON expense_participants;
+CREATE CONSTRAINT TRIGGER trg_expense_participants_expense_ref
+    AFTER INSERT OR UPDATE OF expense_id ON expense_participants
+    FOR EACH ROW EXECUTE FUNCTION check_expense_reference();
+
+DO $$
+BEGIN
+    IF to_regclass('recurring_expense_payments') IS NOT NULL THEN
+        DROP TRIGGER IF EXISTS trg_recurring_expense_payments_expense_ref ON recurring_expense_payments;
+        CREATE CONSTRAINT TRIGGER trg_recurring_expense_payments_expense_ref
+            AFTER INSERT OR UPDATE OF expense_id ON recurring_expense_payments
+            FOR EACH ROW EXECUTE FUNCTION check_expense_reference();
+    END IF;
+END $$;
+
+
+-- 2. 과거 구간 파티션 분할
+--    과거 구간 파티션(MINVALUE ~ 경계, 일반 테이블)을 같은 범위의 하위 파티션 테이블
+--    (<table>_legacy_older: 가장 오래된 데이터 이전, <table>_yYYYYmMM: 그 이후 월별)로 교체합니다.
+--
+--    기존 테이블의 범위를 줄여 다시 연결하면 ATTACH가 남은 행 전체를 ACCESS EXCLUSIVE 락을 잡은 채 검사하고,
+--    줄일 범위의 행이 남아 있는 동안에는 범위 CHECK를 미리 검증해 둘 수도 없습니다.
+--    그래서 빈 교체 테이블(<table>_legacy_next)에 범위 CHECK를 두고(빈 테이블이라 추가 즉시 유효)
+--    행을 키 순서로 나눠 복사한 뒤, 짧은 락 구간에서 한 번에 바꿔 끼웁니다.
+--    인덱스/FK/CHECK도 부모와 같은 정의로 미리 만들어 두므로 ATTACH는 행을 읽지 않고 기존 것을 연결만 합니다.
+CREATE TABLE IF NOT EXISTS legacy_partition_splits (
+    parent_table VARCHAR(63) PRIMARY KEY,
+    last_key UUID,
+    copied_rows BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE legacy_partition_splits IS '과거 구간 파티션 교체 진행 상태 (split_legacy_partition, 교체가 끝나면 행 삭제)';
+COMMENT ON COLUMN legacy_partition_splits.last_key IS '마지막으로 복사한 행의 ID (키 순서 배치 복사 위치)';
+
+-- 복사를 시작한 뒤 과거 구간에 생긴 변경을 교체 테이블에 반영 (TG_ARGV: 교체 테이블, ID 컬럼)
+-- 아직 복사하지 않은 행이 먼저 반영되면 이후 배치 복사는 ON CONFLICT로 건너뜁니다.
+CREATE OR REPLACE FUNCTION mirror_legacy_partition_change()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        EXECUTE format('DELETE FROM %I WHERE %I = ($1).%I AND date = ($1).date', TG_ARGV[0], TG_ARGV[1], TG_ARGV[1])
+            USING OLD;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        EXECUTE format('INSERT INTO %I SELECT ($1).* ON CONFLICT DO NOTHING', TG_ARGV[0]) USING NEW;
+    END IF;
+    RETURN NULL;
+END $$;
+
+--    호출할 때마다 한 단계만 한 트랜잭션으로 수행하고 수행한 단계를 반환합니다.
+--      PREPARED  교체 테이블/월 파티션/변경 반영 트리거 생성 (빈 테이블이므로 스캔 없음)
+--      COPIED    과거 구간 행을 키 순서로 최대 batch_rows건 복사
+--                배치 동안 과거 구간에 SHARE 락을 잡아 과거 날짜 행의 쓰기만 잠시 대기합니다. (조회는 대기 없음)
+--                배치와 트리거 반영이 겹치지 않아 복사본이 어긋나지 않습니다.
+--      SWAPPED   복사가 끝나면 DETACH → 교체 테이블 ATTACH(범위 CHECK로 검사 생략) → CHECK 및 기존 테이블 삭제
+--                부모 테이블을 잠그는 구간은 카탈로그 변경과 기본 파티션 검사뿐입니다.
+--      RESTARTED 준비 이후 부모에 인덱스가 추가되어 교체 테이블을 지우고 처음부터 다시 시작
+--                (그대로 연결하면 빠진 인덱스를 락을 잡은 채 생성하므로)
+--      DONE      과거 구간이 없거나 이미 교체됨
+--    부모 테이블 락은 lock_timeout으로 오래 기다리지 않고, 실패하면 다음 실행에서 다시 시도합니다.
+CREATE OR REPLACE FUNCTION split_legacy_partition(parent text, batch_rows integer)
+RETURNS text
+LANGUAGE plpgsql AS $$
+DECLARE
+    legacy text := parent || '_legacy';
+    next_table text := parent || '_legacy_next';
+    bound_check text := parent || '_legacy_next_bound_check';
+    id_column text;
+    bound date;
+    month_start date;
+    key_condition text;
+    last_key uuid;
+    batch_last_key uuid;
+    remaining boolean;
+    copied integer;
+    r record;
+BEGIN
+    IF to_regclass(legacy) IS NULL
+       OR (SELECT relkind FROM pg_class WHERE oid = legacy::regclass) = 'p' THEN
+        RETURN 'DONE';
+    END IF;
+
+    -- ensure_monthly_partitions와 같은 잠금 (파티션 목록 변경은 한 번에 하나만)
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_monthly_partitions:' || parent));
+    PERFORM set_config('lock_timeout', '5s', true);
+
+    SELECT a.attname
+      INTO id_column
+      FROM pg_constraint c
+      JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+     WHERE c.conrelid = parent::regclass AND c.contype = 'p' AND a.attname <> 'date';
+
+    SELECT (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \(''([0-9-]+)''\)'))[1]::date
+      INTO bound
+      FROM pg_class c
+     WHERE c.oid = legacy::regclass;
+
+    -- 2-1. 준비: 부모와 같은 컬럼/CHECK/인덱스/FK를 가진 빈 하위 파티션 테이블
+    IF to_regclass(next_table) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING INDEXES INCLUDING STORAGE) '
+                       || 'PARTITION BY RANGE (date)', next_table, parent);
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (date < %L)', next_table, bound_check, bound);
+        FOR r IN SELECT conname, pg_get_constraintdef(oid) AS definition
+                   FROM pg_constraint
+                  WHERE contype = 'f' AND conrelid = parent::regclass LOOP
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I %s', next_table, r.conname, r.definition);
+        END LOOP;
+
+        -- 가장 오래된 데이터가 있는 달부터 월 파티션 (최솟값 조회는 락 없이 읽기만 함)
+        EXECUTE format('SELECT date_trunc(''month'', min(date))::date FROM %I', legacy) INTO month_start;
+        month_start := LEAST(COALESCE(month_start, bound), bound);
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (MINVALUE) TO (%L)',
+                       parent || '_legacy_older', next_table, month_start);
+        WHILE month_start < bound LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                           format('%s_y%sm%s', parent, to_char(month_start, 'YYYY'), to_char(month_start, 'MM')),
+                           next_table, month_start, LEAST((month_start + interval '1 month')::date, bound));
+            month_start := (month_start + interval '1 month')::date;
+        END LOOP;
+
+        EXECUTE format('CREATE TRIGGER %I AFTER INSERT OR UPDATE OR DELETE ON %I '
+                       || 'FOR EACH ROW EXECUTE FUNCTION mirror_legacy_partition_change(%L, %L)',
+                       'trg_' || legacy || '_mirror', legacy, next_table, id_column);
+
+        DELETE FROM legacy_partition_splits WHERE parent_table = parent;
+        INSERT INTO legacy_partition_splits (parent_table) VALUES (parent);
+        RETURN 'PREPARED';
+    END IF;
+
+    -- 2-2. 키 순서 배치 복사
+    SELECT s.last_key INTO last_key FROM legacy_partition_splits s WHERE s.parent_table = parent;
+    key_condition := CASE WHEN last_key IS NULL THEN 'true' ELSE format('%I > %L', id_column, last_key) END;
+
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %s)', legacy, key_condition) INTO remaining;
+    IF remaining THEN
+        EXECUTE format('LOCK TABLE %I IN SHARE MODE', legacy);
+        EXECUTE format('WITH batch AS (SELECT * FROM %1$I WHERE %2$s ORDER BY %3$I LIMIT %4$s), '
+                       || 'copied AS (INSERT INTO %5$I SELECT * FROM batch ON CONFLICT DO NOTHING) '
+                       || 'SELECT count(*)::integer, (SELECT %3$I FROM batch ORDER BY %3$I DESC LIMIT 1) FROM batch',
+                       legacy, key_condition, id_column, batch_rows, next_table)
+            INTO copied, batch_last_key;
+        UPDATE legacy_partition_splits
+           SET last_key = batch_last_key,
+               copied_rows = copied_rows + copied
+         WHERE parent_table = parent;
+        RETURN 'COPIED';
+    END IF;
+
+    -- 2-3. 교체 (복사 이후의 변경은 트리거가 모두 반영함)
+    IF (SELECT count(*) FROM pg_index WHERE indrelid = parent::regclass)
+       <> (SELECT count(*) FROM pg_index WHERE indrelid = next_table::regclass) THEN
+        EXECUTE format('DROP TRIGGER %I ON %I', 'trg_' || legacy || '_mirror', legacy);
+        EXECUTE format('DROP TABLE %I', next_table);
+        DELETE FROM legacy_partition_splits WHERE parent_table = parent;
+        RETURN 'RESTARTED';
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent, legacy);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)', parent, next_table, bound);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', next_table, bound_check);
+    EXECUTE format('DROP TABLE %I', legacy);
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', next_table, legacy);
+    DELETE FROM legacy_partition_splits WHERE parent_table = parent;
+    RETURN 'SWAPPED';
+END $$;
+
+COMMENT ON FUNCTION split_legacy_partition(text, integer) IS '과거 구간 파티션을 월 단위 하위 파티션 테이블로 교체하는 작업을 한 단계 수행하고 단계 이름을 반환';
@@ -0,0 +1,23 @@
+-- V33: 동기화 CREATE 기록 (clientId 재전송 시 중복 생성 방지)
+--
+-- 클라이언트가 응답을 받지 못해 같은 CREATE를 다시 보내면 (account_book_id, client_id)로 앞서 만든 행을 찾아
+-- 새로 만들지 않고 그 행의 ID와 순번을 돌려줍니다. 같은 clientId의 요청이 동시에 들어오면 나중 트랜잭션은
+-- 기본키 충돌로 롤백되고, 재시도하면 먼저 커밋된 행을 받습니다.
+-- 지출/수입은 파티션 테이블이라 (장부, clientId)만으로 유니크 제약을 걸 수 없어 별도 테이블에 둡니다.
+
+CREATE TABLE sync_creations (
+    account_book_id UUID NOT NULL REFERENCES account_books(account_book_id) ON DELETE CASCADE,
+    client_id VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (account_book_id, client_id),
+    CONSTRAINT chk_sync_creations_entity_type CHECK (entity_type IN ('EXPENSE', 'INCOME'))
+);
+
+CREATE INDEX idx_sync_creations_created_at ON sync_creations(created_at);
+
+COMMENT ON TABLE sync_creations IS '동기화 CREATE 기록 (clientId → 생성한 지출/수입 ID, 재전송 시 중복 생성 방지)';
+COMMENT ON COLUMN sync_creations.client_id IS '클라이언트가 보낸 변경 식별자 (SyncRequest.Mutation.clientId)';
+COMMENT ON COLUMN sync_creations.entity_id IS '생성한 지출/수입 ID';
@@ -0,0 +1,32 @@
+-- V34: OCR 작업 상태 테이블
+--
+-- 작업 상태를 인스턴스 메모리에 두면 업로드를 받은 인스턴스가 아닌 곳으로 간 상태 조회가 404가 됩니다.
+-- 작업을 처리하는 인스턴스가 상태/결과를 기록하고, 조회는 어느 인스턴스에서든 이 테이블을 읽습니다.
+-- 생성 후 ocr.jobs.job-ttl이 지난 행은 OcrJobService가 주기적으로 삭제합니다.
+-- (탈퇴 사용자의 작업도 같이 만료되므로 사용자 FK를 두지 않음)
+
+CREATE TABLE ocr_jobs (
+    job_id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    image_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    cached BOOLEAN NOT NULL DEFAULT FALSE,
+    amount NUMERIC(15, 2),
+    receipt_date DATE,
+    merchant VARCHAR(255),
+    raw_text TEXT,
+    confidence DOUBLE PRECISION,
+    suggested_category VARCHAR(50),
+    error_message VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT chk_ocr_jobs_status CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_ocr_jobs_created_at ON ocr_jobs(created_at);
+
+COMMENT ON TABLE ocr_jobs IS 'OCR 작업 상태/결과 (생성 후 job-ttl이 지나면 삭제)';
+COMMENT ON COLUMN ocr_jobs.image_hash IS '저장된 영수증 이미지의 SHA-256 (/api/receipts/{hash})';
+COMMENT ON COLUMN ocr_jobs.cached IS '같은 이미지의 이전 결과를 재사용했는지';
+COMMENT ON COLUMN ocr_jobs.receipt_date IS 'OCR로 읽은 결제일 (COMPLETED일 때만)';
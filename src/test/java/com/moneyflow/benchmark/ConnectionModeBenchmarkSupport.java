@@ -0,0 +1,147 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.benchmark.SyntheticDatasetWriter.Dataset;
+import com.moneyflow.benchmark.SyntheticDatasetWriter.UserFixture;
+import com.moneyflow.domain.expense.ExpenseService;
+import com.moneyflow.domain.statistics.StatisticsService;
+import com.moneyflow.dto.request.ExpenseRequest;
+import com.moneyflow.service.HomeService;
+import com.moneyflow.support.PostgresExplainSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 모드(기본 풀러 호환 / direct)별 일괄 등록·대시보드 조회 벤치마크 공통 로직
+ *
+ * 같은 합성 데이터에서 다음을 측정해 한 줄로 출력합니다.
+ * - 일괄 등록: ExpenseService.createBulkExpenses 처리량 (rows/s)
+ * - 대시보드: 홈 월간 데이터 + 월간 통계 조회 지연 (평균/p50/p95)
+ *
+ * 실행 예 (두 모드 비교):
+ * MONEYFLOW_TEST_DB_URL=jdbc:postgresql://localhost:5432/postgres MONEYFLOW_BENCHMARK_IMPORT_ROWS=20000 \
+ *   mvn -B test -Dtest='PoolerModeBenchmarkTest,DirectModeBenchmarkTest'
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+abstract class ConnectionModeBenchmarkSupport {
+
+    private static final int IMPORT_CHUNK = 500;
+    private static final int DASHBOARD_ROUNDS = 20;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("onesignal.api-key", () -> "");
+        registry.add("logging.level.com.moneyflow", () -> "WARN");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    protected abstract String mode();
+
+    @Test
+    @DisplayName("일괄 등록 처리량과 대시보드 조회 지연 측정")
+    void bulkImportAndDashboard() throws Exception {
+        Dataset dataset;
+        try (Connection connection = dataSource.getConnection()) {
+            PostgresExplainSupport.applyIndexMigrations(connection,
+                    "V13__Create_account_book_members_table.sql",
+                    "V14__Update_expenses_table.sql",
+                    "V20__Add_keyset_pagination_indexes.sql");
+            dataset = new SyntheticDatasetWriter(new SyntheticDatasetWriter.Spec(20, 12, 60, 0.6, 42))
+                    .write(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+
+        double rowsPerSecond = bulkImport(dataset.users().get(0),
+                Integer.parseInt(System.getenv("MONEYFLOW_BENCHMARK_IMPORT_ROWS")));
+        double[] dashboardMillis = dashboard(dataset);
+
+        System.out.printf("mode=%-6s bulk_import=%,.0f rows/s  dashboard avg=%.2fms p50=%.2fms p95=%.2fms%n",
+                mode(), rowsPerSecond, Arrays.stream(dashboardMillis).average().orElse(0),
+                percentile(dashboardMillis, 0.50), percentile(dashboardMillis, 0.95));
+
+        assertThat(rowsPerSecond).isPositive();
+    }
+
+    private double bulkImport(UserFixture user, int rows) {
+        SyntheticData data = new SyntheticData(7);
+        YearMonth month = YearMonth.of(2025, 6);
+
+        // 워밍업 (JIT, 풀 커넥션, 서버 측 Prepared Statement 전환)
+        expenseService.createBulkExpenses(user.userId(), requests(data, user, month, IMPORT_CHUNK));
+
+        long startedAt = System.nanoTime();
+        for (int imported = 0; imported < rows; imported += IMPORT_CHUNK) {
+            List<ExpenseRequest> chunk = requests(data, user, month, Math.min(IMPORT_CHUNK, rows - imported));
+            assertThat(expenseService.createBulkExpenses(user.userId(), chunk).getFailedCount()).isZero();
+        }
+        return rows / ((System.nanoTime() - startedAt) / 1e9);
+    }
+
+    private double[] dashboard(Dataset dataset) {
+        YearMonth month = YearMonth.from(dataset.to()).minusMonths(1);
+        List<Double> samples = new ArrayList<>();
+
+        for (int round = -1; round < DASHBOARD_ROUNDS; round++) {
+            for (UserFixture user : dataset.users()) {
+                long startedAt = System.nanoTime();
+                homeService.getMonthlyData(user.userId(), user.defaultBookId(),
+                        month.getYear(), month.getMonthValue());
+                statisticsService.getMonthlyStatistics(user.userId(),
+                        month.getYear(), month.getMonthValue(), user.defaultBookId());
+                if (round >= 0) {
+                    samples.add((System.nanoTime() - startedAt) / 1e6);
+                }
+            }
+        }
+        return samples.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static List<ExpenseRequest> requests(SyntheticData data, UserFixture user, YearMonth month, int count) {
+        List<ExpenseRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SyntheticData.Merchant merchant = data.merchant();
+            requests.add(ExpenseRequest.builder()
+                    .accountBookId(user.defaultBookId())
+                    .amount(data.amountAround(merchant.typicalAmount()))
+                    .date(data.dateBetween(month.atDay(1), month.atEndOfMonth()))
+                    .category(merchant.category())
+                    .merchant(merchant.name())
+                    .paymentMethod("CARD")
+                    .build());
+        }
+        return requests;
+    }
+
+    private static double percentile(double[] samples, double p) {
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+}
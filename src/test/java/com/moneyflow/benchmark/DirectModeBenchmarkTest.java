@@ -0,0 +1,21 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.support.PostgresExplainSupport;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * direct 프로파일 (서버 측 Prepared Statement + JDBC 배치) 벤치마크
+ *
+ * @see ConnectionModeBenchmarkSupport
+ */
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@EnabledIfEnvironmentVariable(named = "MONEYFLOW_BENCHMARK_IMPORT_ROWS", matches = "\\d+")
+@ActiveProfiles("direct")
+class DirectModeBenchmarkTest extends ConnectionModeBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "direct";
+    }
+}
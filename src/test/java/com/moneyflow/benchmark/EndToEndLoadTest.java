@@ -0,0 +1,159 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.benchmark.LoadTestRunner.Endpoint;
+import com.moneyflow.benchmark.SyntheticDatasetWriter.Dataset;
+import com.moneyflow.benchmark.SyntheticDatasetWriter.UserFixture;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.security.JwtTokenProvider;
+import com.moneyflow.support.PostgresExplainSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 기반 종단 간 부하 테스트 (로컬 PostgreSQL, 외부 서비스 없음)
+ *
+ * 엔티티 기준 스키마 + 운영 인덱스를 만든 뒤 SyntheticDatasetWriter로 데이터를 COPY 적재하고,
+ * 실제 서블릿 컨테이너에 주요 조회 API를 동시 요청해 엔드포인트별 처리량/지연 백분위를 출력합니다.
+ *
+ * 실행 예:
+ * MONEYFLOW_TEST_DB_URL=jdbc:postgresql://localhost:5432/moneyflow_load MONEYFLOW_LOADTEST_USERS=500 \
+ *   mvn -B test -Dtest=EndToEndLoadTest
+ *
+ * 선택 환경 변수 (기본값):
+ * - MONEYFLOW_LOADTEST_MONTHS (36): 과거 데이터 개월 수
+ * - MONEYFLOW_LOADTEST_EXPENSES_PER_MONTH (60): 사용자당 월 지출 건수
+ * - MONEYFLOW_LOADTEST_CONCURRENCY (8): 동시 요청 수
+ * - MONEYFLOW_LOADTEST_REQUESTS (500): 엔드포인트별 측정 요청 수
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@EnabledIfEnvironmentVariable(named = "MONEYFLOW_LOADTEST_USERS", matches = "\\d+")
+class EndToEndLoadTest {
+
+    /** 현재 스키마와 컬럼이 일치하는 운영 인덱스 (account_books 인덱스는 엔티티에 선언되어 있음) */
+    private static final String[] INDEX_MIGRATIONS = {
+            "V13__Create_account_book_members_table.sql",
+            "V14__Update_expenses_table.sql",
+            "V16__Add_expense_settlement_fields.sql",
+            "V17__Create_notifications_table.sql",
+            "V20__Add_keyset_pagination_indexes.sql",
+            "V21__Add_search_filter_indexes.sql",
+            "V22__Add_trigram_search_indexes.sql"};
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("onesignal.api-key", () -> "");
+        registry.add("logging.level.org.hibernate.SQL", () -> "WARN");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "10");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("주요 조회 API 부하 테스트: 엔드포인트별 처리량/지연 백분위 출력")
+    void loadMainEndpoints() throws Exception {
+        SyntheticDatasetWriter.Spec spec = new SyntheticDatasetWriter.Spec(
+                envInt("MONEYFLOW_LOADTEST_USERS", 100),
+                envInt("MONEYFLOW_LOADTEST_MONTHS", 36),
+                envInt("MONEYFLOW_LOADTEST_EXPENSES_PER_MONTH", 60),
+                0.6,
+                42);
+
+        Dataset dataset;
+        long loadStarted = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            PostgresExplainSupport.applyIndexMigrations(connection, INDEX_MIGRATIONS);
+            dataset = new SyntheticDatasetWriter(spec).write(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+        System.out.printf("dataset: users=%d, expenses=%,d, incomes=%,d, recurring=%,d, assets=%,d, "
+                        + "notifications=%,d (%.1fs)%n",
+                dataset.users().size(), dataset.expenses(), dataset.incomes(), dataset.recurringExpenses(),
+                dataset.assets(), dataset.notifications(), (System.nanoTime() - loadStarted) / 1e9);
+
+        Map<UUID, String> accessTokens = dataset.users().stream()
+                .collect(Collectors.toMap(UserFixture::userId, user -> jwtTokenProvider.generateAccessToken(
+                        User.builder().userId(user.userId()).email(user.email()).nickname(user.nickname()).build())));
+
+        LoadTestRunner runner = new LoadTestRunner("http://localhost:" + port, accessTokens,
+                envInt("MONEYFLOW_LOADTEST_CONCURRENCY", 8),
+                envInt("MONEYFLOW_LOADTEST_REQUESTS", 500));
+
+        List<LoadTestRunner.Result> results = runner.run(endpoints(dataset), dataset.users());
+
+        System.out.println(LoadTestRunner.Result.header());
+        results.forEach(System.out::println);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).as(result.endpoint()).isZero());
+    }
+
+    private static List<Endpoint> endpoints(Dataset dataset) {
+        YearMonth month = YearMonth.from(dataset.to()).minusMonths(1);
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+        Function<UserFixture, UUID> sharedOrDefault = user -> user.coupleBookId() != null
+                ? user.coupleBookId()
+                : user.defaultBookId();
+
+        return List.of(
+                new Endpoint("GET /api/home/monthly-data", user -> "/api/home/monthly-data?yearMonth=" + month
+                        + "&accountBookId=" + sharedOrDefault.apply(user)),
+                new Endpoint("GET /api/statistics/monthly", user -> "/api/statistics/monthly?year="
+                        + month.getYear() + "&month=" + month.getMonthValue()
+                        + "&accountBookId=" + sharedOrDefault.apply(user)),
+                new Endpoint("GET /api/statistics/monthly/category-comparison",
+                        user -> "/api/statistics/monthly/category-comparison?year=" + month.getYear()
+                                + "&month=" + month.getMonthValue() + "&accountBookId=" + user.defaultBookId()),
+                new Endpoint("GET /api/statistics/weekly", user -> "/api/statistics/weekly?startDate="
+                        + monthStart.plusDays(7) + "&accountBookId=" + user.defaultBookId()),
+                new Endpoint("GET /api/settlements/account-books/{id}", user -> user.coupleBookId() == null
+                        ? null
+                        : "/api/settlements/account-books/" + user.coupleBookId()),
+                new Endpoint("GET /api/expenses", user -> "/api/expenses?startDate=" + monthStart
+                        + "&endDate=" + monthEnd),
+                new Endpoint("GET /api/incomes", user -> "/api/incomes?startDate=" + monthStart.minusMonths(5)
+                        + "&endDate=" + monthEnd),
+                new Endpoint("GET /api/search/transactions", user -> "/api/search/transactions?q="
+                        + URLEncoder.encode("스타벅스", StandardCharsets.UTF_8)),
+                new Endpoint("GET /api/notifications", user -> "/api/notifications"),
+                new Endpoint("GET /api/assets/summary", user -> "/api/assets/summary"),
+                new Endpoint("GET /api/recurring-expenses/upcoming", user -> "/api/recurring-expenses/upcoming"));
+    }
+
+    private static int envInt(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,167 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.benchmark.SyntheticDatasetWriter.UserFixture;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * REST 엔드포인트 부하 테스트 실행기
+ *
+ * 엔드포인트를 하나씩 순서대로, 지정한 동시성으로 요청해
+ * 엔드포인트별 처리량(req/s)과 지연 시간 백분위(p50/p90/p99/max)를 측정합니다.
+ * 요청마다 사용자를 돌아가며 바꿔 캐시 적중만 측정되지 않도록 합니다.
+ */
+public class LoadTestRunner {
+
+    /**
+     * 측정 대상 엔드포인트
+     *
+     * @param path 사용자별 요청 경로 (null을 반환하면 해당 사용자는 건너뜀, 예: 커플 장부가 없는 사용자)
+     */
+    public record Endpoint(String name, Function<UserFixture, String> path) {
+    }
+
+    public record Result(String endpoint, int requests, int errors, double throughput,
+            double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+        public static String header() {
+            return String.format("%-48s %8s %6s %9s %9s %9s %9s %9s",
+                    "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-48s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f",
+                    endpoint, requests, errors, throughput, p50Millis, p90Millis, p99Millis, maxMillis);
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final Map<UUID, String> accessTokens;
+    private final int concurrency;
+    private final int requestsPerEndpoint;
+    private final int warmupRequests;
+
+    public LoadTestRunner(String baseUrl, Map<UUID, String> accessTokens, int concurrency,
+            int requestsPerEndpoint) {
+        this.baseUrl = baseUrl;
+        this.accessTokens = accessTokens;
+        this.concurrency = concurrency;
+        this.requestsPerEndpoint = requestsPerEndpoint;
+        this.warmupRequests = Math.max(concurrency, requestsPerEndpoint / 10);
+    }
+
+    public List<Result> run(List<Endpoint> endpoints, List<UserFixture> users) throws Exception {
+        List<Result> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (Endpoint endpoint : endpoints) {
+                List<Request> requests = requestsFor(endpoint, users);
+                if (requests.isEmpty()) {
+                    continue;
+                }
+                execute(executor, requests, warmupRequests, null);
+
+                long[] latencies = new long[requestsPerEndpoint];
+                AtomicInteger errors = new AtomicInteger();
+                long started = System.nanoTime();
+                execute(executor, requests, requestsPerEndpoint, new Recorder(latencies, errors));
+                long elapsed = System.nanoTime() - started;
+
+                results.add(summarize(endpoint.name(), latencies, errors.get(), elapsed));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private record Request(UUID userId, URI uri) {
+    }
+
+    private record Recorder(long[] latencies, AtomicInteger errors) {
+    }
+
+    private List<Request> requestsFor(Endpoint endpoint, List<UserFixture> users) {
+        List<Request> requests = new ArrayList<>();
+        for (UserFixture user : users) {
+            String path = endpoint.path().apply(user);
+            if (path != null) {
+                requests.add(new Request(user.userId(), URI.create(baseUrl + path)));
+            }
+        }
+        return requests;
+    }
+
+    private void execute(ExecutorService executor, List<Request> requests, int count, Recorder recorder)
+            throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            workers.add(executor.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    Request request = requests.get(i % requests.size());
+                    long started = System.nanoTime();
+                    boolean ok = send(request);
+                    if (recorder != null) {
+                        recorder.latencies()[i] = System.nanoTime() - started;
+                        if (!ok) {
+                            recorder.errors().incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+    }
+
+    private boolean send(Request request) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(request.uri())
+                .header("Authorization", "Bearer " + accessTokens.get(request.userId()))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static Result summarize(String endpoint, long[] latencies, int errors, long elapsedNanos) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new Result(endpoint, sorted.length, errors,
+                sorted.length / (elapsedNanos / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
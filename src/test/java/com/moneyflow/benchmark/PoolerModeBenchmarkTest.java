@@ -0,0 +1,19 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.support.PostgresExplainSupport;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 기본 설정 (풀러 호환: Prepared Statement/배치 비활성화) 벤치마크
+ *
+ * @see ConnectionModeBenchmarkSupport
+ */
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@EnabledIfEnvironmentVariable(named = "MONEYFLOW_BENCHMARK_IMPORT_ROWS", matches = "\\d+")
+class PoolerModeBenchmarkTest extends ConnectionModeBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "pooler";
+    }
+}
@@ -0,0 +1,230 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 벤치마크/부하 테스트용 합성 데이터 생성기
+ *
+ * 같은 seed면 항상 같은 데이터가 만들어지므로 커밋 간 결과를 비교할 수 있습니다.
+ * - 가맹점: 실제 카드 내역처럼 상위 몇 곳에 결제가 몰리는 Zipf 분포
+ * - 금액: 가맹점별 대표 금액 중심의 로그 정규 분포 (100원 단위 반올림)
+ * - 날짜: 기간 내 균등 분포
+ */
+public class SyntheticData {
+
+    /**
+     * 가맹점 카탈로그 항목
+     *
+     * @param typicalAmount 대표 결제 금액 (원)
+     */
+    public record Merchant(String name, String category, long typicalAmount) {
+    }
+
+    /** 빈도 순으로 정렬된 가맹점 (앞쪽일수록 자주 등장) */
+    public static final List<Merchant> MERCHANTS = List.of(
+            new Merchant("스타벅스 강남역점", "CAFE_SNACK", 6_500),
+            new Merchant("GS25 역삼점", "LIVING", 4_800),
+            new Merchant("배달의민족", "FOOD", 23_000),
+            new Merchant("쿠팡", "SHOPPING", 31_000),
+            new Merchant("카카오T 택시", "TRANSPORT", 12_000),
+            new Merchant("CU 선릉점", "LIVING", 5_200),
+            new Merchant("이마트 성수점", "LIVING", 68_000),
+            new Merchant("투썸플레이스", "CAFE_SNACK", 7_800),
+            new Merchant("쿠팡이츠", "FOOD", 19_000),
+            new Merchant("맥도날드", "FOOD", 8_900),
+            new Merchant("올리브영", "SHOPPING", 24_000),
+            new Merchant("파리바게뜨", "CAFE_SNACK", 9_600),
+            new Merchant("SK주유소", "TRANSPORT", 62_000),
+            new Merchant("김밥천국", "FOOD", 7_500),
+            new Merchant("다이소", "LIVING", 6_000),
+            new Merchant("교보문고", "EDUCATION", 18_000),
+            new Merchant("CGV 용산", "CULTURE", 15_000),
+            new Merchant("온누리약국", "HEALTH", 9_000),
+            new Merchant("무신사", "SHOPPING", 89_000),
+            new Merchant("교촌치킨", "FOOD", 22_000),
+            new Merchant("연세내과의원", "HEALTH", 15_000),
+            new Merchant("신라호텔 뷔페", "FOOD", 145_000),
+            new Merchant("동네 철물점", "UNCATEGORIZED", 11_000),
+            new Merchant("플라워샵 봄", "UNCATEGORIZED", 35_000));
+
+    /** 구독형 가맹점 (매월 같은 금액) */
+    public static final List<Merchant> SUBSCRIPTIONS = List.of(
+            new Merchant("넷플릭스", "SUBSCRIPTION", 17_000),
+            new Merchant("유튜브 프리미엄", "SUBSCRIPTION", 14_900),
+            new Merchant("멜론", "SUBSCRIPTION", 10_900),
+            new Merchant("쿠팡 와우", "SUBSCRIPTION", 7_890),
+            new Merchant("SKT 통신요금", "COMMUNICATION", 69_000));
+
+    public static final List<String> INCOME_SOURCES = List.of("급여", "부수입", "용돈", "이자", "환급");
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final SplittableRandom random;
+    private final double[] merchantCumulativeWeights;
+
+    public SyntheticData(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.merchantCumulativeWeights = zipfCumulativeWeights(MERCHANTS.size());
+    }
+
+    public User user(int index) {
+        return User.builder()
+                .userId(uuid())
+                .email("user" + index + "@moneyflow.test")
+                .nickname("사용자" + index)
+                .build();
+    }
+
+    public List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    /**
+     * Zipf 분포로 가맹점 선택
+     */
+    public Merchant merchant() {
+        double r = random.nextDouble();
+        for (int i = 0; i < merchantCumulativeWeights.length; i++) {
+            if (r < merchantCumulativeWeights[i]) {
+                return MERCHANTS.get(i);
+            }
+        }
+        return MERCHANTS.get(MERCHANTS.size() - 1);
+    }
+
+    /**
+     * 대표 금액 중심 로그 정규 분포 금액 (100원 단위, 최소 100원)
+     */
+    public BigDecimal amountAround(long typicalAmount) {
+        double sample = typicalAmount * Math.exp(random.nextGaussian() * 0.35);
+        long rounded = Math.max(100, Math.round(sample / 100.0) * 100);
+        return BigDecimal.valueOf(rounded);
+    }
+
+    public LocalDate dateBetween(LocalDate from, LocalDate toInclusive) {
+        long days = toInclusive.toEpochDay() - from.toEpochDay() + 1;
+        return from.plusDays(random.nextLong(days));
+    }
+
+    /**
+     * 기간 내 일반 지출 (가맹점 분포 적용)
+     */
+    public List<Expense> expenses(User user, int count, LocalDate from, LocalDate toInclusive) {
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Merchant merchant = merchant();
+            expenses.add(Expense.builder()
+                    .expenseId(uuid())
+                    .user(user)
+                    .amount(amountAround(merchant.typicalAmount()))
+                    .date(dateBetween(from, toInclusive))
+                    .category(merchant.category())
+                    .merchant(merchant.name())
+                    .memo(random.nextInt(5) == 0 ? "메모 " + i : null)
+                    .build());
+        }
+        return expenses;
+    }
+
+    /**
+     * 구독 결제 이력 (매월 같은 날 ± jitterDays, 금액 고정)
+     */
+    public List<Expense> subscriptionHistory(User user, Merchant merchant, LocalDate firstPayment, int months,
+            int jitterDays) {
+        List<Expense> expenses = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            int jitter = jitterDays == 0 ? 0 : random.nextInt(-jitterDays, jitterDays + 1);
+            expenses.add(Expense.builder()
+                    .expenseId(uuid())
+                    .user(user)
+                    .amount(BigDecimal.valueOf(merchant.typicalAmount()))
+                    .date(firstPayment.plusMonths(i).plusDays(jitter))
+                    .category(merchant.category())
+                    .merchant(merchant.name())
+                    .build());
+        }
+        return expenses;
+    }
+
+    /**
+     * 기간 내 수입 (월 1회 급여 + 간헐적 부수입)
+     */
+    public List<Income> incomes(User user, LocalDate from, LocalDate toInclusive, long monthlySalary) {
+        List<Income> incomes = new ArrayList<>();
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(toInclusive); month = month.plusMonths(1)) {
+            LocalDate payday = month.withDayOfMonth(Math.min(25, month.lengthOfMonth()));
+            if (!payday.isBefore(from) && !payday.isAfter(toInclusive)) {
+                incomes.add(income(user, payday, "급여", BigDecimal.valueOf(monthlySalary)));
+            }
+            if (random.nextInt(3) == 0) {
+                LocalDate extraDate = dateBetween(month, month.withDayOfMonth(month.lengthOfMonth()));
+                if (!extraDate.isBefore(from) && !extraDate.isAfter(toInclusive)) {
+                    String source = INCOME_SOURCES.get(1 + random.nextInt(INCOME_SOURCES.size() - 1));
+                    incomes.add(income(user, extraDate, source, amountAround(150_000)));
+                }
+            }
+        }
+        return incomes;
+    }
+
+    /**
+     * 정산 잔액 (합이 0이 되도록 마지막 멤버가 나머지를 부담)
+     */
+    public List<BigDecimal> zeroSumBalances(int members) {
+        List<BigDecimal> balances = new ArrayList<>(members);
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < members - 1; i++) {
+            BigDecimal magnitude = amountAround(120_000);
+            BigDecimal balance = random.nextBoolean() ? magnitude : magnitude.negate();
+            balances.add(balance);
+            sum = sum.add(balance);
+        }
+        balances.add(sum.negate());
+        return balances;
+    }
+
+    public Income income(User user, LocalDate date, String source, BigDecimal amount) {
+        return Income.builder()
+                .incomeId(uuid())
+                .user(user)
+                .amount(amount)
+                .date(date)
+                .source(source)
+                .description(source.equals("급여") ? date.getMonthValue() + "월 급여" : null)
+                .build();
+    }
+
+    public UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    public SplittableRandom random() {
+        return random;
+    }
+
+    private static double[] zipfCumulativeWeights(int size) {
+        double[] weights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+            weights[i] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            weights[i] /= total;
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,306 @@
+package com.moneyflow.benchmark;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 운영 규모 합성 데이터를 PostgreSQL COPY로 적재
+ *
+ * 사용자 N명과 그 주변 데이터를 생성합니다.
+ * - 사용자마다 기본 장부(OWNER), 두 명씩 커플 연결 + 커플 생활비 장부(공동 멤버)
+ * - 수년치 지출(Zipf 가맹점 분포)/수입(월급 + 간헐적 부수입), 구독 고정비, 자산, 알림
+ *
+ * 엔티티 기준 스키마(ddl-auto 또는 Flyway 적용 후)의 빈 테이블을 대상으로 하며,
+ * 행 단위 INSERT 대신 COPY FROM STDIN(csv)으로 스트리밍해 수십만 건도 수 초 내에 적재합니다.
+ */
+public class SyntheticDatasetWriter {
+
+    private static final int FLUSH_BYTES = 256 * 1024;
+
+    /**
+     * 생성 규모
+     *
+     * @param users            사용자 수
+     * @param months           오늘 기준 과거 개월 수
+     * @param expensesPerMonth 사용자당 월 평균 지출 건수
+     * @param coupleRatio      커플로 연결할 사용자 비율 (0~1)
+     */
+    public record Spec(int users, int months, int expensesPerMonth, double coupleRatio, long seed) {
+    }
+
+    /**
+     * 부하 테스트에서 요청을 만들 때 필요한 사용자 정보
+     *
+     * @param coupleBookId 커플 생활비 장부 (커플이 아니면 null)
+     */
+    public record UserFixture(UUID userId, String email, String nickname, UUID defaultBookId, UUID coupleBookId) {
+    }
+
+    /**
+     * 적재 결과 (테이블별 행 수 포함)
+     */
+    public record Dataset(List<UserFixture> users, LocalDate from, LocalDate to, long expenses, long incomes,
+            long recurringExpenses, long assets, long notifications) {
+    }
+
+    private final Spec spec;
+    private final SyntheticData data;
+
+    public SyntheticDatasetWriter(Spec spec) {
+        this.spec = spec;
+        this.data = new SyntheticData(spec.seed());
+    }
+
+    public Dataset write(Connection connection) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusMonths(spec.months()).withDayOfMonth(1);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UserFixture> users = writeUsersAndBooks(copyManager, from, now);
+
+        long expenses;
+        try (Rows rows = new Rows(copyManager, "expenses", "expense_id", "user_id", "paid_by_user_id",
+                "account_book_id", "funding_source", "amount", "date", "category", "merchant", "memo",
+                "payment_method", "is_auto_categorized", "created_at", "updated_at")) {
+            for (UserFixture user : users) {
+                writeExpenses(rows, user, from, to);
+            }
+            expenses = rows.count();
+        }
+
+        long incomes;
+        try (Rows rows = new Rows(copyManager, "incomes", "income_id", "user_id", "account_book_id",
+                "funding_source", "amount", "date", "source", "description", "created_at", "updated_at")) {
+            for (UserFixture user : users) {
+                long salary = 2_400_000 + data.random().nextLong(36) * 100_000;
+                for (var income : data.incomes(null, from, to, salary)) {
+                    LocalDateTime createdAt = income.getDate().atTime(9, 0);
+                    rows.add(income.getIncomeId(), user.userId(), user.defaultBookId(), "PERSONAL",
+                            income.getAmount(), income.getDate(), income.getSource(), income.getDescription(),
+                            createdAt, createdAt);
+                }
+            }
+            incomes = rows.count();
+        }
+
+        long recurringExpenses;
+        try (Rows rows = new Rows(copyManager, "recurring_expenses", "recurring_expense_id", "user_id",
+                "account_book_id", "name", "amount", "category", "recurring_type", "start_date", "day_of_month",
+                "next_payment_date", "is_subscription", "subscription_provider", "notification_enabled",
+                "auto_detected", "created_at", "updated_at")) {
+            for (UserFixture user : users) {
+                int subscriptions = 1 + data.random().nextInt(SyntheticData.SUBSCRIPTIONS.size());
+                for (int i = 0; i < subscriptions; i++) {
+                    SyntheticData.Merchant merchant = SyntheticData.SUBSCRIPTIONS.get(i);
+                    int dayOfMonth = 1 + data.random().nextInt(28);
+                    LocalDate next = to.withDayOfMonth(dayOfMonth);
+                    if (next.isBefore(to)) {
+                        next = next.plusMonths(1);
+                    }
+                    rows.add(data.uuid(), user.userId(), user.defaultBookId(), merchant.name(),
+                            BigDecimal.valueOf(merchant.typicalAmount()), merchant.category(), "MONTHLY",
+                            from.withDayOfMonth(dayOfMonth), dayOfMonth, next, true, merchant.name(), true, false,
+                            now, now);
+                }
+            }
+            recurringExpenses = rows.count();
+        }
+
+        long assets;
+        try (Rows rows = new Rows(copyManager, "assets", "asset_id", "user_id", "account_book_id", "name",
+                "category", "amount", "memo", "created_at", "updated_at")) {
+            String[][] catalog = {
+                    {"CASH", "지갑 현금", "300000"}, {"SAVINGS", "적금", "12000000"},
+                    {"STOCK", "국내 주식", "8000000"}, {"PENSION", "연금저축", "5000000"},
+                    {"CAR", "자동차", "18000000"}};
+            for (UserFixture user : users) {
+                int count = 2 + data.random().nextInt(catalog.length - 1);
+                for (int i = 0; i < count; i++) {
+                    rows.add(data.uuid(), user.userId(), user.defaultBookId(), catalog[i][1], catalog[i][0],
+                            data.amountAround(Long.parseLong(catalog[i][2])), null, now, now);
+                }
+            }
+            assets = rows.count();
+        }
+
+        long notifications;
+        try (Rows rows = new Rows(copyManager, "notifications", "notification_id", "user_id", "title", "message",
+                "type", "is_read", "created_at", "read_at")) {
+            for (UserFixture user : users) {
+                int count = 5 + data.random().nextInt(30);
+                for (int i = 0; i < count; i++) {
+                    LocalDateTime createdAt = data.dateBetween(to.minusDays(90), to).atTime(LocalTime.NOON);
+                    boolean read = data.random().nextInt(4) != 0;
+                    rows.add(data.uuid(), user.userId(), "고정비 결제 예정", "내일 결제 예정인 고정비가 있습니다.",
+                            "PERSONAL", read, createdAt, read ? createdAt.plusHours(2) : null);
+                }
+            }
+            notifications = rows.count();
+        }
+
+        return new Dataset(users, from, to, expenses, incomes, recurringExpenses, assets, notifications);
+    }
+
+    private List<UserFixture> writeUsersAndBooks(CopyManager copyManager, LocalDate from, LocalDateTime now)
+            throws SQLException {
+        int coupleUsers = (int) Math.round(spec.users() * spec.coupleRatio()) / 2 * 2;
+        List<UserFixture> users = new ArrayList<>(spec.users());
+
+        try (Rows userRows = new Rows(copyManager, "users", "user_id", "email", "nickname", "created_at",
+                "updated_at")) {
+            for (int i = 0; i < spec.users(); i++) {
+                var user = data.user(i);
+                userRows.add(user.getUserId(), user.getEmail(), user.getNickname(), now, now);
+                UUID coupleBookId = i < coupleUsers && i % 2 == 1 ? users.get(i - 1).coupleBookId() : null;
+                if (i < coupleUsers && i % 2 == 0) {
+                    coupleBookId = data.uuid();
+                }
+                users.add(new UserFixture(user.getUserId(), user.getEmail(), user.getNickname(), data.uuid(),
+                        coupleBookId));
+            }
+        }
+
+        List<UUID> coupleIds = new ArrayList<>();
+        try (Rows coupleRows = new Rows(copyManager, "couples", "couple_id", "user1_id", "user2_id", "linked_at",
+                "anniversary", "created_at")) {
+            for (int i = 0; i + 1 < coupleUsers; i += 2) {
+                UUID coupleId = data.uuid();
+                coupleIds.add(coupleId);
+                coupleRows.add(coupleId, users.get(i).userId(), users.get(i + 1).userId(), now,
+                        from.minusYears(1), now);
+            }
+        }
+
+        try (Rows bookRows = new Rows(copyManager, "account_books", "account_book_id", "name", "book_type",
+                "couple_id", "member_count", "is_active", "initial_balance", "created_by", "created_at",
+                "updated_at")) {
+            for (UserFixture user : users) {
+                bookRows.add(user.defaultBookId(), "내 가계부", "DEFAULT", null, 1, true, BigDecimal.ZERO,
+                        user.userId(), now, now);
+            }
+            for (int i = 0; i + 1 < coupleUsers; i += 2) {
+                UserFixture owner = users.get(i);
+                bookRows.add(owner.coupleBookId(), "우리 생활비", "COUPLE_LIVING", coupleIds.get(i / 2), 2, true,
+                        BigDecimal.ZERO, owner.userId(), now, now);
+            }
+        }
+
+        try (Rows memberRows = new Rows(copyManager, "account_book_members", "account_book_id", "user_id", "role",
+                "joined_at")) {
+            for (int i = 0; i < users.size(); i++) {
+                UserFixture user = users.get(i);
+                memberRows.add(user.defaultBookId(), user.userId(), "OWNER", now);
+                if (user.coupleBookId() != null) {
+                    memberRows.add(user.coupleBookId(), user.userId(), i % 2 == 0 ? "OWNER" : "MEMBER", now);
+                }
+            }
+        }
+
+        return users;
+    }
+
+    /**
+     * 사용자 지출: 기본 장부 + (커플이면) 30%는 커플 장부에 공금/개인 결제로 기록
+     */
+    private void writeExpenses(Rows rows, UserFixture user, LocalDate from, LocalDate to) throws SQLException {
+        for (LocalDate month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate monthEnd = month.withDayOfMonth(month.lengthOfMonth());
+            LocalDate last = monthEnd.isAfter(to) ? to : monthEnd;
+            int count = Math.max(1, (int) Math.round(spec.expensesPerMonth() * (0.7 + data.random().nextDouble() * 0.6)));
+
+            for (int i = 0; i < count; i++) {
+                SyntheticData.Merchant merchant = data.merchant();
+                LocalDate date = data.dateBetween(month, last);
+                LocalDateTime createdAt = date.atTime(8 + data.random().nextInt(14), data.random().nextInt(60));
+                boolean shared = user.coupleBookId() != null && data.random().nextInt(10) < 3;
+                UUID bookId = shared ? user.coupleBookId() : user.defaultBookId();
+                String fundingSource = shared && data.random().nextBoolean() ? "SHARED_POOL" : "PERSONAL";
+                String paymentMethod = switch (data.random().nextInt(10)) {
+                    case 0 -> "CASH";
+                    case 1 -> "TRANSFER";
+                    default -> "CARD";
+                };
+                String memo = data.random().nextInt(5) == 0 ? merchant.name() + " 메모" : null;
+
+                rows.add(data.uuid(), user.userId(), user.userId(), bookId, fundingSource,
+                        data.amountAround(merchant.typicalAmount()), date, merchant.category(), merchant.name(), memo,
+                        paymentMethod, false, createdAt, createdAt);
+            }
+        }
+    }
+
+    /**
+     * 한 테이블에 대한 COPY 스트림 (csv, 버퍼가 차면 전송)
+     */
+    private static final class Rows implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 1024);
+        private long count;
+        private boolean closed;
+
+        Rows(CopyManager copyManager, String table, String... columns) throws SQLException {
+            this.copyIn = copyManager.copyIn(
+                    "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendValue(values[i]);
+            }
+            buffer.append('\n');
+            count++;
+            if (buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        long count() {
+            return count;
+        }
+
+        private void appendValue(Object value) {
+            if (value == null) {
+                return; // csv 형식에서 따옴표 없는 빈 값 = NULL
+            }
+            String text = value.toString();
+            if (text.isEmpty() || text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                buffer.append(text);
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flush();
+            copyIn.endCopy();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.moneyflow.benchmark;
+
+import com.moneyflow.domain.common.UuidV7;
+import com.moneyflow.support.PostgresExplainSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UUID v4 vs v7 PK 삽입 벤치마크 (PostgreSQL)
+ *
+ * 지출 테이블과 같은 형태의 임시 테이블에 행을 배치 삽입하고
+ * 처리량(rows/s), PK 인덱스 크기, 발생한 WAL 양을 비교합니다.
+ *
+ * 실행 예:
+ * MONEYFLOW_TEST_DB_URL=jdbc:postgresql://localhost:5432/postgres MONEYFLOW_BENCHMARK_ROWS=2000000 \
+ *   mvn -B test -Dtest=UuidInsertBenchmarkTest
+ */
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@EnabledIfEnvironmentVariable(named = "MONEYFLOW_BENCHMARK_ROWS", matches = "\\d+")
+class UuidInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    record Result(String name, long rows, double rowsPerSecond, long indexBytes, long tableBytes, long walBytes) {
+        @Override
+        public String toString() {
+            return String.format("%-8s rows=%,d  %,.0f rows/s  pk_index=%,d KB  table=%,d KB  wal=%,d KB",
+                    name, rows, rowsPerSecond, indexBytes / 1024, tableBytes / 1024, walBytes / 1024);
+        }
+    }
+
+    @Test
+    @DisplayName("UUIDv7 PK는 v4 대비 인덱스가 작고 WAL이 적다")
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        long rows = Long.parseLong(System.getenv("MONEYFLOW_BENCHMARK_ROWS"));
+
+        try (Connection connection = connect()) {
+            Result v4 = run(connection, "uuid_v4", rows, UUID::randomUUID);
+            Result v7 = run(connection, "uuid_v7", rows, UuidV7::generate);
+
+            System.out.println(v4);
+            System.out.println(v7);
+
+            assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+            assertThat(v7.walBytes()).isLessThan(v4.walBytes());
+        }
+    }
+
+    private Result run(Connection connection, String name, long rows, Supplier<UUID> ids) throws SQLException {
+        String table = "bench_" + name;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (" +
+                    "id uuid PRIMARY KEY, user_id uuid NOT NULL, date date NOT NULL, " +
+                    "amount numeric(18,2) NOT NULL, merchant varchar(255))");
+            statement.execute("CHECKPOINT");
+        }
+        connection.commit();
+
+        long walStart = currentWalLsn(connection);
+        UUID userId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+
+        long startedAt = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, user_id, date, amount, merchant) VALUES (?, ?, ?, ?, ?)")) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (long i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, userId);
+                insert.setDate(3, Date.valueOf(start.plusDays(i % 2000)));
+                insert.setBigDecimal(4, BigDecimal.valueOf(random.nextInt(1_000, 100_000)));
+                insert.setString(5, "merchant-" + (i % 500));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        long walBytes = walDiff(connection, walStart);
+
+        long indexBytes = querySize(connection, "SELECT pg_relation_size('" + table + "_pkey')");
+        long tableBytes = querySize(connection, "SELECT pg_relation_size('" + table + "')");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+
+        return new Result(name, rows, rows / seconds, indexBytes, tableBytes, walBytes);
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getenv().getOrDefault("MONEYFLOW_TEST_DB_USERNAME", "postgres"));
+        properties.setProperty("password", System.getenv().getOrDefault("MONEYFLOW_TEST_DB_PASSWORD", "postgres"));
+        properties.setProperty("reWriteBatchedInserts", "true");
+        Connection connection = DriverManager.getConnection(System.getenv(PostgresExplainSupport.DB_URL_ENV), properties);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private long currentWalLsn(Connection connection) throws SQLException {
+        return querySize(connection, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint");
+    }
+
+    private long walDiff(Connection connection, long startLsn) throws SQLException {
+        return currentWalLsn(connection) - startLsn;
+    }
+
+    private long querySize(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
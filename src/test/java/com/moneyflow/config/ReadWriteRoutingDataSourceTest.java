@@ -0,0 +1,50 @@
+package com.moneyflow.config;
+
+import com.moneyflow.config.ReadWriteRoutingDataSource.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-15T12:00:00Z");
+
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    private ReadWriteRoutingDataSource routingAt(Instant instant) {
+        return new ReadWriteRoutingDataSource(replicaAvailable::get, Duration.ofSeconds(5),
+                Clock.fixed(instant, ZoneOffset.UTC), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 replica로 가고, 복제 지연 시 primary로 돌아간다")
+    void route_readOnlyToReplicaUnlessLagging() {
+        ReadWriteRoutingDataSource routing = routingAt(NOW);
+
+        assertThat(routing.route(true, true, "user-1")).isEqualTo(Target.REPLICA);
+        assertThat(routing.route(true, false, null)).isEqualTo(Target.PRIMARY);
+        assertThat(routing.route(false, false, null)).isEqualTo(Target.PRIMARY);
+
+        replicaAvailable.set(false);
+        assertThat(routing.route(true, true, "user-1")).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후에는 같은 사용자의 읽기만 primary로 고정된다")
+    void route_readYourWritesStickiness() {
+        ReadWriteRoutingDataSource routing = routingAt(NOW);
+
+        routing.route(true, false, "writer");
+
+        assertThat(routing.route(true, true, "writer")).isEqualTo(Target.PRIMARY);
+        assertThat(routing.route(true, true, "other")).isEqualTo(Target.REPLICA);
+    }
+}
@@ -0,0 +1,141 @@
+package com.moneyflow.domain.accountbook;
+
+import com.moneyflow.domain.budget.Budget;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.sync.ChangeSequencer;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장부 버전 기반 ETag 검증 (장부 데이터 쓰기마다 변경, 멤버가 아니면 null)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountBookVersionService.class, ChangeSequencer.class})
+class AccountBookVersionServiceTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private AccountBookVersionService accountBookVersionService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("예산/지출/멤버 쓰기마다 ETag가 바뀌고, 쓰기가 없으면 같은 ETag를 돌려준다")
+    void etag_changesOnEveryBookWrite() {
+        UUID[] ids = inTransaction(() -> {
+            User owner = persistUser("version");
+            User outsider = persistUser("outsider");
+            AccountBook book = AccountBook.builder().name("버전 장부").bookType(BookType.DEFAULT).createdBy(owner).build();
+            entityManager.persist(book);
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), owner.getUserId()))
+                    .accountBook(book)
+                    .user(owner)
+                    .build());
+            return new UUID[]{owner.getUserId(), outsider.getUserId(), book.getAccountBookId()};
+        });
+        UUID ownerId = ids[0];
+        UUID outsiderId = ids[1];
+        UUID bookId = ids[2];
+
+        String initial = accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3);
+        assertThat(initial).startsWith("W/\"" + bookId + "-");
+        assertThat(accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3)).isEqualTo(initial);
+        // 기본 장부 조회(accountBookId 생략)도 같은 장부로 해석
+        assertThat(accountBookVersionService.etag(ownerId, null, "monthly", 2025, 3)).isEqualTo(initial);
+        assertThat(accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 4)).isNotEqualTo(initial);
+        assertThat(accountBookVersionService.etag(outsiderId, bookId, "monthly", 2025, 3)).isNull();
+
+        UUID budgetId = inTransaction(() -> {
+            Budget budget = Budget.builder()
+                    .user(entityManager.getReference(User.class, ownerId))
+                    .accountBook(entityManager.getReference(AccountBook.class, bookId))
+                    .year(2025)
+                    .month(3)
+                    .targetAmount(new BigDecimal("500000"))
+                    .build();
+            entityManager.persist(budget);
+            return budget.getBudgetId();
+        });
+        String afterBudget = accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3);
+        assertThat(afterBudget).isNotEqualTo(initial);
+
+        inTransaction(() -> {
+            entityManager.find(Budget.class, budgetId).setTargetAmount(new BigDecimal("600000"));
+            return null;
+        });
+        String afterBudgetUpdate = accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3);
+        assertThat(afterBudgetUpdate).isNotEqualTo(afterBudget);
+
+        inTransaction(() -> {
+            entityManager.persist(Expense.builder()
+                    .user(entityManager.getReference(User.class, ownerId))
+                    .accountBook(entityManager.getReference(AccountBook.class, bookId))
+                    .amount(new BigDecimal("4500"))
+                    .date(LocalDate.of(2025, 3, 1))
+                    .category("FOOD")
+                    .build());
+            return null;
+        });
+        String afterExpense = accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3);
+        assertThat(afterExpense).isNotEqualTo(afterBudgetUpdate);
+
+        inTransaction(() -> {
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(bookId, outsiderId))
+                    .accountBook(entityManager.getReference(AccountBook.class, bookId))
+                    .user(entityManager.getReference(User.class, outsiderId))
+                    .build());
+            return null;
+        });
+        assertThat(accountBookVersionService.etag(ownerId, bookId, "monthly", 2025, 3)).isNotEqualTo(afterExpense);
+        assertThat(accountBookVersionService.etag(outsiderId, bookId, "monthly", 2025, 3)).isNotNull();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,124 @@
+package com.moneyflow.domain.budget;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.projection.CategoryBudgetUsage;
+import com.moneyflow.dto.projection.MonthlyBudgetUsage;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 예산 리포트/연간 현황 집계 쿼리 검증 (카테고리별 GROUP BY 한 번, 12개월 한 번)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BudgetSpendTracker.class)
+class BudgetRepositoryTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("카테고리 목표와 지출을 한 번에 묶고, 연간 현황은 예산 없는 달까지 12개월을 돌려준다")
+    void findCategoryAndYearlyUsage() {
+        UUID bookId = new TransactionTemplate(transactionManager).execute(status -> {
+            User owner = User.builder()
+                    .email("budget-report-" + UUID.randomUUID() + "@moneyflow.test")
+                    .nickname("report")
+                    .build();
+            entityManager.persist(owner);
+            AccountBook book = AccountBook.builder().name("리포트").bookType(BookType.DEFAULT).createdBy(owner).build();
+            entityManager.persist(book);
+
+            Budget march = Budget.builder()
+                    .user(owner).accountBook(book).year(2025).month(3)
+                    .targetAmount(new BigDecimal("300000"))
+                    .build();
+            march.getCategoryBudgets().add(CategoryBudget.builder()
+                    .budget(march).category("FOOD").targetAmount(new BigDecimal("100000")).build());
+            march.getCategoryBudgets().add(CategoryBudget.builder()
+                    .budget(march).category("SHOPPING").targetAmount(new BigDecimal("50000")).build());
+            entityManager.persist(march);
+            entityManager.persist(Budget.builder()
+                    .user(owner).accountBook(book).year(2025).month(5)
+                    .targetAmount(new BigDecimal("200000"))
+                    .build());
+
+            persistExpense(owner, book, "FOOD", "30000", LocalDate.of(2025, 3, 3));
+            persistExpense(owner, book, "FOOD", "45000", LocalDate.of(2025, 3, 20));
+            persistExpense(owner, book, "TRANSPORT", "12000", LocalDate.of(2025, 3, 31));
+            // 다른 달 지출은 3월 카테고리 집계에서 제외
+            persistExpense(owner, book, "FOOD", "9000", LocalDate.of(2025, 4, 1));
+            return book.getAccountBookId();
+        });
+
+        List<CategoryBudgetUsage> categories = budgetRepository.findCategoryUsage(
+                bookId, 2025, 3, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        assertThat(categories)
+                .extracting(CategoryBudgetUsage::getCategory,
+                        usage -> usage.getTargetAmount() != null ? usage.getTargetAmount().intValue() : null,
+                        usage -> usage.getSpentAmount().intValue())
+                .containsExactly(
+                        tuple("FOOD", 100000, 75000),
+                        tuple("TRANSPORT", null, 12000),
+                        tuple("SHOPPING", 50000, 0));
+
+        List<MonthlyBudgetUsage> months = budgetRepository.findYearlyUsage(bookId, 2025);
+        assertThat(months).hasSize(12);
+        assertThat(months.get(2).getMonth()).isEqualTo(3);
+        assertThat(months.get(2).getTargetAmount()).isEqualByComparingTo("300000");
+        assertThat(months.get(2).getSpentAmount()).isEqualByComparingTo("87000");
+        assertThat(months.get(3).getBudgetId()).isNull();
+        assertThat(months.get(3).getSpentAmount()).isEqualByComparingTo("9000");
+        assertThat(months.get(4).getTargetAmount()).isEqualByComparingTo("200000");
+        assertThat(months.get(4).getSpentAmount()).isEqualByComparingTo("0");
+    }
+
+    private void persistExpense(User user, AccountBook book, String category, String amount, LocalDate date) {
+        entityManager.persist(Expense.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category(category)
+                .build());
+    }
+}
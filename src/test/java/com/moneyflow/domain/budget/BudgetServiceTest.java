@@ -4,7 +4,6 @@ import com.moneyflow.domain.accountbook.AccountBook;
 import com.moneyflow.domain.accountbook.AccountBookMember;
 import com.moneyflow.domain.accountbook.AccountBookMemberId;
 import com.moneyflow.domain.accountbook.AccountBookRepository;
-import com.moneyflow.domain.expense.ExpenseRepository;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserRepository;
 import com.moneyflow.dto.response.BudgetResponse;
@@ -18,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,7 +41,7 @@ class BudgetServiceTest {
     private AccountBookRepository accountBookRepository;
 
     @Mock
-    private ExpenseRepository expenseRepository;
+    private BudgetSpendTracker budgetSpendTracker;
 
     @InjectMocks
     private BudgetService budgetService;
@@ -87,8 +87,8 @@ class BudgetServiceTest {
     }
 
     @Test
-    @DisplayName("예산 조회: 월 지출은 DB SUM 집계로 계산하고 응답 필드를 채운다")
-    void getBudget_usesDbAggregateForCurrentSpending() {
+    @DisplayName("예산 조회: 월 지출은 다시 합산하지 않고 추적 중인 월 합계를 읽는다")
+    void getBudget_usesTrackedMonthlySpend() {
         UUID memberId = UUID.randomUUID();
         UUID accountBookId = UUID.randomUUID();
         UUID budgetId = UUID.randomUUID();
@@ -100,11 +100,7 @@ class BudgetServiceTest {
         when(accountBookRepository.findById(accountBookId)).thenReturn(Optional.of(accountBook));
         when(budgetRepository.findByAccountBookAccountBookIdAndYearAndMonth(accountBookId, 2026, 2))
                 .thenReturn(Optional.of(budget));
-        when(expenseRepository.sumAmountByPeriod(
-                accountBookId,
-                LocalDate.of(2026, 2, 1),
-                LocalDate.of(2026, 2, 28)))
-                .thenReturn(new BigDecimal("250000"));
+        when(budgetSpendTracker.spent(accountBookId, 2026, 2)).thenReturn(new BigDecimal("250000"));
 
         BudgetResponse response = budgetService.getBudget(memberId, accountBookId, 2026, 2);
 
@@ -113,15 +109,7 @@ class BudgetServiceTest {
         assertThat(response.getRemainingAmount()).isEqualByComparingTo("750000");
         assertThat(response.getUsagePercentage()).isEqualTo(25.0);
 
-        verify(expenseRepository).sumAmountByPeriod(
-                accountBookId,
-                LocalDate.of(2026, 2, 1),
-                LocalDate.of(2026, 2, 28));
-        verify(expenseRepository, never()).findByAccountBookAndDateRange(
-                org.mockito.ArgumentMatchers.any(),
-                org.mockito.ArgumentMatchers.any(),
-                org.mockito.ArgumentMatchers.any(),
-                org.mockito.ArgumentMatchers.any());
+        verify(budgetSpendTracker).spent(accountBookId, 2026, 2);
     }
 
     @Test
@@ -138,11 +126,7 @@ class BudgetServiceTest {
         when(accountBookRepository.findById(accountBookId)).thenReturn(Optional.of(accountBook));
         when(budgetRepository.findByAccountBookAccountBookIdAndYearAndMonth(accountBookId, 2026, 2))
                 .thenReturn(Optional.of(budget));
-        when(expenseRepository.sumAmountByPeriod(
-                accountBookId,
-                LocalDate.of(2026, 2, 1),
-                LocalDate.of(2026, 2, 28)))
-                .thenReturn(new BigDecimal("15000"));
+        when(budgetSpendTracker.spent(accountBookId, 2026, 2)).thenReturn(new BigDecimal("15000"));
 
         BudgetResponse response = budgetService.getBudget(memberId, accountBookId, 2026, 2);
 
@@ -167,11 +151,7 @@ class BudgetServiceTest {
         when(accountBookRepository.findById(accountBookId)).thenReturn(Optional.of(accountBook));
         when(budgetRepository.findByAccountBookAccountBookIdAndYearAndMonth(accountBookId, 2026, 2))
                 .thenReturn(Optional.of(budget));
-        when(expenseRepository.sumAmountByPeriod(
-                accountBookId,
-                LocalDate.of(2026, 2, 1),
-                LocalDate.of(2026, 2, 28)))
-                .thenReturn(BigDecimal.ZERO);
+        when(budgetSpendTracker.spent(accountBookId, 2026, 2)).thenReturn(BigDecimal.ZERO);
 
         BudgetResponse response = budgetService.getBudget(memberId, accountBookId, 2026, 2);
 
@@ -182,6 +162,20 @@ class BudgetServiceTest {
         assertThat(response.getUsagePercentage()).isEqualTo(0.0);
     }
 
+    @Test
+    @DisplayName("예산 리포트: 이번 달은 지난 날짜의 일평균으로 월말 지출을 추정하고, 지난 달은 실제 지출을 쓴다")
+    void projectSpending_usesDailyAverageOfElapsedDays() {
+        LocalDate today = LocalDate.of(2026, 2, 10);
+
+        assertThat(BudgetService.daysElapsed(YearMonth.of(2026, 2), today)).isEqualTo(10);
+        assertThat(BudgetService.daysElapsed(YearMonth.of(2026, 1), today)).isEqualTo(31);
+        assertThat(BudgetService.daysElapsed(YearMonth.of(2026, 3), today)).isZero();
+
+        assertThat(BudgetService.projectSpending(new BigDecimal("100000"), 10, 28)).isEqualByComparingTo("280000");
+        assertThat(BudgetService.projectSpending(new BigDecimal("100000"), 31, 31)).isEqualByComparingTo("100000");
+        assertThat(BudgetService.projectSpending(BigDecimal.ZERO, 0, 31)).isEqualByComparingTo("0");
+    }
+
     private User user(UUID userId) {
         return User.builder()
                 .userId(userId)
@@ -0,0 +1,182 @@
+package com.moneyflow.domain.budget;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 지출 합계 증감 반영 + 예산 기준 알림(기준마다 월 한 번) 검증
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BudgetSpendTracker.class)
+class BudgetSpendTrackerTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private BudgetSpendTracker budgetSpendTracker;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("지출 등록/수정/삭제/장부 이동마다 월 합계를 증감하고, 80%/100% 기준은 넘을 때 한 번씩만 알린다")
+    void apply_tracksSpendAndNotifiesOncePerThreshold() {
+        UUID[] ids = inTransaction(() -> {
+            User owner = persistUser("budget-owner");
+            User partner = persistUser("budget-partner");
+            AccountBook book = persistBook(owner, "생활비", owner, partner);
+            AccountBook other = persistBook(owner, "여행", owner);
+            entityManager.persist(Budget.builder()
+                    .user(owner)
+                    .accountBook(book)
+                    .year(2025)
+                    .month(3)
+                    .targetAmount(new BigDecimal("100000"))
+                    .build());
+            return new UUID[]{owner.getUserId(), partner.getUserId(), book.getAccountBookId(), other.getAccountBookId()};
+        });
+        UUID ownerId = ids[0];
+        UUID partnerId = ids[1];
+        UUID bookId = ids[2];
+        UUID otherBookId = ids[3];
+
+        UUID first = persistExpense(ownerId, bookId, "50000", LocalDate.of(2025, 3, 2));
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("50000");
+        assertThat(budgetNotifications(ownerId)).isEmpty();
+
+        // 같은 달 금액 수정은 차액만 반영 → 80% 도달, 멤버 모두에게 알림
+        inTransaction(() -> {
+            entityManager.find(Expense.class, first).setAmount(new BigDecimal("85000"));
+            return null;
+        });
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("85000");
+        assertThat(budgetNotifications(ownerId)).containsExactly("예산의 80%를 사용했어요");
+        assertThat(budgetNotifications(partnerId)).containsExactly("예산의 80%를 사용했어요");
+
+        // 다른 장부로 옮기면 원래 장부에서 빠지고, 다시 돌아와도 80% 알림은 반복하지 않음
+        inTransaction(() -> {
+            entityManager.find(Expense.class, first)
+                    .setAccountBook(entityManager.getReference(AccountBook.class, otherBookId));
+            return null;
+        });
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("0");
+        assertThat(budgetSpendTracker.spent(otherBookId, 2025, 3)).isEqualByComparingTo("85000");
+        inTransaction(() -> {
+            entityManager.find(Expense.class, first)
+                    .setAccountBook(entityManager.getReference(AccountBook.class, bookId));
+            return null;
+        });
+        assertThat(budgetNotifications(ownerId)).hasSize(1);
+
+        // 다른 달로 날짜를 옮긴 지출은 그 달 합계로 이동
+        UUID second = persistExpense(ownerId, bookId, "10000", LocalDate.of(2025, 2, 28));
+        inTransaction(() -> {
+            entityManager.find(Expense.class, second).setDate(LocalDate.of(2025, 3, 31));
+            return null;
+        });
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 2)).isEqualByComparingTo("0");
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("95000");
+
+        persistExpense(ownerId, bookId, "5000", LocalDate.of(2025, 3, 15));
+        assertThat(budgetNotifications(ownerId)).containsExactly("예산의 80%를 사용했어요", "예산을 초과했어요");
+
+        // 삭제 후 다시 넘어도 같은 달에는 추가 알림 없음
+        inTransaction(() -> {
+            entityManager.remove(entityManager.find(Expense.class, second));
+            return null;
+        });
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("90000");
+        persistExpense(ownerId, bookId, "20000", LocalDate.of(2025, 3, 20));
+        assertThat(budgetSpendTracker.spent(bookId, 2025, 3)).isEqualByComparingTo("110000");
+        assertThat(budgetNotifications(ownerId)).hasSize(2);
+        assertThat(budgetNotifications(partnerId)).hasSize(2);
+    }
+
+    private List<String> budgetNotifications(UUID userId) {
+        return jdbcTemplate.queryForList(
+                "SELECT title FROM notifications WHERE user_id = ? AND type = ? ORDER BY created_at, notification_id",
+                String.class, userId, BudgetSpendTracker.NOTIFICATION_TYPE);
+    }
+
+    private UUID persistExpense(UUID userId, UUID bookId, String amount, LocalDate date) {
+        return inTransaction(() -> {
+            Expense expense = Expense.builder()
+                    .user(entityManager.getReference(User.class, userId))
+                    .accountBook(entityManager.getReference(AccountBook.class, bookId))
+                    .amount(new BigDecimal(amount))
+                    .date(date)
+                    .category("FOOD")
+                    .build();
+            entityManager.persist(expense);
+            return expense.getExpenseId();
+        });
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private AccountBook persistBook(User creator, String name, User... members) {
+        AccountBook book = AccountBook.builder().name(name).bookType(BookType.DEFAULT).createdBy(creator).build();
+        entityManager.persist(book);
+        for (User member : members) {
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), member.getUserId()))
+                    .accountBook(book)
+                    .user(member)
+                    .build());
+        }
+        return book;
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,41 @@
+package com.moneyflow.domain.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BusinessMetrics metrics = new BusinessMetrics(registry);
+
+    @Test
+    @DisplayName("일괄 등록: 성공/실패 행 수가 result 태그별로 누적된다")
+    void recordBulkImport_accumulatesByResult() {
+        metrics.recordBulkImport("expense", 3, 1);
+        metrics.recordBulkImport("expense", 2, 0);
+
+        assertThat(registry.get("moneyflow.bulk.import.rows")
+                .tags("type", "expense", "result", "saved").counter().count()).isEqualTo(5.0);
+        assertThat(registry.get("moneyflow.bulk.import.rows")
+                .tags("type", "expense", "result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("분류/알림: 호출마다 태그별 카운터가 1씩 증가한다")
+    void recordClassificationAndDispatch_incrementsTaggedCounters() {
+        metrics.recordClassification("FOOD", true);
+        metrics.recordClassification("FOOD", true);
+        metrics.recordClassification("UNCATEGORIZED", false);
+        metrics.recordNotificationDispatch("users", "sent");
+
+        assertThat(registry.get("moneyflow.classifier.calls")
+                .tags("category", "FOOD", "matched", "true").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("moneyflow.classifier.calls")
+                .tags("matched", "false").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("moneyflow.notifications.dispatched")
+                .tags("target", "users", "outcome", "sent").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.expense.ExpenseRepository;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.moneyflow.support.QueryBudgetAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * direct 프로파일 검증: 서버 측 Prepared Statement + JDBC 배치
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@ActiveProfiles("direct")
+class DirectConnectionModeTest {
+
+    private static final int ROWS = 120;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private AccountBook book;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("direct@moneyflow.test").nickname("direct").build();
+        entityManager.persist(user);
+        book = AccountBook.builder().name("생활비").bookType(BookType.DEFAULT).createdBy(user).build();
+        entityManager.persist(book);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("반복 실행한 SQL은 서버 측 Prepared Statement로 전환된다")
+    void repeatedQuery_usesServerSidePreparedStatement() throws Exception {
+        PGConnection connection = entityManager.unwrap(Session.class)
+                .doReturningWork(jdbc -> jdbc.unwrap(PGConnection.class));
+        assertThat(connection.getPrepareThreshold()).isEqualTo(5);
+
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 6; i++) {
+            expenseRepository.findByAccountBookAndDateRange(book.getAccountBookId(), date, date.plusMonths(1));
+        }
+
+        Number prepared = (Number) entityManager
+                .createNativeQuery("SELECT count(*) FROM pg_prepared_statements WHERE statement LIKE '%from expenses%'")
+                .getSingleResult();
+        assertThat(prepared.longValue()).isPositive();
+    }
+
+    @Test
+    @DisplayName("INSERT/UPDATE가 batch_size 단위로 묶여 문장 수가 행 수와 무관하다")
+    void insertsAndUpdates_areBatched() {
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            expenses.add(Expense.builder()
+                    .user(user)
+                    .accountBook(book)
+                    .amount(new BigDecimal("5000"))
+                    .date(LocalDate.of(2025, 1, 1).plusDays(i % 28))
+                    .category("FOOD")
+                    .merchant("가맹점" + i)
+                    .build());
+        }
+
+        assertMaxQueries(3, () -> {
+            expenseRepository.saveAll(expenses);
+            entityManager.flush();
+        });
+
+        expenses.forEach(expense -> expense.setMemo("수정"));
+        assertMaxQueries(3, () -> entityManager.flush());
+
+        entityManager.clear();
+        Number memos = (Number) entityManager
+                .createNativeQuery("SELECT count(*) FROM expenses WHERE memo = '수정'")
+                .getSingleResult();
+        assertThat(memos.intValue()).isEqualTo(ROWS);
+    }
+}
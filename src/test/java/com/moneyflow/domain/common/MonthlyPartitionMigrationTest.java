@@ -0,0 +1,518 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.expense.ExpenseDedupKey;
+import com.moneyflow.domain.expense.ExpenseParticipant;
+import com.moneyflow.domain.expense.ExpenseParticipantId;
+import com.moneyflow.domain.expense.ExpenseRepository;
+import com.moneyflow.domain.expense.ExpenseSpecifications;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.income.IncomeRepository;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.request.ExpenseSearchCondition;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * expenses/incomes 월 단위 파티셔닝 마이그레이션(V23, V24, V32)과 파티션 테이블 대상 온라인 마이그레이션(V28, V29) 검증 (PostgreSQL)
+ *
+ * 엔티티 기준 스키마(기존 일반 테이블)에 데이터를 넣고, 동시 입력이 진행되는 중에
+ * Flyway로 V23/V24/V28/V29/V32를 적용한 뒤 데이터 보존, 파티션 라우팅, FK 대체 트리거,
+ * 과거 구간 분할, 리포지토리 쿼리의 파티션 프루닝, 배치 채우기와 파티션 인덱스 생성을 확인합니다.
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MonthlyPartitionMigrationTest {
+
+    private static final String HISTORY_TABLE = "flyway_history_partition_test";
+    private static final List<String> MIGRATIONS = List.of(
+            "V23__Prepare_monthly_partitioning.sql",
+            "V23__Prepare_monthly_partitioning.sql.conf",
+            "V24__Partition_expenses_and_incomes_by_month.sql",
+            "V28__Add_expense_dedup_key.sql",
+            "V28__Add_expense_dedup_key.sql.conf",
+            "V29__Create_sync_change_tracking.sql",
+            "V29__Create_sync_change_tracking.sql.conf",
+            "V32__Add_expense_reference_checks_and_legacy_split.sql");
+
+    private static final LocalDate LEGACY_DATE = LocalDate.of(2024, 1, 15);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerProperties(registry);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate tx;
+
+    private User user;
+    private AccountBook book;
+    private UUID legacyExpenseId;
+    private int concurrentInserts;
+
+    @BeforeAll
+    void migrate() throws Exception {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            user = User.builder().email("partition@test.com").nickname("tester").build();
+            entityManager.persist(user);
+            book = AccountBook.builder().name("생활비").bookType(BookType.DEFAULT).createdBy(user).build();
+            entityManager.persist(book);
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), user.getUserId()))
+                    .accountBook(book).user(user).build());
+
+            legacyExpenseId = persistWithParticipant(LEGACY_DATE);
+            entityManager.persist(expense(LEGACY_DATE.plusMonths(1), "CAFE_SNACK"));
+            entityManager.persist(income(LEGACY_DATE));
+        });
+        // 컬럼 추가 이전 행처럼 비워 두고 V28이 채우는지 확인
+        jdbcTemplate.update("UPDATE expenses SET dedup_key = NULL");
+
+        // 마이그레이션 중 계속 입력하는 쓰기 작업 (온라인 전환 확인)
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicReference<Exception> writerError = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                while (running.get()) {
+                    statement.execute("INSERT INTO expenses (expense_id, user_id, account_book_id, amount, date, category) " +
+                            "VALUES (gen_random_uuid(), '" + user.getUserId() + "', '" + book.getAccountBookId() + "', " +
+                            "1000, current_date, 'ETC')");
+                    inserted.incrementAndGet();
+                }
+            } catch (Exception e) {
+                writerError.set(e);
+            }
+        });
+        writer.start();
+
+        try {
+            flyway().migrate();
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+
+        assertThat(writerError.get()).isNull();
+        concurrentInserts = inserted.get();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + HISTORY_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS expenses, incomes, expenses_legacy_next, incomes_legacy_next CASCADE");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS ensure_monthly_partitions(text, integer)");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS expenses_after_delete() CASCADE");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS check_expense_reference() CASCADE");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS split_legacy_partition(text, integer)");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS mirror_legacy_partition_change() CASCADE");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS legacy_partition_splits");
+    }
+
+    @Test
+    @DisplayName("기존 테이블은 과거 구간 파티션이 되고 마이그레이션 중 입력된 행까지 모두 보존된다")
+    void migration_keepsAllRows() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'expenses'", String.class)).isEqualTo("p");
+        assertThat(partitionsOf("expenses")).contains("expenses_legacy", "expenses_default");
+        assertThat(partitionsOf("incomes")).contains("incomes_legacy", "incomes_default");
+
+        // ATTACH 시 인덱스를 새로 만들지 않고 기존 인덱스를 부모 인덱스에 연결
+        assertThat(indexCount("expenses_legacy")).isEqualTo(indexCount("expenses"));
+        assertThat(indexCount("incomes_legacy")).isEqualTo(indexCount("incomes"));
+
+        assertThat(concurrentInserts).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM expenses WHERE category = 'ETC'", Integer.class))
+                .isEqualTo(concurrentInserts);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM expenses WHERE expense_id = ?", String.class, legacyExpenseId))
+                .isEqualTo("expenses_legacy");
+    }
+
+    @Test
+    @DisplayName("기존 지출의 중복 판별 키를 애플리케이션과 같은 규칙으로 채우고, 파티션 인덱스를 만들어 부모 인덱스를 유효하게 한다")
+    void dedupKeyMigration_backfillsAndBuildsPartitionIndexes() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT dedup_key FROM expenses WHERE expense_id = ?", String.class, legacyExpenseId))
+                .isEqualTo(ExpenseDedupKey.of(book.getAccountBookId(), LEGACY_DATE, new BigDecimal("12000"), "테스트 가맹점"));
+        assertThat(indexValid("idx_expenses_dedup_key")).isFalse();
+
+        PartitionMaintenanceScheduler scheduler = new PartitionMaintenanceScheduler(jdbcTemplate);
+        assertThat(scheduler.buildPartitionIndexes()).isPositive();
+        assertThat(scheduler.buildPartitionIndexes()).isZero();
+
+        assertThat(indexValid("idx_expenses_dedup_key")).isTrue();
+        assertThat(indexValid("expenses_legacy_idx_expenses_dedup_key")).isTrue();
+        assertThat(indexValid("idx_expenses_book_change_seq")).isTrue();
+        assertThat(indexValid("idx_incomes_book_change_seq")).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 지출/수입에 장부 안에서 겹치지 않는 변경 순번을 배치로 부여하고 장부 순번을 그만큼 올린다")
+    void changeSeqMigration_backfillsDistinctSequences() {
+        UUID bookId = book.getAccountBookId();
+        // 마이그레이션 전에 넣은 지출 2건, 수입 1건
+        List<Long> seqs = jdbcTemplate.queryForList(
+                "SELECT change_seq FROM expenses WHERE expense_id = ? OR category = 'CAFE_SNACK' " +
+                "UNION ALL SELECT change_seq FROM incomes WHERE date = ?", Long.class, legacyExpenseId, LEGACY_DATE);
+
+        assertThat(seqs).hasSize(3).allMatch(seq -> seq > 0).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM account_book_change_seqs WHERE account_book_id = ?", Long.class, bookId))
+                .isGreaterThanOrEqualTo(seqs.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("경계 이후 월의 새 지출은 해당 월 파티션에 저장된다")
+    void insert_routesToMonthlyPartition() {
+        LocalDate future = firstMonthlyPartitionStart("expenses").plusDays(3);
+        UUID expenseId = tx.execute(status -> {
+            Expense expense = expense(future, "FOOD");
+            entityManager.persist(expense);
+            return expense.getExpenseId();
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM expenses WHERE expense_id = ?", String.class, expenseId))
+                .isEqualTo(partitionName("expenses", YearMonth.from(future)));
+    }
+
+    @Test
+    @DisplayName("월 범위 조회/집계 쿼리는 해당 월 파티션만 읽는다")
+    void monthQueries_prunePartitions() {
+        YearMonth month = YearMonth.from(firstMonthlyPartitionStart("expenses")).plusMonths(1);
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        UUID bookId = book.getAccountBookId();
+
+        assertThat(scannedPartitions("expenses",
+                () -> expenseRepository.findByAccountBookAndDateRange(bookId, start, end)))
+                .containsExactly(partitionName("expenses", month));
+        assertThat(scannedPartitions("expenses",
+                () -> expenseRepository.sumAmountByPeriod(bookId, start, end)))
+                .containsExactly(partitionName("expenses", month));
+        assertThat(scannedPartitions("expenses",
+                () -> expenseRepository.sumByCategory(bookId, start, end)))
+                .containsExactly(partitionName("expenses", month));
+        assertThat(scannedPartitions("expenses",
+                () -> expenseRepository.search(ExpenseSpecifications.matches(ExpenseSearchCondition.builder()
+                        .userId(user.getUserId()).startDate(start).endDate(end).build()), 51)))
+                .containsExactly(partitionName("expenses", month));
+        assertThat(scannedPartitions("incomes",
+                () -> incomeRepository.findByAccountBookAndDateRange(bookId, start, end)))
+                .containsExactly(partitionName("incomes", month));
+
+        // 전환 이전 월은 과거 구간 파티션만 읽음
+        assertThat(scannedPartitions("expenses",
+                () -> expenseRepository.sumAmountByPeriod(bookId, LEGACY_DATE.withDayOfMonth(1), LEGACY_DATE)))
+                .containsExactly("expenses_legacy");
+    }
+
+    @Test
+    @DisplayName("지출 삭제 시 참여자도 삭제되고, 날짜 변경으로 파티션을 옮겨도 참여자는 유지된다")
+    void deleteTrigger_replacesForeignKeyCascade() {
+        UUID movedId = tx.execute(status -> persistWithParticipant(LEGACY_DATE.plusDays(1)));
+
+        jdbcTemplate.update("UPDATE expenses SET date = ? WHERE expense_id = ?",
+                firstMonthlyPartitionStart("expenses"), movedId);
+        assertThat(participantCount(movedId)).isEqualTo(1);
+
+        jdbcTemplate.update("DELETE FROM expenses WHERE expense_id = ?", movedId);
+        assertThat(participantCount(movedId)).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 지출을 가리키는 참여자 입력/수정은 FK처럼 거부된다")
+    void referenceTrigger_rejectsOrphanParticipants() {
+        UUID expenseId = tx.execute(status -> persistWithParticipant(LEGACY_DATE.plusDays(2)));
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO expense_participants (expense_id, user_id, share_ratio, share_amount) VALUES (?, ?, 1, 1000)",
+                UUID.randomUUID(), user.getUserId()))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("해당 지출이 없습니다");
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "UPDATE expense_participants SET expense_id = ? WHERE expense_id = ?", UUID.randomUUID(), expenseId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(participantCount(expenseId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("과거 구간 파티션을 교체하면 복사 중 변경까지 월 파티션에 반영되고, 연결 시 행 검사를 생략하며 그 달 조회는 그 파티션만 읽는다")
+    void splitLegacyPartition_movesHistoricalMonthsOut() {
+        UUID incomeId = jdbcTemplate.queryForObject(
+                "SELECT income_id FROM incomes WHERE date = ?", UUID.class, LEGACY_DATE);
+        List<String> messages = new ArrayList<>();
+
+        assertThat(splitLegacyPartition("incomes", messages)).isEqualTo("PREPARED");
+        assertThat(splitLegacyPartition("incomes", messages)).isEqualTo("COPIED");
+
+        // 복사 도중 과거 날짜 행의 입력/수정 (트리거가 교체 테이블에 반영)
+        UUID addedId = tx.execute(status -> {
+            Income income = income(LEGACY_DATE.plusDays(3));
+            entityManager.persist(income);
+            return income.getIncomeId();
+        });
+        jdbcTemplate.update("UPDATE incomes SET amount = 777 WHERE income_id = ?", incomeId);
+        int rowsBefore = jdbcTemplate.queryForObject("SELECT count(*) FROM incomes", Integer.class);
+
+        String step;
+        do {
+            step = splitLegacyPartition("incomes", messages);
+        } while ("COPIED".equals(step));
+
+        assertThat(step).isEqualTo("SWAPPED");
+        assertThat(splitLegacyPartition("incomes", messages)).isEqualTo("DONE");
+        String legacyMonth = partitionName("incomes", YearMonth.from(LEGACY_DATE));
+        // 범위 CHECK로 교체 테이블 검사를 생략 (행을 읽는 검사는 기본 파티션뿐)
+        assertThat(messages)
+                .contains("partition constraint for table \"incomes_legacy_next\" is implied by existing constraints")
+                .filteredOn(message -> message.startsWith("verifying table"))
+                .containsOnly("verifying table \"incomes_default\"");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM incomes", Integer.class)).isEqualTo(rowsBefore);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT amount FROM incomes WHERE income_id = ?", BigDecimal.class, incomeId)).isEqualByComparingTo("777");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT tableoid::regclass::text FROM incomes WHERE income_id IN (?, ?)", String.class, incomeId, addedId))
+                .containsOnly(legacyMonth);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'incomes_legacy'", String.class)).isEqualTo("p");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM legacy_partition_splits", Integer.class)).isZero();
+
+        UUID bookId = book.getAccountBookId();
+        assertThat(scannedPartitions("incomes",
+                () -> incomeRepository.findByAccountBookAndDateRange(bookId, LEGACY_DATE.withDayOfMonth(1), LEGACY_DATE)))
+                .containsExactly(legacyMonth);
+    }
+
+    @Test
+    @DisplayName("파티션 생성 함수는 기본 파티션에 있던 행을 새 월 파티션으로 옮긴다")
+    void ensureMonthlyPartitions_movesRowsOutOfDefault() {
+        LocalDate farFuture = LocalDate.now().plusMonths(20);
+        UUID expenseId = tx.execute(status -> persistWithParticipant(farFuture));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM expenses WHERE expense_id = ?", String.class, expenseId))
+                .isEqualTo("expenses_default");
+
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_monthly_partitions('expenses', 24)", Integer.class);
+
+        assertThat(created).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT ensure_monthly_partitions('expenses', 24)", Integer.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM expenses WHERE expense_id = ?", String.class, expenseId))
+                .isEqualTo(partitionName("expenses", YearMonth.from(farFuture)));
+        assertThat(participantCount(expenseId)).isEqualTo(1);
+    }
+
+    /**
+     * 작업 실행 중 실제로 스캔된(순차/인덱스) 파티션 목록
+     */
+    private Set<String> scannedPartitions(String parent, Runnable action) {
+        return tx.execute(status -> {
+            Map<String, Long> before = scanCounts(parent);
+            action.run();
+            Map<String, Long> after = scanCounts(parent);
+            return after.entrySet().stream()
+                    .filter(entry -> entry.getValue() > before.getOrDefault(entry.getKey(), 0L))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> scanCounts(String parent) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT c.relname, pg_stat_get_xact_numscans(c.oid) + " +
+                        "       COALESCE((SELECT sum(pg_stat_get_xact_numscans(i.indexrelid)) " +
+                        "                 FROM pg_index i WHERE i.indrelid = c.oid), 0) " +
+                        "FROM pg_partition_tree(CAST(:parent AS regclass)) t JOIN pg_class c ON c.oid = t.relid " +
+                        "WHERE t.isleaf")
+                .setParameter("parent", parent)
+                .getResultList();
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 배치 1건씩 과거 구간 교체를 한 단계 수행하고, DEBUG 메시지(ATTACH 검사 생략 여부)를 모음
+     */
+    private String splitLegacyPartition(String parent, List<String> messages) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET client_min_messages = debug1");
+                try (ResultSet rs = statement.executeQuery("SELECT split_legacy_partition('" + parent + "', 1)")) {
+                    rs.next();
+                    for (SQLWarning warning = statement.getWarnings(); warning != null; warning = warning.getNextWarning()) {
+                        messages.add(warning.getMessage());
+                    }
+                    return rs.getString(1);
+                } finally {
+                    statement.execute("RESET client_min_messages");
+                }
+            }
+        });
+    }
+
+    private List<String> partitionsOf(String parent) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits inh JOIN pg_class c ON c.oid = inh.inhrelid " +
+                "WHERE inh.inhparent = ?::regclass", String.class, parent);
+    }
+
+    /**
+     * 유효한 인덱스 수 (파티션 인덱스가 아직 연결되지 않은 부모 인덱스 제외)
+     */
+    private int indexCount(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_index WHERE indrelid = ?::regclass AND indisvalid", Integer.class, table);
+    }
+
+    private boolean indexValid(String index) {
+        return jdbcTemplate.queryForObject(
+                "SELECT indisvalid FROM pg_index WHERE indexrelid = ?::regclass", Boolean.class, index);
+    }
+
+    private LocalDate firstMonthlyPartitionStart(String parent) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([0-9-]+)''\\)'))[1]::date " +
+                "FROM pg_class c WHERE c.relname = ?", LocalDate.class, parent + "_legacy");
+    }
+
+    private String partitionName(String parent, YearMonth month) {
+        return String.format("%s_y%04dm%02d", parent, month.getYear(), month.getMonthValue());
+    }
+
+    private int participantCount(UUID expenseId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM expense_participants WHERE expense_id = ?", Integer.class, expenseId);
+    }
+
+    private Flyway flyway() throws IOException {
+        Path location = Files.createTempDirectory("partition-migrations");
+        for (String file : MIGRATIONS) {
+            try (InputStream in = new ClassPathResource("db/migration/" + file).getInputStream()) {
+                Files.copy(in, location.resolve(file));
+            }
+        }
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("filesystem:" + location)
+                .table(HISTORY_TABLE)
+                .baselineOnMigrate(true)
+                .baselineVersion("22")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load();
+    }
+
+    private Expense expense(LocalDate date, String category) {
+        return Expense.builder()
+                .user(entityManager.getReference(User.class, user.getUserId()))
+                .accountBook(entityManager.getReference(AccountBook.class, book.getAccountBookId()))
+                .amount(new BigDecimal("12000"))
+                .date(date)
+                .category(category)
+                .merchant("테스트 가맹점")
+                .build();
+    }
+
+    private UUID persistWithParticipant(LocalDate date) {
+        Expense expense = expense(date, "FOOD");
+        entityManager.persist(expense);
+        entityManager.persist(ExpenseParticipant.builder()
+                .id(new ExpenseParticipantId(expense.getExpenseId(), user.getUserId()))
+                .expense(expense)
+                .user(entityManager.getReference(User.class, user.getUserId()))
+                .shareAmount(new BigDecimal("12000"))
+                .build());
+        return expense.getExpenseId();
+    }
+
+    private Income income(LocalDate date) {
+        return Income.builder()
+                .user(entityManager.getReference(User.class, user.getUserId()))
+                .accountBook(entityManager.getReference(AccountBook.class, book.getAccountBookId()))
+                .amount(new BigDecimal("3000000"))
+                .date(date)
+                .source("SALARY")
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCounterTest {
+
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @Test
+    @DisplayName("가장 많이 반복된 SQL을 찾고, 닫으면 바깥 집계로 복귀한다")
+    void countsRepeatedStatementsAndRestoresOuterCounter() {
+        try (QueryCounter outer = QueryCounter.start(10, false)) {
+            inspector.inspect("select * from users where user_id=?");
+
+            try (QueryCounter inner = QueryCounter.start(2, false)) {
+                for (int i = 0; i < 3; i++) {
+                    inspector.inspect("select * from account_books where account_book_id=?");
+                }
+                inspector.inspect("select * from expenses");
+
+                assertThat(inner.getStatementCount()).isEqualTo(4);
+                assertThat(inner.isOverBudget()).isTrue();
+                assertThat(inner.mostRepeatedStatement()).hasValueSatisfying(entry -> {
+                    assertThat(entry.getKey()).contains("account_books");
+                    assertThat(entry.getValue()).isEqualTo(3);
+                });
+            }
+
+            assertThat(QueryCounter.current()).isSameAs(outer);
+            assertThat(outer.getStatementCount()).isEqualTo(1);
+        }
+        assertThat(QueryCounter.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("enforce 모드에서는 허용치를 넘는 첫 문장에서 한 번만 예외가 발생한다")
+    void enforce_throwsOnceWhenBudgetExceeded() {
+        try (QueryCounter counter = QueryCounter.start(1, true)) {
+            inspector.inspect("select 1");
+
+            assertThatThrownBy(() -> inspector.inspect("select 2"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.QUERY_BUDGET_EXCEEDED);
+
+            inspector.inspect("select 3");
+            assertThat(counter.getStatementCount()).isEqualTo(3);
+        }
+    }
+}
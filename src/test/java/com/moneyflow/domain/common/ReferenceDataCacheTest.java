@@ -0,0 +1,105 @@
+package com.moneyflow.domain.common;
+
+import com.moneyflow.domain.terms.DocumentType;
+import com.moneyflow.domain.terms.TermsDocument;
+import com.moneyflow.domain.terms.TermsDocumentRepository;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.domain.user.UserRepository;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.moneyflow.support.QueryBudgetAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참조 데이터 2차/쿼리 캐시 검증 (트랜잭션마다 새 영속성 컨텍스트)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReferenceDataCacheTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TermsDocumentRepository termsDocumentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("사용자는 2차 캐시에 두지 않아 다른 인스턴스가 바꾼 값이 다음 조회에 바로 보인다")
+    void userFindById_notCachedAcrossInstances() {
+        UUID userId = inTransaction(() -> userRepository.save(
+                User.builder().email(UUID.randomUUID() + "@moneyflow.test").nickname("캐시").build()).getUserId());
+        inTransaction(() -> userRepository.findById(userId).orElseThrow().getNickname());
+
+        // 다른 인스턴스의 수정 (이 인스턴스의 Hibernate를 거치지 않음)
+        new JdbcTemplate(dataSource).update("UPDATE users SET nickname = '변경' WHERE user_id = ?", userId);
+
+        assertThat(inTransaction(() -> userRepository.findById(userId).orElseThrow().getNickname())).isEqualTo("변경");
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("유효 약관 조회는 쿼리 캐시를 쓰고, 약관이 추가되면 무효화된다")
+    void activeTerms_queryCacheInvalidatedOnInsert() {
+        inTransaction(() -> termsDocumentRepository.save(terms(DocumentType.SERVICE_TERMS, "1.0")));
+        int before = inTransaction(() -> termsDocumentRepository.findByIsActiveTrue().size());
+
+        assertThat(assertMaxQueries(0, () -> inTransaction(
+                () -> termsDocumentRepository.findByIsActiveTrue().size()))).isEqualTo(before);
+
+        inTransaction(() -> termsDocumentRepository.save(terms(DocumentType.PRIVACY_COLLECTION, "1.0")));
+
+        assertThat(inTransaction(() -> termsDocumentRepository.findByIsActiveTrue().size())).isEqualTo(before + 1);
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private static TermsDocument terms(DocumentType type, String version) {
+        return TermsDocument.builder()
+                .type(type)
+                .version(version + "-" + UUID.randomUUID().toString().substring(0, 8))
+                .title(type.name())
+                .content("내용")
+                .effectiveAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .isRequired(true)
+                .build();
+    }
+}
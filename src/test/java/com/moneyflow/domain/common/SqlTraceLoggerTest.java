@@ -0,0 +1,47 @@
+package com.moneyflow.domain.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTraceLoggerTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("문자열/숫자 리터럴은 가리고 별칭/컬럼명의 숫자는 유지한다")
+    void redact_hidesLiteralsOnly() {
+        String sql = """
+                select e1_0.expense_id from expenses e1_0
+                where e1_0.merchant like '%O''Neil 스타벅스%' and e1_0.amount>=15000.50
+                  and e1_0.date between ? and ? limit 51""";
+
+        assertThat(SqlTraceLogger.redact(sql)).isEqualTo(
+                "select e1_0.expense_id from expenses e1_0 where e1_0.merchant like '?' "
+                        + "and e1_0.amount>=? and e1_0.date between ? and ? limit ?");
+    }
+
+    @Test
+    @DisplayName("요청 ID와 실행 시간을 포함한 한 줄 JSON을 만든다")
+    void toJson_singleLineWithCorrelationId() throws Exception {
+        MDC.put(CorrelationIdFilter.MDC_KEY, "req-1");
+
+        String json = SqlTraceLogger.toJson("slow", 1_234_567_890L,
+                "select *\n  from users\n where email = 'a@b.c'", 20);
+
+        assertThat(json).doesNotContain("\n");
+        JsonNode node = new ObjectMapper().readTree(json);
+        assertThat(node.get("reason").asText()).isEqualTo("slow");
+        assertThat(node.get("durationMs").asDouble()).isEqualTo(1234.57);
+        assertThat(node.get("requestId").asText()).isEqualTo("req-1");
+        assertThat(node.get("sql").asText()).isEqualTo("select * from users ...");
+    }
+}
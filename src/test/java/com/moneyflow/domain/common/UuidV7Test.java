@@ -0,0 +1,56 @@
+package com.moneyflow.domain.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    private static final Instant NOW = Instant.parse("2026-03-15T12:30:45.123Z");
+
+    @Test
+    @DisplayName("버전 7 / RFC 변형 비트와 생성 시각이 기록된다")
+    void generate_versionVariantAndTimestamp() {
+        UuidV7 generator = new UuidV7(Clock.fixed(NOW, ZoneOffset.UTC), new Random(1));
+
+        UUID uuid = generator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 카운터가 넘쳐도 문자열/바이트 순서가 단조 증가한다")
+    void generate_monotonicWithinSameMillisecond() {
+        UuidV7 generator = new UuidV7(Clock.fixed(NOW, ZoneOffset.UTC), new Random(1));
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+        // 12비트 카운터(4096)를 넘기면 다음 밀리초를 빌려 씀
+        assertThat(UuidV7.timestampOf(ids.get(ids.size() - 1))).isAfter(NOW);
+    }
+
+    @Test
+    @DisplayName("v4 UUID의 생성 시각은 조회할 수 없다")
+    void timestampOf_rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
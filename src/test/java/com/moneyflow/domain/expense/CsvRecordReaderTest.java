@@ -0,0 +1,38 @@
+package com.moneyflow.domain.expense;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표/줄바꿈/이스케이프된 따옴표를 한 필드로 읽고, BOM과 빈 줄은 건너뛴다")
+    void next_readsQuotedFieldsAcrossLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "\uFEFFdate,memo,amount\r\n\r\n2025-03-01,\"쉼표, \"\"따옴표\"\"\n줄바꿈\",5000\n2025-03-02,,\n"));
+
+        assertThat(reader.next()).containsExactly("date", "memo", "amount");
+        assertThat(reader.next()).containsExactly("2025-03-01", "쉼표, \"따옴표\"\n줄바꿈", "5000");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("2025-03-02", "", "");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 레코드 시작 줄 번호와 함께 형식 오류로 알린다")
+    void next_rejectsUnterminatedQuote() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\n\"열린 따옴표,c\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(CsvRecordReader.MalformedCsvException.class)
+                .satisfies(e -> assertThat(((CsvRecordReader.MalformedCsvException) e).getLine()).isEqualTo(2));
+    }
+}
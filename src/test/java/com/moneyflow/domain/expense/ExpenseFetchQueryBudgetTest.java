@@ -0,0 +1,85 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.moneyflow.support.QueryBudgetAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지출 조회 JOIN FETCH의 쿼리 수 검증 (N+1 회귀 방지)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+class ExpenseFetchQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerProperties(registry);
+    }
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("장부별 기간 조회는 등록자/장부를 읽어도 건수와 무관하게 쿼리 1회로 끝난다")
+    void findByAccountBookAndDateRange_singleStatement() {
+        User owner = persistUser("owner@moneyflow.test");
+        User partner = persistUser("partner@moneyflow.test");
+        AccountBook book = AccountBook.builder()
+                .name("생활비")
+                .bookType(BookType.DEFAULT)
+                .createdBy(owner)
+                .build();
+        entityManager.persist(book);
+
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        for (int i = 0; i < 30; i++) {
+            entityManager.persist(Expense.builder()
+                    .user(i % 2 == 0 ? owner : partner)
+                    .accountBook(book)
+                    .amount(new BigDecimal("5000"))
+                    .date(start.plusDays(i % 28))
+                    .category("FOOD")
+                    .merchant("가맹점" + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> labels = assertMaxQueries(1, () -> expenseRepository
+                .findByAccountBookAndDateRange(book.getAccountBookId(), start, start.plusMonths(1))
+                .stream()
+                .map(expense -> expense.getUser().getNickname() + "/" + expense.getAccountBook().getName())
+                .toList());
+
+        assertThat(labels).hasSize(30);
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder().email(email).nickname(email.substring(0, email.indexOf('@'))).build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,222 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.request.ExpenseImportMapping;
+import com.moneyflow.dto.response.ExpenseImportProgress;
+import com.moneyflow.service.CategoryClassifier;
+import com.moneyflow.support.PostgresExplainSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 명세서 가져오기 검증 (청크 단위 저장, 기존 지출과의 중복 판별, 재가져오기)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ExpenseImportService.class, CategoryClassifier.class, BusinessMetrics.class,
+        ExpenseImportServiceTest.MetricsConfig.class})
+class ExpenseImportServiceTest {
+
+    private static final String STATEMENT = String.join("\r\n",
+            "거래일자,가맹점명,이용금액,비고",
+            "2025.03.01,(주)스타벅스 강남점,\"4,500\",",
+            "2025.03.01,스타벅스 강남점,\"4,500\",같은 날 두 번째",
+            "2025.03.02,GS25 역삼점,1200원,",
+            "2025.03.02,급여 입금,\"-3,000,000\",",
+            "2025.03.03,이마트,\"52,000\",\"메모, 쉼표\"",
+            "2025/03/04,쿠팡,\"15,900\",",
+            "날짜없음,택시,8000,",
+            "");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("expense.import.chunk-size", () -> 2);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExpenseImportService expenseImportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("명세서를 청크로 나눠 저장하고, 이미 있는 지출은 건너뛰며, 같은 파일을 다시 가져오면 모두 중복 처리한다")
+    void importCsv_skipsExistingExpensesAndIsIdempotent() throws IOException {
+        UUID[] ids = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = User.builder()
+                    .email("import-" + UUID.randomUUID() + "@moneyflow.test")
+                    .nickname("가져오기")
+                    .build();
+            entityManager.persist(user);
+            AccountBook book = AccountBook.builder().name("가져오기 장부").bookType(BookType.DEFAULT).createdBy(user).build();
+            entityManager.persist(book);
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), user.getUserId()))
+                    .accountBook(book)
+                    .user(user)
+                    .build());
+            // 앱에서 직접 입력해 둔 지출: 명세서의 이마트 행과 같은 지출
+            entityManager.persist(Expense.builder()
+                    .user(user)
+                    .accountBook(book)
+                    .amount(new BigDecimal("52000"))
+                    .date(LocalDate.of(2025, 3, 3))
+                    .category("LIVING")
+                    .merchant("이마트 ")
+                    .build());
+            return new UUID[]{user.getUserId(), book.getAccountBookId()};
+        });
+        UUID userId = ids[0];
+        UUID bookId = ids[1];
+
+        List<ExpenseImportProgress> progress = new ArrayList<>();
+        ExpenseImportProgress result = importStatement(userId, bookId, progress);
+
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getProcessed()).isEqualTo(7);
+        // 스타벅스 2건(같은 날 두 번 결제), GS25, 쿠팡
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getFailures()).singleElement()
+                .satisfies(failure -> assertThat(failure.getLine()).isEqualTo(8));
+        // 청크(2행)마다 진행 상황 + 마지막 결과
+        assertThat(progress).hasSizeGreaterThan(2).last().isSameAs(result);
+        assertThat(progress.get(0).isDone()).isFalse();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT merchant FROM expenses WHERE account_book_id = ? AND merchant LIKE '스타벅스%'",
+                String.class, bookId)).containsExactly("스타벅스 강남점", "스타벅스 강남점");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT category FROM expenses WHERE account_book_id = ? AND merchant = '쿠팡'",
+                String.class, bookId)).isEqualTo("SHOPPING");
+
+        ExpenseImportProgress again = importStatement(userId, bookId, new ArrayList<>());
+        assertThat(again.getImported()).isZero();
+        assertThat(again.getDuplicates()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM expenses WHERE account_book_id = ?",
+                Long.class, bookId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 키의 행이 청크 경계에 걸쳐 있어도 앞 청크에서 저장한 행을 기존 지출로 세지 않는다")
+    void importCsv_countsDuplicatesAcrossChunkBoundary() throws IOException {
+        UUID[] ids = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = User.builder()
+                    .email("import-" + UUID.randomUUID() + "@moneyflow.test")
+                    .nickname("가져오기")
+                    .build();
+            entityManager.persist(user);
+            AccountBook book = AccountBook.builder().name("청크 경계").bookType(BookType.DEFAULT).createdBy(user).build();
+            entityManager.persist(book);
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), user.getUserId()))
+                    .accountBook(book)
+                    .user(user)
+                    .build());
+            // 택시 3건 중 1건은 이미 앱에 입력
+            entityManager.persist(Expense.builder()
+                    .user(user)
+                    .accountBook(book)
+                    .amount(new BigDecimal("8000"))
+                    .date(LocalDate.of(2025, 3, 5))
+                    .category("TRANSPORT")
+                    .merchant("택시")
+                    .build());
+            return new UUID[]{user.getUserId(), book.getAccountBookId()};
+        });
+        // 청크 크기 2: [편의점, 택시] [택시, 택시]
+        String statement = String.join("\r\n",
+                "거래일자,가맹점명,이용금액,비고",
+                "2025.03.05,편의점,3000,",
+                "2025.03.05,택시,8000,",
+                "2025.03.05,택시,8000,",
+                "2025.03.05,택시,8000,",
+                "");
+
+        ExpenseImportProgress result = importStatement(ids[0], ids[1], statement, new ArrayList<>());
+
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM expenses WHERE account_book_id = ? AND merchant = '택시'",
+                Long.class, ids[1])).isEqualTo(3);
+
+        ExpenseImportProgress again = importStatement(ids[0], ids[1], statement, new ArrayList<>());
+        assertThat(again.getImported()).isZero();
+        assertThat(again.getDuplicates()).isEqualTo(4);
+    }
+
+    private ExpenseImportProgress importStatement(UUID userId, UUID bookId, List<ExpenseImportProgress> progress)
+            throws IOException {
+        return importStatement(userId, bookId, STATEMENT, progress);
+    }
+
+    private ExpenseImportProgress importStatement(UUID userId, UUID bookId, String statement,
+                                                  List<ExpenseImportProgress> progress) throws IOException {
+        ExpenseImportMapping mapping = ExpenseImportMapping.builder()
+                .date("거래일자")
+                .merchant("가맹점명")
+                .amount("이용금액")
+                .memo("비고")
+                .charset("EUC-KR")
+                .build();
+        byte[] bytes = statement.getBytes(Charset.forName("EUC-KR"));
+        ExpenseImportService.Session session = expenseImportService.open(
+                userId, bookId, new ByteArrayInputStream(bytes), mapping);
+        return expenseImportService.run(session, progress::add);
+    }
+}
@@ -0,0 +1,161 @@
+package com.moneyflow.domain.expense;
+
+import com.moneyflow.dto.request.ExpenseSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
+import com.moneyflow.support.CapturingStatementInspector;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지출 동적 검색 쿼리의 인덱스 사용 검증 (PostgreSQL EXPLAIN)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+class ExpenseSearchIndexUsageTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private static final String KEYSET_INDEX = "idx_expenses_user_keyset";
+    private static final String CATEGORY_INDEX = "idx_expenses_user_category_date";
+    private static final String MERCHANT_PREFIX_INDEX = "idx_expenses_user_merchant_prefix";
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerProperties(registry);
+    }
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PostgresExplainSupport.applyIndexMigrations(entityManager,
+                "V20__Add_keyset_pagination_indexes.sql",
+                "V21__Add_search_filter_indexes.sql");
+        seed();
+    }
+
+    /**
+     * 실제와 비슷한 분포의 데이터 + 통계 (빈 테이블에서는 플래너가 아무 인덱스나 고름)
+     * 사용자 50명 × 1,000건, 약 5년 기간, 카테고리 12종, 가맹점 500곳 (스타벅스는 드묾)
+     */
+    private void seed() {
+        entityManager.createNativeQuery("""
+                INSERT INTO users (user_id, nickname, email)
+                SELECT CASE WHEN i = 0 THEN CAST(:userId AS uuid) ELSE gen_random_uuid() END,
+                       'u' || i, 'index-' || i || '-' || gen_random_uuid() || '@moneyflow.test'
+                  FROM generate_series(0, 49) i
+                """).setParameter("userId", USER_ID.toString()).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO expenses (expense_id, user_id, amount, date, category, merchant, payment_method, change_seq)
+                SELECT gen_random_uuid(), u.user_id, (i % 100 + 1) * 1000, DATE '2021-01-01' + (i * 7 % 1800),
+                       (ARRAY['FOOD','CAFE_SNACK','SHOPPING','TRANSPORT','LIVING','HOUSING',
+                              'MEDICAL','EDUCATION','CULTURE','TRAVEL','GIFT','ETC'])[i % 12 + 1],
+                       CASE WHEN i % 500 = 0 THEN '스타벅스 ' || (i % 7) ELSE '가맹점 ' || (i % 499) END,
+                       CASE WHEN i % 3 = 0 THEN 'CASH' ELSE 'CARD' END, 0
+                  FROM users u
+                  CROSS JOIN generate_series(1, 1000) i
+                """).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE users, expenses").executeUpdate();
+    }
+
+    /**
+     * 조건 조합 + 가장 선택도가 높은 조건에 맞춰 기대하는 인덱스
+     */
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+                Arguments.of("기간만", base().build(), KEYSET_INDEX),
+                Arguments.of("단일 카테고리", base().categories(List.of("FOOD")).build(), CATEGORY_INDEX),
+                Arguments.of("복수 카테고리", base().categories(List.of("FOOD", "CAFE_SNACK", "SHOPPING")).build(),
+                        CATEGORY_INDEX),
+                Arguments.of("금액 범위", base().minAmount(new BigDecimal("10000"))
+                        .maxAmount(new BigDecimal("50000")).build(), KEYSET_INDEX),
+                Arguments.of("결제 수단", base().paymentMethod("CARD").build(), KEYSET_INDEX),
+                Arguments.of("가맹점 접두사", base().merchantPrefix("스타벅스").build(), MERCHANT_PREFIX_INDEX),
+                Arguments.of("전체 조건", base().categories(List.of("FOOD", "CAFE_SNACK"))
+                        .minAmount(new BigDecimal("1000")).maxAmount(new BigDecimal("90000"))
+                        .paymentMethod("CARD").merchantPrefix("스타").build(), MERCHANT_PREFIX_INDEX));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("목록 페이지 쿼리는 조건 조합과 무관하게 인덱스를 사용한다")
+    void searchPage_usesIndexScan(String name, ExpenseSearchCondition condition, String expectedIndex) {
+        expenseRepository.search(ExpenseSpecifications.matches(condition), 51);
+
+        assertIndexScan(CapturingStatementInspector.lastSelect(), expectedIndex);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("커서 이후 페이지 쿼리도 인덱스를 사용한다")
+    void searchPageAfterCursor_usesIndexScan(String name, ExpenseSearchCondition condition, String expectedIndex) {
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2025, 6, 30), LocalDateTime.now(), UUID.randomUUID());
+        Specification<Expense> spec = ExpenseSpecifications.matches(condition)
+                .and(ExpenseSpecifications.after(cursor));
+
+        expenseRepository.search(spec, 51);
+
+        assertIndexScan(CapturingStatementInspector.lastSelect(), expectedIndex);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("합계/건수 집계 쿼리도 인덱스를 사용한다")
+    void summarize_usesIndexScan(String name, ExpenseSearchCondition condition, String expectedIndex) {
+        expenseRepository.summarize(ExpenseSpecifications.matches(condition));
+
+        assertIndexScan(CapturingStatementInspector.lastSelect(), expectedIndex);
+    }
+
+    private void assertIndexScan(String sql, String expectedIndex) {
+        assertThat(sql).isNotNull().doesNotContainIgnoringCase("is null or");
+
+        String plan = PostgresExplainSupport.explain(entityManager, sql);
+
+        assertThat(plan)
+                .containsPattern("Index (Only )?Scan|Bitmap Index Scan")
+                .contains(expectedIndex)
+                .doesNotContain("Seq Scan on expenses");
+        if (MERCHANT_PREFIX_INDEX.equals(expectedIndex)) {
+            // 접두사 조건이 필터가 아니라 인덱스 탐색 범위로 쓰여야 함
+            assertThat(plan).containsPattern("Index Cond: .*merchant\\)::text ~>=~");
+        }
+    }
+
+    private static ExpenseSearchCondition.ExpenseSearchConditionBuilder base() {
+        return ExpenseSearchCondition.builder()
+                .userId(USER_ID)
+                .startDate(START)
+                .endDate(END);
+    }
+}
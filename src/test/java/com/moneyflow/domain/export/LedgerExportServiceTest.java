@@ -0,0 +1,256 @@
+package com.moneyflow.domain.export;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 데이터 내보내기 검증 (fetch size보다 많은 행을 커서로 나눠 읽어 ZIP에 쓰는지 확인)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({LedgerExportService.class, LedgerExportRepository.class})
+class LedgerExportServiceTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("export.fetch-size", () -> 3);
+        registry.add("export.max-concurrent", () -> 1);
+        registry.add("export.statement-timeout", () -> "2s");
+        registry.add("export.idle-timeout", () -> "5s");
+    }
+
+    @Autowired
+    private LedgerExportService ledgerExportService;
+
+    @Autowired
+    private LedgerExportRepository ledgerExportRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("장부 내보내기: 테이블별 CSV를 ZIP으로 묶고, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다")
+    void export_accountBookAsCsv() throws IOException {
+        Fixture fixture = inTransaction(() -> {
+            User owner = persistUser("export-owner");
+            User member = persistUser("export-member");
+            AccountBook book = persistBook(owner);
+            addMember(book, owner);
+            addMember(book, member);
+            for (int i = 0; i < 10; i++) {
+                persistExpense(i % 2 == 0 ? owner : member, book, "메모 " + i);
+            }
+            persistExpense(owner, book, "쉼표, \"따옴표\"\n줄바꿈");
+            persistIncome(owner, book);
+            persistExpense(owner, persistBook(owner), "다른 장부");
+            return new Fixture(owner.getUserId(), book.getAccountBookId());
+        });
+
+        Map<String, String> files = unzip(export(fixture.userId(), fixture.accountBookId(), ExportFormat.CSV));
+
+        assertThat(files.keySet()).containsExactly(
+                "expenses.csv", "incomes.csv", "recurring_expenses.csv", "assets.csv", "budgets.csv");
+        String expenses = files.get("expenses.csv");
+        assertThat(expenses).startsWith("\uFEFFexpense_id,account_book_id,user_id,");
+        // 헤더 + 지출 11건 (다른 장부 제외), 따옴표 안의 줄바꿈은 행 구분이 아님
+        assertThat(expenses.split("\r\n")).hasSize(12);
+        assertThat(expenses).contains("\"쉼표, \"\"따옴표\"\"\n줄바꿈\"").doesNotContain("다른 장부");
+        assertThat(files.get("incomes.csv").split("\r\n")).hasSize(2);
+        assertThat(files.get("assets.csv")).isEqualTo("\uFEFFasset_id,account_book_id,user_id,name,category,amount,memo,created_at\r\n");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"=HYPERLINK(\"http://evil\")", "+1+1", "-2+3", "@SUM(A1)", "\t=1", "\r=1"})
+    @DisplayName("수식으로 해석되는 문자로 시작하는 문자열은 '를 붙여 따옴표로 감싸고, 숫자는 그대로 둔다")
+    void csvField_neutralizesFormulas(String value) {
+        assertThat(LedgerExportService.csvField(value))
+                .isEqualTo("\"'" + value.replace("\"", "\"\"") + "\"");
+        assertThat(LedgerExportService.csvField(new BigDecimal("-1500.00"))).isEqualTo("-1500.00");
+        assertThat(LedgerExportService.csvField("점심 -1")).isEqualTo("점심 -1");
+    }
+
+    @Test
+    @DisplayName("사용자 내보내기: 장부와 무관하게 본인이 등록한 내역만 JSON 배열로 내보낸다")
+    void export_userAsJson() throws IOException {
+        Fixture fixture = inTransaction(() -> {
+            User owner = persistUser("export-json");
+            User member = persistUser("export-json-member");
+            AccountBook book = persistBook(owner);
+            persistExpense(owner, book, "내 지출");
+            persistExpense(owner, persistBook(owner), "다른 장부 지출");
+            persistExpense(member, book, "다른 사람 지출");
+            return new Fixture(owner.getUserId(), book.getAccountBookId());
+        });
+
+        Map<String, String> files = unzip(export(fixture.userId(), null, ExportFormat.JSON));
+
+        String expenses = files.get("expenses.json");
+        assertThat(expenses).startsWith("[{\"expense_id\":\"")
+                .contains("\"amount\":5000.00", "\"memo\":\"내 지출\"", "\"memo\":\"다른 장부 지출\"")
+                .doesNotContain("다른 사람 지출");
+        assertThat(files.get("budgets.json")).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("장부 멤버가 아니면 내보내기 전에 거부한다")
+    void validateAccess_rejectsNonMember() {
+        UUID accountBookId = inTransaction(() -> persistBook(persistUser("export-other")).getAccountBookId());
+
+        assertThatThrownBy(() -> ledgerExportService.validateAccess(UUID.randomUUID(), accountBookId))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 수를 넘으면 기다리지 않고 거부하고, 자리를 반납하면 다시 받는다")
+    void acquireSlot_rejectsWhenFull() {
+        LedgerExportService.ExportSlot slot = ledgerExportService.acquireSlot();
+
+        assertThatThrownBy(() -> ledgerExportService.acquireSlot())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EXPORT_BUSY);
+
+        slot.close();
+        slot.close();
+        try (LedgerExportService.ExportSlot again = ledgerExportService.acquireSlot()) {
+            assertThatThrownBy(() -> ledgerExportService.acquireSlot()).isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기 타임아웃은 해당 트랜잭션에만 적용되고 연결 풀로 돌아갈 때는 원래 값이다")
+    void applySessionTimeouts_isTransactionLocal() {
+        String defaultIdleTimeout = jdbcTemplate.queryForObject("SHOW idle_in_transaction_session_timeout", String.class);
+
+        String applied = inTransaction(() -> {
+            ledgerExportRepository.applySessionTimeouts(Duration.ofSeconds(2), Duration.ofSeconds(5));
+            return jdbcTemplate.queryForObject("SHOW statement_timeout", String.class) + "/"
+                    + jdbcTemplate.queryForObject("SHOW idle_in_transaction_session_timeout", String.class);
+        });
+
+        assertThat(applied).isEqualTo("2s/5s");
+        assertThat(jdbcTemplate.queryForObject("SHOW idle_in_transaction_session_timeout", String.class))
+                .isEqualTo(defaultIdleTimeout);
+    }
+
+    private byte[] export(UUID userId, UUID accountBookId, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ledgerExportService.export(userId, accountBookId, format, out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> files = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                files.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private AccountBook persistBook(User owner) {
+        AccountBook book = AccountBook.builder().name("내보내기 장부").bookType(BookType.DEFAULT).createdBy(owner).build();
+        entityManager.persist(book);
+        return book;
+    }
+
+    private void addMember(AccountBook book, User user) {
+        entityManager.persist(AccountBookMember.builder()
+                .id(new AccountBookMemberId(book.getAccountBookId(), user.getUserId()))
+                .accountBook(book)
+                .user(user)
+                .build());
+    }
+
+    private void persistExpense(User user, AccountBook book, String memo) {
+        entityManager.persist(Expense.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal("5000"))
+                .date(LocalDate.of(2025, 3, 1))
+                .category("FOOD")
+                .merchant("가맹점")
+                .memo(memo)
+                .build());
+    }
+
+    private void persistIncome(User user, AccountBook book) {
+        entityManager.persist(Income.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal("100000"))
+                .date(LocalDate.of(2025, 3, 1))
+                .source("급여")
+                .build());
+    }
+
+    private record Fixture(UUID userId, UUID accountBookId) {
+    }
+}
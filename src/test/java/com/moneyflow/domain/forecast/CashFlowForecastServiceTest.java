@@ -0,0 +1,208 @@
+package com.moneyflow.domain.forecast;
+
+import com.moneyflow.config.ForecastConfig;
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.AccountBookVersionService;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.recurringexpense.RecurringExpense;
+import com.moneyflow.domain.recurringexpense.RecurringType;
+import com.moneyflow.domain.sync.ChangeSequencer;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.response.CashFlowForecastResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 현금 흐름 예측 집계 쿼리 + 장부 버전 기반 캐시 무효화 검증
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CashFlowForecastService.class, AccountBookVersionService.class, ChangeSequencer.class, ForecastConfig.class})
+class CashFlowForecastServiceTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+    }
+
+    @Autowired
+    private CashFlowForecastService cashFlowForecastService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("고정비 일정과 지난 3개월 평균으로 월말 잔액을 잇고, 지출/고정비 쓰기 후에는 다시 읽는다")
+    void forecast_projectsBalancesAndReloadsAfterWrites() {
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+        LocalDate anchor = today.getDayOfMonth() <= 25 ? currentMonth.atDay(25) : currentMonth.plusMonths(1).atDay(25);
+
+        UUID[] ids = inTransaction(() -> {
+            User owner = persistUser("forecast-owner");
+            User outsider = persistUser("forecast-outsider");
+            AccountBook book = AccountBook.builder().name("예측").bookType(BookType.DEFAULT).createdBy(owner).build();
+            book.setInitialBalance(new BigDecimal("1000000"));
+            entityManager.persist(book);
+            entityManager.persist(AccountBookMember.builder()
+                    .id(new AccountBookMemberId(book.getAccountBookId(), owner.getUserId()))
+                    .accountBook(book)
+                    .user(owner)
+                    .build());
+
+            // 지난 3개월 FOOD 300,000 → 월 평균 100,000 / 이번 달 40,000 사용
+            persistExpense(owner, book, "FOOD", "300000", currentMonth.minusMonths(1).atDay(1));
+            persistExpense(owner, book, "FOOD", "40000", currentMonth.atDay(1));
+            // 평균 구간 이전 지출은 잔액에만 반영
+            persistExpense(owner, book, "TRAVEL", "60000", currentMonth.minusMonths(5).atDay(1));
+            entityManager.persist(Income.builder()
+                    .user(owner)
+                    .accountBook(book)
+                    .amount(new BigDecimal("900000"))
+                    .date(currentMonth.minusMonths(2).atDay(10))
+                    .source("급여")
+                    .build());
+            entityManager.persist(RecurringExpense.builder()
+                    .user(owner)
+                    .accountBook(book)
+                    .name("월세")
+                    .amount(new BigDecimal("50000"))
+                    .category("HOUSING")
+                    .recurringType(RecurringType.MONTHLY)
+                    .startDate(anchor.minusMonths(6))
+                    .dayOfMonth(25)
+                    .nextPaymentDate(anchor)
+                    .build());
+            return new UUID[]{owner.getUserId(), outsider.getUserId(), book.getAccountBookId()};
+        });
+        UUID ownerId = ids[0];
+        UUID bookId = ids[2];
+        jdbcTemplate.update("UPDATE account_books SET created_at = ? WHERE account_book_id = ?",
+                currentMonth.minusMonths(6).atDay(1).atStartOfDay(), bookId);
+
+        CashFlowForecastResponse forecast = cashFlowForecastService.forecast(ownerId, bookId, 3);
+
+        assertThat(forecast.getTrailingMonths()).isEqualTo(3);
+        assertThat(forecast.getCurrentBalance()).isEqualByComparingTo("1500000");
+        assertThat(forecast.getMonthlyIncomeAverage()).isEqualByComparingTo("300000");
+        assertThat(forecast.getCategories())
+                .singleElement()
+                .satisfies(trend -> {
+                    assertThat(trend.getCategory()).isEqualTo("FOOD");
+                    assertThat(trend.getMonthlyAverage()).isEqualByComparingTo("100000");
+                    assertThat(trend.getCurrentMonthSpent()).isEqualByComparingTo("40000");
+                });
+
+        assertThat(forecast.getMonths()).hasSize(3);
+        CashFlowForecastResponse.MonthForecast thisMonth = forecast.getMonths().get(0);
+        assertThat(thisMonth.getVariableExpense()).isEqualByComparingTo("60000");
+        assertThat(thisMonth.getPayments()).hasSize(anchor.getMonth() == today.getMonth() ? 1 : 0);
+        CashFlowForecastResponse.MonthForecast nextMonth = forecast.getMonths().get(1);
+        assertThat(nextMonth.getProjectedIncome()).isEqualByComparingTo("300000");
+        assertThat(nextMonth.getVariableExpense()).isEqualByComparingTo("100000");
+        assertThat(nextMonth.getRecurringExpense()).isEqualByComparingTo("50000");
+        assertThat(nextMonth.getPayments())
+                .extracting(CashFlowForecastResponse.ScheduledPayment::getDate)
+                .containsExactly(currentMonth.plusMonths(1).atDay(25));
+        for (int i = 0; i < 3; i++) {
+            CashFlowForecastResponse.MonthForecast month = forecast.getMonths().get(i);
+            assertThat(month.getClosingBalance()).isEqualByComparingTo(month.getOpeningBalance()
+                    .add(month.getProjectedIncome())
+                    .subtract(month.getRecurringExpense())
+                    .subtract(month.getVariableExpense()));
+            if (i > 0) {
+                assertThat(month.getOpeningBalance())
+                        .isEqualByComparingTo(forecast.getMonths().get(i - 1).getClosingBalance());
+            }
+        }
+
+        // 지출 쓰기 → 장부 버전 변경 → 다시 읽음
+        inTransaction(() -> {
+            persistExpense(entityManager.getReference(User.class, ownerId),
+                    entityManager.getReference(AccountBook.class, bookId), "FOOD", "20000", currentMonth.atDay(1));
+            return null;
+        });
+        CashFlowForecastResponse afterExpense = cashFlowForecastService.forecast(ownerId, bookId, 3);
+        assertThat(afterExpense.getCurrentBalance()).isEqualByComparingTo("1480000");
+        assertThat(afterExpense.getMonths().get(0).getVariableExpense()).isEqualByComparingTo("40000");
+
+        // 고정비 종료 → 다음 달부터 결제 없음
+        inTransaction(() -> {
+            entityManager.createQuery("SELECT r FROM RecurringExpense r WHERE r.accountBook.accountBookId = :bookId",
+                            RecurringExpense.class)
+                    .setParameter("bookId", bookId)
+                    .getSingleResult()
+                    .setEndDate(currentMonth.atEndOfMonth());
+            return null;
+        });
+        CashFlowForecastResponse afterRecurring = cashFlowForecastService.forecast(ownerId, bookId, 3);
+        assertThat(afterRecurring.getMonths().get(1).getRecurringExpense()).isEqualByComparingTo("0");
+
+        assertThatThrownBy(() -> cashFlowForecastService.forecast(ids[1], bookId, 3))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ACCOUNT_BOOK_ACCESS_DENIED);
+    }
+
+    private void persistExpense(User user, AccountBook book, String category, String amount, LocalDate date) {
+        entityManager.persist(Expense.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category(category)
+                .build());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
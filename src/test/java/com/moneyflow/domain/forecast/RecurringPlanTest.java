@@ -0,0 +1,65 @@
+package com.moneyflow.domain.forecast;
+
+import com.moneyflow.domain.recurringexpense.RecurringType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurringPlanTest {
+
+    @Test
+    @DisplayName("매월 31일 결제는 짧은 달에 말일로 당겨지고, 종료일 이후와 다음 결제일 이전은 제외된다")
+    void monthly_clampsToMonthEndWithinBounds() {
+        RecurringPlan plan = plan(RecurringType.MONTHLY, 31, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 4, 30));
+
+        assertThat(plan.occurrences(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 12, 31)))
+                .containsExactly(
+                        LocalDate.of(2025, 1, 31),
+                        LocalDate.of(2025, 2, 28),
+                        LocalDate.of(2025, 3, 31),
+                        LocalDate.of(2025, 4, 30));
+    }
+
+    @Test
+    @DisplayName("매주 결제는 다음 결제일부터 7일 간격으로 구간 안의 날짜만 계산한다")
+    void weekly_stepsFromAnchor() {
+        RecurringPlan plan = plan(RecurringType.WEEKLY, null, LocalDate.of(2025, 3, 3), null);
+
+        assertThat(plan.occurrences(LocalDate.of(2025, 3, 12), LocalDate.of(2025, 3, 31)))
+                .containsExactly(
+                        LocalDate.of(2025, 3, 17),
+                        LocalDate.of(2025, 3, 24),
+                        LocalDate.of(2025, 3, 31));
+        // 몇 년 뒤 구간도 앞에서부터 세지 않고 바로 계산
+        assertThat(plan.occurrences(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 10)))
+                .hasSize(1)
+                .allMatch(date -> date.getDayOfWeek() == LocalDate.of(2025, 3, 3).getDayOfWeek());
+    }
+
+    @Test
+    @DisplayName("매년 2월 29일 결제는 평년에 2월 28일로 계산한다")
+    void yearly_handlesLeapDay() {
+        RecurringPlan plan = plan(RecurringType.YEARLY, null, LocalDate.of(2024, 2, 29), null);
+
+        List<LocalDate> dates = plan.occurrences(LocalDate.of(2024, 1, 1), YearMonth.of(2028, 12).atEndOfMonth());
+
+        assertThat(dates).containsExactly(
+                LocalDate.of(2024, 2, 29),
+                LocalDate.of(2025, 2, 28),
+                LocalDate.of(2026, 2, 28),
+                LocalDate.of(2027, 2, 28),
+                LocalDate.of(2028, 2, 29));
+    }
+
+    private RecurringPlan plan(RecurringType type, Integer dayOfMonth, LocalDate anchor, LocalDate endDate) {
+        return new RecurringPlan(UUID.randomUUID(), "구독", "SUBSCRIPTION", new BigDecimal("10000"),
+                type, anchor.minusMonths(1), endDate, dayOfMonth, anchor);
+    }
+}
@@ -0,0 +1,97 @@
+package com.moneyflow.domain.income;
+
+import com.moneyflow.dto.request.IncomeSearchCondition;
+import com.moneyflow.dto.request.KeysetCursor;
+import com.moneyflow.support.CapturingStatementInspector;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수입 동적 검색 쿼리의 인덱스 사용 검증 (PostgreSQL EXPLAIN)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+class IncomeSearchIndexUsageTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerProperties(registry);
+    }
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PostgresExplainSupport.applyIndexMigrations(entityManager,
+                "V20__Add_keyset_pagination_indexes.sql",
+                "V21__Add_search_filter_indexes.sql");
+    }
+
+    static Stream<Arguments> filterCombinations() {
+        IncomeSearchCondition.IncomeSearchConditionBuilder base = IncomeSearchCondition.builder()
+                .userId(USER_ID)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31));
+        return Stream.of(
+                Arguments.of("기간만", base.build()),
+                Arguments.of("단일 출처", base.sources(List.of("급여")).build()),
+                Arguments.of("복수 출처", base.sources(List.of("급여", "부수입")).build()),
+                Arguments.of("출처 + 금액 범위", base.minAmount(new BigDecimal("100000"))
+                        .maxAmount(new BigDecimal("5000000")).build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    @DisplayName("목록/커서/집계 쿼리는 조건 조합과 무관하게 인덱스를 사용한다")
+    void search_usesIndexScan(String name, IncomeSearchCondition condition) {
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2025, 6, 30), LocalDateTime.now(), UUID.randomUUID());
+
+        incomeRepository.search(IncomeSpecifications.matches(condition), 51);
+        assertIndexScan(CapturingStatementInspector.lastSelect());
+
+        incomeRepository.search(IncomeSpecifications.matches(condition).and(IncomeSpecifications.after(cursor)), 51);
+        assertIndexScan(CapturingStatementInspector.lastSelect());
+
+        incomeRepository.summarize(IncomeSpecifications.matches(condition));
+        assertIndexScan(CapturingStatementInspector.lastSelect());
+    }
+
+    private void assertIndexScan(String sql) {
+        assertThat(sql).isNotNull().doesNotContainIgnoringCase("is null or");
+
+        String plan = PostgresExplainSupport.explain(entityManager, sql);
+
+        assertThat(plan)
+                .containsPattern("Index (Only )?Scan|Bitmap Index Scan")
+                .doesNotContain("Seq Scan on incomes");
+    }
+}
@@ -0,0 +1,183 @@
+package com.moneyflow.domain.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.config.LiveEventConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class LiveEventHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LiveEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID로 다시 연결하면 놓친 이벤트만 이어서 받고, 모르는 ID면 RESYNC를 받는다")
+    void connect_resumesFromLastEventId() {
+        hub = newHub(16);
+        UUID userId = UUID.randomUUID();
+
+        RecordingEmitter first = new RecordingEmitter();
+        hub.connect(userId, null, first);
+        hub.publish(userId, expenseEvent(LiveEventType.EXPENSE_CREATED, 1L));
+        hub.publish(userId, expenseEvent(LiveEventType.EXPENSE_UPDATED, 2L));
+        // 연결이 없는 사용자에게 보낸 이벤트는 버림
+        hub.publish(UUID.randomUUID(), expenseEvent(LiveEventType.EXPENSE_CREATED, 3L));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.events().size() == 3);
+        assertThat(first.names()).containsExactly("READY", "EXPENSE_CREATED", "EXPENSE_UPDATED");
+        assertThat(first.events().get(1).data()).contains("\"changeSeq\":1").doesNotContain("title");
+
+        // 두 번째 이벤트를 받기 전에 끊긴 기기
+        RecordingEmitter resumed = new RecordingEmitter();
+        hub.connect(userId, first.events().get(1).id(), resumed);
+        await().atMost(Duration.ofSeconds(5)).until(() -> resumed.events().size() == 1);
+        assertThat(resumed.names()).containsExactly("EXPENSE_UPDATED");
+
+        RecordingEmitter unknown = new RecordingEmitter();
+        hub.connect(userId, "restarted.1:42", unknown);
+        await().atMost(Duration.ofSeconds(5)).until(() -> unknown.events().size() == 1);
+        assertThat(unknown.names()).containsExactly("RESYNC");
+        assertThat(unknown.events().get(0).id()).isEqualTo(first.events().get(2).id());
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 연결 대기열이 넘치면 그 연결만 닫고 다른 연결에는 계속 보낸다")
+    void publish_closesOverflowingConnection() throws InterruptedException {
+        hub = newHub(2);
+        UUID userId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        hub.connect(userId, null, stalled);
+        await().atMost(Duration.ofSeconds(5)).until(stalled::isSending);
+
+        for (long seq = 1; seq <= 3; seq++) {
+            hub.publish(userId, expenseEvent(LiveEventType.EXPENSE_CREATED, seq));
+        }
+        assertThat(stalled.isCompleted()).isTrue();
+        assertThat(meterRegistry.counter("moneyflow.live.overflows").count()).isEqualTo(1.0);
+        release.countDown();
+
+        RecordingEmitter healthy = new RecordingEmitter();
+        hub.connect(userId, null, healthy);
+        hub.publish(userId, expenseEvent(LiveEventType.EXPENSE_DELETED, 4L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.events().size() == 2);
+        assertThat(healthy.names()).containsExactly("READY", "EXPENSE_DELETED");
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(stalled.names()).doesNotContain("EXPENSE_DELETED");
+    }
+
+    private LiveEventHub newHub(int connectionBuffer) {
+        LiveEventConfig config = new LiveEventConfig();
+        config.setSenders(1);
+        config.setConnectionBuffer(connectionBuffer);
+        config.setReplaySize(10);
+        return new LiveEventHub(config, new ObjectMapper(), meterRegistry);
+    }
+
+    private static LiveEvent expenseEvent(LiveEventType type, long changeSeq) {
+        return LiveEvent.builder()
+                .type(type)
+                .accountBookId(UUID.randomUUID())
+                .id(UUID.randomUUID())
+                .changeSeq(changeSeq)
+                .build();
+    }
+
+    /**
+     * 보낸 SSE 이벤트를 기록하는 SseEmitter (release가 있으면 첫 전송에서 대기)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean sending;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(null);
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String text = builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            sent.add(Sent.parse(text));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        boolean isSending() {
+            return sending;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+
+        List<Sent> events() {
+            return sent.stream().filter(event -> event.name() != null).toList();
+        }
+
+        List<String> names() {
+            return events().stream().map(Sent::name).toList();
+        }
+    }
+
+    private record Sent(String id, String name, String data) {
+
+        static Sent parse(String text) {
+            String id = null;
+            String name = null;
+            String data = null;
+            for (String line : text.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            return new Sent(id, name, data);
+        }
+    }
+}
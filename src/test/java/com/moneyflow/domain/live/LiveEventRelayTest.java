@@ -0,0 +1,127 @@
+package com.moneyflow.domain.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneyflow.config.LiveEventConfig;
+import com.moneyflow.support.PostgresExplainSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 인스턴스 간 실시간 이벤트 중계 검증 (인스턴스 두 개를 LiveEventHub + LiveEventRelay 두 쌍으로 재현)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+class LiveEventRelayTest {
+
+    private final List<LiveEventHub> hubs = new ArrayList<>();
+    private final List<LiveEventRelay> relays = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        relays.forEach(LiveEventRelay::shutdown);
+        hubs.forEach(LiveEventHub::shutdown);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 보낸 이벤트를 각 인스턴스가 자기에게 연결된 수신자에게만 순서대로 전달한다")
+    void send_deliversToUsersConnectedToOtherInstances() {
+        LiveEventHub hubA = newHub();
+        LiveEventHub hubB = newHub();
+        LiveEventRelay relayA = newRelay(hubA);
+        LiveEventRelay relayB = newRelay(hubB);
+        await().atMost(Duration.ofSeconds(10)).until(() -> relayA.isListening() && relayB.isListening());
+
+        UUID owner = UUID.randomUUID();
+        UUID member = UUID.randomUUID();
+        NamesEmitter ownerOnA = new NamesEmitter();
+        NamesEmitter memberOnB = new NamesEmitter();
+        hubA.connect(owner, null, ownerOnA);
+        hubB.connect(member, null, memberOnB);
+
+        UUID accountBookId = UUID.randomUUID();
+        relayA.send(List.of(
+                new LiveEventRelay.Message(List.of(owner, member), LiveEvent.builder()
+                        .type(LiveEventType.EXPENSE_CREATED).accountBookId(accountBookId).changeSeq(7L).build()),
+                new LiveEventRelay.Message(List.of(member), LiveEvent.builder()
+                        .type(LiveEventType.NOTIFICATION_CREATED).title("예산 80% 사용").unreadCount(3L).build())));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> memberOnB.names().size() == 3);
+        assertThat(memberOnB.names()).containsExactly("READY", "EXPENSE_CREATED", "NOTIFICATION_CREATED");
+        assertThat(memberOnB.data().get(1)).contains(accountBookId.toString(), "\"changeSeq\":7");
+        assertThat(memberOnB.data().get(2)).contains("\"title\":\"예산 80% 사용\"", "\"unreadCount\":3");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> ownerOnA.names().size() == 2);
+        assertThat(ownerOnA.names()).containsExactly("READY", "EXPENSE_CREATED");
+    }
+
+    private LiveEventHub newHub() {
+        LiveEventConfig config = new LiveEventConfig();
+        config.setSenders(1);
+        LiveEventHub hub = new LiveEventHub(config, new ObjectMapper(), new SimpleMeterRegistry());
+        hubs.add(hub);
+        return hub;
+    }
+
+    private LiveEventRelay newRelay(LiveEventHub hub) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(System.getenv(PostgresExplainSupport.DB_URL_ENV));
+        properties.setUsername(System.getenv().getOrDefault("MONEYFLOW_TEST_DB_USERNAME", "postgres"));
+        properties.setPassword(System.getenv().getOrDefault("MONEYFLOW_TEST_DB_PASSWORD", "postgres"));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                properties.getUrl(), properties.getUsername(), properties.getPassword()));
+
+        LiveEventRelay relay = new LiveEventRelay(hub, new LiveEventConfig(), new ObjectMapper(), jdbcTemplate, properties);
+        relay.start();
+        relays.add(relay);
+        return relay;
+    }
+
+    /**
+     * 보낸 SSE 이벤트의 이름과 data를 기록하는 SseEmitter
+     */
+    private static final class NamesEmitter extends SseEmitter {
+
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<String> data = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            for (String line : text.split("\n")) {
+                if (line.startsWith("event:")) {
+                    names.add(line.substring("event:".length()));
+                } else if (line.startsWith("data:")) {
+                    data.add(line.substring("data:".length()));
+                }
+            }
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        List<String> data() {
+            return data;
+        }
+    }
+}
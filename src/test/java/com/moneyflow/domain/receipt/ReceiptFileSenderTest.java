@@ -0,0 +1,96 @@
+package com.moneyflow.domain.receipt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptFileSenderTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path dir;
+
+    private final ReceiptFileSender sender = new ReceiptFileSender();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(dir.resolve("receipt"), CONTENT);
+    }
+
+    @Test
+    @DisplayName("전체 조회는 해시 ETag와 장기 캐시 헤더로 응답하고, 같은 ETag로 다시 요청하면 304를 반환한다")
+    void send_fullBodyAndNotModified() throws Exception {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/api/receipts/abc"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc\"");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        conditional.addHeader("If-None-Match", "\"other\", \"abc\"");
+        MockHttpServletResponse notModified = send(conditional);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 206으로 해당 구간만 보내고, 범위를 벗어나면 416을 반환한다")
+    void send_rangeRequests() throws Exception {
+        MockHttpServletRequest ranged = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        ranged.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse partial = send(ranged);
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(partial.getContentAsString()).isEqualTo("2345");
+
+        MockHttpServletRequest suffix = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        suffix.addHeader("Range", "bytes=-3");
+        assertThat(send(suffix).getContentAsString()).isEqualTo("789");
+
+        MockHttpServletRequest outOfRange = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        outOfRange.addHeader("Range", "bytes=10-");
+        MockHttpServletResponse unsatisfiable = send(outOfRange);
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */10");
+
+        // ETag가 바뀌었으면(If-Range 불일치) 전체를 보냄
+        MockHttpServletRequest staleRange = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        staleRange.addHeader("Range", "bytes=2-5");
+        staleRange.addHeader("If-Range", "\"old\"");
+        assertThat(send(staleRange).getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("컨테이너가 sendfile을 지원하면 본문 대신 파일 경로와 구간을 요청 속성으로 넘긴다")
+    void send_delegatesToSendfile() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/receipts/abc");
+        request.setAttribute(ReceiptFileSender.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(request, response, file, CONTENT.length(), "abc", "image/jpeg");
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat(request.getAttribute(ReceiptFileSender.SENDFILE_FILENAME_ATTR)).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(ReceiptFileSender.SENDFILE_START_ATTR)).isEqualTo(4L);
+        assertThat(request.getAttribute(ReceiptFileSender.SENDFILE_END_ATTR)).isEqualTo(10L);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(request, response, file, CONTENT.length(), "abc", "image/jpeg");
+        return response;
+    }
+}
@@ -0,0 +1,34 @@
+package com.moneyflow.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlighterTest {
+
+    @Test
+    @DisplayName("부분 일치: 대소문자 무시하고 모든 일치 구간을 반환한다")
+    void highlight_allSubstringOccurrences() {
+        assertThat(SearchHighlighter.highlight("Starbucks 스타벅스 STARBUCKS", "starbucks"))
+                .containsExactly(
+                        new SearchHighlighter.Range(0, 9),
+                        new SearchHighlighter.Range(15, 24));
+        assertThat(SearchHighlighter.highlight("스타벅스 강남점", "강남"))
+                .containsExactly(new SearchHighlighter.Range(5, 7));
+    }
+
+    @Test
+    @DisplayName("오타 일치: 부분 일치가 없으면 가장 유사한 단어 하나를 반환한다")
+    void highlight_mostSimilarWordForFuzzyMatch() {
+        assertThat(SearchHighlighter.highlight("Cafe Starbucks Coffee", "starbuks"))
+                .containsExactly(new SearchHighlighter.Range(5, 14));
+    }
+
+    @Test
+    @DisplayName("유사한 단어가 없거나 값이 비어 있으면 빈 목록")
+    void highlight_noMatch() {
+        assertThat(SearchHighlighter.highlight("이마트 장보기", "starbucks")).isEmpty();
+        assertThat(SearchHighlighter.highlight(null, "starbucks")).isEmpty();
+    }
+}
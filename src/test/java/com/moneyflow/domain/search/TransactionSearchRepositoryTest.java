@@ -0,0 +1,199 @@
+package com.moneyflow.domain.search;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.request.SearchCursor;
+import com.moneyflow.support.PostgresExplainSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 트라이그램 검색 검증 (PostgreSQL pg_trgm)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Import(TransactionSearchRepository.class)
+class TransactionSearchRepositoryTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerProperties(registry);
+    }
+
+    @Autowired
+    private TransactionSearchRepository transactionSearchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User me;
+    private AccountBook myBook;
+    private AccountBook othersBook;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PostgresExplainSupport.applyIndexMigrations(entityManager,
+                "V22__Add_trigram_search_indexes.sql");
+
+        me = persistUser("me@test.com");
+        User other = persistUser("other@test.com");
+        myBook = persistBook(me);
+        othersBook = persistBook(other);
+
+        persistExpense(myBook, me, "스타벅스 강남점", "아이스 아메리카노", LocalDate.of(2024, 3, 1));
+        persistExpense(myBook, me, "Starbucks Coffee", null, LocalDate.of(2023, 7, 15));
+        persistExpense(myBook, me, "이마트", "스타벅스 원두 구매", LocalDate.of(2025, 1, 10));
+        persistExpense(myBook, me, "GS25", "간식", LocalDate.of(2025, 2, 1));
+        persistExpense(othersBook, other, "스타벅스 역삼점", null, LocalDate.of(2025, 2, 1));
+        persistIncome(myBook, me, "SALARY", "스타트업 월급", LocalDate.of(2025, 1, 25));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("부분 일치 검색은 참여 중인 장부의 가맹점명/메모에서 찾고 가맹점 일치를 우선한다")
+    void search_substring_rankedAndScoped() {
+        List<TransactionSearchRow> rows = transactionSearchRepository.search(
+                me.getUserId(), null, "스타벅스", SearchTarget.ALL, null, 10);
+
+        assertThat(rows).extracting(TransactionSearchRow::title)
+                .containsExactly("스타벅스 강남점", "이마트");
+        assertThat(rows.get(0).score()).isGreaterThan(rows.get(1).score());
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 단어 유사도로 검색된다")
+    void search_fuzzy() {
+        List<TransactionSearchRow> rows = transactionSearchRepository.search(
+                me.getUserId(), null, "starbuks", SearchTarget.EXPENSE, null, 10);
+
+        assertThat(rows).extracting(TransactionSearchRow::title)
+                .containsExactly("Starbucks Coffee");
+    }
+
+    @Test
+    @DisplayName("수입은 출처/설명에서 검색되고 장부를 지정하면 해당 장부로 한정된다")
+    void search_incomesWithinBook() {
+        List<TransactionSearchRow> rows = transactionSearchRepository.search(
+                me.getUserId(), myBook.getAccountBookId(), "스타트업", SearchTarget.INCOME, null, 10);
+
+        assertThat(rows).extracting(TransactionSearchRow::type).containsExactly("INCOME");
+
+        List<TransactionSearchRow> othersRows = transactionSearchRepository.search(
+                me.getUserId(), othersBook.getAccountBookId(), "스타벅스", SearchTarget.ALL, null, 10);
+        assertThat(othersRows).extracting(TransactionSearchRow::title).containsExactly("스타벅스 역삼점");
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 누락/중복 없이 전체 결과를 순회한다")
+    void search_cursorPagination() {
+        List<TransactionSearchRow> all = transactionSearchRepository.search(
+                me.getUserId(), null, "스타", SearchTarget.ALL, null, 100);
+
+        List<TransactionSearchRow> paged = new ArrayList<>();
+        SearchCursor cursor = null;
+        while (true) {
+            List<TransactionSearchRow> page = transactionSearchRepository.search(
+                    me.getUserId(), null, "스타", SearchTarget.ALL, cursor, 1);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(page);
+            TransactionSearchRow last = page.get(0);
+            cursor = SearchCursor.decode(new SearchCursor(last.score(), last.date(), last.id()).encode());
+        }
+
+        assertThat(all).hasSize(3);
+        assertThat(paged).extracting(TransactionSearchRow::id)
+                .containsExactlyElementsOf(all.stream().map(TransactionSearchRow::id).toList());
+    }
+
+    @Test
+    @DisplayName("검색 조건은 트라이그램 GIN 인덱스로 처리된다")
+    void search_usesTrigramIndex() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        long before = indexScans("idx_expenses_merchant_trgm");
+
+        transactionSearchRepository.search(me.getUserId(), null, "스타벅스", SearchTarget.EXPENSE, null, 10);
+
+        assertThat(indexScans("idx_expenses_merchant_trgm")).isGreaterThan(before);
+    }
+
+    private long indexScans(String indexName) {
+        Object value = entityManager.createNativeQuery(
+                        "SELECT pg_stat_get_xact_numscans(CAST(:name AS regclass))")
+                .setParameter("name", indexName)
+                .getSingleResult();
+        return ((Number) value).longValue();
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder().email(email).nickname("tester").build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private AccountBook persistBook(User owner) {
+        AccountBook book = AccountBook.builder()
+                .name("생활비")
+                .bookType(BookType.DEFAULT)
+                .createdBy(owner)
+                .build();
+        entityManager.persist(book);
+        entityManager.persist(AccountBookMember.builder()
+                .id(new AccountBookMemberId(book.getAccountBookId(), owner.getUserId()))
+                .accountBook(book)
+                .user(owner)
+                .build());
+        return book;
+    }
+
+    private void persistExpense(AccountBook book, User user, String merchant, String memo, LocalDate date) {
+        entityManager.persist(Expense.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal("5000"))
+                .date(date)
+                .category("FOOD")
+                .merchant(merchant)
+                .memo(memo)
+                .build());
+    }
+
+    private void persistIncome(AccountBook book, User user, String source, String description, LocalDate date) {
+        entityManager.persist(Income.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal("3000000"))
+                .date(date)
+                .source(source)
+                .description(description)
+                .build());
+    }
+}
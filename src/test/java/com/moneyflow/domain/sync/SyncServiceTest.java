@@ -0,0 +1,293 @@
+package com.moneyflow.domain.sync;
+
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.expense.ExpenseService;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.income.IncomeService;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.dto.request.ExpenseRequest;
+import com.moneyflow.dto.request.IncomeRequest;
+import com.moneyflow.dto.request.SyncRequest;
+import com.moneyflow.dto.request.SyncRequest.Mutation;
+import com.moneyflow.dto.request.SyncRequest.Operation;
+import com.moneyflow.dto.response.SyncResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.service.CategoryClassifier;
+import com.moneyflow.service.RecurringExpenseMatchingService;
+import com.moneyflow.support.PostgresExplainSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오프라인 동기화 검증 (변경 순번, 삭제 기록, 충돌 감지, 페이지 분할)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SyncService.class, SyncChangeRepository.class, ChangeSequencer.class,
+        ExpenseService.class, IncomeService.class, CategoryClassifier.class, RecurringExpenseMatchingService.class,
+        BusinessMetrics.class, SyncServiceTest.MetricsConfig.class})
+class SyncServiceTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("sync.page-size", () -> 3);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("반영한 로컬 변경과 since 이후 변경분만 돌려주고, 다른 기기에서 먼저 수정한 행은 충돌로 알린다")
+    void sync_appliesMutationsAndReturnsOnlyChanges() {
+        Fixture fixture = inTransaction(() -> {
+            User user = persistUser("sync");
+            AccountBook book = persistBook(user);
+            return new Fixture(user.getUserId(), book.getAccountBookId());
+        });
+        UUID userId = fixture.userId();
+        UUID bookId = fixture.accountBookId();
+
+        SyncResponse initial = syncService.pull(userId, bookId, null);
+        assertThat(initial.isReset()).isTrue();
+        assertThat(initial.getExpenses()).isEmpty();
+
+        // 기기 A: 오프라인에서 지출 1건, 수입 1건 생성
+        SyncResponse created = syncService.sync(userId, request(bookId, initial.getCursor(),
+                createExpense("e1", "5000", "스타벅스"),
+                Mutation.builder().clientId("i1").type(SyncEntityType.INCOME).op(Operation.CREATE)
+                        .income(IncomeRequest.builder().amount(new BigDecimal("100000"))
+                                .date(LocalDate.of(2025, 3, 1)).source("급여").build())
+                        .build()));
+
+        assertThat(created.getApplied()).extracting(SyncResponse.Applied::getClientId).containsExactly("e1", "i1");
+        assertThat(created.getApplied()).allSatisfy(applied -> assertThat(applied.getChangeSeq()).isPositive());
+        assertThat(created.getExpenses()).singleElement()
+                .satisfies(expense -> assertThat(expense.getMerchant()).isEqualTo("스타벅스"));
+        assertThat(created.getIncomes()).hasSize(1);
+        assertThat(created.getCursor()).isEqualTo(created.getApplied().get(1).getChangeSeq());
+        UUID expenseId = created.getApplied().get(0).getId();
+        long expenseSeq = created.getApplied().get(0).getChangeSeq();
+
+        // 변경이 없으면 빈 응답, cursor 유지
+        SyncResponse idle = syncService.pull(userId, bookId, created.getCursor());
+        assertThat(idle.getExpenses()).isEmpty();
+        assertThat(idle.getIncomes()).isEmpty();
+        assertThat(idle.getCursor()).isEqualTo(created.getCursor());
+
+        // 기기 A가 먼저 수정
+        SyncResponse updated = syncService.sync(userId, request(bookId, created.getCursor(),
+                updateExpense("a-edit", expenseId, expenseSeq, "6000")));
+        assertThat(updated.getConflicts()).isEmpty();
+        assertThat(updated.getExpenses()).singleElement()
+                .satisfies(expense -> assertThat(expense.getAmount()).isEqualByComparingTo("6000"));
+        long updatedSeq = updated.getExpenses().get(0).getChangeSeq();
+        assertThat(updatedSeq).isGreaterThan(expenseSeq);
+
+        // 기기 B는 예전 순번을 기준으로 수정 → 충돌, 서버 값 유지
+        SyncResponse stale = syncService.sync(userId, request(bookId, created.getCursor(),
+                updateExpense("b-edit", expenseId, expenseSeq, "7000")));
+        assertThat(stale.getApplied()).isEmpty();
+        assertThat(stale.getConflicts()).singleElement().satisfies(conflict -> {
+            assertThat(conflict.getClientId()).isEqualTo("b-edit");
+            assertThat(conflict.getReason()).isEqualTo("MODIFIED");
+            assertThat(conflict.getServerSeq()).isEqualTo(updatedSeq);
+        });
+        assertThat(stale.getExpenses()).singleElement()
+                .satisfies(expense -> assertThat(expense.getAmount()).isEqualByComparingTo("6000"));
+
+        // 삭제는 삭제 기록으로 전달
+        SyncResponse deleted = syncService.sync(userId, request(bookId, updated.getCursor(),
+                Mutation.builder().clientId("del").type(SyncEntityType.EXPENSE).op(Operation.DELETE)
+                        .id(expenseId).baseSeq(updatedSeq).build()));
+        assertThat(deleted.getExpenses()).isEmpty();
+        assertThat(deleted.getDeleted()).singleElement().satisfies(deletion -> {
+            assertThat(deletion.getType()).isEqualTo(SyncEntityType.EXPENSE);
+            assertThat(deletion.getId()).isEqualTo(expenseId);
+            assertThat(deletion.getChangeSeq()).isEqualTo(deleted.getApplied().get(0).getChangeSeq());
+        });
+    }
+
+    @Test
+    @DisplayName("다른 장부로 옮긴 행은 원래 장부에 삭제로 보이고, 변경이 많으면 순번 순서대로 나눠 보낸다")
+    void pull_reportsTransfersAndPagesBySequence() {
+        Fixture fixture = inTransaction(() -> {
+            User user = persistUser("sync-page");
+            AccountBook book = persistBook(user);
+            return new Fixture(user.getUserId(), book.getAccountBookId());
+        });
+        UUID userId = fixture.userId();
+        UUID bookId = fixture.accountBookId();
+
+        SyncResponse created = syncService.sync(userId, request(bookId, 0L,
+                createExpense("e1", "1000", "GS25"),
+                createExpense("e2", "2000", "CU"),
+                createExpense("e3", "3000", "이마트"),
+                createExpense("e4", "4000", "쿠팡")));
+        assertThat(created.isReset()).isFalse();
+        assertThat(created.getApplied()).hasSize(4);
+        assertThat(created.getExpenses()).hasSize(3);
+        assertThat(created.isHasMore()).isTrue();
+
+        SyncResponse rest = syncService.pull(userId, bookId, created.getCursor());
+        assertThat(rest.getExpenses()).singleElement()
+                .satisfies(expense -> assertThat(expense.getMerchant()).isEqualTo("쿠팡"));
+        assertThat(rest.isHasMore()).isFalse();
+
+        UUID incomeId = inTransaction(() -> {
+            User user = entityManager.getReference(User.class, userId);
+            Income income = Income.builder().user(user).accountBook(entityManager.find(AccountBook.class, bookId))
+                    .amount(new BigDecimal("50000")).date(LocalDate.of(2025, 3, 2)).source("용돈").build();
+            entityManager.persist(income);
+            return income.getIncomeId();
+        });
+        UUID otherBookId = inTransaction(() -> {
+            AccountBook other = persistBook(entityManager.getReference(User.class, userId));
+            entityManager.find(Income.class, incomeId).setAccountBook(other);
+            return other.getAccountBookId();
+        });
+
+        SyncResponse afterTransfer = syncService.pull(userId, bookId, rest.getCursor());
+        assertThat(afterTransfer.getIncomes()).isEmpty();
+        assertThat(afterTransfer.getDeleted()).extracting(SyncResponse.Deletion::getId).containsExactly(incomeId);
+        assertThat(syncService.pull(userId, otherBookId, 0L).getIncomes())
+                .extracting(income -> income.getIncomeId()).containsExactly(incomeId);
+
+        assertThatThrownBy(() -> syncService.pull(UUID.randomUUID(), bookId, 0L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("응답을 받지 못해 같은 clientId로 CREATE를 다시 보내면 새로 만들지 않고 앞서 만든 행의 ID와 순번을 돌려준다")
+    void sync_replaysRetriedCreate() {
+        Fixture fixture = inTransaction(() -> {
+            User user = persistUser("sync-retry");
+            AccountBook book = persistBook(user);
+            return new Fixture(user.getUserId(), book.getAccountBookId());
+        });
+        UUID userId = fixture.userId();
+        UUID bookId = fixture.accountBookId();
+
+        SyncResponse first = syncService.sync(userId, request(bookId, 0L, createExpense("retry-1", "5000", "스타벅스")));
+        SyncResponse retried = syncService.sync(userId, request(bookId, 0L, createExpense("retry-1", "5000", "스타벅스")));
+
+        SyncResponse.Applied created = first.getApplied().get(0);
+        assertThat(retried.getApplied()).singleElement().satisfies(applied -> {
+            assertThat(applied.getId()).isEqualTo(created.getId());
+            assertThat(applied.getChangeSeq()).isEqualTo(created.getChangeSeq());
+        });
+        assertThat(retried.getExpenses()).singleElement()
+                .satisfies(expense -> assertThat(expense.getExpenseId()).isEqualTo(created.getId()));
+
+        // 그 사이 삭제됐으면 같은 ID와 삭제 기록의 순번
+        SyncResponse deleted = syncService.sync(userId, request(bookId, retried.getCursor(),
+                Mutation.builder().clientId("del").type(SyncEntityType.EXPENSE).op(Operation.DELETE)
+                        .id(created.getId()).baseSeq(created.getChangeSeq()).build()));
+        SyncResponse afterDelete = syncService.sync(userId, request(bookId, deleted.getCursor(),
+                createExpense("retry-1", "5000", "스타벅스")));
+        assertThat(afterDelete.getApplied()).singleElement().satisfies(applied -> {
+            assertThat(applied.getId()).isEqualTo(created.getId());
+            assertThat(applied.getChangeSeq()).isEqualTo(deleted.getApplied().get(0).getChangeSeq());
+        });
+        assertThat(afterDelete.getExpenses()).isEmpty();
+    }
+
+    private static SyncRequest request(UUID accountBookId, Long since, Mutation... mutations) {
+        return SyncRequest.builder().accountBookId(accountBookId).since(since).mutations(List.of(mutations)).build();
+    }
+
+    private static Mutation createExpense(String clientId, String amount, String merchant) {
+        return Mutation.builder().clientId(clientId).type(SyncEntityType.EXPENSE).op(Operation.CREATE)
+                .expense(expenseRequest(amount, merchant))
+                .build();
+    }
+
+    private static Mutation updateExpense(String clientId, UUID id, long baseSeq, String amount) {
+        return Mutation.builder().clientId(clientId).type(SyncEntityType.EXPENSE).op(Operation.UPDATE)
+                .id(id).baseSeq(baseSeq).expense(expenseRequest(amount, "스타벅스"))
+                .build();
+    }
+
+    private static ExpenseRequest expenseRequest(String amount, String merchant) {
+        return ExpenseRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(LocalDate.of(2025, 3, 1))
+                .category("FOOD")
+                .merchant(merchant)
+                .build();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private AccountBook persistBook(User owner) {
+        AccountBook book = AccountBook.builder().name("동기화 장부").bookType(BookType.DEFAULT).createdBy(owner).build();
+        entityManager.persist(book);
+        entityManager.persist(AccountBookMember.builder()
+                .id(new AccountBookMemberId(book.getAccountBookId(), owner.getUserId()))
+                .accountBook(book)
+                .user(owner)
+                .build());
+        return book;
+    }
+
+    private record Fixture(UUID userId, UUID accountBookId) {
+    }
+}
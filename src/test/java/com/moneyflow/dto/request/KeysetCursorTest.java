@@ -0,0 +1,46 @@
+package com.moneyflow.dto.request;
+
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩/디코딩: 정렬 키 값이 그대로 복원된다")
+    void encodeAndDecode_roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(
+                LocalDate.of(2026, 3, 15),
+                LocalDateTime.of(2026, 3, 15, 12, 30, 45, 123_456_000),
+                UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "=", "+", "/");
+        assertThat(KeysetCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서 디코딩: null/빈 토큰이면 첫 페이지(null)")
+    void decode_blankTokenMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 디코딩: 변조된 토큰이면 INVALID_CURSOR")
+    void decode_tamperedTokenThrows() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,72 @@
+package com.moneyflow.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private ActiveUserChecker activeUserChecker;
+
+    @InjectMocks
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이어도 탈퇴한 사용자면 인증하지 않고, 탈퇴하지 않은 사용자는 인증한다")
+    void doFilter_rejectsWithdrawnUserToken() throws Exception {
+        UUID withdrawnId = UUID.randomUUID();
+        UUID activeId = UUID.randomUUID();
+        stubToken("withdrawn-token", withdrawnId);
+        stubToken("active-token", activeId);
+        when(activeUserChecker.isActive(withdrawnId)).thenReturn(false);
+        when(activeUserChecker.isActive(activeId)).thenReturn(true);
+
+        MockFilterChain withdrawnChain = new MockFilterChain();
+        jwtAuthenticationFilter.doFilter(request("withdrawn-token"), new MockHttpServletResponse(), withdrawnChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(withdrawnChain.getRequest()).isNotNull();
+
+        jwtAuthenticationFilter.doFilter(request("active-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(activeId.toString());
+    }
+
+    private void stubToken(String token, UUID userId) {
+        Claims claims = Jwts.claims().setSubject(userId.toString());
+        claims.put("role", "USER");
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getAllClaimsFromToken(token)).thenReturn(claims);
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,266 @@
+package com.moneyflow.service;
+
+import com.moneyflow.config.AccountPurgeConfig;
+import com.moneyflow.domain.accountbook.AccountBook;
+import com.moneyflow.domain.accountbook.AccountBookMember;
+import com.moneyflow.domain.accountbook.AccountBookMemberId;
+import com.moneyflow.domain.accountbook.BookType;
+import com.moneyflow.domain.budget.BudgetSpendTracker;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.couple.Couple;
+import com.moneyflow.domain.expense.Expense;
+import com.moneyflow.domain.expense.ExpenseParticipant;
+import com.moneyflow.domain.expense.ExpenseParticipantId;
+import com.moneyflow.domain.income.Income;
+import com.moneyflow.domain.notification.Notification;
+import com.moneyflow.domain.sync.ChangeSequencer;
+import com.moneyflow.domain.token.RefreshToken;
+import com.moneyflow.domain.user.AccountPurgeJob;
+import com.moneyflow.domain.user.AccountPurgeJobRepository;
+import com.moneyflow.domain.user.AccountPurgeStep;
+import com.moneyflow.domain.user.User;
+import com.moneyflow.support.PostgresExplainSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 탈퇴 데이터 삭제 워커 검증 (작은 배치 크기로 여러 배치/단계에 걸친 삭제 확인)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountPurgeWorker.class, AccountPurgeConfig.class, BusinessMetrics.class, ChangeSequencer.class,
+        BudgetSpendTracker.class, AccountPurgeWorkerTest.MetricsConfig.class})
+class AccountPurgeWorkerTest {
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        PostgresExplainSupport.registerSchema(registry);
+        registry.add("account.purge.batch-size", () -> 2);
+        registry.add("account.purge.batch-pause", () -> "0s");
+        registry.add("account.purge.initial-backoff", () -> "0s");
+        // 스케줄러 대신 테스트에서 직접 processPending() 호출
+        registry.add("account.purge.poll-interval-ms", () -> Long.MAX_VALUE);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private AccountPurgeWorker worker;
+
+    @Autowired
+    private AccountPurgeJobRepository accountPurgeJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("탈퇴 사용자의 장부와 데이터를 배치로 나눠 모두 삭제하고, 남은 사람의 지출은 결제자만 비운다")
+    void processPending_purgesUserDataInBatches() {
+        Fixture fixture = inTransaction(() -> {
+            User withdrawn = persistUser("purge-target");
+            User partner = persistUser("purge-partner");
+
+            AccountBook ownBook = persistBook(withdrawn, "탈퇴자 장부");
+            AccountBook partnerBook = persistBook(partner, "파트너 장부");
+            addMember(ownBook, withdrawn);
+            addMember(ownBook, partner);
+            addMember(partnerBook, withdrawn);
+
+            for (int i = 0; i < 5; i++) {
+                // 탈퇴자 장부의 지출은 등록자와 무관하게 삭제
+                persistExpense(i % 2 == 0 ? withdrawn : partner, ownBook, null);
+            }
+            Expense sharedExpense = persistExpense(withdrawn, partnerBook, null);
+            addParticipant(sharedExpense, partner);
+            Expense paidByWithdrawn = persistExpense(partner, partnerBook, withdrawn);
+            addParticipant(paidByWithdrawn, withdrawn);
+
+            for (int i = 0; i < 3; i++) {
+                persistIncome(withdrawn, ownBook);
+                entityManager.persist(Notification.builder()
+                        .user(withdrawn).title("알림").message("알림 " + i).type("SYSTEM").build());
+            }
+            entityManager.persist(Couple.builder().user1(withdrawn).user2(partner).build());
+            enqueue(withdrawn);
+            return new Fixture(withdrawn.getUserId(), partner.getUserId(), ownBook.getAccountBookId(),
+                    partnerBook.getAccountBookId(), paidByWithdrawn.getExpenseId());
+        });
+
+        assertThat(worker.processPending()).isEqualTo(1);
+
+        AccountPurgeJob job = accountPurgeJobRepository.findByUserId(fixture.withdrawnId()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(AccountPurgeJob.Status.COMPLETED);
+        assertThat(job.getCompletedAt()).isNotNull();
+        // 지출 6 + 결제자 1 + 참여자 2 + 수입 3 + 알림 3 + 멤버 3 + 장부 버전 1 + 월별 지출 합계 1 + 장부 1 + 커플 1 + 사용자 1
+        assertThat(job.getDeletedRows()).isEqualTo(23);
+
+        assertThat(count("SELECT COUNT(*) FROM users WHERE user_id = ?", fixture.withdrawnId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM account_books WHERE account_book_id = ?", fixture.ownBookId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM expenses WHERE user_id = ? OR account_book_id = ?",
+                fixture.withdrawnId(), fixture.ownBookId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM incomes WHERE user_id = ?", fixture.withdrawnId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM notifications WHERE user_id = ?", fixture.withdrawnId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM couples WHERE user2_id = ?", fixture.partnerId())).isZero();
+
+        // 파트너 장부에 파트너가 등록한 지출은 남고 결제자만 비워짐
+        assertThat(count("SELECT COUNT(*) FROM expenses WHERE expense_id = ? AND paid_by_user_id IS NULL",
+                fixture.partnerExpenseId())).isOne();
+        assertThat(count("SELECT COUNT(*) FROM account_book_members WHERE account_book_id = ?",
+                fixture.partnerBookId())).isZero();
+        // 파트너 장부의 월별 지출 합계에서 삭제된 탈퇴자 지출이 빠짐
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT spent_amount FROM budget_spends WHERE account_book_id = ? AND year = 2025 AND month = 3",
+                BigDecimal.class, fixture.partnerBookId())).isEqualByComparingTo("5000");
+        assertThat(count("SELECT COUNT(*) FROM users WHERE user_id = ?", fixture.partnerId())).isOne();
+    }
+
+    @Test
+    @DisplayName("마지막 단계에서 실패하면 그 단계부터 다시 시도하도록 기록하고, 원인을 정리하면 이어서 완료한다")
+    void processPending_retriesFailedStepWhenUserRowCannotBeDeleted() {
+        UUID userId = inTransaction(() -> {
+            User withdrawn = persistUser("purge-retry");
+            persistExpense(withdrawn, persistBook(withdrawn, "장부"), null);
+            // 삭제 단계에 없는 테이블이 사용자를 참조하면 사용자 행 삭제가 실패
+            entityManager.persist(RefreshToken.builder()
+                    .user(withdrawn)
+                    .tokenHash("hash-" + UUID.randomUUID())
+                    .expiresAt(LocalDateTime.now().plusDays(1))
+                    .build());
+            enqueue(withdrawn);
+            return withdrawn.getUserId();
+        });
+
+        assertThat(worker.processPending()).isEqualTo(1);
+
+        AccountPurgeJob failed = accountPurgeJobRepository.findByUserId(userId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(AccountPurgeJob.Status.PENDING);
+        assertThat(failed.getAttemptCount()).isEqualTo(1);
+        assertThat(failed.getStep()).isEqualTo(AccountPurgeStep.USER);
+        assertThat(failed.getLastError()).startsWith("USER");
+        assertThat(count("SELECT COUNT(*) FROM expenses WHERE user_id = ?", userId)).isZero();
+
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE user_id = ?", userId);
+        jdbcTemplate.update("UPDATE account_purge_jobs SET next_attempt_at = ? WHERE user_id = ?",
+                LocalDateTime.now().minusSeconds(1), userId);
+
+        assertThat(worker.processPending()).isEqualTo(1);
+        assertThat(accountPurgeJobRepository.findByUserId(userId).orElseThrow().getStatus())
+                .isEqualTo(AccountPurgeJob.Status.COMPLETED);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE user_id = ?", userId)).isZero();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private User persistUser(String prefix) {
+        User user = User.builder()
+                .email(prefix + "-" + UUID.randomUUID() + "@moneyflow.test")
+                .nickname(prefix)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private AccountBook persistBook(User owner, String name) {
+        AccountBook book = AccountBook.builder().name(name).bookType(BookType.DEFAULT).createdBy(owner).build();
+        entityManager.persist(book);
+        return book;
+    }
+
+    private void addMember(AccountBook book, User user) {
+        entityManager.persist(AccountBookMember.builder()
+                .id(new AccountBookMemberId(book.getAccountBookId(), user.getUserId()))
+                .accountBook(book)
+                .user(user)
+                .build());
+    }
+
+    private Expense persistExpense(User user, AccountBook book, User paidBy) {
+        Expense expense = Expense.builder()
+                .user(user)
+                .accountBook(book)
+                .paidBy(paidBy)
+                .amount(new BigDecimal("5000"))
+                .date(LocalDate.of(2025, 3, 1))
+                .category("FOOD")
+                .merchant("가맹점")
+                .build();
+        entityManager.persist(expense);
+        return expense;
+    }
+
+    private void addParticipant(Expense expense, User user) {
+        entityManager.persist(ExpenseParticipant.builder()
+                .id(new ExpenseParticipantId(expense.getExpenseId(), user.getUserId()))
+                .expense(expense)
+                .user(user)
+                .build());
+    }
+
+    private void persistIncome(User user, AccountBook book) {
+        entityManager.persist(Income.builder()
+                .user(user)
+                .accountBook(book)
+                .amount(new BigDecimal("100000"))
+                .date(LocalDate.of(2025, 3, 1))
+                .source("급여")
+                .build());
+    }
+
+    private void enqueue(User user) {
+        entityManager.persist(AccountPurgeJob.builder()
+                .userId(user.getUserId())
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+    }
+
+    private record Fixture(UUID withdrawnId, UUID partnerId, UUID ownBookId, UUID partnerBookId,
+                           UUID partnerExpenseId) {
+    }
+}
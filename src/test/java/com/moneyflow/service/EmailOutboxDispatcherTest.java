@@ -0,0 +1,221 @@
+package com.moneyflow.service;
+
+import com.moneyflow.config.EmailOutboxConfig;
+import com.moneyflow.domain.common.BusinessMetrics;
+import com.moneyflow.domain.email.EmailOutbox;
+import com.moneyflow.domain.email.EmailOutboxRepository;
+import com.moneyflow.support.PostgresExplainSupport;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 발송 대기열 디스패처 검증 (로컬 HTTP 스텁으로 Resend API 대체)
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = PostgresExplainSupport.DB_URL_ENV, matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmailOutboxDispatcher.class, ResendEmailSender.class, EmailOutboxConfig.class, BusinessMetrics.class,
+        EmailOutboxDispatcherTest.MetricsConfig.class})
+class EmailOutboxDispatcherTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+
+    /** 스텁 응답 상태 코드 (비어 있으면 202) */
+    private static final Queue<Integer> responses = new ConcurrentLinkedQueue<>();
+    private static final Queue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+    private static volatile CountDownLatch gate = new CountDownLatch(0);
+    private static HttpServer stub;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        PostgresExplainSupport.registerSchema(registry);
+        startStub();
+        registry.add("email.test-mode", () -> "false");
+        registry.add("email.resend.base-url", () -> "http://localhost:" + stub.getAddress().getPort());
+        registry.add("email.outbox.max-concurrency", () -> MAX_CONCURRENCY);
+        registry.add("email.outbox.initial-backoff", () -> "0s");
+        // 스케줄러 대신 테스트에서 직접 dispatchPending() 호출
+        registry.add("email.outbox.poll-interval-ms", () -> Long.MAX_VALUE);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+        responses.clear();
+        receivedBodies.clear();
+        gate = new CountDownLatch(0);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stub != null) {
+            stub.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("대기열의 메일을 발송 API로 보내고 SENT로 기록한다")
+    void dispatch_sendsAndMarksSent() throws InterruptedException {
+        UUID emailId = enqueue("user@moneyflow.test");
+
+        assertThat(dispatcher.dispatchPending()).isEqualTo(1);
+        awaitIdle();
+
+        EmailOutbox email = emailOutboxRepository.findById(emailId).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+        assertThat(email.getAttemptCount()).isEqualTo(1);
+        assertThat(email.getSentAt()).isNotNull();
+        assertThat(receivedBodies).singleElement().asString()
+                .contains("\"to\":[\"user@moneyflow.test\"]")
+                .contains("<p class=\\\"code\\\">000000</p>");
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 다시 시도하고, 그 밖의 4xx 응답은 바로 DEAD로 남긴다")
+    void dispatch_retriesServerErrorsAndDeadLettersClientErrors() throws InterruptedException {
+        UUID retriedId = enqueue("retry@moneyflow.test");
+        responses.add(503);
+        dispatcher.dispatchPending();
+        awaitIdle();
+
+        EmailOutbox retried = emailOutboxRepository.findById(retriedId).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(retried.getLastError()).startsWith("HTTP 503");
+
+        dispatcher.dispatchPending();
+        awaitIdle();
+        retried = emailOutboxRepository.findById(retriedId).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+        assertThat(retried.getAttemptCount()).isEqualTo(2);
+
+        UUID rejectedId = enqueue("invalid@moneyflow.test");
+        responses.add(422);
+        dispatcher.dispatchPending();
+        awaitIdle();
+
+        EmailOutbox rejected = emailOutboxRepository.findById(rejectedId).orElseThrow();
+        assertThat(rejected.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(rejected.getAttemptCount()).isEqualTo(1);
+        assertThat(dispatcher.dispatchPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 중인 메일이 최대 동시 발송 수만큼 있으면 더 점유하지 않는다")
+    void dispatch_boundsConcurrency() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            enqueue("bulk" + i + "@moneyflow.test");
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        gate = release;
+
+        assertThat(dispatcher.dispatchPending()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(dispatcher.dispatchPending()).isZero();
+        assertThat(emailOutboxRepository.countByStatus(EmailOutbox.Status.SENDING)).isEqualTo(MAX_CONCURRENCY);
+
+        release.countDown();
+        awaitIdle();
+        while (dispatcher.dispatchPending() > 0) {
+            awaitIdle();
+        }
+
+        assertThat(emailOutboxRepository.countByStatus(EmailOutbox.Status.SENT)).isEqualTo(5);
+        assertThat(receivedBodies).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 두 배로 늘고 상한을 넘지 않는다")
+    void backoff_doublesUpToMax() {
+        Duration initial = Duration.ofSeconds(5);
+        Duration max = Duration.ofMinutes(1);
+
+        assertThat(List.of(1, 2, 3, 4, 5, 30).stream()
+                .map(attempt -> EmailOutboxDispatcher.backoff(attempt, initial, max).toSeconds())
+                .toList())
+                .containsExactly(5L, 10L, 20L, 40L, 60L, 60L);
+    }
+
+    private UUID enqueue(String toEmail) {
+        return emailOutboxRepository.save(EmailOutbox.builder()
+                .toEmail(toEmail)
+                .subject("[MoneyFlow] 테스트")
+                .htmlBody("<p class=\"code\">000000</p>")
+                .nextAttemptAt(LocalDateTime.now())
+                .build()).getEmailId();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        assertThat(dispatcher.awaitIdle(Duration.ofSeconds(10))).isTrue();
+    }
+
+    private static void startStub() throws IOException {
+        if (stub != null) {
+            return;
+        }
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/emails", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Integer status = responses.poll();
+            byte[] body = "{\"id\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status == null ? 202 : status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+    }
+}
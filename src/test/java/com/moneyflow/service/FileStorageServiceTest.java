@@ -0,0 +1,133 @@
+package com.moneyflow.service;
+
+import com.moneyflow.service.FileStorageService.StoredFile;
+import com.moneyflow.service.FileStorageService.StoredObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileStorageServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService();
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "thumbnailSize", 32);
+        fileStorageService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fileStorageService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 파일명이 달라도 해시 경로에 한 번만 저장된다")
+    void storeFile_deduplicatesByContentHash() throws Exception {
+        StoredFile first = fileStorageService.storeFile(
+                new MockMultipartFile("image", "a.jpg", "image/jpeg", "same-bytes".getBytes()));
+        StoredFile second = fileStorageService.storeFile(
+                new MockMultipartFile("image", "b.jpg", "image/jpeg", "same-bytes".getBytes()));
+
+        assertThat(second.hash()).isEqualTo(first.hash());
+        assertThat(first.url()).isEqualTo("/api/receipts/" + first.hash());
+
+        Path stored = fileStorageService.findObject(first.hash()).orElseThrow();
+        assertThat(stored).isEqualTo(uploadDir.resolve("objects")
+                .resolve(first.hash().substring(0, 2)).resolve(first.hash().substring(2, 4)).resolve(first.hash()));
+        assertThat(Files.readString(stored)).isEqualTo("same-bytes");
+        assertThat(fileStorageService.listObjects()).hasSize(1);
+        try (var tmpFiles = Files.list(uploadDir.resolve("tmp"))) {
+            assertThat(tmpFiles).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("이미지는 긴 변 기준으로 축소한 JPEG 썸네일을 만들고, 이미지가 아니면 만들지 않는다")
+    void createThumbnail_scalesImage() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+        StoredFile image = fileStorageService.storeFile(
+                new MockMultipartFile("image", "receipt.png", "image/png", png.toByteArray()));
+        StoredFile text = fileStorageService.storeFile(
+                new MockMultipartFile("image", "note.txt", "text/plain", "not an image".getBytes()));
+
+        assertThat(fileStorageService.createThumbnail(image.hash())).isTrue();
+        BufferedImage thumbnail = ImageIO.read(fileStorageService.findThumbnail(image.hash()).orElseThrow().toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(32);
+        assertThat(thumbnail.getHeight()).isEqualTo(16);
+        assertThat(FileStorageService.detectContentType(fileStorageService.findObject(image.hash()).orElseThrow()))
+                .isEqualTo("image/png");
+
+        assertThat(fileStorageService.createThumbnail(text.hash())).isFalse();
+        assertThat(fileStorageService.findThumbnail(text.hash())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 방식으로 저장된 파일도 정리 대상 목록에 포함되고, 해시가 아닌 경로는 조회하지 않는다")
+    void listObjects_includesLegacyFiles() throws Exception {
+        Files.writeString(uploadDir.resolve("20240101_120000_abcd1234_receipt.jpg"), "legacy");
+        fileStorageService.storeFile(new MockMultipartFile("image", "new.jpg", "image/jpeg", "new".getBytes()));
+
+        List<StoredObject> objects = fileStorageService.listObjects();
+
+        assertThat(objects).hasSize(2);
+        assertThat(objects).filteredOn(object -> object.hash() == null)
+                .singleElement()
+                .satisfies(object -> assertThat(object.path().getFileName().toString())
+                        .isEqualTo("20240101_120000_abcd1234_receipt.jpg"));
+        assertThat(fileStorageService.findObject("../20240101_120000_abcd1234_receipt.jpg")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 조회 후 같은 내용이 다시 업로드되면 정리 대상이었어도 삭제하지 않고, 아니면 원본과 썸네일을 지운다")
+    void deleteIfUnused_keepsFileReuploadedAfterListing() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", png);
+        StoredFile file = fileStorageService.storeFile(
+                new MockMultipartFile("image", "a.png", "image/png", png.toByteArray()));
+        fileStorageService.createThumbnail(file.hash());
+        Path stored = fileStorageService.findObject(file.hash()).orElseThrow();
+        Files.setLastModifiedTime(stored, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        StoredObject listed = fileStorageService.listObjects().get(0);
+        Instant cutoff = Instant.now().minus(Duration.ofDays(1));
+
+        // 정리 작업이 목록을 만든 뒤 같은 이미지가 다시 업로드됨
+        fileStorageService.storeFile(new MockMultipartFile("image", "b.png", "image/png", png.toByteArray()));
+
+        assertThat(fileStorageService.deleteIfUnused(listed, cutoff, () -> true)).isFalse();
+        assertThat(stored).exists();
+
+        Files.setLastModifiedTime(stored, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        assertThat(fileStorageService.deleteIfUnused(listed, cutoff, () -> false)).isFalse();
+        assertThat(stored).exists();
+
+        assertThat(fileStorageService.deleteIfUnused(listed, cutoff, () -> true)).isTrue();
+        assertThat(stored).doesNotExist();
+        assertThat(fileStorageService.findThumbnail(file.hash())).isEmpty();
+        try (var tmpFiles = Files.list(uploadDir.resolve("tmp"))) {
+            assertThat(tmpFiles).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.moneyflow.service;
+
+import com.moneyflow.config.OcrJobConfig;
+import com.moneyflow.domain.receipt.OcrJob;
+import com.moneyflow.domain.receipt.OcrJobRepository;
+import com.moneyflow.dto.response.OcrResponse;
+import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OcrJobServiceTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger ocrCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Map<UUID, OcrJob> jobRows = new ConcurrentHashMap<>();
+
+    private OcrJobConfig config;
+    private OcrService blockingOcr;
+    private FileStorageService fileStorageService;
+    private OcrJobRepository ocrJobRepository;
+    private OcrJobService ocrJobService;
+
+    @BeforeEach
+    void setUp() {
+        config = new OcrJobConfig();
+        config.setWorkers(1);
+        config.setQueueCapacity(1);
+        config.setPollInterval(Duration.ofMillis(50));
+
+        // release가 열릴 때까지 처리를 붙잡아 두는 OCR
+        blockingOcr = (image, originalFilename) -> {
+            ocrCalls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OcrResponse.builder().merchant(originalFilename).amount(BigDecimal.valueOf(4500)).build();
+        };
+        // 저장소는 내용 해시만 돌려주도록 대체
+        fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.storeFile(any())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(file.getBytes());
+            return new FileStorageService.StoredFile(HexFormat.of().formatHex(digest), file.getSize());
+        });
+        // ocr_jobs 테이블은 인스턴스 간에 공유되는 맵으로 대체
+        ocrJobRepository = mock(OcrJobRepository.class);
+        when(ocrJobRepository.save(any())).thenAnswer(invocation -> {
+            OcrJob job = invocation.getArgument(0);
+            if (job.getJobId() == null) {
+                job.setJobId(UUID.randomUUID());
+            }
+            jobRows.put(job.getJobId(), job);
+            return job;
+        });
+        when(ocrJobRepository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(jobRows.get(invocation.<UUID>getArgument(0))));
+        ocrJobService = new OcrJobService(blockingOcr, fileStorageService, ocrJobRepository, config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ocrJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드는 처리 완료를 기다리지 않고, 같은 이미지를 다시 올리면 캐시된 결과로 즉시 완료된다")
+    void submit_returnsImmediatelyAndCachesByContentHash() throws Exception {
+        OcrJob first = ocrJobService.submit(userId, image("receipt.jpg", "same-bytes"));
+        assertThat(first.isDone()).isFalse();
+
+        release.countDown();
+        OcrJob completed = ocrJobService.awaitJob(userId, first.getJobId(), Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(completed.getStatus()).isEqualTo(OcrJob.Status.COMPLETED);
+
+        // 파일명이 달라도 바이트가 같으면 같은 결과
+        OcrJob again = ocrJobService.submit(userId, image("copy.jpg", "same-bytes"));
+        assertThat(again.getStatus()).isEqualTo(OcrJob.Status.COMPLETED);
+        assertThat(again.isCached()).isTrue();
+        assertThat(again.getImageUrl()).isEqualTo(first.getImageUrl()).startsWith("/api/receipts/");
+        assertThat(again.getResult().getMerchant()).isEqualTo("receipt.jpg");
+        assertThat(ocrCalls).hasValue(1);
+        assertThat(meterRegistry.get("moneyflow.ocr.requests").tag("source", "cache").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중인 이미지와 같은 이미지는 다시 처리하지 않고 진행 중인 결과를 함께 받는다")
+    void submit_joinsInFlightJobForSameImage() throws Exception {
+        OcrJob first = ocrJobService.submit(userId, image("a.jpg", "in-flight"));
+        OcrJob second = ocrJobService.submit(userId, image("b.jpg", "in-flight"));
+
+        release.countDown();
+        ocrJobService.awaitJob(userId, second.getJobId(), Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+        ocrJobService.awaitJob(userId, first.getJobId(), Duration.ofSeconds(5)).get(5, TimeUnit.SECONDS);
+
+        assertThat(second.getStatus()).isEqualTo(OcrJob.Status.COMPLETED);
+        assertThat(second.getResult().getMerchant()).isEqualTo(first.getResult().getMerchant()).isEqualTo("a.jpg");
+        assertThat(ocrCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차면 OCR_QUEUE_FULL로 거절한다")
+    void submit_rejectsWhenQueueIsFull() {
+        ocrJobService.submit(userId, image("1.jpg", "one"));   // 처리 중
+        ocrJobService.submit(userId, image("2.jpg", "two"));   // 대기열
+
+        assertThatThrownBy(() -> ocrJobService.submit(userId, image("3.jpg", "three")))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OCR_QUEUE_FULL);
+        assertThat(meterRegistry.get("moneyflow.ocr.queue.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("완료 대기 시간이 지나면 진행 중 상태로 응답하고, 다른 사용자의 작업은 조회할 수 없다")
+    void awaitJob_timesOutWithCurrentStatusAndHidesOtherUsersJobs() throws Exception {
+        OcrJob job = ocrJobService.submit(userId, image("slow.jpg", "slow"));
+
+        OcrJob polled = ocrJobService.awaitJob(userId, job.getJobId(), Duration.ofMillis(100))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(polled.isDone()).isFalse();
+
+        assertThatThrownBy(() -> ocrJobService.getJob(UUID.randomUUID(), job.getJobId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.OCR_JOB_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스로 간 상태 조회도 작업 테이블을 읽어 완료를 기다린다")
+    void awaitJob_onAnotherInstanceWaitsThroughJobTable() throws Exception {
+        OcrJobService otherInstance = new OcrJobService(blockingOcr, fileStorageService, ocrJobRepository,
+                config, new SimpleMeterRegistry());
+        try {
+            OcrJob job = ocrJobService.submit(userId, image("remote.jpg", "remote"));
+
+            CompletableFuture<OcrJob> polled = otherInstance.awaitJob(userId, job.getJobId(), Duration.ofSeconds(5));
+            release.countDown();
+
+            assertThat(polled.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(OcrJob.Status.COMPLETED);
+            assertThat(otherInstance.getJob(userId, job.getJobId()).getResult().getMerchant()).isEqualTo("remote.jpg");
+        } finally {
+            otherInstance.shutdown();
+        }
+    }
+
+    private static MockMultipartFile image(String filename, String content) {
+        return new MockMultipartFile("image", filename, "image/jpeg", content.getBytes());
+    }
+}
@@ -5,6 +5,10 @@ import com.moneyflow.domain.couple.CoupleRepository;
 import com.moneyflow.domain.notification.Notification;
 import com.moneyflow.domain.notification.NotificationRepository;
 import com.moneyflow.domain.terms.UserAgreementRepository;
+import com.moneyflow.domain.token.RefreshTokenRepository;
+import com.moneyflow.domain.user.AccountPurgeJob;
+import com.moneyflow.domain.user.AccountPurgeJobRepository;
+import com.moneyflow.domain.user.AccountPurgeStep;
 import com.moneyflow.domain.user.AuthProvider;
 import com.moneyflow.domain.user.User;
 import com.moneyflow.domain.user.UserAuth;
@@ -12,6 +16,8 @@ import com.moneyflow.domain.user.UserAuthRepository;
 import com.moneyflow.domain.user.UserRepository;
 import com.moneyflow.dto.request.WithdrawRequest;
 import com.moneyflow.exception.BusinessException;
+import com.moneyflow.exception.ResourceNotFoundException;
+import com.moneyflow.security.ActiveUserChecker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +27,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -55,12 +63,21 @@ class UserWithdrawalServiceTest {
     @Mock
     private UserAgreementRepository userAgreementRepository;
 
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private AccountPurgeJobRepository accountPurgeJobRepository;
+
+    @Mock
+    private ActiveUserChecker activeUserChecker;
+
     @InjectMocks
     private UserWithdrawalService userWithdrawalService;
 
     @Test
-    @DisplayName("회원 탈퇴: 이메일 회원이면 비밀번호 확인 후 비cascade 데이터만 선삭제하고 사용자 삭제를 위임한다")
-    void withdraw_emailUser_deletesLegacyDataAndReliesOnCascade() {
+    @DisplayName("회원 탈퇴: 이메일 회원이면 비밀번호 확인 후 로그인 수단만 지우고 사용자를 삭제 표시한 뒤 데이터 삭제 작업을 등록한다")
+    void withdraw_emailUser_marksDeletedAndEnqueuesPurge() {
         UUID userId = UUID.randomUUID();
         UUID partnerId = UUID.randomUUID();
 
@@ -82,7 +99,9 @@ class UserWithdrawalServiceTest {
                 .thenReturn(Optional.of(emailAuth));
         when(passwordEncoder.matches("Password123!", "encoded-password")).thenReturn(true);
         when(coupleRepository.findLinkedCoupleByUserId(userId)).thenReturn(Optional.of(couple));
+        when(activeUserChecker.getTtl()).thenReturn(Duration.ofSeconds(30));
 
+        LocalDateTime requestedAt = LocalDateTime.now();
         userWithdrawalService.withdraw(userId, WithdrawRequest.builder()
                 .password("Password123!")
                 .reason("서비스 미사용")
@@ -99,12 +118,31 @@ class UserWithdrawalServiceTest {
                 notificationRepository,
                 userAgreementRepository,
                 userAuthRepository,
-                userRepository);
+                refreshTokenRepository,
+                userRepository,
+                accountPurgeJobRepository);
 
         inOrder.verify(notificationRepository).save(any(Notification.class));
         inOrder.verify(userAgreementRepository).deleteByUserUserId(userId);
         inOrder.verify(userAuthRepository).deleteByUserUserId(userId);
-        inOrder.verify(userRepository).delete(withdrawingUser);
+        inOrder.verify(refreshTokenRepository).deleteByUserId(userId);
+        inOrder.verify(userRepository).save(withdrawingUser);
+        inOrder.verify(accountPurgeJobRepository).save(any(AccountPurgeJob.class));
+        verify(userRepository, never()).delete(any(User.class));
+
+        // 바로 재가입할 수 있도록 이메일을 탈퇴용 주소로 바꿔 둠
+        assertThat(withdrawingUser.getDeletedAt()).isNotNull();
+        assertThat(withdrawingUser.getEmail()).isNotEqualTo("withdraw@test.com").contains(userId.toString());
+
+        ArgumentCaptor<AccountPurgeJob> jobCaptor = ArgumentCaptor.forClass(AccountPurgeJob.class);
+        verify(accountPurgeJobRepository).save(jobCaptor.capture());
+        assertThat(jobCaptor.getValue().getUserId()).isEqualTo(userId);
+        assertThat(jobCaptor.getValue().getStatus()).isEqualTo(AccountPurgeJob.Status.PENDING);
+        assertThat(jobCaptor.getValue().getStep()).isEqualTo(AccountPurgeStep.first());
+
+        // 남은 액세스 토큰을 거부하고, 모든 인스턴스가 거부하기 시작한 뒤에 삭제 시작
+        verify(activeUserChecker).markWithdrawn(userId);
+        assertThat(jobCaptor.getValue().getNextAttemptAt()).isAfterOrEqualTo(requestedAt.plusSeconds(30));
     }
 
     @Test
@@ -131,6 +169,8 @@ class UserWithdrawalServiceTest {
 
         verify(notificationRepository, never()).save(any(Notification.class));
         verify(userRepository, never()).delete(any(User.class));
+        verify(accountPurgeJobRepository, never()).save(any(AccountPurgeJob.class));
+        assertThat(user.getDeletedAt()).isNull();
     }
 
     @Test
@@ -143,14 +183,30 @@ class UserWithdrawalServiceTest {
         when(userAuthRepository.findByUserUserIdAndProvider(userId, AuthProvider.EMAIL))
                 .thenReturn(Optional.empty());
         when(coupleRepository.findLinkedCoupleByUserId(userId)).thenReturn(Optional.empty());
+        when(activeUserChecker.getTtl()).thenReturn(Duration.ofSeconds(30));
 
         userWithdrawalService.withdraw(userId, WithdrawRequest.builder().build());
 
         verifyNoInteractions(passwordEncoder);
-        verify(userRepository).delete(user);
+        verify(accountPurgeJobRepository).save(any(AccountPurgeJob.class));
         verify(userAuthRepository).deleteByUserUserId(userId);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴: 이미 탈퇴 처리된 사용자는 다시 탈퇴할 수 없다")
+    void withdraw_rejectsAlreadyWithdrawnUser() {
+        UUID userId = UUID.randomUUID();
+        User user = user(userId, "withdrawn@test.com", "탈퇴유저");
+        user.setDeletedAt(LocalDateTime.now());
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> userWithdrawalService.withdraw(userId, WithdrawRequest.builder().build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(accountPurgeJobRepository, never()).save(any(AccountPurgeJob.class));
+    }
+
     private User user(UUID userId, String email, String nickname) {
         return User.builder()
                 .userId(userId)
@@ -0,0 +1,29 @@
+package com.moneyflow.support;
+
+import com.moneyflow.domain.common.QueryCountingStatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL을 기록하는 테스트용 StatementInspector
+ *
+ * hibernate.session_factory.statement_inspector 속성으로 등록하여 사용합니다.
+ * 운영 설정의 QueryCountingStatementInspector를 대체하므로 쿼리 집계도 그대로 수행합니다.
+ */
+public class CapturingStatementInspector extends QueryCountingStatementInspector {
+
+    private static final ThreadLocal<String> LAST_SELECT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        if (sql.regionMatches(true, 0, "select", 0, 6)) {
+            LAST_SELECT.set(sql);
+        }
+        return super.inspect(sql);
+    }
+
+    /**
+     * 현재 스레드에서 마지막으로 실행된 SELECT 문
+     */
+    public static String lastSelect() {
+        return LAST_SELECT.get();
+    }
+}
@@ -0,0 +1,112 @@
+package com.moneyflow.support;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 실제 PostgreSQL에서 EXPLAIN으로 실행 계획을 검증하기 위한 테스트 지원 유틸
+ *
+ * MONEYFLOW_TEST_DB_URL 환경 변수로 빈 테스트 DB를 지정한 경우에만 사용합니다.
+ * (예: MONEYFLOW_TEST_DB_URL=jdbc:postgresql://localhost:5432/moneyflow_test)
+ */
+public final class PostgresExplainSupport {
+
+    public static final String DB_URL_ENV = "MONEYFLOW_TEST_DB_URL";
+
+    private PostgresExplainSupport() {
+    }
+
+    /**
+     * 테스트 DB 접속 정보 및 EXPLAIN 검증용 Hibernate 설정 등록
+     *
+     * - 스키마는 엔티티 기준으로 생성하고, 인덱스는 마이그레이션 파일에서 적용
+     * - Criteria 파라미터를 리터럴로 렌더링하여 캡처한 SQL을 그대로 EXPLAIN 가능
+     */
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        registerSchema(registry);
+        registry.add("spring.jpa.properties.hibernate.criteria.value_handling_mode", () -> "inline");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CapturingStatementInspector.class::getName);
+    }
+
+    /**
+     * 테스트 DB 접속 정보 등록 + 엔티티 기준 스키마 생성 (Flyway 미사용)
+     */
+    public static void registerSchema(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv(DB_URL_ENV));
+        registry.add("spring.datasource.username",
+                () -> System.getenv().getOrDefault("MONEYFLOW_TEST_DB_USERNAME", "postgres"));
+        registry.add("spring.datasource.password",
+                () -> System.getenv().getOrDefault("MONEYFLOW_TEST_DB_PASSWORD", "postgres"));
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    /**
+     * 마이그레이션 파일의 CREATE EXTENSION / CREATE INDEX / DROP INDEX 문만 실행
+     */
+    public static void applyIndexMigrations(EntityManager entityManager, String... migrationFiles) throws IOException {
+        for (String sql : indexStatements(migrationFiles)) {
+            entityManager.createNativeQuery(sql).executeUpdate();
+        }
+    }
+
+    /**
+     * 마이그레이션 파일의 CREATE EXTENSION / CREATE INDEX / DROP INDEX 문만 실행 (JDBC 커넥션)
+     */
+    public static void applyIndexMigrations(Connection connection, String... migrationFiles)
+            throws IOException, SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : indexStatements(migrationFiles)) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static List<String> indexStatements(String... migrationFiles) throws IOException {
+        List<String> statements = new ArrayList<>();
+        for (String file : migrationFiles) {
+            String script = new ClassPathResource("db/migration/" + file)
+                    .getContentAsString(StandardCharsets.UTF_8);
+            String withoutComments = script.lines()
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .collect(Collectors.joining("\n"));
+
+            for (String statement : withoutComments.split(";")) {
+                String sql = statement.trim();
+                if (sql.startsWith("CREATE EXTENSION")
+                        || sql.startsWith("CREATE INDEX") || sql.startsWith("DROP INDEX")) {
+                    statements.add(sql);
+                }
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * 순차 탐색을 비활성화한 상태로 SQL의 실행 계획을 조회
+     *
+     * enable_seqscan=off로 "사용 가능한 인덱스 경로가 있는지"를 검증합니다.
+     * 인덱스 간 선택은 여전히 비용 기반이므로, 어떤 인덱스를 타는지까지 검증하려면
+     * 호출 측에서 대표 데이터를 넣고 ANALYZE 해 두어야 합니다 (빈 테이블에서는 선택이 임의적).
+     */
+    @SuppressWarnings("unchecked")
+    public static String explain(EntityManager entityManager, String sql) {
+        String executable = sql.replaceAll("(?i)fetch first \\? rows only", "fetch first 51 rows only")
+                .replaceAll("(?i)offset \\? rows", "offset 0 rows");
+
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        List<Object> lines = entityManager.createNativeQuery("EXPLAIN " + executable).getResultList();
+        return lines.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+}
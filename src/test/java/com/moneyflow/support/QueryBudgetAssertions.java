@@ -0,0 +1,45 @@
+package com.moneyflow.support;
+
+import com.moneyflow.domain.common.QueryCounter;
+
+import java.util.function.Supplier;
+
+/**
+ * 통합 테스트용 쿼리 허용치 검증 유틸
+ *
+ * 블록 안에서 Hibernate가 실행한 SQL 문장 수를 세어 허용치를 넘으면 실패합니다.
+ * 예: List&lt;Expense&gt; expenses = assertMaxQueries(1, () -&gt; repository.findByAccountBookAndDateRange(...));
+ */
+public final class QueryBudgetAssertions {
+
+    private QueryBudgetAssertions() {
+    }
+
+    /**
+     * 블록 실행 중 SQL 문장 수가 max 이하인지 검증하고 블록 결과를 반환
+     */
+    public static <T> T assertMaxQueries(int max, Supplier<T> block) {
+        try (QueryCounter counter = QueryCounter.start(Integer.MAX_VALUE, false)) {
+            T result = block.get();
+            if (counter.getStatementCount() > max) {
+                throw new AssertionError(String.format(
+                        "SQL 문장 수 허용치 초과: expected <= %d but was %d (가장 많이 반복된 SQL: %s)",
+                        max, counter.getStatementCount(),
+                        counter.mostRepeatedStatement()
+                                .map(entry -> entry.getValue() + "회 - " + entry.getKey())
+                                .orElse("-")));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 반환값이 없는 블록용
+     */
+    public static void assertMaxQueries(int max, Runnable block) {
+        assertMaxQueries(max, () -> {
+            block.run();
+            return null;
+        });
+    }
+}